@@ -34,6 +34,7 @@ import eu.europa.esig.dss.cades.validation.CMSDocumentAnalyzer;
 import eu.europa.esig.dss.enumerations.ASiCContainerType;
 import eu.europa.esig.dss.enumerations.ASiCManifestTypeEnum;
 import eu.europa.esig.dss.enumerations.ArchiveTimestampType;
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
 import eu.europa.esig.dss.enumerations.TimestampType;
 import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.model.ManifestEntry;
@@ -51,6 +52,7 @@ import org.slf4j.LoggerFactory;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 /**
  * This class is an implementation to validate ASiC containers with CAdES signature(s)
@@ -267,8 +269,6 @@ public class ASiCContainerWithCAdESAnalyzer extends AbstractASiCContainerAnalyze
 		for (DSSDocument manifestDocument : manifestDocuments) {
 			ManifestFile manifestFile = ASiCManifestParser.getManifestFile(manifestDocument);
 			if (manifestFile != null) {
-				ASiCManifestValidator asiceWithCAdESManifestValidator = new ASiCManifestValidator(manifestFile, getAllDocuments());
-				asiceWithCAdESManifestValidator.validateEntries();
 				descriptions.add(manifestFile);
 			}
 		}
@@ -278,8 +278,6 @@ public class ASiCContainerWithCAdESAnalyzer extends AbstractASiCContainerAnalyze
 			ManifestFile manifestFile = ASiCManifestParser.getManifestFile(manifestDocument);
 			if (manifestFile != null) {
 				manifestFile.setManifestType(ASiCManifestTypeEnum.ARCHIVE_MANIFEST);
-				ASiCManifestValidator asiceWithCAdESManifestValidator = new ASiCManifestValidator(manifestFile, getAllDocuments());
-				asiceWithCAdESManifestValidator.validateEntries();
 				descriptions.add(manifestFile);
 			}
 		}
@@ -289,14 +287,24 @@ public class ASiCContainerWithCAdESAnalyzer extends AbstractASiCContainerAnalyze
 			ManifestFile manifestFile = ASiCManifestParser.getManifestFile(manifestDocument);
 			if (manifestFile != null) {
 				manifestFile.setManifestType(ASiCManifestTypeEnum.EVIDENCE_RECORD);
-				ASiCManifestValidator asiceWithCAdESManifestValidator = new ASiCManifestValidator(manifestFile, getAllDocuments());
-				asiceWithCAdESManifestValidator.validateEntries();
 				descriptions.add(manifestFile);
 			}
 		}
 
+		// documents covered by several manifests are read only once
+		computeManifestEntriesDigests(descriptions);
+		for (ManifestFile manifestFile : descriptions) {
+			ASiCManifestValidator asiceWithCAdESManifestValidator = new ASiCManifestValidator(manifestFile, getAllDocuments());
+			asiceWithCAdESManifestValidator.validateEntries();
+		}
+
 		return descriptions;
 	}
+
+	@Override
+	protected Set<DigestAlgorithm> getDetachedContentsDigestAlgorithms(AdvancedSignature signature) {
+		return ((CAdESSignature) signature).getOriginalDocumentDigestAlgorithms();
+	}
 	
 	@Override
 	public List<DSSDocument> getOriginalDocuments(AdvancedSignature advancedSignature) {
@@ -24,6 +24,7 @@ import eu.europa.esig.dss.asic.common.ASiCContent;
 import eu.europa.esig.dss.asic.common.ASiCUtils;
 import eu.europa.esig.dss.asic.common.extract.DefaultASiCContainerExtractor;
 import eu.europa.esig.dss.enumerations.ASiCContainerType;
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
 import eu.europa.esig.dss.enumerations.EvidenceRecordOrigin;
 import eu.europa.esig.dss.enumerations.EvidenceRecordTypeEnum;
 import eu.europa.esig.dss.model.ContainerInfo;
@@ -48,7 +49,11 @@ import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The abstract class for an ASiC container validation
@@ -499,6 +504,31 @@ public abstract class AbstractASiCContainerAnalyzer extends DefaultDocumentAnaly
 		return false;
 	}
 
+	/**
+	 * Computes digests of the documents covered by the given {@code manifestFiles}, for all digest algorithms
+	 * used within the manifest entries referencing the document, within a single read of each document
+	 *
+	 * @param manifestFiles a list of {@link ManifestFile}s to be validated
+	 */
+	protected void computeManifestEntriesDigests(List<ManifestFile> manifestFiles) {
+		final Map<String, Set<DigestAlgorithm>> digestAlgorithmsByUri = new HashMap<>();
+		for (ManifestFile manifestFile : manifestFiles) {
+			for (ManifestEntry entry : manifestFile.getEntries()) {
+				if (entry.getUri() != null && entry.getDigest() != null && entry.getDigest().getAlgorithm() != null) {
+					digestAlgorithmsByUri.computeIfAbsent(entry.getUri(), k -> EnumSet.noneOf(DigestAlgorithm.class))
+							.add(entry.getDigest().getAlgorithm());
+				}
+			}
+		}
+		final List<DSSDocument> allDocuments = getAllDocuments();
+		for (Map.Entry<String, Set<DigestAlgorithm>> entry : digestAlgorithmsByUri.entrySet()) {
+			DSSDocument document = DSSUtils.getDocumentWithName(allDocuments, entry.getKey());
+			if (document != null) {
+				computeDigests(Collections.singletonList(document), entry.getValue());
+			}
+		}
+	}
+
 	/**
 	 * Returns a validated {@code ManifestFile} for the given {@code manifest} document
 	 *
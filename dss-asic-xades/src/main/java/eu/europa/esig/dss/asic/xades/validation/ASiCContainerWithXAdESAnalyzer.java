@@ -31,6 +31,7 @@ import eu.europa.esig.dss.asic.xades.OpenDocumentSupportUtils;
 import eu.europa.esig.dss.asic.xades.extract.ASiCWithXAdESContainerExtractor;
 import eu.europa.esig.dss.enumerations.ASiCContainerType;
 import eu.europa.esig.dss.enumerations.ASiCManifestTypeEnum;
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
 import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.model.ManifestFile;
 import eu.europa.esig.dss.spi.signature.AdvancedSignature;
@@ -43,6 +44,7 @@ import eu.europa.esig.dss.xades.validation.XMLDocumentAnalyzer;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 /**
  * This class is an implementation to validate ASiC containers with XAdES signature(s)
@@ -128,20 +130,32 @@ public class ASiCContainerWithXAdESAnalyzer extends AbstractASiCContainerAnalyze
 			}
 		}
 
+		final List<ManifestFile> evidenceRecordManifests = new ArrayList<>();
 		List<DSSDocument> evidenceRecordManifestDocuments = getEvidenceRecordManifestDocuments();
 		for (DSSDocument manifestDocument : evidenceRecordManifestDocuments) {
 			ManifestFile manifestFile = ASiCManifestParser.getManifestFile(manifestDocument);
 			if (manifestFile != null) {
 				manifestFile.setManifestType(ASiCManifestTypeEnum.EVIDENCE_RECORD);
-				ASiCManifestValidator manifestValidator = new ASiCManifestValidator(manifestFile, getAllDocuments());
-				manifestValidator.validateEntries();
-				descriptions.add(manifestFile);
+				evidenceRecordManifests.add(manifestFile);
 			}
 		}
 
+		// documents covered by several manifests are read only once
+		computeManifestEntriesDigests(evidenceRecordManifests);
+		for (ManifestFile manifestFile : evidenceRecordManifests) {
+			ASiCManifestValidator manifestValidator = new ASiCManifestValidator(manifestFile, getAllDocuments());
+			manifestValidator.validateEntries();
+			descriptions.add(manifestFile);
+		}
+
 		return descriptions;
 	}
 	
+	@Override
+	protected Set<DigestAlgorithm> getDetachedContentsDigestAlgorithms(AdvancedSignature signature) {
+		return ((XAdESSignature) signature).getDetachedContentsDigestAlgorithms();
+	}
+
 	@Override
 	public List<DSSDocument> getOriginalDocuments(AdvancedSignature advancedSignature) {
 		XAdESSignature xadesSignature = (XAdESSignature) advancedSignature;
@@ -986,6 +986,29 @@ public class CAdESSignature extends DefaultAdvancedSignature {
 		return result;
 	}
 	
+	/**
+	 * Returns a set of {@link DigestAlgorithm}s used to compute digests of the signed original document
+	 * on the signature validation (message-digest candidates, content and archive time-stamps)
+	 *
+	 * @return a set of {@link DigestAlgorithm}s
+	 */
+	public Set<DigestAlgorithm> getOriginalDocumentDigestAlgorithms() {
+		Set<DigestAlgorithm> result = getMessageDigestAlgorithms();
+		DigestAlgorithm signerInformationDigestAlgorithm = getDigestAlgorithm();
+		if (signerInformationDigestAlgorithm != null) {
+			result.add(signerInformationDigestAlgorithm);
+		}
+		List<TimestampToken> timestamps = new ArrayList<>(getContentTimestamps());
+		timestamps.addAll(getArchiveTimestamps());
+		for (TimestampToken timestampToken : timestamps) {
+			Digest messageImprint = timestampToken.getMessageImprint();
+			if (messageImprint != null && messageImprint.getAlgorithm() != null) {
+				result.add(messageImprint.getAlgorithm());
+			}
+		}
+		return result;
+	}
+
 	private DigestAlgorithm getDigestAlgorithmForOID(String oid) {
 		try {
 			return DigestAlgorithm.forOID(oid);
@@ -25,6 +25,7 @@ import eu.europa.esig.dss.cades.validation.scope.CAdESSignatureScopeFinder;
 import eu.europa.esig.dss.cms.CMS;
 import eu.europa.esig.dss.cms.CMSSignedDocument;
 import eu.europa.esig.dss.cms.CMSUtils;
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
 import eu.europa.esig.dss.enumerations.TimestampedObjectType;
 import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.model.DSSException;
@@ -49,6 +50,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * Validation of CMS document
@@ -140,6 +142,11 @@ public class CMSDocumentAnalyzer extends DefaultDocumentAnalyzer {
 		return signatures;
 	}
 
+	@Override
+	protected Set<DigestAlgorithm> getDetachedContentsDigestAlgorithms(AdvancedSignature signature) {
+		return ((CAdESSignature) signature).getOriginalDocumentDigestAlgorithms();
+	}
+
 	@Override
 	protected void appendExternalEvidenceRecords(List<AdvancedSignature> allSignatureList) {
 		super.appendExternalEvidenceRecords(allSignatureList);
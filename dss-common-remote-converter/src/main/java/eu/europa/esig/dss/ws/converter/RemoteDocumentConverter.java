@@ -20,15 +20,24 @@
  */
 package eu.europa.esig.dss.ws.converter;
 
+import eu.europa.esig.dss.enumerations.MimeType;
 import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.model.Digest;
 import eu.europa.esig.dss.model.DigestDocument;
+import eu.europa.esig.dss.model.FileDocument;
 import eu.europa.esig.dss.model.InMemoryDocument;
 import eu.europa.esig.dss.spi.DSSUtils;
+import eu.europa.esig.dss.spi.signature.resources.DSSResourcesHandler;
+import eu.europa.esig.dss.spi.signature.resources.DSSResourcesHandlerBuilder;
 import eu.europa.esig.dss.utils.Utils;
 import eu.europa.esig.dss.ws.dto.RemoteDocument;
 import eu.europa.esig.dss.ws.dto.exception.DSSRemoteServiceException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -39,6 +48,8 @@ import java.util.List;
  */
 public class RemoteDocumentConverter {
 
+	private static final Logger LOG = LoggerFactory.getLogger(RemoteDocumentConverter.class);
+
 	/**
 	 * Utils class
 	 */
@@ -84,6 +95,92 @@ public class RemoteDocumentConverter {
 		}
 	}
 
+	/**
+	 * Converts the given list of {@code remoteDocuments} to a list of {@code DSSDocument}s,
+	 * by storing their binaries within the resources created by {@code resourcesHandlerBuilder}
+	 * (see {@link #toDSSDocument(RemoteDocument, DSSResourcesHandlerBuilder)})
+	 *
+	 * @param remoteDocuments list of {@link RemoteDocument}s
+	 * @param resourcesHandlerBuilder {@link DSSResourcesHandlerBuilder} to store the documents with
+	 * @return list of {@link DSSDocument}s
+	 */
+	public static List<DSSDocument> toDSSDocuments(List<RemoteDocument> remoteDocuments,
+												   DSSResourcesHandlerBuilder resourcesHandlerBuilder) {
+		if (Utils.isCollectionNotEmpty(remoteDocuments)) {
+			List<DSSDocument> dssDocuments = new ArrayList<>();
+			for (RemoteDocument remoteDocument : remoteDocuments) {
+				DSSDocument dssDocument = toDSSDocument(remoteDocument, resourcesHandlerBuilder);
+				if (dssDocument != null) {
+					dssDocuments.add(dssDocument);
+				}
+			}
+			return dssDocuments;
+		}
+		return Collections.emptyList();
+	}
+
+	/**
+	 * Converts the given {@code RemoteDocument} to a {@code DSSDocument}, by writing its binaries
+	 * to a resource created by the given {@code resourcesHandlerBuilder}
+	 * (e.g. a temporary file with {@code eu.europa.esig.dss.signature.resources.TempFileResourcesHandlerBuilder}).
+	 * The name and the MimeType of the created document are defined from the name of {@code remoteDocument},
+	 * as for an in-memory conversion. The created resources may be removed with {@link #deleteStoredDocuments(List)}.
+	 * <p>
+	 * The ownership of the binaries is transferred to the created document: once written, the binaries
+	 * of {@code remoteDocument} are released (set to null), so they may be garbage collected during the processing
+	 * of the request. The {@code remoteDocument} shall not be used to access the document content after the call.
+	 * <p>
+	 * NOTE: a digest document, or a conversion with a null {@code resourcesHandlerBuilder},
+	 *       is handled as in {@link #toDSSDocument(RemoteDocument)}
+	 *
+	 * @param remoteDocument {@link RemoteDocument} to convert
+	 * @param resourcesHandlerBuilder {@link DSSResourcesHandlerBuilder} to store the document with
+	 * @return {@link DSSDocument}
+	 */
+	public static DSSDocument toDSSDocument(RemoteDocument remoteDocument, DSSResourcesHandlerBuilder resourcesHandlerBuilder) {
+		if (resourcesHandlerBuilder == null || remoteDocument == null || remoteDocument.getDigestAlgorithm() != null) {
+			return toDSSDocument(remoteDocument);
+		}
+		if (Utils.isArrayEmpty(remoteDocument.getBytes())) {
+			return null;
+		}
+		try (DSSResourcesHandler resourcesHandler = resourcesHandlerBuilder.createResourcesHandler()) {
+			OutputStream os = resourcesHandler.createOutputStream();
+			os.write(remoteDocument.getBytes());
+			// the content is owned by the created document from now on
+			remoteDocument.setBytes(null);
+			DSSDocument dssDocument = resourcesHandler.writeToDSSDocument();
+			dssDocument.setName(remoteDocument.getName());
+			dssDocument.setMimeType(MimeType.fromFileName(remoteDocument.getName()));
+			return dssDocument;
+
+		} catch (IOException e) {
+			throw new DSSRemoteServiceException(String.format("Unable to store the document with name '%s'. Reason : %s",
+					remoteDocument.getName(), e.getMessage()), e);
+		}
+	}
+
+	/**
+	 * Removes the resources (i.e. temporary files) created for the given documents
+	 * with {@link #toDSSDocument(RemoteDocument, DSSResourcesHandlerBuilder)}
+	 *
+	 * @param storedDocuments a list of {@link DSSDocument}s created with a resources handler builder
+	 */
+	public static void deleteStoredDocuments(List<DSSDocument> storedDocuments) {
+		if (Utils.isCollectionNotEmpty(storedDocuments)) {
+			for (DSSDocument document : storedDocuments) {
+				if (document instanceof FileDocument) {
+					FileDocument fileDocument = (FileDocument) document;
+					try {
+						Files.deleteIfExists(fileDocument.getFile().toPath());
+					} catch (IOException e) {
+						LOG.warn("Unable to remove a temporary file '{}'. Reason : {}", fileDocument.getName(), e.getMessage());
+					}
+				}
+			}
+		}
+	}
+
 	/**
 	 * Converts the given list of {@code originalDocuments} to a list of {@code RemoteDocument}s
 	 *
@@ -0,0 +1,108 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * <p>
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * <p>
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * <p>
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.crl.stream.impl;
+
+import eu.europa.esig.dss.crl.CRLEntryIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.security.cert.X509CRLEntry;
+import java.util.Arrays;
+
+/**
+ * The DSS implementation of {@code CRLEntryIndex}.
+ * The index contains positions of the CRL entries sorted by hash codes of their serial numbers.
+ * A lookup is performed with a binary search, followed by a read of the matching CRL entries only.
+ */
+class CRLEntryIndexStreamImpl implements CRLEntryIndex {
+
+	private static final Logger LOG = LoggerFactory.getLogger(CRLEntryIndexStreamImpl.class);
+
+	/** The DER encoded CRL */
+	private final byte[] crlBinaries;
+
+	/** Sorted hash codes of the serial numbers */
+	private final int[] serialNumberHashes;
+
+	/** Offsets of the CRL entries, in the order of {@code serialNumberHashes} */
+	private final int[] entryOffsets;
+
+	/**
+	 * Default constructor
+	 *
+	 * @param crlBinaries DER encoded CRL
+	 * @param positions CRL entry positions (see {@code CRLParser#retrieveRevokedCertificatePositions})
+	 */
+	CRLEntryIndexStreamImpl(byte[] crlBinaries, long[] positions) {
+		this.crlBinaries = crlBinaries;
+
+		long[] sortedPositions = positions.clone();
+		Arrays.sort(sortedPositions);
+
+		this.serialNumberHashes = new int[sortedPositions.length];
+		this.entryOffsets = new int[sortedPositions.length];
+		for (int i = 0; i < sortedPositions.length; i++) {
+			serialNumberHashes[i] = (int) (sortedPositions[i] >> 32);
+			entryOffsets[i] = (int) sortedPositions[i];
+		}
+	}
+
+	@Override
+	public X509CRLEntry getRevocationInfo(BigInteger serialNumber) {
+		int hash = serialNumber.hashCode();
+		int index = Arrays.binarySearch(serialNumberHashes, hash);
+		if (index < 0) {
+			return null;
+		}
+		// go to the first entry with the same hash
+		while (index > 0 && serialNumberHashes[index - 1] == hash) {
+			index--;
+		}
+
+		CRLParser parser = new CRLParser();
+		for (; index < serialNumberHashes.length && serialNumberHashes[index] == hash; index++) {
+			int offset = entryOffsets[index];
+			try (InputStream is = new ByteArrayInputStream(crlBinaries, offset, crlBinaries.length - offset)) {
+				X509CRLEntry crlEntry = parser.retrieveRevocationInfoAtPosition(is, serialNumber);
+				if (crlEntry != null) {
+					return crlEntry;
+				}
+			} catch (IOException e) {
+				LOG.warn("Unable to read the CRL entry at position {}", offset, e);
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the number of indexed CRL entries
+	 *
+	 * @return number of entries
+	 */
+	int size() {
+		return serialNumberHashes.length;
+	}
+
+}
@@ -46,6 +46,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.math.BigInteger;
 import java.security.cert.X509CRLEntry;
+import java.util.Arrays;
 import java.util.Enumeration;
 
 /**
@@ -127,6 +128,118 @@ class CRLParser {
 	 * @throws IOException if an exception occurs
 	 */
 	public X509CRLEntry retrieveRevocationInfo(InputStream is, BigInteger serialNumber) throws IOException {
+		int tagNo = skipToRevokedCertificates(is);
+
+		while (tagNo == BERTags.SEQUENCE) {
+			int tag = DERUtil.readTag(is);
+
+			if (tag < 0) {
+				// EOF
+				return null;
+			}
+
+			tagNo = DERUtil.readTagNumber(is, tag);
+			int length = DERUtil.readLength(is);
+
+			if (tagNo == BERTags.SEQUENCE) {
+
+				byte[] entryArray = readNbBytes(is, length);
+
+				X509CRLEntry crlEntry = getCRLEntry(entryArray, serialNumber);
+				if (crlEntry != null) {
+					return crlEntry;
+				}
+			} else {
+				LOG.debug("Should only contain SEQUENCEs : tagNo = {} (ignored)", tagNo);
+				skip(is, length);
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * This method parses the revokedCertificates sequence of the CRL and collects the positions
+	 * of the CRL entries, associated with hash codes of their serial numbers.
+	 * Each returned value contains the serial number hash code in the high-order 32 bits
+	 * and the offset of the CRL entry (from the beginning of the CRL) in the low-order 32 bits.
+	 *
+	 * @param crlBinaries
+	 *            DER encoded CRL
+	 * @return an array of CRL entry positions, in the order of occurrence within the CRL
+	 * @throws IOException if an exception occurs
+	 */
+	public long[] retrieveRevokedCertificatePositions(byte[] crlBinaries) throws IOException {
+		long[] positions = new long[64];
+		int size = 0;
+
+		try (ByteArrayInputStream is = new ByteArrayInputStream(crlBinaries)) {
+			int tagNo = skipToRevokedCertificates(is);
+
+			while (tagNo == BERTags.SEQUENCE) {
+				int offset = crlBinaries.length - is.available();
+				int tag = DERUtil.readTag(is);
+
+				if (tag < 0) {
+					// EOF
+					break;
+				}
+
+				tagNo = DERUtil.readTagNumber(is, tag);
+				int length = DERUtil.readLength(is);
+
+				if (tagNo == BERTags.SEQUENCE) {
+
+					byte[] entryArray = readNbBytes(is, length);
+
+					BigInteger entrySerialNumber = getSerialNumber(entryArray);
+					if (entrySerialNumber != null) {
+						if (size == positions.length) {
+							positions = Arrays.copyOf(positions, size * 2);
+						}
+						positions[size++] = ((long) entrySerialNumber.hashCode() << 32) | (offset & 0xFFFFFFFFL);
+					}
+				} else {
+					LOG.debug("Should only contain SEQUENCEs : tagNo = {} (ignored)", tagNo);
+					skip(is, length);
+				}
+			}
+		}
+
+		return Arrays.copyOf(positions, size);
+	}
+
+	/**
+	 * This method reads a CRL entry at the current position of the InputStream and returns it,
+	 * when the entry corresponds to the given serial number
+	 *
+	 * @param is
+	 *            {@link InputStream} positioned at the beginning of a CRL entry
+	 * @param serialNumber
+	 *            {@link BigInteger} the certificate's serial number
+	 * @return {@link X509CRLEntry} if the entry corresponds to the serial number, null otherwise
+	 * @throws IOException if an exception occurs
+	 */
+	public X509CRLEntry retrieveRevocationInfoAtPosition(InputStream is, BigInteger serialNumber) throws IOException {
+		int tag = DERUtil.readTag(is);
+		int tagNo = DERUtil.readTagNumber(is, tag);
+		int length = DERUtil.readLength(is);
+		if (tagNo != BERTags.SEQUENCE) {
+			LOG.debug("CRL entry shall be a SEQUENCE : tagNo = {}", tagNo);
+			return null;
+		}
+		return getCRLEntry(readNbBytes(is, length), serialNumber);
+	}
+
+	/**
+	 * Skips all TBSCertList elements preceding revokedCertificates.
+	 * The tag of the revokedCertificates sequence (if present) is consumed.
+	 *
+	 * @param is {@link InputStream} with the CRL
+	 * @return the tag number of the last read element
+	 * @throws IOException if an exception occurs
+	 */
+	private int skipToRevokedCertificates(InputStream is) throws IOException {
 		// Skip CertificateList Sequence info
 		consumeTagIntro(is);
 
@@ -154,45 +267,34 @@ class CRLParser {
 
 			tag = DERUtil.readTag(is);
 			tagNo = DERUtil.readTagNumber(is, tag);
-			length = DERUtil.readLength(is);
+			DERUtil.readLength(is);
 		}
 
-		while (tagNo == BERTags.SEQUENCE) {
-			tag = DERUtil.readTag(is);
-
-			if (tag < 0) {
-				// EOF
-				return null;
-			}
-
-			tagNo = DERUtil.readTagNumber(is, tag);
-			length = DERUtil.readLength(is);
+		return tagNo;
+	}
 
-			if (tagNo == BERTags.SEQUENCE) {
+	private X509CRLEntry getCRLEntry(byte[] entryArray, BigInteger serialNumber) throws IOException {
+		BigInteger entrySerialNumber = getSerialNumber(entryArray);
+		if (serialNumber.equals(entrySerialNumber)) {
+			ASN1Sequence asn1Sequence = rebuildASN1Sequence(entryArray);
+			CRLEntry crlEntry = CRLEntry.getInstance(asn1Sequence);
+			return new X509CRLEntryObject(crlEntry);
+		}
+		return null;
+	}
 
-				byte[] entryArray = readNbBytes(is, length);
+	private BigInteger getSerialNumber(byte[] entryArray) throws IOException {
+		try (InputStream bais = new ByteArrayInputStream(entryArray)) {
+			int entryTag = DERUtil.readTag(bais);
+			int entryTagNo = DERUtil.readTagNumber(bais, entryTag);
+			int entryLength = DERUtil.readLength(bais);
 
-				try (InputStream bais = new ByteArrayInputStream(entryArray)) {
-					int entryTag = DERUtil.readTag(bais);
-					int entryTagNo = DERUtil.readTagNumber(bais, entryTag);
-					int entryLength = DERUtil.readLength(bais);
-
-					// SerialNumber
-					if (BERTags.INTEGER == entryTagNo) {
-						ASN1Integer asn1SerialNumber = rebuildASN1Integer(readNbBytes(bais, entryLength));
-						if (serialNumber.equals(asn1SerialNumber.getValue())) {
-							ASN1Sequence asn1Sequence = rebuildASN1Sequence(entryArray);
-							CRLEntry crlEntry = CRLEntry.getInstance(asn1Sequence);
-							return new X509CRLEntryObject(crlEntry);
-						}
-					}
-				}
-			} else {
-				LOG.debug("Should only contain SEQUENCEs : tagNo = {} (ignored)", tagNo);
-				skip(is, length);
+			// SerialNumber
+			if (BERTags.INTEGER == entryTagNo) {
+				ASN1Integer asn1SerialNumber = rebuildASN1Integer(readNbBytes(bais, entryLength));
+				return asn1SerialNumber.getValue();
 			}
 		}
-
 		return null;
 	}
 
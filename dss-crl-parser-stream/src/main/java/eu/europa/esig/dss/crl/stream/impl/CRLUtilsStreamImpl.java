@@ -22,6 +22,7 @@ package eu.europa.esig.dss.crl.stream.impl;
 
 import eu.europa.esig.dss.crl.AbstractCRLUtils;
 import eu.europa.esig.dss.crl.CRLBinary;
+import eu.europa.esig.dss.crl.CRLEntryIndex;
 import eu.europa.esig.dss.crl.CRLValidity;
 import eu.europa.esig.dss.crl.ICRLUtils;
 import eu.europa.esig.dss.enumerations.EncryptionAlgorithm;
@@ -83,8 +84,19 @@ public class CRLUtilsStreamImpl extends AbstractCRLUtils implements ICRLUtils {
 			crlValidity.setIssuerX509PrincipalMatches(true);
 		}
 
-		checkSignatureValue(crlValidity, crlInfos.getSignatureValue(), signatureAlgorithm,
-				crlInfos.getCertificateListSignatureAlgorithmParams(), getSignedData(crlValidity), issuerToken);
+		if (!applyCachedSignatureValidity(crlValidity, issuerToken)) {
+			checkSignatureValue(crlValidity, crlInfos.getSignatureValue(), signatureAlgorithm,
+					crlInfos.getCertificateListSignatureAlgorithmParams(), getSignedData(crlValidity), issuerToken);
+			cacheSignatureValidity(crlValidity, issuerToken);
+		}
+		if (crlValidity.isSignatureIntact()) {
+			boolean crlSign = issuerToken.checkKeyUsage(KeyUsageBit.CRL_SIGN);
+			if (!crlSign) {
+				crlValidity.setSignatureInvalidityReason(
+						String.format("CRL issuer does not have '%s' key usage!", KeyUsageBit.CRL_SIGN.getValue()));
+			}
+			crlValidity.setCrlSignKeyUsage(crlSign);
+		}
 		
 		return crlValidity;
 	}
@@ -111,6 +123,15 @@ public class CRLUtilsStreamImpl extends AbstractCRLUtils implements ICRLUtils {
 		return crlEntry;
 	}
 
+	@Override
+	public CRLEntryIndex buildCRLEntryIndex(CRLBinary crlBinary) throws IOException {
+		byte[] crlBinaries = crlBinary.getBinaries();
+		CRLParser parser = new CRLParser();
+		long[] positions = parser.retrieveRevokedCertificatePositions(crlBinaries);
+		LOG.debug("Index of revoked certificates has been built (entries={})", positions.length);
+		return new CRLEntryIndexStreamImpl(crlBinaries, positions);
+	}
+
 	private void checkSignatureValue(CRLValidity crlValidity, byte[] signatureValue, SignatureAlgorithm signatureAlgorithm,
 									 byte[] params, byte[] signedData, CertificateToken signer) {
 		try {
@@ -124,14 +145,6 @@ public class CRLUtilsStreamImpl extends AbstractCRLUtils implements ICRLUtils {
 			if (signature.verify(signatureValue)) {
 				crlValidity.setSignatureIntact(true);
 				crlValidity.setIssuerToken(signer);
-
-				boolean crlSign = signer.checkKeyUsage(KeyUsageBit.CRL_SIGN);
-				if (!crlSign) {
-					crlValidity.setSignatureInvalidityReason(
-							String.format("CRL issuer does not have '%s' key usage!", KeyUsageBit.CRL_SIGN.getValue()));
-				}
-				crlValidity.setCrlSignKeyUsage(crlSign);
-
 			} else {
 				crlValidity.setSignatureInvalidityReason("CRL Signature is not intact.");
 			}
@@ -0,0 +1,53 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * <p>
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * <p>
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * <p>
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.crl.x509.impl;
+
+import eu.europa.esig.dss.crl.CRLEntryIndex;
+
+import java.math.BigInteger;
+import java.security.cert.X509CRL;
+import java.security.cert.X509CRLEntry;
+
+/**
+ * The implementation of {@code CRLEntryIndex} with java.security classes.
+ * The parsed {@code X509CRL} is kept in order to avoid parsing the CRL on each request,
+ * the lookup of revoked certificates by serial number is delegated to the {@code X509CRL}.
+ */
+class CRLEntryIndexX509CRLImpl implements CRLEntryIndex {
+
+	/** The parsed CRL */
+	private final X509CRL crl;
+
+	/**
+	 * Default constructor
+	 *
+	 * @param crl {@link X509CRL} to be indexed
+	 */
+	CRLEntryIndexX509CRLImpl(X509CRL crl) {
+		this.crl = crl;
+	}
+
+	@Override
+	public X509CRLEntry getRevocationInfo(BigInteger serialNumber) {
+		return crl.getRevokedCertificate(serialNumber);
+	}
+
+}
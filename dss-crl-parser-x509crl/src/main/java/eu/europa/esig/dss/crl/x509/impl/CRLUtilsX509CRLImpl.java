@@ -22,6 +22,7 @@ package eu.europa.esig.dss.crl.x509.impl;
 
 import eu.europa.esig.dss.crl.AbstractCRLUtils;
 import eu.europa.esig.dss.crl.CRLBinary;
+import eu.europa.esig.dss.crl.CRLEntryIndex;
 import eu.europa.esig.dss.crl.CRLValidity;
 import eu.europa.esig.dss.crl.ICRLUtils;
 import eu.europa.esig.dss.enumerations.KeyUsageBit;
@@ -34,6 +35,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.security.auth.x500.X500Principal;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.math.BigInteger;
@@ -98,7 +100,10 @@ public class CRLUtilsX509CRLImpl extends AbstractCRLUtils implements ICRLUtils {
 			extractIssuingDistributionPointBinary(crlValidity, x509CRL.getExtensionValue(Extension.issuingDistributionPoint.getId()));
 			extractExpiredCertsOnCRL(crlValidity, x509CRL.getExtensionValue(Extension.expiredCertsOnCRL.getId()));
 
-			checkSignatureValue(x509CRL, issuerToken, crlValidity);
+			if (!applyCachedSignatureValidity(crlValidity, issuerToken)) {
+				checkSignatureValue(x509CRL, issuerToken, crlValidity);
+				cacheSignatureValidity(crlValidity, issuerToken);
+			}
 			if (crlValidity.isSignatureIntact()) {
 				boolean crlSign = issuerToken.checkKeyUsage(KeyUsageBit.CRL_SIGN);
 				if (!crlSign) {
@@ -144,6 +149,13 @@ public class CRLUtilsX509CRLImpl extends AbstractCRLUtils implements ICRLUtils {
 		return crl.getRevokedCertificate(serialNumber);
 	}
 
+	@Override
+	public CRLEntryIndex buildCRLEntryIndex(CRLBinary crlBinary) throws IOException {
+		try (InputStream is = new ByteArrayInputStream(crlBinary.getBinaries())) {
+			return new CRLEntryIndexX509CRLImpl(loadCRL(is));
+		}
+	}
+
 	/**
 	 * This method loads a CRL from the given location.
 	 *
@@ -20,7 +20,11 @@
  */
 package eu.europa.esig.dss.crl;
 
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
+import eu.europa.esig.dss.enumerations.SignatureValidity;
 import eu.europa.esig.dss.model.DSSException;
+import eu.europa.esig.dss.model.x509.CertificateToken;
+import eu.europa.esig.dss.model.x509.SignatureVerificationCache;
 import org.bouncycastle.asn1.ASN1GeneralizedTime;
 import org.bouncycastle.asn1.ASN1OctetString;
 import org.bouncycastle.asn1.ASN1Primitive;
@@ -139,4 +143,44 @@ public abstract class AbstractCRLUtils {
 		return null;
 	}
 
+	/**
+	 * Fills the signature verification result from the {@code SignatureVerificationCache}, when available
+	 *
+	 * @param crlValidity {@link CRLValidity} to fill
+	 * @param issuerToken {@link CertificateToken} the CRL issuer candidate
+	 * @return TRUE if the cached result has been applied, FALSE if the signature shall be verified
+	 */
+	protected boolean applyCachedSignatureValidity(CRLValidity crlValidity, CertificateToken issuerToken) {
+		final SignatureVerificationCache verificationCache = SignatureVerificationCache.getInstance();
+		if (!verificationCache.isEnabled()) {
+			return false;
+		}
+		SignatureVerificationCache.CachedSignatureValidity cachedResult = verificationCache.get(
+				crlValidity.getCrlBinary().getDigestValue(DigestAlgorithm.SHA256), issuerToken.getPublicKey());
+		if (cachedResult == null) {
+			return false;
+		}
+		if (SignatureValidity.VALID == cachedResult.getSignatureValidity()) {
+			crlValidity.setSignatureIntact(true);
+			crlValidity.setIssuerToken(issuerToken);
+		} else {
+			crlValidity.setSignatureInvalidityReason(cachedResult.getSignatureInvalidityReason());
+		}
+		return true;
+	}
+
+	/**
+	 * Stores the signature verification result of the {@code crlValidity} within the {@code SignatureVerificationCache}
+	 *
+	 * @param crlValidity {@link CRLValidity} containing the signature verification result
+	 * @param issuerToken {@link CertificateToken} the CRL issuer candidate
+	 */
+	protected void cacheSignatureValidity(CRLValidity crlValidity, CertificateToken issuerToken) {
+		final SignatureVerificationCache verificationCache = SignatureVerificationCache.getInstance();
+		if (verificationCache.isEnabled()) {
+			verificationCache.put(crlValidity.getCrlBinary().getDigestValue(DigestAlgorithm.SHA256), issuerToken.getPublicKey(),
+					SignatureValidity.get(crlValidity.isSignatureIntact()), crlValidity.getSignatureInvalidityReason());
+		}
+	}
+
 }
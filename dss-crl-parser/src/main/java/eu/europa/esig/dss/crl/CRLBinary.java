@@ -30,6 +30,13 @@ import eu.europa.esig.dss.model.x509.revocation.crl.CRL;
 public class CRLBinary extends EncapsulatedRevocationTokenIdentifier<CRL> {
 
 	private static final long serialVersionUID = 3365111934665055383L;
+
+	/**
+	 * Index of the revoked certificates, built on the first revocation status request
+	 * when enabled (see {@code CRLUtils#setCRLEntryIndexEnabled})
+	 */
+	private transient CRLEntryIndex crlEntryIndex;
+
 	
 	/**
 	 * The default constructor, accepts DER encoded binaries
@@ -40,4 +47,22 @@ public class CRLBinary extends EncapsulatedRevocationTokenIdentifier<CRL> {
 		super(derEncoded);
 	}
 
+	/**
+	 * Gets the index of the revoked certificates, when built
+	 *
+	 * @return {@link CRLEntryIndex}, or null if not yet built
+	 */
+	public synchronized CRLEntryIndex getCRLEntryIndex() {
+		return crlEntryIndex;
+	}
+
+	/**
+	 * Sets the index of the revoked certificates
+	 *
+	 * @param crlEntryIndex {@link CRLEntryIndex}
+	 */
+	public synchronized void setCRLEntryIndex(CRLEntryIndex crlEntryIndex) {
+		this.crlEntryIndex = crlEntryIndex;
+	}
+
 }
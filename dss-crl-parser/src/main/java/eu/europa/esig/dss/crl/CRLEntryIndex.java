@@ -0,0 +1,42 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * <p>
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * <p>
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * <p>
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.crl;
+
+import java.math.BigInteger;
+import java.security.cert.X509CRLEntry;
+
+/**
+ * Index of the revoked certificates of a CRL, allowing retrieval of a CRL entry by the certificate serial number
+ * without a complete scan of the revokedCertificates sequence.
+ * The index is built once per {@code CRLBinary} by the {@code ICRLUtils} implementation.
+ */
+public interface CRLEntryIndex {
+
+	/**
+	 * Returns the CRL entry for the given serial number
+	 *
+	 * @param serialNumber
+	 *            the certificate serial number to search
+	 * @return the X509CRLEntry with the revocation date, the reason, or null if the serial number is not found
+	 */
+	X509CRLEntry getRevocationInfo(BigInteger serialNumber);
+
+}
@@ -21,6 +21,8 @@
 package eu.europa.esig.dss.crl;
 
 import eu.europa.esig.dss.model.x509.CertificateToken;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.math.BigInteger;
@@ -33,6 +35,8 @@ import java.util.ServiceLoader;
  */
 public class CRLUtils {
 
+	private static final Logger LOG = LoggerFactory.getLogger(CRLUtils.class);
+
 	private CRLUtils() {
 		// empty
 	}
@@ -42,6 +46,11 @@ public class CRLUtils {
 	 */
 	private static ICRLUtils impl;
 
+	/**
+	 * Defines whether an index of revoked certificates shall be built for a CRL on the first revocation status request
+	 */
+	private static volatile boolean crlEntryIndexEnabled = false;
+
 	static {
 		ServiceLoader<ICRLUtils> loader = ServiceLoader.load(ICRLUtils.class);
 		Iterator<ICRLUtils> iterator = loader.iterator();
@@ -81,7 +90,35 @@ public class CRLUtils {
 	}
 
 	/**
-	 * This method verifies the revocation status for a given serial number
+	 * Gets whether an index of revoked certificates is built for a CRL on the first revocation status request
+	 *
+	 * @return TRUE if the index is enabled, FALSE otherwise
+	 */
+	public static boolean isCRLEntryIndexEnabled() {
+		return crlEntryIndexEnabled;
+	}
+
+	/**
+	 * Sets whether an index of revoked certificates shall be built for a CRL on the first revocation status request,
+	 * and used for the following requests against the same {@code CRLBinary}. When disabled, the CRL is scanned
+	 * on each request.
+	 * <p>
+	 * NOTE: the index is kept in memory as long as the {@code CRLBinary}, in addition to the DER encoded CRL.
+	 * With dss-crl-parser-stream, it costs about 8 bytes per revoked certificate. With dss-crl-parser-x509crl,
+	 * the whole parsed {@code X509CRL} is kept, which may take several times the size of the encoded CRL.
+	 * <p>
+	 * Default : FALSE (the CRL is scanned on each request)
+	 *
+	 * @param crlEntryIndexEnabled whether the index of revoked certificates shall be used
+	 */
+	public static void setCRLEntryIndexEnabled(boolean crlEntryIndexEnabled) {
+		CRLUtils.crlEntryIndexEnabled = crlEntryIndexEnabled;
+	}
+
+	/**
+	 * This method verifies the revocation status for a given serial number.
+	 * When enabled (see {@code #setCRLEntryIndexEnabled}) and supported by the implementation, an index of
+	 * revoked certificates is built on the first request and used for the following ones.
 	 * 
 	 * @param crlValidity
 	 *            the CRL Validity
@@ -90,7 +127,30 @@ public class CRLUtils {
 	 * @return the X509CRLEntry with the revocation date, the reason, or null if the serial number is not found
 	 */
 	public static X509CRLEntry getRevocationInfo(CRLValidity crlValidity, BigInteger serialNumber) {
+		final CRLBinary crlBinary = crlValidity.getCrlBinary();
+		if (crlEntryIndexEnabled && crlBinary != null) {
+			CRLEntryIndex crlEntryIndex = getCRLEntryIndex(crlBinary);
+			if (crlEntryIndex != null) {
+				return crlEntryIndex.getRevocationInfo(serialNumber);
+			}
+		}
 		return impl.getRevocationInfo(crlValidity, serialNumber);
 	}
 
+	private static CRLEntryIndex getCRLEntryIndex(CRLBinary crlBinary) {
+		synchronized (crlBinary) {
+			CRLEntryIndex crlEntryIndex = crlBinary.getCRLEntryIndex();
+			if (crlEntryIndex == null) {
+				try {
+					crlEntryIndex = impl.buildCRLEntryIndex(crlBinary);
+					crlBinary.setCRLEntryIndex(crlEntryIndex);
+				} catch (Exception e) {
+					LOG.warn("Unable to build an index of revoked certificates. The CRL will be scanned. Reason : {}",
+							e.getMessage(), e);
+				}
+			}
+			return crlEntryIndex;
+		}
+	}
+
 }
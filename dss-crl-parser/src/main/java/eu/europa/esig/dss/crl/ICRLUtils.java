@@ -66,4 +66,22 @@ public interface ICRLUtils {
 	 */
 	X509CRLEntry getRevocationInfo(final CRLValidity crlValidity, final BigInteger serialNumber);
 
+	/**
+	 * This method builds an index of the revoked certificates of the given CRL, in order to retrieve
+	 * the revocation status for a serial number without a complete scan of the CRL.
+	 * The index is built once per {@code CRLBinary} and reused by the following requests.
+	 * <p>
+	 * The default implementation does not support indexing and returns null, in which case
+	 * the CRL is scanned on each request using {@code getRevocationInfo(crlValidity, serialNumber)}.
+	 *
+	 * @param crlBinary
+	 *            {@code CRLBinary} of the CRL to be indexed (cannot be null)
+	 * @return {@link CRLEntryIndex}, or null if indexing is not supported
+	 * @throws IOException
+	 *             if an IO error occurred
+	 */
+	default CRLEntryIndex buildCRLEntryIndex(final CRLBinary crlBinary) throws IOException {
+		return null;
+	}
+
 }
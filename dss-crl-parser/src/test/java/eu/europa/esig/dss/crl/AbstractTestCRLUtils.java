@@ -33,6 +33,7 @@ import java.io.InputStream;
 import java.math.BigInteger;
 import java.security.cert.CertificateException;
 import java.security.cert.CertificateFactory;
+import java.security.cert.X509CRL;
 import java.security.cert.X509CRLEntry;
 import java.security.cert.X509Certificate;
 import java.util.Base64;
@@ -42,6 +43,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -263,6 +265,56 @@ public abstract class AbstractTestCRLUtils extends AbstractCRLParserTestUtils {
 		}
 	}
 
+	@Test
+	public void retrieveRevocationWithCRLEntryIndex() throws Exception {
+		try (InputStream is = AbstractTestCRLUtils.class.getResourceAsStream("/http___crl.globalsign.com_gs_gspersonalsign2sha2g2.crl");
+				InputStream isCer = AbstractTestCRLUtils.class.getResourceAsStream("/citizen_ca.cer")) {
+
+			CertificateToken certificateToken = loadCert(isCer);
+
+			byte[] crlBinaries = toByteArray(is);
+			X509CRL x509CRL = (X509CRL) certificateFactory.generateCRL(new ByteArrayInputStream(crlBinaries));
+			assertNotNull(x509CRL.getRevokedCertificates());
+
+			CRLBinary crlBinary = CRLUtils.buildCRLBinary(crlBinaries);
+			CRLValidity validity = CRLUtils.buildCRLValidity(crlBinary, certificateToken);
+			assertNull(crlBinary.getCRLEntryIndex());
+
+			assertFalse(CRLUtils.isCRLEntryIndexEnabled());
+			try {
+				CRLEntryIndex crlEntryIndex = null;
+				for (X509CRLEntry expectedEntry : x509CRL.getRevokedCertificates()) {
+					BigInteger serialNumber = expectedEntry.getSerialNumber();
+
+					CRLUtils.setCRLEntryIndexEnabled(false);
+					X509CRLEntry scannedEntry = CRLUtils.getRevocationInfo(validity, serialNumber);
+					assertSame(crlEntryIndex, crlBinary.getCRLEntryIndex());
+
+					CRLUtils.setCRLEntryIndexEnabled(true);
+					X509CRLEntry indexedEntry = CRLUtils.getRevocationInfo(validity, serialNumber);
+					assertNotNull(crlBinary.getCRLEntryIndex());
+					if (crlEntryIndex == null) {
+						crlEntryIndex = crlBinary.getCRLEntryIndex();
+					} else {
+						// built once per CRLBinary
+						assertSame(crlEntryIndex, crlBinary.getCRLEntryIndex());
+					}
+
+					assertNotNull(scannedEntry);
+					assertNotNull(indexedEntry);
+					assertEquals(serialNumber, indexedEntry.getSerialNumber());
+					assertEquals(scannedEntry.getRevocationDate(), indexedEntry.getRevocationDate());
+					assertEquals(scannedEntry.getRevocationReason(), indexedEntry.getRevocationReason());
+				}
+
+				assertNull(CRLUtils.getRevocationInfo(validity, new BigInteger("111111111111111111111111111")));
+				assertNull(CRLUtils.getRevocationInfo(validity, BigInteger.ZERO));
+			} finally {
+				CRLUtils.setCRLEntryIndexEnabled(false);
+			}
+		}
+	}
+
 	@Test
 	public void testARLFile() throws Exception {
 		try (InputStream is = AbstractTestCRLUtils.class.getResourceAsStream("/notaires2020.arl");
@@ -0,0 +1,67 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * <p>
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * <p>
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * <p>
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.signature;
+
+import eu.europa.esig.dss.model.x509.CertificateToken;
+import eu.europa.esig.dss.spi.x509.RequestCoalescer;
+import eu.europa.esig.dss.spi.x509.aia.AIASource;
+
+import java.util.Set;
+
+/**
+ * This class wraps an {@code AIASource} and requests the issuer candidates of a given certificate
+ * only once within a batch of {@code BulkAugmentationService}.
+ *
+ */
+class BatchCacheAIASource implements AIASource {
+
+	private static final long serialVersionUID = -6203781736420859131L;
+
+	/** The wrapped AIA source */
+	private final AIASource aiaSource;
+
+	/** The results obtained within the batch */
+	private final transient RequestCoalescer<Set<CertificateToken>> cache = new RequestCoalescer<>(true);
+
+	/**
+	 * Default constructor
+	 *
+	 * @param aiaSource {@link AIASource} to delegate the calls to
+	 */
+	BatchCacheAIASource(AIASource aiaSource) {
+		this.aiaSource = aiaSource;
+	}
+
+	@Override
+	public Set<CertificateToken> getCertificatesByAIA(CertificateToken certificateToken) {
+		return cache.execute(certificateToken.getDSSIdAsString(), () -> aiaSource.getCertificatesByAIA(certificateToken));
+	}
+
+	/**
+	 * Gets the cache of the batch
+	 *
+	 * @return {@link RequestCoalescer}
+	 */
+	RequestCoalescer<Set<CertificateToken>> getCache() {
+		return cache;
+	}
+
+}
@@ -0,0 +1,126 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * <p>
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * <p>
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * <p>
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.signature;
+
+import eu.europa.esig.dss.model.x509.CertificateToken;
+import eu.europa.esig.dss.model.x509.revocation.Revocation;
+import eu.europa.esig.dss.spi.CertificateExtensionsUtils;
+import eu.europa.esig.dss.spi.x509.RequestCoalescer;
+import eu.europa.esig.dss.spi.x509.revocation.RevocationSource;
+import eu.europa.esig.dss.spi.x509.revocation.RevocationSourceAlternateUrlsSupport;
+import eu.europa.esig.dss.spi.x509.revocation.RevocationToken;
+import eu.europa.esig.dss.spi.x509.revocation.crl.CRLToken;
+import eu.europa.esig.dss.utils.Utils;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * This class wraps a {@code RevocationSource} and requests the revocation data only once within a batch
+ * of {@code BulkAugmentationService}. Absence of the revocation data is cached as well.
+ * <p>
+ * OCSP responses are requested once per certificate and issuer. CRLs are requested once per issuer
+ * and CRL distribution points, i.e. a CRL is shared by all the certificates of a CA within the batch.
+ * Alternative URLs (e.g. defined in a trusted list) are forwarded to the wrapped source, when supported,
+ * and are part of the request key.
+ *
+ * @param <R> implementation of {@code Revocation} (CRL or OCSP)
+ */
+class BatchCacheRevocationSource<R extends Revocation> implements RevocationSourceAlternateUrlsSupport<R> {
+
+	private static final long serialVersionUID = 5309834786135843937L;
+
+	/** The wrapped revocation source */
+	private final RevocationSource<R> revocationSource;
+
+	/** Defines whether the wrapped source provides CRLs, shared by the certificates of the same issuer */
+	private final boolean crlSource;
+
+	/** The results obtained within the batch */
+	private final transient RequestCoalescer<RevocationToken<R>> cache = new RequestCoalescer<>(true);
+
+	/**
+	 * Default constructor
+	 *
+	 * @param revocationSource {@link RevocationSource} to delegate the calls to
+	 * @param crlSource whether the {@code revocationSource} provides CRLs
+	 */
+	BatchCacheRevocationSource(RevocationSource<R> revocationSource, boolean crlSource) {
+		this.revocationSource = revocationSource;
+		this.crlSource = crlSource;
+	}
+
+	@Override
+	public RevocationToken<R> getRevocationToken(CertificateToken certificateToken, CertificateToken issuerCertificateToken) {
+		return getRevocationToken(certificateToken, issuerCertificateToken, Collections.emptyList());
+	}
+
+	@Override
+	public RevocationToken<R> getRevocationToken(CertificateToken certificateToken, CertificateToken issuerCertificateToken,
+												 List<String> alternativeUrls) {
+		final RevocationToken<R> revocationToken = cache.execute(getKey(certificateToken, issuerCertificateToken, alternativeUrls),
+				() -> requestRevocationToken(certificateToken, issuerCertificateToken, alternativeUrls));
+		return getRelatedRevocationToken(revocationToken, certificateToken);
+	}
+
+	private String getKey(CertificateToken certificateToken, CertificateToken issuerCertificateToken, List<String> alternativeUrls) {
+		final StringBuilder sb = new StringBuilder();
+		if (crlSource) {
+			sb.append(issuerCertificateToken.getDSSIdAsString()).append(':')
+					.append(CertificateExtensionsUtils.getCRLAccessUrls(certificateToken));
+		} else {
+			sb.append(certificateToken.getDSSIdAsString()).append(':')
+					.append(issuerCertificateToken.getDSSIdAsString());
+		}
+		if (Utils.isCollectionNotEmpty(alternativeUrls)) {
+			sb.append(':').append(alternativeUrls);
+		}
+		return sb.toString();
+	}
+
+	@SuppressWarnings("unchecked")
+	private RevocationToken<R> requestRevocationToken(CertificateToken certificateToken, CertificateToken issuerCertificateToken,
+													  List<String> alternativeUrls) {
+		if (Utils.isCollectionNotEmpty(alternativeUrls) && revocationSource instanceof RevocationSourceAlternateUrlsSupport) {
+			return ((RevocationSourceAlternateUrlsSupport<R>) revocationSource)
+					.getRevocationToken(certificateToken, issuerCertificateToken, alternativeUrls);
+		}
+		return revocationSource.getRevocationToken(certificateToken, issuerCertificateToken);
+	}
+
+	@SuppressWarnings("unchecked")
+	private RevocationToken<R> getRelatedRevocationToken(RevocationToken<R> revocationToken, CertificateToken certificateToken) {
+		if (revocationToken instanceof CRLToken) {
+			return (RevocationToken<R>) ((CRLToken) revocationToken).getRelatedCRLToken(certificateToken);
+		}
+		return revocationToken;
+	}
+
+	/**
+	 * Gets the cache of the batch
+	 *
+	 * @return {@link RequestCoalescer}
+	 */
+	RequestCoalescer<RevocationToken<R>> getCache() {
+		return cache;
+	}
+
+}
@@ -0,0 +1,89 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * <p>
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * <p>
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * <p>
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.signature;
+
+import eu.europa.esig.dss.model.DSSDocument;
+
+/**
+ * Contains the result of augmentation of a single document processed by {@code BulkAugmentationService}
+ *
+ */
+public class BulkAugmentationResult {
+
+	/** The original document */
+	private final DSSDocument originalDocument;
+
+	/** The augmented document, null when the augmentation failed */
+	private final DSSDocument augmentedDocument;
+
+	/** The exception thrown during the augmentation, null when the augmentation succeeded */
+	private final Exception exception;
+
+	/**
+	 * Default constructor
+	 *
+	 * @param originalDocument {@link DSSDocument} the original document
+	 * @param augmentedDocument {@link DSSDocument} the augmented document
+	 * @param exception {@link Exception} thrown during the augmentation
+	 */
+	BulkAugmentationResult(DSSDocument originalDocument, DSSDocument augmentedDocument, Exception exception) {
+		this.originalDocument = originalDocument;
+		this.augmentedDocument = augmentedDocument;
+		this.exception = exception;
+	}
+
+	/**
+	 * Gets the original document
+	 *
+	 * @return {@link DSSDocument}
+	 */
+	public DSSDocument getOriginalDocument() {
+		return originalDocument;
+	}
+
+	/**
+	 * Gets the augmented document
+	 *
+	 * @return {@link DSSDocument}, null when the augmentation failed
+	 */
+	public DSSDocument getAugmentedDocument() {
+		return augmentedDocument;
+	}
+
+	/**
+	 * Gets the exception thrown during the augmentation
+	 *
+	 * @return {@link Exception}, null when the augmentation succeeded
+	 */
+	public Exception getException() {
+		return exception;
+	}
+
+	/**
+	 * Returns whether the document has been augmented successfully
+	 *
+	 * @return TRUE if the document has been augmented, FALSE otherwise
+	 */
+	public boolean isSuccess() {
+		return augmentedDocument != null;
+	}
+
+}
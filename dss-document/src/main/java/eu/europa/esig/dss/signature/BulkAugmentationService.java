@@ -0,0 +1,362 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * <p>
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * <p>
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * <p>
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.signature;
+
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.DSSException;
+import eu.europa.esig.dss.model.FileDocument;
+import eu.europa.esig.dss.model.SerializableSignatureParameters;
+import eu.europa.esig.dss.model.x509.revocation.crl.CRL;
+import eu.europa.esig.dss.model.x509.revocation.ocsp.OCSP;
+import eu.europa.esig.dss.spi.signature.resources.DSSResourcesHandler;
+import eu.europa.esig.dss.spi.signature.resources.DSSResourcesHandlerBuilder;
+import eu.europa.esig.dss.spi.validation.CertificateVerifier;
+import eu.europa.esig.dss.spi.validation.CertificateVerifierBuilder;
+import eu.europa.esig.dss.spi.x509.RequestCoalescer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * This class allows augmentation of a large number of signed documents (e.g. T to LT or LTA level upgrade of an archive).
+ * <p>
+ * The documents are processed by batches. Within a batch, the documents share a copy of the provided
+ * {@code CertificateVerifier}, which OCSP, CRL and AIA sources are wrapped in order to request the data
+ * for a given certificate only once (a CRL is requested once for all the certificates of the same issuer with
+ * the same CRL distribution points). Documents sharing the same certificate chains (e.g. signed by the same CA or
+ * time-stamped by the same TSA) therefore reuse the data obtained for the first processed document of the batch.
+ * The cached data is released at the end of each batch.
+ * <p>
+ * The documents of a batch are augmented using the provided {@code ExecutorService}, when defined,
+ * or sequentially otherwise. The results are provided to the consumer in the order of the input documents.
+ * When a {@code DSSResourcesHandlerBuilder} is defined, the augmented documents are written using the created
+ * resources handler (e.g. to temporary files), so the memory usage remains bounded by the batch size.
+ * <p>
+ * The signature service to be used is selected by the class of the signature parameters returned for a document,
+ * e.g.:
+ * {@code bulkService.addSignatureService(XAdESSignatureParameters.class, XAdESService::new);}
+ */
+public class BulkAugmentationService {
+
+	private static final Logger LOG = LoggerFactory.getLogger(BulkAugmentationService.class);
+
+	/** The default number of documents processed within a batch */
+	private static final int DEFAULT_BATCH_SIZE = 100;
+
+	/** The certificate verifier to be copied for each batch */
+	private final CertificateVerifier certificateVerifier;
+
+	/** The signature service factories by signature parameters class */
+	private final Map<Class<?>, Function<CertificateVerifier, ? extends DocumentSignatureService<?, ?>>> serviceFactories = new LinkedHashMap<>();
+
+	/** The executor used to augment the documents of a batch */
+	private ExecutorService executorService;
+
+	/** The number of documents processed within a batch */
+	private int batchSize = DEFAULT_BATCH_SIZE;
+
+	/** Used to store the augmented documents */
+	private DSSResourcesHandlerBuilder resourcesHandlerBuilder;
+
+	/** Notified about the progress after each batch */
+	private Consumer<BulkAugmentationStatistics> progressListener;
+
+	/**
+	 * Default constructor
+	 *
+	 * @param certificateVerifier {@link CertificateVerifier} to be used for the augmentation
+	 */
+	public BulkAugmentationService(CertificateVerifier certificateVerifier) {
+		Objects.requireNonNull(certificateVerifier, "CertificateVerifier cannot be null!");
+		this.certificateVerifier = certificateVerifier;
+	}
+
+	/**
+	 * Registers a factory of the signature service to be used for documents with signature parameters
+	 * of the given class. The factory is called once per batch with the batch {@code CertificateVerifier}.
+	 *
+	 * @param parametersClass the class of the signature parameters
+	 * @param serviceFactory {@link Function} creating the signature service
+	 * @param <SP> the signature parameters type
+	 */
+	public <SP extends SerializableSignatureParameters> void addSignatureService(
+			Class<SP> parametersClass, Function<CertificateVerifier, ? extends DocumentSignatureService<SP, ?>> serviceFactory) {
+		Objects.requireNonNull(parametersClass, "Parameters class cannot be null!");
+		Objects.requireNonNull(serviceFactory, "Service factory cannot be null!");
+		serviceFactories.put(parametersClass, serviceFactory);
+	}
+
+	/**
+	 * Sets the executor to be used to augment the documents of a batch concurrently.
+	 * The executor defines the maximum number of documents augmented at the same time.
+	 * When not defined, the documents are augmented sequentially.
+	 *
+	 * @param executorService {@link ExecutorService}
+	 */
+	public void setExecutorService(ExecutorService executorService) {
+		this.executorService = executorService;
+	}
+
+	/**
+	 * Sets the number of documents to be processed within a batch.
+	 * The revocation and AIA data is shared between the documents of a batch.
+	 *
+	 * Default : 100
+	 *
+	 * @param batchSize the number of documents
+	 */
+	public void setBatchSize(int batchSize) {
+		if (batchSize < 1) {
+			throw new IllegalArgumentException("The batch size shall be positive!");
+		}
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * Sets the builder of resources handlers to be used to store the augmented documents
+	 * (e.g. {@code TempFileResourcesHandlerBuilder}).
+	 * When not defined, the documents returned by the signature service are provided as is.
+	 *
+	 * @param resourcesHandlerBuilder {@link DSSResourcesHandlerBuilder}
+	 */
+	public void setResourcesHandlerBuilder(DSSResourcesHandlerBuilder resourcesHandlerBuilder) {
+		this.resourcesHandlerBuilder = resourcesHandlerBuilder;
+	}
+
+	/**
+	 * Sets the listener notified with the current statistics after each processed batch
+	 *
+	 * @param progressListener {@link Consumer} of {@link BulkAugmentationStatistics}
+	 */
+	public void setProgressListener(Consumer<BulkAugmentationStatistics> progressListener) {
+		this.progressListener = progressListener;
+	}
+
+	/**
+	 * Augments the given documents.
+	 * NOTE: the {@code parametersProvider} shall return a new instance of signature parameters for each call.
+	 *
+	 * @param documents {@link Iterator} over the documents to augment
+	 * @param parametersProvider {@link Function} returning the augmentation parameters for a document
+	 * @param resultConsumer {@link Consumer} receiving the result for each document
+	 * @return {@link BulkAugmentationStatistics}
+	 */
+	public BulkAugmentationStatistics augment(Iterator<DSSDocument> documents,
+			Function<DSSDocument, ? extends SerializableSignatureParameters> parametersProvider,
+			Consumer<BulkAugmentationResult> resultConsumer) {
+		Objects.requireNonNull(documents, "Documents cannot be null!");
+		Objects.requireNonNull(parametersProvider, "Parameters provider cannot be null!");
+		Objects.requireNonNull(resultConsumer, "Result consumer cannot be null!");
+
+		final BulkAugmentationStatistics statistics = new BulkAugmentationStatistics();
+		final List<DSSDocument> batch = new ArrayList<>(batchSize);
+		while (documents.hasNext()) {
+			batch.add(documents.next());
+			if (batch.size() == batchSize) {
+				processBatch(batch, parametersProvider, resultConsumer, statistics);
+				batch.clear();
+			}
+		}
+		if (!batch.isEmpty()) {
+			processBatch(batch, parametersProvider, resultConsumer, statistics);
+		}
+		statistics.completed();
+
+		LOG.info("Bulk augmentation completed : {}", statistics);
+		return statistics;
+	}
+
+	private void processBatch(List<DSSDocument> batch,
+							  Function<DSSDocument, ? extends SerializableSignatureParameters> parametersProvider,
+							  Consumer<BulkAugmentationResult> resultConsumer, BulkAugmentationStatistics statistics) {
+		final BatchContext batchContext = new BatchContext();
+		if (executorService != null && batch.size() > 1) {
+			final List<Future<BulkAugmentationResult>> futures = new ArrayList<>(batch.size());
+			try {
+				for (DSSDocument document : batch) {
+					futures.add(executorService.submit(() -> augment(document, parametersProvider, batchContext, statistics)));
+				}
+				for (Future<BulkAugmentationResult> future : futures) {
+					resultConsumer.accept(getResult(future));
+				}
+			} finally {
+				for (Future<BulkAugmentationResult> future : futures) {
+					future.cancel(true);
+				}
+			}
+
+		} else {
+			for (DSSDocument document : batch) {
+				resultConsumer.accept(augment(document, parametersProvider, batchContext, statistics));
+			}
+		}
+
+		batchContext.registerStatistics(statistics);
+		LOG.debug("Batch of {} documents processed : {}", batch.size(), statistics);
+		if (progressListener != null) {
+			progressListener.accept(statistics);
+		}
+	}
+
+	private BulkAugmentationResult getResult(Future<BulkAugmentationResult> future) {
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new DSSException("Interrupted while augmenting the documents", e);
+		} catch (ExecutionException e) {
+			final Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			throw new DSSException(String.format("Unable to augment the document. Reason : %s",
+					cause != null ? cause.getMessage() : e.getMessage()), e);
+		}
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private BulkAugmentationResult augment(DSSDocument document,
+										   Function<DSSDocument, ? extends SerializableSignatureParameters> parametersProvider,
+										   BatchContext batchContext, BulkAugmentationStatistics statistics) {
+		try {
+			final SerializableSignatureParameters parameters = parametersProvider.apply(document);
+			Objects.requireNonNull(parameters, "Signature parameters cannot be null!");
+			final DocumentSignatureService service = batchContext.getSignatureService(parameters.getClass());
+			DSSDocument augmentedDocument = service.extendDocument(document, parameters);
+			augmentedDocument = store(augmentedDocument);
+			statistics.documentAugmented();
+			return new BulkAugmentationResult(document, augmentedDocument, null);
+
+		} catch (Exception e) {
+			LOG.warn("Unable to augment the document with name '{}'. Reason : {}", document.getName(), e.getMessage());
+			statistics.documentFailed();
+			return new BulkAugmentationResult(document, null, e);
+		}
+	}
+
+	private DSSDocument store(DSSDocument document) throws IOException {
+		if (resourcesHandlerBuilder == null || document instanceof FileDocument) {
+			return document;
+		}
+		try (DSSResourcesHandler resourcesHandler = resourcesHandlerBuilder.createResourcesHandler()) {
+			OutputStream os = resourcesHandler.createOutputStream();
+			document.writeTo(os);
+			DSSDocument storedDocument = resourcesHandler.writeToDSSDocument();
+			storedDocument.setName(document.getName());
+			storedDocument.setMimeType(document.getMimeType());
+			return storedDocument;
+		}
+	}
+
+	/**
+	 * Contains the certificate verifier and the signature services shared by the documents of a batch
+	 */
+	private class BatchContext {
+
+		/** The certificate verifier of the batch */
+		private final CertificateVerifier batchCertificateVerifier;
+
+		/** The OCSP source of the batch */
+		private final BatchCacheRevocationSource<OCSP> ocspSource;
+
+		/** The CRL source of the batch */
+		private final BatchCacheRevocationSource<CRL> crlSource;
+
+		/** The AIA source of the batch */
+		private final BatchCacheAIASource aiaSource;
+
+		/** The signature services created for the batch */
+		private final Map<Class<?>, DocumentSignatureService<?, ?>> services = new ConcurrentHashMap<>();
+
+		/**
+		 * Default constructor
+		 */
+		private BatchContext() {
+			batchCertificateVerifier = new CertificateVerifierBuilder(certificateVerifier).buildCompleteCopy();
+			ocspSource = certificateVerifier.getOcspSource() != null ?
+					new BatchCacheRevocationSource<>(certificateVerifier.getOcspSource(), false) : null;
+			crlSource = certificateVerifier.getCrlSource() != null ?
+					new BatchCacheRevocationSource<>(certificateVerifier.getCrlSource(), true) : null;
+			aiaSource = certificateVerifier.getAIASource() != null ?
+					new BatchCacheAIASource(certificateVerifier.getAIASource()) : null;
+			batchCertificateVerifier.setOcspSource(ocspSource);
+			batchCertificateVerifier.setCrlSource(crlSource);
+			batchCertificateVerifier.setAIASource(aiaSource);
+		}
+
+		private DocumentSignatureService<?, ?> getSignatureService(Class<?> parametersClass) {
+			return services.computeIfAbsent(parametersClass, this::createSignatureService);
+		}
+
+		private DocumentSignatureService<?, ?> createSignatureService(Class<?> parametersClass) {
+			Function<CertificateVerifier, ? extends DocumentSignatureService<?, ?>> serviceFactory = serviceFactories.get(parametersClass);
+			if (serviceFactory == null) {
+				for (Map.Entry<Class<?>, Function<CertificateVerifier, ? extends DocumentSignatureService<?, ?>>> entry : serviceFactories.entrySet()) {
+					if (entry.getKey().isAssignableFrom(parametersClass)) {
+						serviceFactory = entry.getValue();
+						break;
+					}
+				}
+			}
+			if (serviceFactory == null) {
+				throw new DSSException(String.format("No signature service is defined for parameters of type '%s'!",
+						parametersClass.getSimpleName()));
+			}
+			return serviceFactory.apply(batchCertificateVerifier);
+		}
+
+		private void registerStatistics(BulkAugmentationStatistics statistics) {
+			long revocationRequests = 0;
+			long revocationSourceCalls = 0;
+			if (ocspSource != null) {
+				revocationRequests += getRequests(ocspSource.getCache());
+				revocationSourceCalls += ocspSource.getCache().getExecutedRequests();
+			}
+			if (crlSource != null) {
+				revocationRequests += getRequests(crlSource.getCache());
+				revocationSourceCalls += crlSource.getCache().getExecutedRequests();
+			}
+			long aiaRequests = aiaSource != null ? getRequests(aiaSource.getCache()) : 0;
+			long aiaSourceCalls = aiaSource != null ? aiaSource.getCache().getExecutedRequests() : 0;
+			statistics.batchCompleted(revocationRequests, revocationSourceCalls, aiaRequests, aiaSourceCalls);
+		}
+
+		private long getRequests(RequestCoalescer<?> cache) {
+			return cache.getExecutedRequests() + cache.getCoalescedRequests();
+		}
+
+	}
+
+}
@@ -0,0 +1,211 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * <p>
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * <p>
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * <p>
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.signature;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Contains progress and throughput metrics of a {@code BulkAugmentationService} execution.
+ * The metrics are updated during the execution and may be read concurrently.
+ *
+ */
+public class BulkAugmentationStatistics {
+
+	/** The execution start time (nanoseconds) */
+	private final long startTime = System.nanoTime();
+
+	/** The end time (nanoseconds), zero while the execution is in progress */
+	private volatile long endTime;
+
+	/** Number of the successfully augmented documents */
+	private final AtomicLong augmentedDocuments = new AtomicLong();
+
+	/** Number of the documents failed to be augmented */
+	private final AtomicLong failedDocuments = new AtomicLong();
+
+	/** Number of the completed batches */
+	private final AtomicLong batches = new AtomicLong();
+
+	/** Number of the revocation data requests */
+	private final AtomicLong revocationRequests = new AtomicLong();
+
+	/** Number of the revocation data requests executed against the revocation sources */
+	private final AtomicLong revocationSourceCalls = new AtomicLong();
+
+	/** Number of the AIA requests */
+	private final AtomicLong aiaRequests = new AtomicLong();
+
+	/** Number of the AIA requests executed against the AIA source */
+	private final AtomicLong aiaSourceCalls = new AtomicLong();
+
+	/**
+	 * Default constructor
+	 */
+	BulkAugmentationStatistics() {
+		// empty
+	}
+
+	/**
+	 * Gets the number of the processed documents
+	 *
+	 * @return number of processed documents
+	 */
+	public long getProcessedDocuments() {
+		return augmentedDocuments.get() + failedDocuments.get();
+	}
+
+	/**
+	 * Gets the number of the successfully augmented documents
+	 *
+	 * @return number of augmented documents
+	 */
+	public long getAugmentedDocuments() {
+		return augmentedDocuments.get();
+	}
+
+	/**
+	 * Gets the number of the documents failed to be augmented
+	 *
+	 * @return number of failed documents
+	 */
+	public long getFailedDocuments() {
+		return failedDocuments.get();
+	}
+
+	/**
+	 * Gets the number of the completed batches
+	 *
+	 * @return number of batches
+	 */
+	public long getBatches() {
+		return batches.get();
+	}
+
+	/**
+	 * Gets the number of the revocation data requests of the completed batches
+	 *
+	 * @return number of revocation data requests
+	 */
+	public long getRevocationRequests() {
+		return revocationRequests.get();
+	}
+
+	/**
+	 * Gets the number of the revocation data requests of the completed batches,
+	 * which have been executed against the configured OCSP and CRL sources (i.e. not served from the batch cache)
+	 *
+	 * @return number of revocation source calls
+	 */
+	public long getRevocationSourceCalls() {
+		return revocationSourceCalls.get();
+	}
+
+	/**
+	 * Gets the number of the AIA requests of the completed batches
+	 *
+	 * @return number of AIA requests
+	 */
+	public long getAIARequests() {
+		return aiaRequests.get();
+	}
+
+	/**
+	 * Gets the number of the AIA requests of the completed batches,
+	 * which have been executed against the configured AIA source (i.e. not served from the batch cache)
+	 *
+	 * @return number of AIA source calls
+	 */
+	public long getAIASourceCalls() {
+		return aiaSourceCalls.get();
+	}
+
+	/**
+	 * Gets the elapsed time of the execution in milliseconds
+	 *
+	 * @return elapsed time in milliseconds
+	 */
+	public long getElapsedTime() {
+		final long time = endTime != 0 ? endTime : System.nanoTime();
+		return TimeUnit.NANOSECONDS.toMillis(time - startTime);
+	}
+
+	/**
+	 * Gets the number of the processed documents per second
+	 *
+	 * @return throughput in documents per second
+	 */
+	public double getThroughput() {
+		final long elapsedTime = getElapsedTime();
+		if (elapsedTime == 0) {
+			return 0;
+		}
+		return getProcessedDocuments() * 1000d / elapsedTime;
+	}
+
+	/**
+	 * Registers a successfully augmented document
+	 */
+	void documentAugmented() {
+		augmentedDocuments.incrementAndGet();
+	}
+
+	/**
+	 * Registers a document failed to be augmented
+	 */
+	void documentFailed() {
+		failedDocuments.incrementAndGet();
+	}
+
+	/**
+	 * Registers a completed batch
+	 *
+	 * @param revocationRequests number of revocation data requests within the batch
+	 * @param revocationSourceCalls number of revocation source calls within the batch
+	 * @param aiaRequests number of AIA requests within the batch
+	 * @param aiaSourceCalls number of AIA source calls within the batch
+	 */
+	void batchCompleted(long revocationRequests, long revocationSourceCalls, long aiaRequests, long aiaSourceCalls) {
+		this.revocationRequests.addAndGet(revocationRequests);
+		this.revocationSourceCalls.addAndGet(revocationSourceCalls);
+		this.aiaRequests.addAndGet(aiaRequests);
+		this.aiaSourceCalls.addAndGet(aiaSourceCalls);
+		this.batches.incrementAndGet();
+	}
+
+	/**
+	 * Registers the end of the execution
+	 */
+	void completed() {
+		this.endTime = System.nanoTime();
+	}
+
+	@Override
+	public String toString() {
+		return "BulkAugmentationStatistics [processedDocuments=" + getProcessedDocuments()
+				+ ", augmentedDocuments=" + getAugmentedDocuments() + ", failedDocuments=" + getFailedDocuments()
+				+ ", batches=" + getBatches() + ", revocationRequests=" + getRevocationRequests()
+				+ ", revocationSourceCalls=" + getRevocationSourceCalls() + ", aiaRequests=" + getAIARequests()
+				+ ", aiaSourceCalls=" + getAIASourceCalls() + ", elapsedTime=" + getElapsedTime()
+				+ "ms, throughput=" + String.format("%.2f", getThroughput()) + " documents/s]";
+	}
+
+}
@@ -0,0 +1,319 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * <p>
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * <p>
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * <p>
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.signature;
+
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.FileDocument;
+import eu.europa.esig.dss.model.InMemoryDocument;
+import eu.europa.esig.dss.model.SignatureValue;
+import eu.europa.esig.dss.model.TimestampParameters;
+import eu.europa.esig.dss.model.ToBeSigned;
+import eu.europa.esig.dss.model.x509.CertificateToken;
+import eu.europa.esig.dss.model.x509.revocation.Revocation;
+import eu.europa.esig.dss.model.x509.revocation.ocsp.OCSP;
+import eu.europa.esig.dss.signature.resources.TempFileResourcesHandlerBuilder;
+import eu.europa.esig.dss.spi.DSSUtils;
+import eu.europa.esig.dss.spi.validation.CertificateVerifier;
+import eu.europa.esig.dss.spi.validation.CommonCertificateVerifier;
+import eu.europa.esig.dss.spi.x509.aia.AIASource;
+import eu.europa.esig.dss.spi.x509.revocation.RevocationSource;
+import eu.europa.esig.dss.spi.x509.revocation.RevocationSourceAlternateUrlsSupport;
+import eu.europa.esig.dss.spi.x509.revocation.RevocationToken;
+import eu.europa.esig.dss.spi.x509.tsp.TimestampToken;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BulkAugmentationServiceTest {
+
+	private static final CertificateToken CERTIFICATE = DSSUtils.loadCertificateFromBase64EncodedString("MIIEIDCCAwigAwIBAgIBFzANBgkqhkiG9w0BAQsFADBNMRAwDgYDVQQDDAdnb29kLWNhMRkwFwYDVQQKDBBOb3dpbmEgU29sdXRpb25zMREwDwYDVQQLDAhQS0ktVEVTVDELMAkGA1UEBhMCTFUwHhcNMjAwMzIyMDY0MjQzWhcNMjIwMTIyMDY0MjQzWjBYMRswGQYDVQQDDBJnb29kLXVzZXItY3JsLW9jc3AxGTAXBgNVBAoMEE5vd2luYSBTb2x1dGlvbnMxETAPBgNVBAsMCFBLSS1URVNUMQswCQYDVQQGEwJMVTCCASIwDQYJKoZIhvcNAQEBBQADggEPADCCAQoCggEBAIwlifsMcZPcpSvwdXrVXy++7pgMXW/wlT4NnC2HyADRgI5+38U626ljtbOiAYo3oumH9tliXDIZyyT6qcMvDajGDLHNZK4W7xJNpt1hoDt/AIMH18368G3Y2wAdIFP1DfZlCp9QgnUCPcCFcdVWQsP/qwIa2uJwlzcaDDYmKNzg+tFrxB2XfcxHVZoR3b7+5dX2VuNWHOzgosiQyejjBfWf2HNU1JAbakoCa1UET8Ro5Ldu+/Mxn9qQfQKdvpItvXHEBBuqznIw79hoyJd3tT4v0YItl6gMwvZAWpiU88LsN9tGE4Zvy5fOsQDoXsv2fm+A18kiPHOKgjxx0CghffsCAwEAAaOB/zCB/DAOBgNVHQ8BAf8EBAMCBkAwQQYDVR0fBDowODA2oDSgMoYwaHR0cDovL2Rzcy5ub3dpbmEubHUvcGtpLWZhY3RvcnkvY3JsL2dvb2QtY2EuY3JsMIGHBggrBgEFBQcBAQR7MHkwOQYIKwYBBQUHMAGGLWh0dHA6Ly9kc3Mubm93aW5hLmx1L3BraS1mYWN0b3J5L29jc3AvZ29vZC1jYTA8BggrBgEFBQcwAoYwaHR0cDovL2Rzcy5ub3dpbmEubHUvcGtpLWZhY3RvcnkvY3J0L2dvb2QtY2EuY3J0MB0GA1UdDgQWBBSKLPGXPCTge5Oudi6nLu9UL4Y8UjANBgkqhkiG9w0BAQsFAAOCAQEAKtMfbZXKYQlbI88e14xUgqgOinmgIoaDPGA6HUJKy4WCPwTcvip69N1hSk92MEapLZWsBcqssd4OoZezkdH/pI4tPP6ccUQ18Lh+DffRx/J4ayj/9jk+eM1LLUMsZdl0dDvWOhs1lR+ltcMvhdbtxRCmdSWO7jYtDuufxCFkZRzisLFabTxVZ7r1CsP859pNKHygls1UfQdf/A9H5afT/1gwPSl3/1m0XCUy2J0yJkMOTOyamg7bMcZeMPjYdIP9qdn4JKsoKaYpaCDb2Cz1dkqOi4/iulxUy5LlPQk0aWva7bivOmoUB/60ITTadNyX2YmzwyVCotY5tDme8IgVaA==");
+	private static final CertificateToken ISSUER = DSSUtils.loadCertificateFromBase64EncodedString("MIID6jCCAtKgAwIBAgIBBDANBgkqhkiG9w0BAQsFADBNMRAwDgYDVQQDDAdyb290LWNhMRkwFwYDVQQKDBBOb3dpbmEgU29sdXRpb25zMREwDwYDVQQLDAhQS0ktVEVTVDELMAkGA1UEBhMCTFUwHhcNMjAwMzIyMDY0MjM3WhcNMjIwMTIyMDY0MjM3WjBNMRAwDgYDVQQDDAdnb29kLWNhMRkwFwYDVQQKDBBOb3dpbmEgU29sdXRpb25zMREwDwYDVQQLDAhQS0ktVEVTVDELMAkGA1UEBhMCTFUwggEiMA0GCSqGSIb3DQEBAQUAA4IBDwAwggEKAoIBAQD0cdv4KehxUUp9H44wdj3lBt8xUiSb4TgFOdVI4dbcIL2nDveaN2G2ZA495YVf4v/jx3a4kN2VAw0Qzvjy4lY+d96LR5VEZdN7lB4RtQJJw623Cgoeu4cXjqGIqT/tHs4tOau+80U6CaIo05TyRhrzWlCOEYjdRU3L31bGKe9mVJlobNKunGB2CvBp2cWtx8y8OBJ4QdDchI6kpD2dO9llQqcT+4NkPxa4uY+dcG5MQX7hwHENixRkXGWsi1WsIS7VN1Nh1GRAOYk216uMlrKrATsbWc4De4KZEjgYJ13jSlpWNYq8vmd8GCYazpLiNIlQ05wfNvunjIGnnlICOWcXAgMBAAGjgdQwgdEwDgYDVR0PAQH/BAQDAgEGMEEGA1UdHwQ6MDgwNqA0oDKGMGh0dHA6Ly9kc3Mubm93aW5hLmx1L3BraS1mYWN0b3J5L2NybC9yb290LWNhLmNybDBMBggrBgEFBQcBAQRAMD4wPAYIKwYBBQUHMAKGMGh0dHA6Ly9kc3Mubm93aW5hLmx1L3BraS1mYWN0b3J5L2NydC9yb290LWNhLmNydDAdBgNVHQ4EFgQUZnBMwCvQf2LqNeVWZgsRXBbDk8swDwYDVR0TAQH/BAUwAwEB/zANBgkqhkiG9w0BAQsFAAOCAQEAEaQgSSNp24JamgFcjBSgnyFiL6NfgMYTr+8HcICKKLLle3tT5/wYigbefQA2G8iodbwpA3YDP5yEadGDsGT15ginRuZp8JJZ/p9t7UNuZTEuC1Bx9OXqRF+MnXjNyN9h18colO170LNynI/qAxxjV/bgIuZWNm+ZJ+OIVwRE2mVbrM8/sellNn2t18DFe6X6QQjseq6ZaO2Sb4SAdQ0BfnELkAfawzvk1a6w/6H7xKF0FecAt2ExxTz9xdqE6jdlUrTfhkFGhdKRTQoOeN0bmXMM8r5HZKf9zxBFqLjYThTkDIXe82Yin7Idy1V87p/hft7MtHW7Br8A+2CpP4vSLg==");
+
+	private final AtomicInteger ocspCalls = new AtomicInteger();
+	private final AtomicInteger crlCalls = new AtomicInteger();
+	private final AtomicInteger aiaCalls = new AtomicInteger();
+
+	private CertificateVerifier certificateVerifier;
+
+	private ExecutorService executorService;
+
+	@BeforeEach
+	void init() {
+		certificateVerifier = new CommonCertificateVerifier();
+		certificateVerifier.setOcspSource(new CountingRevocationSource<>(ocspCalls));
+		certificateVerifier.setCrlSource(new CountingRevocationSource<>(crlCalls));
+		certificateVerifier.setAIASource(new CountingAIASource());
+
+		executorService = Executors.newFixedThreadPool(3);
+	}
+
+	@AfterEach
+	void shutdown() {
+		executorService.shutdown();
+	}
+
+	@Test
+	void sequentialTest() {
+		BulkAugmentationService service = new BulkAugmentationService(certificateVerifier);
+		service.addSignatureService(MockSignatureParameters.class, MockSignatureService::new);
+		service.setBatchSize(4);
+
+		List<BulkAugmentationResult> results = new ArrayList<>();
+		BulkAugmentationStatistics statistics = service.augment(getDocuments(10).iterator(),
+				document -> new MockSignatureParameters(), results::add);
+
+		assertResults(results, 10);
+		assertStatistics(statistics);
+	}
+
+	@Test
+	void concurrentTest() {
+		BulkAugmentationService service = new BulkAugmentationService(certificateVerifier);
+		service.addSignatureService(MockSignatureParameters.class, MockSignatureService::new);
+		service.setBatchSize(4);
+		service.setExecutorService(executorService);
+
+		List<BulkAugmentationStatistics> progress = new ArrayList<>();
+		service.setProgressListener(progress::add);
+
+		List<BulkAugmentationResult> results = new ArrayList<>();
+		BulkAugmentationStatistics statistics = service.augment(getDocuments(10).iterator(),
+				document -> new MockSignatureParameters(), results::add);
+
+		assertResults(results, 10);
+		assertStatistics(statistics);
+		assertEquals(3, progress.size());
+	}
+
+	@Test
+	void failureTest() {
+		BulkAugmentationService service = new BulkAugmentationService(certificateVerifier);
+		service.addSignatureService(MockSignatureParameters.class, MockSignatureService::new);
+		service.setExecutorService(executorService);
+
+		List<BulkAugmentationResult> results = new ArrayList<>();
+		BulkAugmentationStatistics statistics = service.augment(getDocuments(3).iterator(),
+				document -> "doc-1".equals(document.getName()) ? new OtherSignatureParameters() : new MockSignatureParameters(),
+				results::add);
+
+		assertEquals(3, results.size());
+		assertTrue(results.get(0).isSuccess());
+		assertFalse(results.get(1).isSuccess());
+		assertNull(results.get(1).getAugmentedDocument());
+		assertNotNull(results.get(1).getException());
+		assertTrue(results.get(2).isSuccess());
+
+		assertEquals(3, statistics.getProcessedDocuments());
+		assertEquals(2, statistics.getAugmentedDocuments());
+		assertEquals(1, statistics.getFailedDocuments());
+	}
+
+	@Test
+	void resourcesHandlerTest(@TempDir Path tempDir) {
+		BulkAugmentationService service = new BulkAugmentationService(certificateVerifier);
+		service.addSignatureService(MockSignatureParameters.class, MockSignatureService::new);
+		service.setResourcesHandlerBuilder(new TempFileResourcesHandlerBuilder().setTempFileDirectory(tempDir.toFile()));
+
+		List<BulkAugmentationResult> results = new ArrayList<>();
+		service.augment(getDocuments(2).iterator(), document -> new MockSignatureParameters(), results::add);
+
+		assertEquals(2, results.size());
+		for (BulkAugmentationResult result : results) {
+			DSSDocument augmentedDocument = result.getAugmentedDocument();
+			assertInstanceOf(FileDocument.class, augmentedDocument);
+			assertEquals(result.getOriginalDocument().getName() + "-extended", augmentedDocument.getName());
+			File file = ((FileDocument) augmentedDocument).getFile();
+			assertEquals(tempDir.toFile(), file.getParentFile());
+			assertArrayEquals(DSSUtils.toByteArray(result.getOriginalDocument()), DSSUtils.toByteArray(augmentedDocument));
+		}
+	}
+
+	@Test
+	void invalidConfigurationTest() {
+		assertThrows(NullPointerException.class, () -> new BulkAugmentationService(null));
+		BulkAugmentationService service = new BulkAugmentationService(certificateVerifier);
+		assertThrows(IllegalArgumentException.class, () -> service.setBatchSize(0));
+	}
+
+	@Test
+	void alternativeUrlsTest() {
+		AlternateUrlsRevocationSource revocationSource = new AlternateUrlsRevocationSource();
+		BatchCacheRevocationSource<OCSP> batchCacheRevocationSource = new BatchCacheRevocationSource<>(revocationSource, false);
+		assertInstanceOf(RevocationSourceAlternateUrlsSupport.class, batchCacheRevocationSource);
+
+		List<String> alternativeUrls = Collections.singletonList("http://alternative.url/ocsp");
+		batchCacheRevocationSource.getRevocationToken(CERTIFICATE, ISSUER);
+		batchCacheRevocationSource.getRevocationToken(CERTIFICATE, ISSUER, alternativeUrls);
+		batchCacheRevocationSource.getRevocationToken(CERTIFICATE, ISSUER, alternativeUrls);
+		batchCacheRevocationSource.getRevocationToken(CERTIFICATE, ISSUER);
+
+		// the alternative urls are forwarded and are part of the key
+		assertEquals(Arrays.asList(Collections.emptyList(), alternativeUrls), revocationSource.requestedUrls);
+		assertEquals(2, batchCacheRevocationSource.getCache().getExecutedRequests());
+		assertEquals(2, batchCacheRevocationSource.getCache().getCoalescedRequests());
+	}
+
+	private void assertResults(List<BulkAugmentationResult> results, int expectedSize) {
+		assertEquals(expectedSize, results.size());
+		for (int i = 0; i < expectedSize; i++) {
+			BulkAugmentationResult result = results.get(i);
+			assertTrue(result.isSuccess());
+			assertEquals("doc-" + i, result.getOriginalDocument().getName());
+			assertEquals("doc-" + i + "-extended", result.getAugmentedDocument().getName());
+		}
+	}
+
+	private void assertStatistics(BulkAugmentationStatistics statistics) {
+		assertEquals(10, statistics.getProcessedDocuments());
+		assertEquals(10, statistics.getAugmentedDocuments());
+		assertEquals(0, statistics.getFailedDocuments());
+		assertEquals(3, statistics.getBatches());
+
+		// the data is requested once per batch
+		assertEquals(3, ocspCalls.get());
+		assertEquals(3, crlCalls.get());
+		assertEquals(3, aiaCalls.get());
+
+		assertEquals(20, statistics.getRevocationRequests());
+		assertEquals(6, statistics.getRevocationSourceCalls());
+		assertEquals(10, statistics.getAIARequests());
+		assertEquals(3, statistics.getAIASourceCalls());
+	}
+
+	private List<DSSDocument> getDocuments(int number) {
+		List<DSSDocument> documents = new ArrayList<>();
+		for (int i = 0; i < number; i++) {
+			documents.add(new InMemoryDocument(("content " + i).getBytes(StandardCharsets.UTF_8), "doc-" + i));
+		}
+		return documents;
+	}
+
+	private static class MockSignatureService extends AbstractSignatureService<MockSignatureParameters, TimestampParameters> {
+
+		private static final long serialVersionUID = -1364916893472717386L;
+
+		MockSignatureService(CertificateVerifier certificateVerifier) {
+			super(certificateVerifier);
+		}
+
+		@Override
+		public DSSDocument extendDocument(DSSDocument toExtendDocument, MockSignatureParameters parameters) {
+			certificateVerifier.getOcspSource().getRevocationToken(CERTIFICATE, ISSUER);
+			certificateVerifier.getCrlSource().getRevocationToken(CERTIFICATE, ISSUER);
+			certificateVerifier.getAIASource().getCertificatesByAIA(CERTIFICATE);
+			return new InMemoryDocument(DSSUtils.toByteArray(toExtendDocument), toExtendDocument.getName() + "-extended");
+		}
+
+		@Override
+		public ToBeSigned getDataToSign(DSSDocument toSignDocument, MockSignatureParameters parameters) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public DSSDocument signDocument(DSSDocument toSignDocument, MockSignatureParameters parameters, SignatureValue signatureValue) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public TimestampToken getContentTimestamp(DSSDocument toSignDocument, MockSignatureParameters parameters) {
+			throw new UnsupportedOperationException();
+		}
+
+	}
+
+	@SuppressWarnings("serial")
+	private static class MockSignatureParameters extends AbstractSignatureParameters<TimestampParameters> {
+	}
+
+	@SuppressWarnings("serial")
+	private static class OtherSignatureParameters extends AbstractSignatureParameters<TimestampParameters> {
+	}
+
+	@SuppressWarnings("serial")
+	private static class CountingRevocationSource<R extends Revocation> implements RevocationSource<R> {
+
+		private final AtomicInteger counter;
+
+		CountingRevocationSource(AtomicInteger counter) {
+			this.counter = counter;
+		}
+
+		@Override
+		public RevocationToken<R> getRevocationToken(CertificateToken certificateToken, CertificateToken issuerCertificateToken) {
+			counter.incrementAndGet();
+			return null;
+		}
+
+	}
+
+	@SuppressWarnings("serial")
+	private static class AlternateUrlsRevocationSource implements RevocationSourceAlternateUrlsSupport<OCSP> {
+
+		private final List<List<String>> requestedUrls = new ArrayList<>();
+
+		@Override
+		public RevocationToken<OCSP> getRevocationToken(CertificateToken certificateToken, CertificateToken issuerCertificateToken) {
+			return getRevocationToken(certificateToken, issuerCertificateToken, Collections.emptyList());
+		}
+
+		@Override
+		public RevocationToken<OCSP> getRevocationToken(CertificateToken certificateToken, CertificateToken issuerCertificateToken,
+														List<String> alternativeUrls) {
+			requestedUrls.add(alternativeUrls);
+			return null;
+		}
+
+	}
+
+	@SuppressWarnings("serial")
+	private class CountingAIASource implements AIASource {
+
+		@Override
+		public Set<CertificateToken> getCertificatesByAIA(CertificateToken certificateToken) {
+			aiaCalls.incrementAndGet();
+			return Collections.emptySet();
+		}
+
+	}
+
+}
@@ -0,0 +1,144 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * <p>
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * <p>
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * <p>
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.evidencerecord.asn1.builder;
+
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
+import eu.europa.esig.dss.enumerations.MimeTypeEnum;
+import eu.europa.esig.dss.evidencerecord.asn1.digest.ASN1EvidenceRecordDataObjectDigestBuilder;
+import eu.europa.esig.dss.evidencerecord.asn1.digest.ASN1EvidenceRecordRenewalDigestBuilder;
+import eu.europa.esig.dss.evidencerecord.asn1.validation.ASN1EvidenceRecord;
+import eu.europa.esig.dss.evidencerecord.common.builder.AbstractEvidenceRecordBuilder;
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.DSSMessageDigest;
+import eu.europa.esig.dss.model.Digest;
+import eu.europa.esig.dss.model.InMemoryDocument;
+import eu.europa.esig.dss.model.TimestampBinary;
+import eu.europa.esig.dss.spi.DSSASN1Utils;
+import eu.europa.esig.dss.spi.x509.tsp.TSPSource;
+import org.bouncycastle.asn1.cms.ContentInfo;
+import org.bouncycastle.asn1.tsp.ArchiveTimeStamp;
+import org.bouncycastle.asn1.tsp.ArchiveTimeStampChain;
+import org.bouncycastle.asn1.tsp.EvidenceRecord;
+import org.bouncycastle.asn1.tsp.PartialHashtree;
+import org.bouncycastle.asn1.x509.AlgorithmIdentifier;
+
+import java.util.List;
+
+/**
+ * This class allows creation and renewal of RFC 4998 ERS evidence records.
+ * <p>
+ * Example of usage:
+ * <pre>
+ * {@code
+ * ASN1EvidenceRecordBuilder builder = new ASN1EvidenceRecordBuilder(tspSource);
+ * List<DSSDocument> evidenceRecords = builder.build(documents);
+ * }
+ * </pre>
+ *
+ */
+public class ASN1EvidenceRecordBuilder extends AbstractEvidenceRecordBuilder<ASN1EvidenceRecord> {
+
+    /** The extension used for the names of created evidence records */
+    private static final String ERS_EXTENSION = ".ers";
+
+    /**
+     * Default constructor
+     *
+     * @param tspSource {@link TSPSource} to be used to request archive time-stamps
+     */
+    public ASN1EvidenceRecordBuilder(final TSPSource tspSource) {
+        super(tspSource);
+    }
+
+    @Override
+    public ASN1EvidenceRecordBuilder setDigestAlgorithm(DigestAlgorithm digestAlgorithm) {
+        return (ASN1EvidenceRecordBuilder) super.setDigestAlgorithm(digestAlgorithm);
+    }
+
+    @Override
+    public ASN1EvidenceRecordBuilder setBatchSize(int batchSize) {
+        return (ASN1EvidenceRecordBuilder) super.setBatchSize(batchSize);
+    }
+
+    @Override
+    protected ASN1EvidenceRecord parseEvidenceRecord(DSSDocument evidenceRecordDocument) {
+        ASN1EvidenceRecord evidenceRecord = new ASN1EvidenceRecord(evidenceRecordDocument);
+        evidenceRecord.setFilename(evidenceRecordDocument.getName());
+        return evidenceRecord;
+    }
+
+    @Override
+    protected Digest computeDataObjectDigest(DSSDocument document) {
+        return new ASN1EvidenceRecordDataObjectDigestBuilder(document, digestAlgorithm).build();
+    }
+
+    @Override
+    protected DSSMessageDigest computeTimeStampRenewalDigest(ASN1EvidenceRecord evidenceRecord) {
+        return new ASN1EvidenceRecordRenewalDigestBuilder(evidenceRecord).buildTimeStampRenewalDigest();
+    }
+
+    @Override
+    protected List<Digest> computeHashTreeRenewalDigestGroup(ASN1EvidenceRecord evidenceRecord, List<DSSDocument> detachedContent) {
+        return new ASN1EvidenceRecordRenewalDigestBuilder(evidenceRecord, digestAlgorithm)
+                .setDetachedContent(detachedContent).buildHashTreeRenewalDigestGroup();
+    }
+
+    @Override
+    protected DSSDocument createEvidenceRecord(DSSDocument document, List<List<byte[]>> reducedHashTree,
+                                               TimestampBinary timestamp) {
+        ArchiveTimeStamp archiveTimeStamp = buildArchiveTimeStamp(
+                DSSASN1Utils.getAlgorithmIdentifier(digestAlgorithm), reducedHashTree, timestamp);
+        EvidenceRecord evidenceRecord = new EvidenceRecord(null, null, archiveTimeStamp);
+        String name = document.getName() != null ? document.getName() + ERS_EXTENSION : null;
+        return new InMemoryDocument(DSSASN1Utils.getDEREncoded(evidenceRecord), name, MimeTypeEnum.BINARY);
+    }
+
+    @Override
+    protected DSSDocument addArchiveTimeStamp(ASN1EvidenceRecord evidenceRecord, DigestAlgorithm digestAlgorithm,
+                                              List<List<byte[]>> reducedHashTree, TimestampBinary timestamp,
+                                              boolean newChain) {
+        EvidenceRecord asn1EvidenceRecord = evidenceRecord.getEvidenceRecord();
+        AlgorithmIdentifier algorithmIdentifier;
+        if (newChain) {
+            algorithmIdentifier = DSSASN1Utils.getAlgorithmIdentifier(digestAlgorithm);
+        } else {
+            // shall be equal to the one used within the chain to be extended
+            ArchiveTimeStampChain[] archiveTimeStampChains = asn1EvidenceRecord.getArchiveTimeStampSequence().getArchiveTimeStampChains();
+            ArchiveTimeStampChain lastArchiveTimeStampChain = archiveTimeStampChains[archiveTimeStampChains.length - 1];
+            algorithmIdentifier = lastArchiveTimeStampChain.getArchiveTimestamps()[0].getDigestAlgorithmIdentifier();
+        }
+        ArchiveTimeStamp archiveTimeStamp = buildArchiveTimeStamp(algorithmIdentifier, reducedHashTree, timestamp);
+        EvidenceRecord renewedEvidenceRecord = asn1EvidenceRecord.addArchiveTimeStamp(archiveTimeStamp, newChain);
+        return new InMemoryDocument(DSSASN1Utils.getDEREncoded(renewedEvidenceRecord), evidenceRecord.getFilename(), MimeTypeEnum.BINARY);
+    }
+
+    private ArchiveTimeStamp buildArchiveTimeStamp(AlgorithmIdentifier algorithmIdentifier,
+                                                   List<List<byte[]>> reducedHashTree, TimestampBinary timestamp) {
+        final PartialHashtree[] partialHashtrees = new PartialHashtree[reducedHashTree.size()];
+        for (int i = 0; i < reducedHashTree.size(); i++) {
+            List<byte[]> hashValues = reducedHashTree.get(i);
+            partialHashtrees[i] = new PartialHashtree(hashValues.toArray(new byte[hashValues.size()][]));
+        }
+        ContentInfo timeStampToken = ContentInfo.getInstance(timestamp.getBytes());
+        return new ArchiveTimeStamp(algorithmIdentifier, partialHashtrees, timeStampToken);
+    }
+
+}
@@ -0,0 +1,42 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * <p>
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * <p>
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * <p>
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.evidencerecord.asn1.builder;
+
+import eu.europa.esig.dss.evidencerecord.asn1.validation.ASN1EvidenceRecord;
+import eu.europa.esig.dss.evidencerecord.common.builder.AbstractEvidenceRecordBuilder;
+import eu.europa.esig.dss.evidencerecord.common.builder.AbstractEvidenceRecordBuilderTest;
+import eu.europa.esig.dss.evidencerecord.common.validation.DefaultEvidenceRecord;
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.spi.x509.tsp.TSPSource;
+
+class ASN1EvidenceRecordBuilderTest extends AbstractEvidenceRecordBuilderTest {
+
+    @Override
+    protected AbstractEvidenceRecordBuilder<?> initBuilder(TSPSource tspSource) {
+        return new ASN1EvidenceRecordBuilder(tspSource);
+    }
+
+    @Override
+    protected DefaultEvidenceRecord toEvidenceRecord(DSSDocument evidenceRecordDocument) {
+        return new ASN1EvidenceRecord(evidenceRecordDocument);
+    }
+
+}
@@ -0,0 +1,316 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * <p>
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * <p>
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * <p>
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.evidencerecord.common.builder;
+
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
+import eu.europa.esig.dss.evidencerecord.common.validation.DefaultEvidenceRecord;
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.DSSMessageDigest;
+import eu.europa.esig.dss.model.Digest;
+import eu.europa.esig.dss.model.TimestampBinary;
+import eu.europa.esig.dss.spi.x509.tsp.TSPSource;
+import eu.europa.esig.dss.utils.Utils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Abstract class containing common logic for creation and renewal of evidence records.
+ * <p>
+ * The provided objects are processed in batches. For each batch a single hash tree is built and
+ * a single archive time-stamp is requested from the {@code TSPSource} on its root hash value.
+ * Each produced evidence record then contains the reduced hash tree relevant to its own data objects only.
+ *
+ * @param <E> {@link DefaultEvidenceRecord} implementation corresponding to the evidence record format
+ */
+public abstract class AbstractEvidenceRecordBuilder<E extends DefaultEvidenceRecord> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AbstractEvidenceRecordBuilder.class);
+
+    /** The default maximum number of data object groups covered by a single archive time-stamp */
+    private static final int DEFAULT_BATCH_SIZE = 1000;
+
+    /** The TSPSource used to request archive time-stamps */
+    private final TSPSource tspSource;
+
+    /** The digest algorithm used on creation of evidence records and hash-tree renewal */
+    protected DigestAlgorithm digestAlgorithm = DigestAlgorithm.SHA256;
+
+    /** The maximum number of data object groups covered by a single archive time-stamp */
+    private int batchSize = DEFAULT_BATCH_SIZE;
+
+    /**
+     * Default constructor
+     *
+     * @param tspSource {@link TSPSource} to be used to request archive time-stamps
+     */
+    protected AbstractEvidenceRecordBuilder(final TSPSource tspSource) {
+        Objects.requireNonNull(tspSource, "TSPSource cannot be null!");
+        this.tspSource = tspSource;
+    }
+
+    /**
+     * Sets a digest algorithm to be used on creation of evidence records and on hash-tree renewal.
+     * NOTE: time-stamp renewal uses digest algorithm of the last ArchiveTimeStampChain of each evidence record.
+     * Default : SHA256
+     *
+     * @param digestAlgorithm {@link DigestAlgorithm}
+     * @return this builder
+     */
+    public AbstractEvidenceRecordBuilder<E> setDigestAlgorithm(DigestAlgorithm digestAlgorithm) {
+        Objects.requireNonNull(digestAlgorithm, "DigestAlgorithm cannot be null!");
+        this.digestAlgorithm = digestAlgorithm;
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of evidence records sharing a single archive time-stamp.
+     * A higher value reduces the number of requests to the TSA, at cost of a longer reduced hash tree
+     * (the number of its entries grows logarithmically with the batch size).
+     * Default : 1000
+     *
+     * @param batchSize positive integer
+     * @return this builder
+     */
+    public AbstractEvidenceRecordBuilder<E> setBatchSize(int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("The batch size shall be a positive integer!");
+        }
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    /**
+     * Creates an evidence record for each of the provided {@code documents}.
+     * The returned list contains evidence records in the same order as the given documents.
+     *
+     * @param documents a list of {@link DSSDocument}s to be protected by evidence records
+     * @return a list of {@link DSSDocument}s, representing the created evidence records
+     */
+    public List<DSSDocument> build(List<DSSDocument> documents) {
+        assertNotEmpty(documents, "documents");
+
+        final List<List<byte[]>> dataObjectGroups = new ArrayList<>(documents.size());
+        for (DSSDocument document : documents) {
+            Digest digest = computeDataObjectDigest(document);
+            dataObjectGroups.add(Collections.singletonList(digest.getValue()));
+        }
+
+        final List<DSSDocument> result = new ArrayList<>(documents.size());
+        final List<ArchiveTimeStampData> archiveTimeStamps = timestamp(digestAlgorithm, dataObjectGroups);
+        for (int i = 0; i < documents.size(); i++) {
+            ArchiveTimeStampData archiveTimeStamp = archiveTimeStamps.get(i);
+            result.add(createEvidenceRecord(documents.get(i), archiveTimeStamp.reducedHashTree, archiveTimeStamp.timestamp));
+        }
+        return result;
+    }
+
+    /**
+     * Performs a time-stamp renewal of the provided {@code evidenceRecords}, by adding a new ArchiveTimeStamp
+     * to the last ArchiveTimeStampChain of each evidence record.
+     * Evidence records using the same digest algorithm within their last ArchiveTimeStampChain share time-stamps.
+     *
+     * @param evidenceRecords a list of {@link DSSDocument}s, representing evidence records to be renewed
+     * @return a list of {@link DSSDocument}s, representing the renewed evidence records in the same order
+     */
+    public List<DSSDocument> renewTimeStamp(List<DSSDocument> evidenceRecords) {
+        assertNotEmpty(evidenceRecords, "evidenceRecords");
+
+        final List<E> parsedEvidenceRecords = new ArrayList<>(evidenceRecords.size());
+        final Map<DigestAlgorithm, List<Integer>> positionsByDigestAlgorithm = new LinkedHashMap<>();
+        final List<byte[]> renewalDigests = new ArrayList<>(evidenceRecords.size());
+        for (int i = 0; i < evidenceRecords.size(); i++) {
+            E evidenceRecord = parseEvidenceRecord(evidenceRecords.get(i));
+            DSSMessageDigest renewalDigest = computeTimeStampRenewalDigest(evidenceRecord);
+            parsedEvidenceRecords.add(evidenceRecord);
+            renewalDigests.add(renewalDigest.getValue());
+            positionsByDigestAlgorithm.computeIfAbsent(renewalDigest.getAlgorithm(), k -> new ArrayList<>()).add(i);
+        }
+
+        final DSSDocument[] result = new DSSDocument[evidenceRecords.size()];
+        for (Map.Entry<DigestAlgorithm, List<Integer>> entry : positionsByDigestAlgorithm.entrySet()) {
+            DigestAlgorithm chainDigestAlgorithm = entry.getKey();
+            List<Integer> positions = entry.getValue();
+
+            final List<List<byte[]>> dataObjectGroups = new ArrayList<>(positions.size());
+            for (Integer position : positions) {
+                dataObjectGroups.add(Collections.singletonList(renewalDigests.get(position)));
+            }
+            final List<ArchiveTimeStampData> archiveTimeStamps = timestamp(chainDigestAlgorithm, dataObjectGroups);
+            for (int i = 0; i < positions.size(); i++) {
+                int position = positions.get(i);
+                ArchiveTimeStampData archiveTimeStamp = archiveTimeStamps.get(i);
+                result[position] = addArchiveTimeStamp(parsedEvidenceRecords.get(position), chainDigestAlgorithm,
+                        archiveTimeStamp.reducedHashTree, archiveTimeStamp.timestamp, false);
+            }
+        }
+        return Arrays.asList(result);
+    }
+
+    /**
+     * Performs a hash-tree renewal of the provided {@code evidenceRecords}, by creating a new ArchiveTimeStampChain
+     * using the digest algorithm defined within the builder.
+     * The list of {@code detachedContents} shall contain the data objects protected by each evidence record,
+     * in the same order as the evidence records.
+     *
+     * @param evidenceRecords a list of {@link DSSDocument}s, representing evidence records to be renewed
+     * @param detachedContents a list of data objects protected by each of the evidence records
+     * @return a list of {@link DSSDocument}s, representing the renewed evidence records in the same order
+     */
+    public List<DSSDocument> renewHashTree(List<DSSDocument> evidenceRecords, List<List<DSSDocument>> detachedContents) {
+        assertNotEmpty(evidenceRecords, "evidenceRecords");
+        if (detachedContents == null || evidenceRecords.size() != detachedContents.size()) {
+            throw new IllegalArgumentException("The detached contents shall be provided for each evidence record!");
+        }
+
+        final List<E> parsedEvidenceRecords = new ArrayList<>(evidenceRecords.size());
+        final List<List<byte[]>> dataObjectGroups = new ArrayList<>(evidenceRecords.size());
+        for (int i = 0; i < evidenceRecords.size(); i++) {
+            E evidenceRecord = parseEvidenceRecord(evidenceRecords.get(i));
+            List<DSSDocument> detachedContent = detachedContents.get(i);
+            if (Utils.isCollectionEmpty(detachedContent)) {
+                throw new IllegalArgumentException(String.format(
+                        "No detached content provided for evidence record at position '%s'!", i));
+            }
+            final List<byte[]> dataObjectGroup = new ArrayList<>();
+            for (Digest digest : computeHashTreeRenewalDigestGroup(evidenceRecord, detachedContent)) {
+                dataObjectGroup.add(digest.getValue());
+            }
+            parsedEvidenceRecords.add(evidenceRecord);
+            dataObjectGroups.add(dataObjectGroup);
+        }
+
+        final List<DSSDocument> result = new ArrayList<>(evidenceRecords.size());
+        final List<ArchiveTimeStampData> archiveTimeStamps = timestamp(digestAlgorithm, dataObjectGroups);
+        for (int i = 0; i < evidenceRecords.size(); i++) {
+            ArchiveTimeStampData archiveTimeStamp = archiveTimeStamps.get(i);
+            result.add(addArchiveTimeStamp(parsedEvidenceRecords.get(i), digestAlgorithm,
+                    archiveTimeStamp.reducedHashTree, archiveTimeStamp.timestamp, true));
+        }
+        return result;
+    }
+
+    private List<ArchiveTimeStampData> timestamp(DigestAlgorithm digestAlgorithm, List<List<byte[]>> dataObjectGroups) {
+        final HashTreeBuilder hashTreeBuilder = new HashTreeBuilder(digestAlgorithm);
+        final List<ArchiveTimeStampData> result = new ArrayList<>(dataObjectGroups.size());
+        for (int from = 0; from < dataObjectGroups.size(); from += batchSize) {
+            int to = Math.min(from + batchSize, dataObjectGroups.size());
+            HashTree hashTree = hashTreeBuilder.build(dataObjectGroups.subList(from, to));
+            TimestampBinary timestamp = tspSource.getTimeStampResponse(digestAlgorithm, hashTree.getRootHash());
+            for (int i = 0; i < hashTree.size(); i++) {
+                result.add(new ArchiveTimeStampData(hashTree.getReducedHashTree(i), timestamp));
+            }
+        }
+        LOG.debug("{} archive time-stamp(s) obtained for {} data object group(s).",
+                (dataObjectGroups.size() + batchSize - 1) / batchSize, dataObjectGroups.size());
+        return result;
+    }
+
+    private void assertNotEmpty(List<?> list, String name) {
+        if (Utils.isCollectionEmpty(list)) {
+            throw new IllegalArgumentException(String.format("The list of %s cannot be null or empty!", name));
+        }
+    }
+
+    /**
+     * Parses the evidence record document
+     *
+     * @param evidenceRecordDocument {@link DSSDocument} representing an evidence record
+     * @return evidence record object
+     */
+    protected abstract E parseEvidenceRecord(DSSDocument evidenceRecordDocument);
+
+    /**
+     * Computes digest of a data object to be protected by a new evidence record, using the defined digest algorithm
+     *
+     * @param document {@link DSSDocument} to compute digest for
+     * @return {@link Digest}
+     */
+    protected abstract Digest computeDataObjectDigest(DSSDocument document);
+
+    /**
+     * Computes digest of the last ArchiveTimeStamp of the evidence record, to be used on time-stamp renewal
+     *
+     * @param evidenceRecord evidence record object
+     * @return {@link DSSMessageDigest}
+     */
+    protected abstract DSSMessageDigest computeTimeStampRenewalDigest(E evidenceRecord);
+
+    /**
+     * Computes the group of digests to be covered by a new ArchiveTimeStampChain on hash-tree renewal
+     *
+     * @param evidenceRecord evidence record object
+     * @param detachedContent a list of {@link DSSDocument}s protected by the evidence record
+     * @return a list of {@link Digest}s
+     */
+    protected abstract List<Digest> computeHashTreeRenewalDigestGroup(E evidenceRecord, List<DSSDocument> detachedContent);
+
+    /**
+     * Creates a new evidence record for the {@code document}
+     *
+     * @param document {@link DSSDocument} protected by the evidence record
+     * @param reducedHashTree reduced hash tree to be incorporated within the ArchiveTimeStamp
+     * @param timestamp {@link TimestampBinary} covering the root hash value of the hash tree
+     * @return {@link DSSDocument} representing the created evidence record
+     */
+    protected abstract DSSDocument createEvidenceRecord(DSSDocument document, List<List<byte[]>> reducedHashTree,
+                                                        TimestampBinary timestamp);
+
+    /**
+     * Adds a new ArchiveTimeStamp to the evidence record
+     *
+     * @param evidenceRecord evidence record object to be extended
+     * @param digestAlgorithm {@link DigestAlgorithm} used to compute the hash tree
+     * @param reducedHashTree reduced hash tree to be incorporated within the ArchiveTimeStamp
+     * @param timestamp {@link TimestampBinary} covering the root hash value of the hash tree
+     * @param newChain whether the ArchiveTimeStamp shall be added within a new ArchiveTimeStampChain (hash-tree renewal)
+     * @return {@link DSSDocument} representing the renewed evidence record
+     */
+    protected abstract DSSDocument addArchiveTimeStamp(E evidenceRecord, DigestAlgorithm digestAlgorithm,
+                                                       List<List<byte[]>> reducedHashTree, TimestampBinary timestamp,
+                                                       boolean newChain);
+
+    /**
+     * Contains an archive time-stamp obtained for a batch, together with the reduced hash tree of a data object group
+     */
+    private static final class ArchiveTimeStampData {
+
+        /** The reduced hash tree */
+        private final List<List<byte[]>> reducedHashTree;
+
+        /** The time-stamp covering the root of the hash tree */
+        private final TimestampBinary timestamp;
+
+        private ArchiveTimeStampData(List<List<byte[]>> reducedHashTree, TimestampBinary timestamp) {
+            this.reducedHashTree = reducedHashTree;
+            this.timestamp = timestamp;
+        }
+
+    }
+
+}
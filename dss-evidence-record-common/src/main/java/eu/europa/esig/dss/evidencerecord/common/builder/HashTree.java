@@ -0,0 +1,95 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * <p>
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * <p>
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * <p>
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.evidencerecord.common.builder;
+
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
+
+import java.util.List;
+
+/**
+ * Represents a hash tree computed over a batch of data object groups, as defined in RFC 4998 and RFC 6283.
+ * Contains the root hash value to be time-stamped and the reduced hash tree for each of the data object groups.
+ *
+ */
+public class HashTree {
+
+    /** The digest algorithm used to compute the hash tree */
+    private final DigestAlgorithm digestAlgorithm;
+
+    /** The root hash value of the hash tree */
+    private final byte[] rootHash;
+
+    /** Reduced hash trees, in the order of the data object groups used to build the tree */
+    private final List<List<List<byte[]>>> reducedHashTrees;
+
+    /**
+     * Default constructor
+     *
+     * @param digestAlgorithm {@link DigestAlgorithm} used to compute the hash tree
+     * @param rootHash byte array representing the root hash value
+     * @param reducedHashTrees a list of reduced hash trees, one per data object group
+     */
+    HashTree(final DigestAlgorithm digestAlgorithm, final byte[] rootHash, final List<List<List<byte[]>>> reducedHashTrees) {
+        this.digestAlgorithm = digestAlgorithm;
+        this.rootHash = rootHash;
+        this.reducedHashTrees = reducedHashTrees;
+    }
+
+    /**
+     * Gets the digest algorithm used to compute the hash tree
+     *
+     * @return {@link DigestAlgorithm}
+     */
+    public DigestAlgorithm getDigestAlgorithm() {
+        return digestAlgorithm;
+    }
+
+    /**
+     * Gets the root hash value of the tree, to be covered by an archive time-stamp
+     *
+     * @return byte array
+     */
+    public byte[] getRootHash() {
+        return rootHash;
+    }
+
+    /**
+     * Gets the number of data object groups covered by the hash tree
+     *
+     * @return number of leaves
+     */
+    public int size() {
+        return reducedHashTrees.size();
+    }
+
+    /**
+     * Gets the reduced hash tree for a data object group with the given {@code index}.
+     * The first list contains the hash values of the data object group itself,
+     * each following list contains the hash value of the sibling node on the next level of the tree.
+     *
+     * @param index position of the data object group within the batch
+     * @return a list of hash value lists, representing a reduced hash tree
+     */
+    public List<List<byte[]>> getReducedHashTree(int index) {
+        return reducedHashTrees.get(index);
+    }
+
+}
@@ -0,0 +1,123 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * <p>
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * <p>
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * <p>
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.evidencerecord.common.builder;
+
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
+import eu.europa.esig.dss.spi.DSSMessageDigestCalculator;
+import eu.europa.esig.dss.spi.validation.evidencerecord.ByteArrayComparator;
+import eu.europa.esig.dss.utils.Utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Builds a binary hash tree over a batch of data object groups, as defined in RFC 4998 (and RFC 6283).
+ * <p>
+ * Each data object group forms a leaf of the tree. When a group contains a single hash value,
+ * the value is used as the leaf as is, otherwise the binary ascending sorted values are concatenated and hashed.
+ * Adjacent nodes are then combined pairwise using the same rule, while a node without a sibling is
+ * promoted to the next level unchanged. This guarantees that a verifier reconstructs the root hash
+ * from a reduced hash tree containing only the data object group and one sibling per level.
+ *
+ */
+public class HashTreeBuilder {
+
+    /** The digest algorithm to be used for the hash tree computation */
+    private final DigestAlgorithm digestAlgorithm;
+
+    /**
+     * Default constructor
+     *
+     * @param digestAlgorithm {@link DigestAlgorithm} to be used for the hash tree computation
+     */
+    public HashTreeBuilder(final DigestAlgorithm digestAlgorithm) {
+        Objects.requireNonNull(digestAlgorithm, "DigestAlgorithm cannot be null!");
+        this.digestAlgorithm = digestAlgorithm;
+    }
+
+    /**
+     * Builds a hash tree for the given list of data object groups.
+     * Each group contains hash values of data objects to be protected together by a single evidence record.
+     *
+     * @param dataObjectGroups a list of data object groups, each containing at least one hash value
+     * @return {@link HashTree}
+     */
+    public HashTree build(List<List<byte[]>> dataObjectGroups) {
+        if (Utils.isCollectionEmpty(dataObjectGroups)) {
+            throw new IllegalArgumentException("At least one data object group shall be provided!");
+        }
+
+        final int leavesNumber = dataObjectGroups.size();
+        final List<List<List<byte[]>>> reducedHashTrees = new ArrayList<>(leavesNumber);
+        byte[][] level = new byte[leavesNumber][];
+        for (int i = 0; i < leavesNumber; i++) {
+            List<byte[]> dataObjectGroup = dataObjectGroups.get(i);
+            if (Utils.isCollectionEmpty(dataObjectGroup)) {
+                throw new IllegalArgumentException(String.format("The data object group at position '%s' is empty!", i));
+            }
+            final List<List<byte[]>> reducedHashTree = new ArrayList<>();
+            reducedHashTree.add(new ArrayList<>(dataObjectGroup));
+            reducedHashTrees.add(reducedHashTree);
+            level[i] = computeGroupHash(dataObjectGroup);
+        }
+
+        int depth = 0;
+        while (level.length > 1) {
+            // a leaf's ancestor on the current level is always found at index (leaf >> depth)
+            for (int i = 0; i < leavesNumber; i++) {
+                int sibling = (i >> depth) ^ 1;
+                if (sibling < level.length) {
+                    reducedHashTrees.get(i).add(Collections.singletonList(level[sibling]));
+                }
+            }
+
+            final byte[][] nextLevel = new byte[(level.length + 1) / 2][];
+            for (int j = 0; j < level.length; j += 2) {
+                if (j + 1 < level.length) {
+                    nextLevel[j / 2] = computeGroupHash(Arrays.asList(level[j], level[j + 1]));
+                } else {
+                    nextLevel[j / 2] = level[j];
+                }
+            }
+            level = nextLevel;
+            ++depth;
+        }
+
+        return new HashTree(digestAlgorithm, level[0], reducedHashTrees);
+    }
+
+    private byte[] computeGroupHash(List<byte[]> hashValues) {
+        if (hashValues.size() == 1) {
+            return hashValues.get(0);
+        }
+        final List<byte[]> sortedHashValues = new ArrayList<>(hashValues);
+        sortedHashValues.sort(ByteArrayComparator.getInstance());
+        final DSSMessageDigestCalculator digestCalculator = new DSSMessageDigestCalculator(digestAlgorithm);
+        for (byte[] hashValue : sortedHashValues) {
+            digestCalculator.update(hashValue);
+        }
+        return digestCalculator.getMessageDigest(digestAlgorithm).getValue();
+    }
+
+}
@@ -20,6 +20,7 @@
  */
 package eu.europa.esig.dss.evidencerecord.common.validation;
 
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
 import eu.europa.esig.dss.enumerations.EvidenceRecordIncorporationType;
 import eu.europa.esig.dss.enumerations.EvidenceRecordOrigin;
 import eu.europa.esig.dss.model.DSSDocument;
@@ -31,10 +32,14 @@ import eu.europa.esig.dss.spi.validation.analyzer.evidencerecord.EvidenceRecordA
 import eu.europa.esig.dss.spi.validation.evidencerecord.EmbeddedEvidenceRecordHelper;
 import eu.europa.esig.dss.spi.x509.evidencerecord.EvidenceRecord;
 import eu.europa.esig.dss.utils.Utils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * This class contains common method for processing of evidence record documents
@@ -42,6 +47,8 @@ import java.util.Objects;
  */
 public abstract class DefaultEvidenceRecordAnalyzer extends DefaultDocumentAnalyzer implements EvidenceRecordAnalyzer {
 
+    private static final Logger LOG = LoggerFactory.getLogger(DefaultEvidenceRecordAnalyzer.class);
+
     /** Cached instance of evidence record */
     private EvidenceRecord evidenceRecord;
 
@@ -87,6 +94,7 @@ public abstract class DefaultEvidenceRecordAnalyzer extends DefaultDocumentAnaly
     public EvidenceRecord getEvidenceRecord() {
         if (evidenceRecord == null) {
             evidenceRecord = buildEvidenceRecord();
+            computeDetachedContentsDigests(evidenceRecord);
 
             List<SignatureScope> evidenceRecordScopes = getEvidenceRecordScopes(evidenceRecord);
             evidenceRecord.setEvidenceRecordScopes(evidenceRecordScopes);
@@ -122,6 +130,30 @@ public abstract class DefaultEvidenceRecordAnalyzer extends DefaultDocumentAnaly
         return detachedContents;
     }
 
+    /**
+     * Computes digests of the detached contents for digest algorithms of all ArchiveTimeStampChains
+     * of the evidence record, within a single read of each document
+     *
+     * @param evidenceRecord {@link EvidenceRecord}
+     */
+    protected void computeDetachedContentsDigests(EvidenceRecord evidenceRecord) {
+        if (evidenceRecord instanceof DefaultEvidenceRecord) {
+            DefaultEvidenceRecord defaultEvidenceRecord = (DefaultEvidenceRecord) evidenceRecord;
+            try {
+                Set<DigestAlgorithm> digestAlgorithms = EnumSet.noneOf(DigestAlgorithm.class);
+                for (ArchiveTimeStampChainObject archiveTimeStampChain : defaultEvidenceRecord.getArchiveTimeStampSequence()) {
+                    if (archiveTimeStampChain.getDigestAlgorithm() != null) {
+                        digestAlgorithms.add(archiveTimeStampChain.getDigestAlgorithm());
+                    }
+                }
+                computeDigests(defaultEvidenceRecord.getDetachedContents(), digestAlgorithms);
+            } catch (Exception e) {
+                // the digests are computed on demand on validation
+                LOG.warn("Unable to compute digests of detached contents for an evidence record : {}", e.getMessage());
+            }
+        }
+    }
+
     /**
      * Builds an evidence record object
      *
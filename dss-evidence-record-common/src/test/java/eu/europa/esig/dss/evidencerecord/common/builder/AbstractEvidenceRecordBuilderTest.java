@@ -0,0 +1,168 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * <p>
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * <p>
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * <p>
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.evidencerecord.common.builder;
+
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
+import eu.europa.esig.dss.enumerations.DigestMatcherType;
+import eu.europa.esig.dss.evidencerecord.common.validation.ArchiveTimeStampChainObject;
+import eu.europa.esig.dss.evidencerecord.common.validation.ArchiveTimeStampObject;
+import eu.europa.esig.dss.evidencerecord.common.validation.DefaultEvidenceRecord;
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.InMemoryDocument;
+import eu.europa.esig.dss.model.ReferenceValidation;
+import eu.europa.esig.dss.model.TimestampBinary;
+import eu.europa.esig.dss.spi.x509.tsp.TSPSource;
+import eu.europa.esig.dss.spi.x509.tsp.TimestampToken;
+import eu.europa.esig.dss.test.PKIFactoryAccess;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public abstract class AbstractEvidenceRecordBuilderTest extends PKIFactoryAccess {
+
+    private static final int NUMBER_OF_DOCUMENTS = 10;
+
+    private static final int BATCH_SIZE = 4;
+
+    protected abstract AbstractEvidenceRecordBuilder<?> initBuilder(TSPSource tspSource);
+
+    protected abstract DefaultEvidenceRecord toEvidenceRecord(DSSDocument evidenceRecordDocument);
+
+    @Test
+    void buildAndRenewTest() {
+        CountingTSPSource tspSource = new CountingTSPSource(getGoodTsa());
+        AbstractEvidenceRecordBuilder<?> builder = initBuilder(tspSource).setBatchSize(BATCH_SIZE);
+
+        List<DSSDocument> documents = new ArrayList<>();
+        List<List<DSSDocument>> detachedContents = new ArrayList<>();
+        for (int i = 0; i < NUMBER_OF_DOCUMENTS; i++) {
+            DSSDocument document = new InMemoryDocument(("Hello world " + i).getBytes(), "doc" + i);
+            documents.add(document);
+            detachedContents.add(Collections.singletonList(document));
+        }
+
+        List<DSSDocument> evidenceRecords = builder.build(documents);
+        assertEquals(NUMBER_OF_DOCUMENTS, evidenceRecords.size());
+        assertEquals(3, tspSource.counter);
+        for (int i = 0; i < NUMBER_OF_DOCUMENTS; i++) {
+            checkEvidenceRecord(evidenceRecords.get(i), detachedContents.get(i), 1, 1);
+        }
+        assertFalse(isValid(evidenceRecords.get(0), detachedContents.get(1)));
+
+        evidenceRecords = builder.renewTimeStamp(evidenceRecords);
+        assertEquals(NUMBER_OF_DOCUMENTS, evidenceRecords.size());
+        assertEquals(6, tspSource.counter);
+        for (int i = 0; i < NUMBER_OF_DOCUMENTS; i++) {
+            checkEvidenceRecord(evidenceRecords.get(i), detachedContents.get(i), 1, 2);
+        }
+
+        evidenceRecords = builder.setDigestAlgorithm(DigestAlgorithm.SHA512).renewHashTree(evidenceRecords, detachedContents);
+        assertEquals(NUMBER_OF_DOCUMENTS, evidenceRecords.size());
+        assertEquals(9, tspSource.counter);
+        for (int i = 0; i < NUMBER_OF_DOCUMENTS; i++) {
+            checkEvidenceRecord(evidenceRecords.get(i), detachedContents.get(i), 2, 3);
+        }
+    }
+
+    @Test
+    void emptyInputTest() {
+        AbstractEvidenceRecordBuilder<?> builder = initBuilder(getGoodTsa());
+        assertThrows(IllegalArgumentException.class, () -> builder.build(Collections.emptyList()));
+        assertThrows(IllegalArgumentException.class, () -> builder.renewTimeStamp(null));
+        assertThrows(IllegalArgumentException.class, () -> builder.setBatchSize(0));
+
+        List<DSSDocument> evidenceRecords = builder.build(Collections.singletonList(new InMemoryDocument("Hello".getBytes())));
+        assertThrows(IllegalArgumentException.class, () -> builder.renewHashTree(evidenceRecords, Collections.emptyList()));
+        assertThrows(IllegalArgumentException.class, () -> builder.renewHashTree(evidenceRecords,
+                Collections.singletonList(Collections.emptyList())));
+    }
+
+    private void checkEvidenceRecord(DSSDocument evidenceRecordDocument, List<DSSDocument> detachedContent,
+                                     int expectedChains, int expectedTimestamps) {
+        DefaultEvidenceRecord evidenceRecord = toEvidenceRecord(evidenceRecordDocument);
+        evidenceRecord.setDetachedContents(detachedContent);
+
+        List<ReferenceValidation> referenceValidations = evidenceRecord.getReferenceValidation();
+        assertEquals(1, referenceValidations.size());
+        assertEquals(DigestMatcherType.EVIDENCE_RECORD_ARCHIVE_OBJECT, referenceValidations.get(0).getType());
+        assertTrue(referenceValidations.get(0).isFound());
+        assertTrue(referenceValidations.get(0).isIntact());
+
+        List<? extends ArchiveTimeStampChainObject> archiveTimeStampSequence = evidenceRecord.getArchiveTimeStampSequence();
+        assertEquals(expectedChains, archiveTimeStampSequence.size());
+
+        int timestampCounter = 0;
+        for (ArchiveTimeStampChainObject archiveTimeStampChain : archiveTimeStampSequence) {
+            for (ArchiveTimeStampObject archiveTimeStamp : archiveTimeStampChain.getArchiveTimeStamps()) {
+                TimestampToken timestampToken = archiveTimeStamp.getTimestampToken();
+                assertTrue(timestampToken.isMessageImprintDataFound());
+                assertTrue(timestampToken.isMessageImprintDataIntact());
+                for (ReferenceValidation referenceValidation : timestampToken.getReferenceValidations()) {
+                    if (DigestMatcherType.EVIDENCE_RECORD_ORPHAN_REFERENCE != referenceValidation.getType()) {
+                        assertTrue(referenceValidation.isFound());
+                        assertTrue(referenceValidation.isIntact());
+                    }
+                }
+                ++timestampCounter;
+            }
+        }
+        assertEquals(expectedTimestamps, timestampCounter);
+    }
+
+    private boolean isValid(DSSDocument evidenceRecordDocument, List<DSSDocument> detachedContent) {
+        DefaultEvidenceRecord evidenceRecord = toEvidenceRecord(evidenceRecordDocument);
+        evidenceRecord.setDetachedContents(detachedContent);
+        return evidenceRecord.getReferenceValidation().stream().anyMatch(r -> r.isFound() && r.isIntact());
+    }
+
+    @Override
+    protected String getSigningAlias() {
+        return GOOD_USER;
+    }
+
+    private static class CountingTSPSource implements TSPSource {
+
+        private static final long serialVersionUID = -1371036364393588765L;
+
+        private final TSPSource tspSource;
+
+        private int counter;
+
+        private CountingTSPSource(TSPSource tspSource) {
+            this.tspSource = tspSource;
+        }
+
+        @Override
+        public TimestampBinary getTimeStampResponse(DigestAlgorithm digestAlgorithm, byte[] digest) {
+            ++counter;
+            return tspSource.getTimeStampResponse(digestAlgorithm, digest);
+        }
+
+    }
+
+}
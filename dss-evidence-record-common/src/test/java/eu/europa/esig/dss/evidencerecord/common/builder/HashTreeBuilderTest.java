@@ -0,0 +1,122 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * <p>
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * <p>
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * <p>
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.evidencerecord.common.builder;
+
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
+import eu.europa.esig.dss.spi.DSSUtils;
+import eu.europa.esig.dss.spi.validation.evidencerecord.ByteArrayComparator;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HashTreeBuilderTest {
+
+    private static final DigestAlgorithm DIGEST_ALGORITHM = DigestAlgorithm.SHA256;
+
+    @Test
+    void singleDataObjectTest() {
+        byte[] hashValue = DSSUtils.digest(DIGEST_ALGORITHM, "data".getBytes());
+        HashTree hashTree = new HashTreeBuilder(DIGEST_ALGORITHM).build(
+                Collections.singletonList(Collections.singletonList(hashValue)));
+        assertEquals(1, hashTree.size());
+        assertEquals(DIGEST_ALGORITHM, hashTree.getDigestAlgorithm());
+        assertArrayEquals(hashValue, hashTree.getRootHash());
+        assertEquals(1, hashTree.getReducedHashTree(0).size());
+        assertArrayEquals(hashValue, hashTree.getReducedHashTree(0).get(0).get(0));
+    }
+
+    @Test
+    void reducedHashTreesTest() {
+        for (int leavesNumber = 1; leavesNumber <= 33; leavesNumber++) {
+            List<List<byte[]>> dataObjectGroups = new ArrayList<>();
+            for (int i = 0; i < leavesNumber; i++) {
+                dataObjectGroups.add(Collections.singletonList(DSSUtils.digest(DIGEST_ALGORITHM, ("data" + i).getBytes())));
+            }
+            HashTree hashTree = new HashTreeBuilder(DIGEST_ALGORITHM).build(dataObjectGroups);
+            assertEquals(leavesNumber, hashTree.size());
+
+            // the data object group itself and at most one sibling per level
+            int maxReducedHashTreeSize = 1 + 32 - Integer.numberOfLeadingZeros(leavesNumber - 1);
+            for (int i = 0; i < leavesNumber; i++) {
+                List<List<byte[]>> reducedHashTree = hashTree.getReducedHashTree(i);
+                assertArrayEquals(dataObjectGroups.get(i).get(0), reducedHashTree.get(0).get(0));
+                assertTrue(reducedHashTree.size() <= maxReducedHashTreeSize);
+                assertArrayEquals(hashTree.getRootHash(), computeRootHash(reducedHashTree));
+            }
+        }
+    }
+
+    @Test
+    void dataObjectGroupTest() {
+        List<byte[]> group = Arrays.asList(
+                DSSUtils.digest(DIGEST_ALGORITHM, "a".getBytes()), DSSUtils.digest(DIGEST_ALGORITHM, "b".getBytes()));
+        List<byte[]> single = Collections.singletonList(DSSUtils.digest(DIGEST_ALGORITHM, "c".getBytes()));
+        HashTree hashTree = new HashTreeBuilder(DIGEST_ALGORITHM).build(Arrays.asList(group, single, group));
+        for (int i = 0; i < hashTree.size(); i++) {
+            assertArrayEquals(hashTree.getRootHash(), computeRootHash(hashTree.getReducedHashTree(i)));
+        }
+        assertEquals(2, hashTree.getReducedHashTree(0).get(0).size());
+        assertEquals(3, hashTree.getReducedHashTree(0).size());
+        assertEquals(2, hashTree.getReducedHashTree(2).size());
+    }
+
+    @Test
+    void emptyInputTest() {
+        HashTreeBuilder hashTreeBuilder = new HashTreeBuilder(DIGEST_ALGORITHM);
+        assertThrows(IllegalArgumentException.class, () -> hashTreeBuilder.build(Collections.emptyList()));
+        assertThrows(IllegalArgumentException.class, () -> hashTreeBuilder.build(
+                Collections.singletonList(Collections.emptyList())));
+    }
+
+    /**
+     * Reproduces the root hash computation performed on evidence record validation
+     */
+    private byte[] computeRootHash(List<List<byte[]>> reducedHashTree) {
+        byte[] lastHash = null;
+        for (List<byte[]> hashValues : reducedHashTree) {
+            List<byte[]> values = new ArrayList<>(hashValues);
+            if (lastHash != null) {
+                values.add(lastHash);
+            }
+            if (values.size() == 1) {
+                lastHash = values.get(0);
+            } else {
+                values.sort(ByteArrayComparator.getInstance());
+                ByteArrayOutputStream baos = new ByteArrayOutputStream();
+                for (byte[] value : values) {
+                    baos.write(value, 0, value.length);
+                }
+                lastHash = DSSUtils.digest(DIGEST_ALGORITHM, baos.toByteArray());
+            }
+        }
+        return lastHash;
+    }
+
+}
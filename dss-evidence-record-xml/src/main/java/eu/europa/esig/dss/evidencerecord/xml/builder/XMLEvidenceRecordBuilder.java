@@ -0,0 +1,215 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * <p>
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * <p>
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * <p>
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.evidencerecord.xml.builder;
+
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
+import eu.europa.esig.dss.enumerations.MimeTypeEnum;
+import eu.europa.esig.dss.evidencerecord.common.builder.AbstractEvidenceRecordBuilder;
+import eu.europa.esig.dss.evidencerecord.xml.definition.XMLERSAttribute;
+import eu.europa.esig.dss.evidencerecord.xml.definition.XMLERSElement;
+import eu.europa.esig.dss.evidencerecord.xml.definition.XMLERSNamespace;
+import eu.europa.esig.dss.evidencerecord.xml.definition.XMLERSPath;
+import eu.europa.esig.dss.evidencerecord.xml.digest.XMLEvidenceRecordDataObjectDigestBuilder;
+import eu.europa.esig.dss.evidencerecord.xml.digest.XMLEvidenceRecordRenewalDigestBuilder;
+import eu.europa.esig.dss.evidencerecord.xml.validation.XmlEvidenceRecord;
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.DSSMessageDigest;
+import eu.europa.esig.dss.model.Digest;
+import eu.europa.esig.dss.model.InMemoryDocument;
+import eu.europa.esig.dss.model.TimestampBinary;
+import eu.europa.esig.dss.spi.x509.tsp.TSPSource;
+import eu.europa.esig.dss.utils.Utils;
+import eu.europa.esig.dss.xml.utils.DomUtils;
+import eu.europa.esig.dss.xml.utils.XMLCanonicalizer;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * This class allows creation and renewal of RFC 6283 XMLERS evidence records.
+ * <p>
+ * Example of usage:
+ * <pre>
+ * {@code
+ * XMLEvidenceRecordBuilder builder = new XMLEvidenceRecordBuilder(tspSource);
+ * List<DSSDocument> evidenceRecords = builder.build(documents);
+ * }
+ * </pre>
+ *
+ */
+public class XMLEvidenceRecordBuilder extends AbstractEvidenceRecordBuilder<XmlEvidenceRecord> {
+
+    /** The version of the created evidence records */
+    private static final String VERSION = "1.0";
+
+    /** The type of the time-stamp tokens */
+    private static final String RFC3161_TIME_STAMP_TYPE = "RFC3161";
+
+    /** The extension used for the names of created evidence records */
+    private static final String XML_EXTENSION = ".xml";
+
+    /** Canonicalization method used on creation of evidence records and hash-tree renewal */
+    private String canonicalizationMethod = XMLCanonicalizer.DEFAULT_DSS_C14N_METHOD;
+
+    /**
+     * Default constructor
+     *
+     * @param tspSource {@link TSPSource} to be used to request archive time-stamps
+     */
+    public XMLEvidenceRecordBuilder(final TSPSource tspSource) {
+        super(tspSource);
+    }
+
+    @Override
+    public XMLEvidenceRecordBuilder setDigestAlgorithm(DigestAlgorithm digestAlgorithm) {
+        return (XMLEvidenceRecordBuilder) super.setDigestAlgorithm(digestAlgorithm);
+    }
+
+    @Override
+    public XMLEvidenceRecordBuilder setBatchSize(int batchSize) {
+        return (XMLEvidenceRecordBuilder) super.setBatchSize(batchSize);
+    }
+
+    /**
+     * Sets a canonicalization method to be used on creation of evidence records and on hash-tree renewal.
+     * NOTE: time-stamp renewal uses canonicalization method of the last ArchiveTimeStampChain.
+     * Default : "http://www.w3.org/2001/10/xml-exc-c14n#" canonicalization algorithm
+     *
+     * @param canonicalizationMethod {@link String}
+     * @return this {@link XMLEvidenceRecordBuilder}
+     */
+    public XMLEvidenceRecordBuilder setCanonicalizationMethod(String canonicalizationMethod) {
+        Objects.requireNonNull(canonicalizationMethod, "Canonicalization method cannot be null!");
+        this.canonicalizationMethod = canonicalizationMethod;
+        return this;
+    }
+
+    @Override
+    protected XmlEvidenceRecord parseEvidenceRecord(DSSDocument evidenceRecordDocument) {
+        XmlEvidenceRecord evidenceRecord = new XmlEvidenceRecord(evidenceRecordDocument);
+        evidenceRecord.setFilename(evidenceRecordDocument.getName());
+        return evidenceRecord;
+    }
+
+    @Override
+    protected Digest computeDataObjectDigest(DSSDocument document) {
+        return new XMLEvidenceRecordDataObjectDigestBuilder(document, digestAlgorithm)
+                .setCanonicalizationMethod(canonicalizationMethod).build();
+    }
+
+    @Override
+    protected DSSMessageDigest computeTimeStampRenewalDigest(XmlEvidenceRecord evidenceRecord) {
+        return new XMLEvidenceRecordRenewalDigestBuilder(evidenceRecord).buildTimeStampRenewalDigest();
+    }
+
+    @Override
+    protected List<Digest> computeHashTreeRenewalDigestGroup(XmlEvidenceRecord evidenceRecord, List<DSSDocument> detachedContent) {
+        return new XMLEvidenceRecordRenewalDigestBuilder(evidenceRecord, digestAlgorithm)
+                .setCanonicalizationMethod(canonicalizationMethod)
+                .setDetachedContent(detachedContent).buildHashTreeRenewalDigestGroup();
+    }
+
+    @Override
+    protected DSSDocument createEvidenceRecord(DSSDocument document, List<List<byte[]>> reducedHashTree,
+                                               TimestampBinary timestamp) {
+        final Document documentDom = DomUtils.buildDOM();
+        final Element evidenceRecordElement = DomUtils.createElementNS(documentDom, XMLERSNamespace.XMLERS, XMLERSElement.EVIDENCE_RECORD);
+        documentDom.appendChild(evidenceRecordElement);
+        evidenceRecordElement.setAttribute(XMLERSAttribute.VERSION.getAttributeName(), VERSION);
+
+        final Element archiveTimeStampSequenceElement = DomUtils.addElement(documentDom, evidenceRecordElement,
+                XMLERSNamespace.XMLERS, XMLERSElement.ARCHIVE_TIME_STAMP_SEQUENCE);
+        addArchiveTimeStampChain(documentDom, archiveTimeStampSequenceElement, 1, digestAlgorithm, reducedHashTree, timestamp);
+
+        String name = document.getName() != null ? document.getName() + XML_EXTENSION : null;
+        return new InMemoryDocument(DomUtils.serializeNode(documentDom), name, MimeTypeEnum.XML);
+    }
+
+    @Override
+    protected DSSDocument addArchiveTimeStamp(XmlEvidenceRecord evidenceRecord, DigestAlgorithm digestAlgorithm,
+                                              List<List<byte[]>> reducedHashTree, TimestampBinary timestamp,
+                                              boolean newChain) {
+        final Element evidenceRecordElement = evidenceRecord.getEvidenceRecordElement();
+        final Document documentDom = evidenceRecordElement.getOwnerDocument();
+        final NodeList archiveTimeStampChains = DomUtils.getNodeList(evidenceRecordElement, XMLERSPath.ARCHIVE_TIME_STAMP_CHAIN_PATH);
+        if (newChain) {
+            final Element archiveTimeStampSequenceElement = DomUtils.getElement(evidenceRecordElement, XMLERSPath.ARCHIVE_TIME_STAMP_SEQUENCE_PATH);
+            addArchiveTimeStampChain(documentDom, archiveTimeStampSequenceElement, archiveTimeStampChains.getLength() + 1,
+                    digestAlgorithm, reducedHashTree, timestamp);
+        } else {
+            final Element lastArchiveTimeStampChainElement = (Element) archiveTimeStampChains.item(archiveTimeStampChains.getLength() - 1);
+            addArchiveTimeStamp(documentDom, lastArchiveTimeStampChainElement,
+                    DomUtils.getNodesAmount(lastArchiveTimeStampChainElement, XMLERSPath.ARCHIVE_TIME_STAMP_PATH) + 1,
+                    reducedHashTree, timestamp);
+        }
+        return new InMemoryDocument(DomUtils.serializeNode(documentDom), evidenceRecord.getFilename(), MimeTypeEnum.XML);
+    }
+
+    private void addArchiveTimeStampChain(Document documentDom, Element archiveTimeStampSequenceElement, int order,
+                                          DigestAlgorithm digestAlgorithm, List<List<byte[]>> reducedHashTree, TimestampBinary timestamp) {
+        final Element archiveTimeStampChainElement = DomUtils.addElement(documentDom, archiveTimeStampSequenceElement,
+                XMLERSNamespace.XMLERS, XMLERSElement.ARCHIVE_TIME_STAMP_CHAIN);
+        setOrder(archiveTimeStampChainElement, order);
+
+        final Element digestMethodElement = DomUtils.addElement(documentDom, archiveTimeStampChainElement,
+                XMLERSNamespace.XMLERS, XMLERSElement.DIGEST_METHOD);
+        digestMethodElement.setAttribute(XMLERSAttribute.ALGORITHM.getAttributeName(), digestAlgorithm.getUri());
+
+        final Element canonicalizationMethodElement = DomUtils.addElement(documentDom, archiveTimeStampChainElement,
+                XMLERSNamespace.XMLERS, XMLERSElement.CANONICALIZATION_METHOD);
+        canonicalizationMethodElement.setAttribute(XMLERSAttribute.ALGORITHM.getAttributeName(), canonicalizationMethod);
+
+        addArchiveTimeStamp(documentDom, archiveTimeStampChainElement, 1, reducedHashTree, timestamp);
+    }
+
+    private void addArchiveTimeStamp(Document documentDom, Element archiveTimeStampChainElement, int order,
+                                     List<List<byte[]>> reducedHashTree, TimestampBinary timestamp) {
+        final Element archiveTimeStampElement = DomUtils.addElement(documentDom, archiveTimeStampChainElement,
+                XMLERSNamespace.XMLERS, XMLERSElement.ARCHIVE_TIME_STAMP);
+        setOrder(archiveTimeStampElement, order);
+
+        final Element hashTreeElement = DomUtils.addElement(documentDom, archiveTimeStampElement,
+                XMLERSNamespace.XMLERS, XMLERSElement.HASH_TREE);
+        for (int i = 0; i < reducedHashTree.size(); i++) {
+            final Element sequenceElement = DomUtils.addElement(documentDom, hashTreeElement,
+                    XMLERSNamespace.XMLERS, XMLERSElement.SEQUENCE);
+            setOrder(sequenceElement, i + 1);
+            for (byte[] hashValue : reducedHashTree.get(i)) {
+                DomUtils.addTextElement(documentDom, sequenceElement, XMLERSNamespace.XMLERS,
+                        XMLERSElement.DIGEST_VALUE, Utils.toBase64(hashValue));
+            }
+        }
+
+        final Element timeStampElement = DomUtils.addElement(documentDom, archiveTimeStampElement,
+                XMLERSNamespace.XMLERS, XMLERSElement.TIME_STAMP);
+        final Element timeStampTokenElement = DomUtils.addTextElement(documentDom, timeStampElement,
+                XMLERSNamespace.XMLERS, XMLERSElement.TIME_STAMP_TOKEN, Utils.toBase64(timestamp.getBytes()));
+        timeStampTokenElement.setAttribute(XMLERSAttribute.TYPE.getAttributeName(), RFC3161_TIME_STAMP_TYPE);
+    }
+
+    private void setOrder(Element element, int order) {
+        element.setAttribute(XMLERSAttribute.ORDER.getAttributeName(), String.valueOf(order));
+    }
+
+}
@@ -0,0 +1,54 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * <p>
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * <p>
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * <p>
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.evidencerecord.xml.validation;
+
+import eu.europa.esig.dss.evidencerecord.xml.builder.XMLEvidenceRecordBuilder;
+import eu.europa.esig.dss.evidencerecord.common.validation.AbstractEvidenceRecordTestValidation;
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.InMemoryDocument;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+class XmlEvidenceRecordBuilderValidationTest extends AbstractEvidenceRecordTestValidation {
+
+    private static final DSSDocument DOCUMENT = new InMemoryDocument("Hello world".getBytes(), "hello.txt");
+
+    @Override
+    protected DSSDocument getSignedDocument() {
+        XMLEvidenceRecordBuilder builder = new XMLEvidenceRecordBuilder(getGoodTsa());
+        List<DSSDocument> documents = Arrays.asList(new InMemoryDocument("Bye world".getBytes(), "bye.txt"), DOCUMENT,
+                new InMemoryDocument("Hello again".getBytes(), "hello-again.txt"));
+        List<DSSDocument> evidenceRecords = builder.build(documents);
+        evidenceRecords = builder.renewTimeStamp(evidenceRecords);
+        evidenceRecords = builder.renewHashTree(evidenceRecords, Arrays.asList(
+                Collections.singletonList(documents.get(0)), Collections.singletonList(documents.get(1)),
+                Collections.singletonList(documents.get(2))));
+        return evidenceRecords.get(1);
+    }
+
+    @Override
+    protected List<DSSDocument> getDetachedContents() {
+        return Collections.singletonList(DOCUMENT);
+    }
+
+}
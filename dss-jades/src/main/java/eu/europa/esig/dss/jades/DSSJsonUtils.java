@@ -59,6 +59,7 @@ import org.slf4j.LoggerFactory;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.ByteBuffer;
 import java.nio.charset.CharsetDecoder;
 import java.nio.charset.StandardCharsets;
@@ -66,6 +67,7 @@ import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Base64;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
@@ -529,19 +531,59 @@ public class DSSJsonUtils {
 			throw new IllegalArgumentException("Unable to build a message-digest. Reason : the detached content is not provided!");
 		}
 
-		byte[] octets = null;
-		if (documents.size() == 1) {
-			octets = getDocumentOctets(documents.get(0), isBase64UrlEncoded);
-			digestCalculator.update(octets);
+		for (DSSDocument document : documents) {
+			writeDocumentOctets(document, isBase64UrlEncoded, digestCalculator);
+		}
+	}
 
-		} else {
-			for (DSSDocument document : documents) {
-				octets = getDocumentOctets(document, isBase64UrlEncoded);
-				digestCalculator.update(octets);
-			}
+	/**
+	 * Writes the octets of the {@code document} into the {@code digestCalculator}.
+	 * When {@code isBase64UrlEncoded} is set to TRUE, the document is base64url-encoded on the fly,
+	 * without loading the whole document content into memory.
+	 *
+	 * @param document {@link DSSDocument} to write octets of
+	 * @param isBase64UrlEncoded defines whether the document octets shall be base64url-encoded
+	 * @param digestCalculator {@link DSSMessageDigestCalculator} to compute message-digest with
+	 */
+	public static void writeDocumentOctets(DSSDocument document, boolean isBase64UrlEncoded,
+										   DSSMessageDigestCalculator digestCalculator) {
+		OutputStream digestOutputStream = digestCalculator.getOutputStream();
+		try (InputStream is = document.openStream();
+			 OutputStream os = isBase64UrlEncoded ? getBase64UrlEncodingOutputStream(digestOutputStream) : digestOutputStream) {
+			Utils.copy(is, os);
+		} catch (IOException e) {
+			throw new DSSException(String.format("Unable to read the document with name '%s'. Reason : %s",
+					document.getName(), e.getMessage()), e);
 		}
 	}
 
+	/**
+	 * Computes digest of the base64url-encoded octets of the {@code document}.
+	 * The document is encoded and digested on the fly, so the memory use does not depend on the document size.
+	 *
+	 * @param document {@link DSSDocument} to compute digest for
+	 * @param digestAlgorithm {@link DigestAlgorithm} to be used
+	 * @return digest value of the base64url-encoded document
+	 */
+	public static byte[] getBase64UrlEncodedDocumentDigest(DSSDocument document, DigestAlgorithm digestAlgorithm) {
+		DSSMessageDigestCalculator digestCalculator = new DSSMessageDigestCalculator(digestAlgorithm);
+		writeDocumentOctets(document, true, digestCalculator);
+		return digestCalculator.getMessageDigest(digestAlgorithm).getValue();
+	}
+
+	/**
+	 * Returns an {@code OutputStream} base64url-encoding (without padding) the written binaries
+	 * into the provided {@code outputStream}.
+	 * NOTE: the returned {@code OutputStream} shall be closed in order to write the final encoded characters.
+	 * Closing of the returned {@code OutputStream} closes the provided {@code outputStream}.
+	 *
+	 * @param outputStream {@link OutputStream} to write base64url-encoded characters into
+	 * @return {@link OutputStream}
+	 */
+	public static OutputStream getBase64UrlEncodingOutputStream(OutputStream outputStream) {
+		return Base64.getUrlEncoder().withoutPadding().wrap(outputStream);
+	}
+
 	/**
 	 * This method returns binaries of the {@code document} to be used for payload computation,
 	 * depending on the {@code isBase64UrlEncoded} parameter.
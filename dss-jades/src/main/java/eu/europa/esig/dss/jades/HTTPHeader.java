@@ -28,6 +28,8 @@ import eu.europa.esig.dss.model.Digest;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.Collection;
+import java.util.Map;
 
 /**
  * The class represents an HTTP Header to be signed
@@ -123,4 +125,9 @@ public class HTTPHeader implements DSSDocument {
 		throw new UnsupportedOperationException("The getDigestValue(digestAlgorithm) method is not supported for HTTPHeaderDocument.");
 	}
 
+	@Override
+	public Map<DigestAlgorithm, byte[]> getDigestValues(Collection<DigestAlgorithm> digestAlgorithms) {
+		throw new UnsupportedOperationException("The getDigestValues(digestAlgorithms) method is not supported for HTTPHeaderDocument.");
+	}
+
 }
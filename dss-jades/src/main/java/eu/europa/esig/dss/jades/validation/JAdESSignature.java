@@ -1048,8 +1048,7 @@ public class JAdESSignature extends DefaultAdvancedSignature {
 		if (jws.isRfc7797UnencodedPayload() || document instanceof DigestDocument) {
 			computedDigestValue = document.getDigestValue(digestAlgorithm);
 		} else {
-			String base64UrlEncodedDocument = DSSJsonUtils.toBase64Url(document);
-			computedDigestValue = DSSUtils.digest(digestAlgorithm, base64UrlEncodedDocument.getBytes());
+			computedDigestValue = DSSJsonUtils.getBase64UrlEncodedDocumentDigest(document, digestAlgorithm);
 		}
 
 		if (Arrays.equals(expectedDigest, computedDigestValue)) {
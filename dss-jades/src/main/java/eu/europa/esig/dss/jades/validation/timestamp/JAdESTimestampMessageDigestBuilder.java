@@ -183,8 +183,7 @@ public class JAdESTimestampMessageDigestBuilder implements TimestampMessageDiges
 			case HTTP_HEADERS:
 				documentList = signature.getSignedDocumentsByHTTPHeaderName();
 				HttpHeadersPayloadBuilder httpHeadersPayloadBuilder = new HttpHeadersPayloadBuilder(documentList, true);
-				byte[] sigDOctets = httpHeadersPayloadBuilder.build();
-				digestCalculator.update(sigDOctets);
+				httpHeadersPayloadBuilder.writeTo(digestCalculator.getOutputStream());
 				break;
 			case OBJECT_ID_BY_URI:
 			case OBJECT_ID_BY_URI_HASH:
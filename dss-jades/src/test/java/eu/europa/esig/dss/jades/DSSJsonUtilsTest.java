@@ -112,4 +112,17 @@ class DSSJsonUtilsTest {
 		assertFalse(DSSJsonUtils.isJsonDocument(new DigestDocument(DigestAlgorithm.SHA1, Utils.toBase64(DSSUtils.digest(DigestAlgorithm.SHA1, jsonDoc)))));
 	}
 
+	@Test
+	void getBase64UrlEncodedDocumentDigestTest() {
+		for (int length = 0; length < 10; length++) {
+			byte[] binaries = new byte[length * 1000 + length];
+			for (int i = 0; i < binaries.length; i++) {
+				binaries[i] = (byte) i;
+			}
+			byte[] expectedDigest = DSSUtils.digest(DigestAlgorithm.SHA256, DSSJsonUtils.toBase64Url(binaries).getBytes());
+			assertArrayEquals(expectedDigest, DSSJsonUtils.getBase64UrlEncodedDocumentDigest(
+					new InMemoryDocument(binaries), DigestAlgorithm.SHA256));
+		}
+	}
+
 }
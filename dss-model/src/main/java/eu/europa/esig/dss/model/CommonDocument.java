@@ -30,6 +30,8 @@ import java.io.OutputStream;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.EnumMap;
 import java.util.Map;
 import java.util.Objects;
@@ -111,20 +113,44 @@ public abstract class CommonDocument implements DSSDocument {
 	public byte[] getDigestValue(DigestAlgorithm digestAlgorithm) {
 		byte[] digest = digestMap.get(digestAlgorithm);
 		if (digest == null) {
-			try (InputStream is = openStream()) {
-				MessageDigest messageDigest = digestAlgorithm.getMessageDigest();
-				final byte[] buffer = new byte[8192];
-				int count;
-				while ((count = is.read(buffer)) > 0) {
-					messageDigest.update(buffer, 0, count);
+			digest = getDigestValues(Collections.singletonList(digestAlgorithm)).get(digestAlgorithm);
+		}
+		return digest;
+	}
+
+	@Override
+	public Map<DigestAlgorithm, byte[]> getDigestValues(Collection<DigestAlgorithm> digestAlgorithms) {
+		Objects.requireNonNull(digestAlgorithms, "DigestAlgorithms shall be provided!");
+		final Map<DigestAlgorithm, MessageDigest> messageDigests = new EnumMap<>(DigestAlgorithm.class);
+		try {
+			for (DigestAlgorithm digestAlgorithm : digestAlgorithms) {
+				if (!digestMap.containsKey(digestAlgorithm)) {
+					messageDigests.put(digestAlgorithm, digestAlgorithm.getMessageDigest());
+				}
+			}
+			if (!messageDigests.isEmpty()) {
+				try (InputStream is = openStream()) {
+					final byte[] buffer = new byte[8192];
+					int count;
+					while ((count = is.read(buffer)) > 0) {
+						for (MessageDigest messageDigest : messageDigests.values()) {
+							messageDigest.update(buffer, 0, count);
+						}
+					}
+				}
+				for (Map.Entry<DigestAlgorithm, MessageDigest> entry : messageDigests.entrySet()) {
+					digestMap.put(entry.getKey(), entry.getValue().digest());
 				}
-				digest = messageDigest.digest();
-				digestMap.put(digestAlgorithm, digest);
-			} catch (IOException | NoSuchAlgorithmException e) {
-				throw new DSSException("Unable to compute the digest", e);
 			}
+		} catch (IOException | NoSuchAlgorithmException e) {
+			throw new DSSException("Unable to compute the digest", e);
 		}
-		return digest;
+
+		final Map<DigestAlgorithm, byte[]> result = new EnumMap<>(DigestAlgorithm.class);
+		for (DigestAlgorithm digestAlgorithm : digestAlgorithms) {
+			result.put(digestAlgorithm, digestMap.get(digestAlgorithm));
+		}
+		return result;
 	}
 
 	@Override
@@ -27,6 +27,10 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.Serializable;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
 
 /**
  * Interface representing a DSS document.
@@ -111,4 +115,24 @@ public interface DSSDocument extends Serializable {
 	 */
 	byte[] getDigestValue(final DigestAlgorithm digestAlgorithm);
 
+	/**
+	 * This method returns digest values of the current document's content for each of the provided
+	 * {@code digestAlgorithms}. The digests which are not computed yet are computed within a single read
+	 * of the document's content.
+	 * <p>
+	 * The default implementation calls {@code getDigestValue(digestAlgorithm)} for each of the algorithms.
+	 *
+	 * @param digestAlgorithms
+	 *            a collection of {@link DigestAlgorithm}s to get digests for
+	 * @return a map between the requested {@link DigestAlgorithm}s and the corresponding digest values
+	 */
+	default Map<DigestAlgorithm, byte[]> getDigestValues(final Collection<DigestAlgorithm> digestAlgorithms) {
+		Objects.requireNonNull(digestAlgorithms, "DigestAlgorithms shall be provided!");
+		final Map<DigestAlgorithm, byte[]> result = new EnumMap<>(DigestAlgorithm.class);
+		for (DigestAlgorithm digestAlgorithm : digestAlgorithms) {
+			result.put(digestAlgorithm, getDigestValue(digestAlgorithm));
+		}
+		return result;
+	}
+
 }
@@ -26,6 +26,9 @@ import eu.europa.esig.dss.enumerations.MimeType;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.Base64;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 
@@ -232,6 +235,16 @@ public class DigestDocument extends CommonDocument {
 		return digestValue;
 	}
 
+	@Override
+	public Map<DigestAlgorithm, byte[]> getDigestValues(Collection<DigestAlgorithm> digestAlgorithms) {
+		Objects.requireNonNull(digestAlgorithms, "DigestAlgorithms shall be provided!");
+		final Map<DigestAlgorithm, byte[]> result = new EnumMap<>(DigestAlgorithm.class);
+		for (DigestAlgorithm digestAlgorithm : digestAlgorithms) {
+			result.put(digestAlgorithm, getDigestValue(digestAlgorithm));
+		}
+		return result;
+	}
+
 	/**
 	 * Gets the defined digest value for the DigestDocument
 	 *
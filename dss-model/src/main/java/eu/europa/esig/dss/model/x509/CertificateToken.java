@@ -20,6 +20,7 @@
  */
 package eu.europa.esig.dss.model.x509;
 
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
 import eu.europa.esig.dss.enumerations.KeyUsageBit;
 import eu.europa.esig.dss.enumerations.SignatureAlgorithm;
 import eu.europa.esig.dss.enumerations.SignatureValidity;
@@ -309,6 +310,17 @@ public class CertificateToken extends Token {
 
     @Override
     protected SignatureValidity checkIsSignedBy(final PublicKey publicKey) {
+        final SignatureVerificationCache verificationCache = SignatureVerificationCache.getInstance();
+        final byte[] digest = verificationCache.isEnabled() ? getDigest(DigestAlgorithm.SHA256) : null;
+        if (digest != null) {
+            SignatureVerificationCache.CachedSignatureValidity cachedResult = verificationCache.get(digest, publicKey);
+            if (cachedResult != null) {
+                signatureValidity = cachedResult.getSignatureValidity();
+                signatureInvalidityReason = cachedResult.getSignatureInvalidityReason();
+                return signatureValidity;
+            }
+        }
+
         signatureValidity = SignatureValidity.INVALID;
         signatureInvalidityReason = "";
         try {
@@ -319,6 +331,10 @@ public class CertificateToken extends Token {
         } catch (Exception e) {
             signatureInvalidityReason = e.getClass().getSimpleName() + " : " + e.getMessage();
         }
+
+        if (digest != null) {
+            verificationCache.put(digest, publicKey, signatureValidity, signatureInvalidityReason);
+        }
         return signatureValidity;
     }
 
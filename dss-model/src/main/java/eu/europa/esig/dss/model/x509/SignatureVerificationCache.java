@@ -0,0 +1,317 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * <p>
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * <p>
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * <p>
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.model.x509;
+
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
+import eu.europa.esig.dss.enumerations.SignatureValidity;
+import eu.europa.esig.dss.model.DSSException;
+
+import java.security.NoSuchAlgorithmException;
+import java.security.PublicKey;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * This class represents a process-wide, size-bounded cache of signature verification results.
+ * The results are keyed by the digest of the signed token and the digest of the public key used to verify it,
+ * allowing to skip the public key operation when the same token (e.g. an intermediate CA certificate)
+ * is verified against the same issuer more than once, even when new token instances are created for every validation.
+ * <p>
+ * The least recently used entries are evicted when the maximum size is reached.
+ * The cache is disabled by default and shall be enabled explicitly by defining its size,
+ * e.g. {@code SignatureVerificationCache.getInstance().setMaxSize(1000)}.
+ * <p>
+ * NOTE: the cache is shared by all the validations of the JVM. Each entry holds two SHA-256 digests
+ * and the verification result.
+ *
+ */
+public final class SignatureVerificationCache {
+
+	/** The default maximum number of cached verification results (0 - the cache is disabled) */
+	public static final int DEFAULT_MAX_SIZE = 0;
+
+	/** The digest algorithm used to compute the cache keys */
+	private static final DigestAlgorithm DIGEST_ALGORITHM = DigestAlgorithm.SHA256;
+
+	/** The singleton instance */
+	private static final SignatureVerificationCache INSTANCE = new SignatureVerificationCache();
+
+	/** The cached verification results (access-ordered) */
+	private final Map<Key, CachedSignatureValidity> cache = new LinkedHashMap<>(16, 0.75f, true);
+
+	/** The number of successful lookups */
+	private final AtomicLong hitCount = new AtomicLong();
+
+	/** The number of unsuccessful lookups */
+	private final AtomicLong missCount = new AtomicLong();
+
+	/** The maximum number of cached entries */
+	private volatile int maxSize = DEFAULT_MAX_SIZE;
+
+	/**
+	 * Singleton constructor
+	 */
+	private SignatureVerificationCache() {
+		// empty
+	}
+
+	/**
+	 * Returns the process-wide instance of the cache
+	 *
+	 * @return {@link SignatureVerificationCache}
+	 */
+	public static SignatureVerificationCache getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Sets the maximum number of cached verification results.
+	 * When the value is 0, the cache is disabled.
+	 * <p>
+	 * Default : {@value #DEFAULT_MAX_SIZE} (the cache is disabled)
+	 *
+	 * @param maxSize the maximum number of entries
+	 */
+	public void setMaxSize(int maxSize) {
+		if (maxSize < 0) {
+			throw new IllegalArgumentException("The maximum size of the cache cannot be negative!");
+		}
+		synchronized (cache) {
+			this.maxSize = maxSize;
+			evictEntries();
+		}
+	}
+
+	/**
+	 * Gets the maximum number of cached verification results
+	 *
+	 * @return the maximum number of entries
+	 */
+	public int getMaxSize() {
+		return maxSize;
+	}
+
+	/**
+	 * Returns whether the cache is enabled
+	 *
+	 * @return TRUE if the verification results are cached, FALSE otherwise
+	 */
+	public boolean isEnabled() {
+		return maxSize > 0;
+	}
+
+	/**
+	 * Returns a cached verification result for the given token digest and public key, when available
+	 *
+	 * @param tokenDigest byte array representing the SHA-256 digest of the signed token
+	 * @param publicKey {@link PublicKey} used to verify the token
+	 * @return {@link CachedSignatureValidity} if the result has been cached, null otherwise
+	 */
+	public CachedSignatureValidity get(byte[] tokenDigest, PublicKey publicKey) {
+		if (!isEnabled()) {
+			return null;
+		}
+		CachedSignatureValidity result;
+		Key key = new Key(tokenDigest, publicKey);
+		synchronized (cache) {
+			result = cache.get(key);
+		}
+		if (result != null) {
+			hitCount.incrementAndGet();
+		} else {
+			missCount.incrementAndGet();
+		}
+		return result;
+	}
+
+	/**
+	 * Caches the verification result for the given token digest and public key
+	 *
+	 * @param tokenDigest byte array representing the SHA-256 digest of the signed token
+	 * @param publicKey {@link PublicKey} used to verify the token
+	 * @param signatureValidity {@link SignatureValidity} result of the verification
+	 * @param signatureInvalidityReason {@link String} explaining the verification failure, if applicable
+	 */
+	public void put(byte[] tokenDigest, PublicKey publicKey, SignatureValidity signatureValidity,
+					String signatureInvalidityReason) {
+		if (!isEnabled() || SignatureValidity.NOT_EVALUATED == signatureValidity) {
+			return;
+		}
+		Key key = new Key(tokenDigest, publicKey);
+		CachedSignatureValidity result = new CachedSignatureValidity(signatureValidity, signatureInvalidityReason);
+		synchronized (cache) {
+			cache.put(key, result);
+			evictEntries();
+		}
+	}
+
+	private void evictEntries() {
+		while (cache.size() > maxSize) {
+			cache.remove(cache.keySet().iterator().next());
+		}
+	}
+
+	/**
+	 * Gets the number of cached verification results
+	 *
+	 * @return number of entries
+	 */
+	public int size() {
+		synchronized (cache) {
+			return cache.size();
+		}
+	}
+
+	/**
+	 * Gets the number of lookups which returned a cached verification result
+	 *
+	 * @return number of cache hits
+	 */
+	public long getHitCount() {
+		return hitCount.get();
+	}
+
+	/**
+	 * Gets the number of lookups which did not find a cached verification result
+	 *
+	 * @return number of cache misses
+	 */
+	public long getMissCount() {
+		return missCount.get();
+	}
+
+	/**
+	 * Gets the ratio of cache hits among all lookups
+	 *
+	 * @return hit rate between 0 and 1
+	 */
+	public double getHitRate() {
+		long hits = hitCount.get();
+		long total = hits + missCount.get();
+		return total == 0 ? 0 : (double) hits / total;
+	}
+
+	/**
+	 * Removes all cached verification results and resets the hit/miss counters
+	 */
+	public void clear() {
+		synchronized (cache) {
+			cache.clear();
+		}
+		hitCount.set(0);
+		missCount.set(0);
+	}
+
+	/**
+	 * Represents a cached signature verification result
+	 */
+	public static final class CachedSignatureValidity {
+
+		/** The signature validity */
+		private final SignatureValidity signatureValidity;
+
+		/** The reason of the signature invalidity */
+		private final String signatureInvalidityReason;
+
+		/**
+		 * Default constructor
+		 *
+		 * @param signatureValidity {@link SignatureValidity}
+		 * @param signatureInvalidityReason {@link String}
+		 */
+		private CachedSignatureValidity(SignatureValidity signatureValidity, String signatureInvalidityReason) {
+			this.signatureValidity = signatureValidity;
+			this.signatureInvalidityReason = signatureInvalidityReason;
+		}
+
+		/**
+		 * Gets the signature validity
+		 *
+		 * @return {@link SignatureValidity}
+		 */
+		public SignatureValidity getSignatureValidity() {
+			return signatureValidity;
+		}
+
+		/**
+		 * Gets the reason of the signature invalidity, when applicable
+		 *
+		 * @return {@link String}
+		 */
+		public String getSignatureInvalidityReason() {
+			return signatureInvalidityReason;
+		}
+
+	}
+
+	/**
+	 * The cache key, composed of the token digest and the public key digest
+	 */
+	private static final class Key {
+
+		/** The digest of the signed token */
+		private final byte[] tokenDigest;
+
+		/** The digest of the encoded public key */
+		private final byte[] publicKeyDigest;
+
+		/** Cached hash code */
+		private final int hashCode;
+
+		private Key(byte[] tokenDigest, PublicKey publicKey) {
+			Objects.requireNonNull(tokenDigest, "Token digest cannot be null!");
+			Objects.requireNonNull(publicKey, "PublicKey cannot be null!");
+			this.tokenDigest = tokenDigest;
+			this.publicKeyDigest = digest(publicKey.getEncoded());
+			this.hashCode = 31 * Arrays.hashCode(tokenDigest) + Arrays.hashCode(publicKeyDigest);
+		}
+
+		private static byte[] digest(byte[] binaries) {
+			try {
+				return DIGEST_ALGORITHM.getMessageDigest().digest(binaries);
+			} catch (NoSuchAlgorithmException e) {
+				throw new DSSException("Unable to create a MessageDigest for algorithm " + DIGEST_ALGORITHM, e);
+			}
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof Key)) {
+				return false;
+			}
+			Key other = (Key) obj;
+			return Arrays.equals(tokenDigest, other.tokenDigest) && Arrays.equals(publicKeyDigest, other.publicKeyDigest);
+		}
+
+	}
+
+}
@@ -30,6 +30,7 @@ import java.security.Security;
 import java.util.Arrays;
 import java.util.Base64;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -70,6 +71,20 @@ class DigestDocumentTest extends AbstractTestDSSDocument {
 		assertEquals("The digest document does not contain a digest value for the algorithm : SHA256", exception.getMessage());
 	}
 
+	@Test
+	void testDigestValues() {
+		DigestDocument doc = new DigestDocument(DigestAlgorithm.SHA256, "aaa");
+		doc.addDigest(DigestAlgorithm.SHA1, "bbb");
+		Map<DigestAlgorithm, byte[]> digestValues = doc.getDigestValues(Arrays.asList(DigestAlgorithm.SHA1, DigestAlgorithm.SHA256));
+		assertEquals(2, digestValues.size());
+		assertArrayEquals(Base64.getDecoder().decode("bbb"), digestValues.get(DigestAlgorithm.SHA1));
+		assertArrayEquals(Base64.getDecoder().decode("aaa"), digestValues.get(DigestAlgorithm.SHA256));
+
+		Exception exception = assertThrows(IllegalArgumentException.class,
+				() -> doc.getDigestValues(Arrays.asList(DigestAlgorithm.SHA256, DigestAlgorithm.SHA512)));
+		assertEquals("The digest document does not contain a digest value for the algorithm : SHA512", exception.getMessage());
+	}
+
 	@Test
 	void testOpenStream() {
 		String base64EncodeDigest = "aaa";
@@ -31,7 +31,9 @@ import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.Base64;
 import java.util.List;
+import java.util.Map;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -73,6 +75,21 @@ class FileDocumentTest extends AbstractTestDSSDocument {
 		assertFalse(file.exists());
 	}
 
+	@Test
+	void testDigestValues() {
+		FileDocument doc = new FileDocument("src/test/resources/AdobeCA.p7c");
+		Map<DigestAlgorithm, byte[]> digestValues = doc.getDigestValues(
+				Arrays.asList(DigestAlgorithm.SHA1, DigestAlgorithm.SHA256, DigestAlgorithm.SHA512));
+		assertEquals(3, digestValues.size());
+		assertEquals("xF8SpcLlrd4Bhl1moh4Ciz+Rq/PImaChEl/tyGTZyPM=", Base64.getEncoder().encodeToString(digestValues.get(DigestAlgorithm.SHA256)));
+
+		FileDocument sameDoc = new FileDocument("src/test/resources/AdobeCA.p7c");
+		for (Map.Entry<DigestAlgorithm, byte[]> entry : digestValues.entrySet()) {
+			assertArrayEquals(sameDoc.getDigestValue(entry.getKey()), entry.getValue());
+			assertArrayEquals(doc.getDigestValue(entry.getKey()), entry.getValue()); // uses map
+		}
+	}
+
 	@Override
 	protected DSSDocument getPersistenceTestDocument() {
 		return new FileDocument("src/test/resources/AdobeCA.p7c");
@@ -94,6 +94,9 @@ public class PdfBoxDocumentReader implements PdfDocumentReader {
 	/** The map of signature dictionaries and corresponding signature fields */
 	private Map<PdfSignatureDictionary, List<PdfSignatureField>> signatureDictionaryMap;
 
+	/** The size of the PDF document in bytes (lazily computed, as the document may be read through a stream) */
+	private Long documentSize;
+
 	/**
 	 * Default constructor of the PDFBox implementation of the Reader.
 	 * This constructor uses in-memory processing of the document.
@@ -229,8 +232,8 @@ public class PdfBoxDocumentReader implements PdfDocumentReader {
 	@Override
 	public boolean isSignatureCoversWholeDocument(PdfSignatureDictionary signatureDictionary) {
 		ByteRange byteRange = signatureDictionary.getByteRange();
-		try (InputStream is = dssDocument.openStream()) {
-			long originalBytesLength = Utils.getInputStreamSize(is);
+		try {
+			long originalBytesLength = getDocumentSize();
 			// /ByteRange [0 575649 632483 10206]
 			long beforeSignatureLength = (long) byteRange.getFirstPartEnd() - byteRange.getFirstPartStart();
 			long expectedCMSLength = (long) byteRange.getSecondPartStart() - byteRange.getFirstPartEnd()
@@ -245,6 +248,15 @@ public class PdfBoxDocumentReader implements PdfDocumentReader {
 		}
 	}
 
+	private long getDocumentSize() throws IOException {
+		if (documentSize == null) {
+			try (InputStream is = dssDocument.openStream()) {
+				documentSize = Utils.getInputStreamSize(is);
+			}
+		}
+		return documentSize;
+	}
+
 	@Override
 	public void close() throws IOException {
 		pdDocument.close();
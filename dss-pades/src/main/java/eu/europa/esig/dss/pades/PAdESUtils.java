@@ -38,6 +38,7 @@ import eu.europa.esig.dss.pdf.PdfArray;
 import eu.europa.esig.dss.pdf.PdfCMSRevision;
 import eu.europa.esig.dss.pdf.PdfDict;
 import eu.europa.esig.dss.pdf.PdfDssDict;
+import eu.europa.esig.dss.pdf.PdfEofScanner;
 import eu.europa.esig.dss.pdf.PdfVriDict;
 import eu.europa.esig.dss.pdf.SigFieldPermissions;
 import eu.europa.esig.dss.spi.signature.resources.DSSResourcesHandler;
@@ -55,7 +56,6 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -78,9 +78,6 @@ public final class PAdESUtils {
 	/** The starting bytes of a PDF document */
 	private static final byte[] PDF_PREAMBLE = new byte[]{ '%', 'P', 'D', 'F', '-' };
 
-	/** The string used to end a PDF revision */
-	private static final byte[] PDF_EOF_STRING = new byte[] { '%', '%', 'E', 'O', 'F' };
-
 	/**
 	 * Empty constructor (singleton)
 	 */
@@ -270,65 +267,17 @@ public final class PAdESUtils {
 	public static List<PdfByteRangeDocument> extractRevisions(DSSDocument document) {
 		assertPdfDocument(document);
 
-		final List<PdfByteRangeDocument> revisions = new ArrayList<>();
-
-		int position = 0;
-		ByteArrayOutputStream tempLine = null;
-		try (InputStream is = document.openStream();
-			 BufferedInputStream bis = new BufferedInputStream(is)) {
-			tempLine = new ByteArrayOutputStream();
-			int b;
-			while ((b = bis.read()) != -1) {
-				++position;
-
-				tempLine.write(b);
-				byte[] stringBytes = tempLine.toByteArray();
-
-				if (Arrays.equals(PDF_EOF_STRING, stringBytes)) {
-					tempLine.close();
-					tempLine = new ByteArrayOutputStream();
-
-					int eofPosition = position;
-					int c = bis.read();
-					if (c != -1) {
-						++position;
-					}
-
-					if (DSSUtils.LINE_FEED == c) {
-						// if \n
-						++eofPosition;
-					} else if (DSSUtils.CARRIAGE_RETURN == c) {
-						// if \r
-						++eofPosition;
-
-						int d = bis.read();
-						if (d != -1) {
-							++position;
-						}
-						if (DSSUtils.LINE_FEED == d) {
-							// if \r\n
-							++eofPosition;
-						}
-					}
-
-					revisions.add(new PdfByteRangeDocument(document, getTwoIntegersByteRange(0, eofPosition)));
-
-				} else if (DSSUtils.isLineBreakByte((byte) b) || stringBytes.length > PDF_EOF_STRING.length) {
-					tempLine.close();
-					tempLine = new ByteArrayOutputStream();
-				}
+		try {
+			final List<Integer> eofPositions = new PdfEofScanner().scan(document);
 
+			final List<PdfByteRangeDocument> revisions = new ArrayList<>(eofPositions.size());
+			for (Integer eofPosition : eofPositions) {
+				revisions.add(new PdfByteRangeDocument(document, getTwoIntegersByteRange(0, eofPosition)));
 			}
-
 			return revisions;
 
 		} catch (IOException e) {
 			throw new DSSException("Unable to retrieve the last revision", e);
-
-		} finally {
-			if (tempLine != null) {
-				Utils.closeQuietly(tempLine);
-			}
 		}
 	}
 
@@ -536,7 +536,8 @@ public abstract class AbstractPDFSignatureService implements PDFSignatureService
 		final List<PdfRevision> revisions = new ArrayList<>();
 		final List<PdfByteRangeDocument> revisionDocuments = PAdESUtils.extractRevisions(document);
 
-		try (PdfDocumentReader reader = loadPdfDocumentReader(document, pwd)) {
+		try (PdfDocumentReader reader = loadPdfDocumentReader(document, pwd);
+			 PdfRevisionReaderCache revisionReaderCache = new PdfRevisionReaderCache()) {
 
 			final PdfCompositeDssDictionary compositeDssDictionary = new PdfCompositeDssDictionary();
 
@@ -577,7 +578,18 @@ public abstract class AbstractPDFSignatureService implements PDFSignatureService
 					final boolean signatureCoversWholeDocument = reader.isSignatureCoversWholeDocument(signatureDictionary);
 
 					final DSSDocument revisionContent = PAdESUtils.getRevisionContent(document, byteRange);
-					try (PdfDocumentReader revisionReader = loadPdfDocumentReader(revisionContent, pwd)) {
+
+					// the signed revision is either the whole document or the previous revision of the last processed signature
+					PdfDocumentReader revisionReader = null;
+					if (signatureCoversWholeDocument && byteRange.getFirstPartStart() == 0) {
+						revisionReader = reader;
+					} else {
+						revisionReader = revisionReaderCache.take(revisionContent);
+					}
+					try {
+						if (revisionReader == null) {
+							revisionReader = loadPdfDocumentReader(revisionContent, pwd);
+						}
 
 						// Method is used to detect modification within the signature dictionary itself (spoofing attack)
 						verifyPdfSignatureDictionary(signatureDictionary, fieldNames, revisionReader);
@@ -590,6 +602,10 @@ public abstract class AbstractPDFSignatureService implements PDFSignatureService
 						if (LOG.isDebugEnabled()) {
 							LOG.debug("Cannot read signature revision '{}' : {}", fieldNames, e.getMessage());
 						}
+					} finally {
+						if (revisionReader != reader) {
+							Utils.closeQuietly(revisionReader);
+						}
 					}
 
 					final DSSDocument previousRevision = PAdESUtils.getPreviousRevision(byteRange, revisionDocuments);
@@ -616,14 +632,24 @@ public abstract class AbstractPDFSignatureService implements PDFSignatureService
 						revisions.add(newRevision);
 					}
 
-					try (PdfDocumentReader revisionReader = loadPdfDocumentReader(previousRevision, pwd)) {
+					PdfDocumentReader previousRevisionReader = revisionReaderCache.take(previousRevision);
+					try {
+						if (previousRevisionReader == null) {
+							previousRevisionReader = loadPdfDocumentReader(previousRevision, pwd);
+						}
 
 						// checks if there is a previous update of the DSS dictionary and creates a new revision if needed
 						lastDSSDictionary = getPreviousDssDictAndUpdateIfNeeded(revisions, compositeDssDictionary,
-								lastDSSDictionary, revisionReader.getDSSDictionary());
+								lastDSSDictionary, previousRevisionReader.getDSSDictionary());
+
+						// keep the reader, as the revision is likely signed by the next processed signature
+						revisionReaderCache.put(previousRevision, previousRevisionReader);
+						previousRevisionReader = null;
 
 					} catch (Exception e) {
 						// do nothing
+					} finally {
+						Utils.closeQuietly(previousRevisionReader);
 					}
 
 
@@ -0,0 +1,218 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * <p>
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * <p>
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * <p>
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.pdf;
+
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.FileDocument;
+import eu.europa.esig.dss.model.InMemoryDocument;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Scans a PDF document block by block and returns the end positions of its revisions, defined by {@code %%EOF} markers.
+ * <p>
+ * A marker is detected when it starts at the beginning of a line (or at a position aligned with
+ * the 6-bytes window following the last line break), and the optional trailing line break
+ * ({@code \n}, {@code \r} or {@code \r\n}) is included within the revision.
+ * <p>
+ * The content of a {@code FileDocument} is read through its file channel, the content of an {@code InMemoryDocument}
+ * is read directly from its binaries and any other document is read through its stream. A single fixed-size buffer
+ * is reused for all the reads, so that no allocation is performed per read block.
+ * <p>
+ * NOTE: the class is not thread-safe. A new instance shall be created for every document to be scanned.
+ */
+public class PdfEofScanner {
+
+	/** The string used to end a PDF revision */
+	private static final byte[] PDF_EOF_STRING = new byte[] { '%', '%', 'E', 'O', 'F' };
+
+	/** The line feed character */
+	private static final byte LINE_FEED = '\n';
+
+	/** The carriage return character */
+	private static final byte CARRIAGE_RETURN = '\r';
+
+	/** The size of a block read at once from a document stream */
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	/** The state when a byte of a current line is expected */
+	private static final int STATE_LINE = 0;
+
+	/** The state when a byte following the {@code %%EOF} marker is expected */
+	private static final int STATE_AFTER_EOF = 1;
+
+	/** The state when a byte following the {@code %%EOF\r} sequence is expected */
+	private static final int STATE_AFTER_EOF_CR = 2;
+
+	/** List of the found revision end positions */
+	private final List<Integer> eofPositions = new ArrayList<>();
+
+	/** The number of processed bytes */
+	private long position = 0;
+
+	/** The number of bytes read since the beginning of the current window */
+	private int windowLength = 0;
+
+	/** Defines whether the bytes of the current window match the {@code %%EOF} string */
+	private boolean windowMatches = true;
+
+	/** The current scanning state */
+	private int state = STATE_LINE;
+
+	/** The end position of the last found revision */
+	private int eofPosition;
+
+	/**
+	 * Default constructor
+	 */
+	public PdfEofScanner() {
+		// empty
+	}
+
+	/**
+	 * Scans the given {@code document} and returns the end positions of all its revisions, in ascending order
+	 *
+	 * @param document {@link DSSDocument} to scan
+	 * @return a list of revision end positions
+	 * @throws IOException if an exception occurs on document reading
+	 */
+	public List<Integer> scan(DSSDocument document) throws IOException {
+		if (document instanceof InMemoryDocument && ((InMemoryDocument) document).getBytes() != null) {
+			final byte[] bytes = ((InMemoryDocument) document).getBytes();
+			update(bytes, 0, bytes.length);
+
+		} else if (document instanceof FileDocument) {
+			scanFile((FileDocument) document);
+
+		} else {
+			try (InputStream is = document.openStream()) {
+				scanStream(is);
+			}
+		}
+		return finish();
+	}
+
+	private void scanFile(FileDocument fileDocument) throws IOException {
+		try (FileChannel channel = FileChannel.open(fileDocument.getFile().toPath(), StandardOpenOption.READ)) {
+			final byte[] buffer = new byte[BUFFER_SIZE];
+			final ByteBuffer byteBuffer = ByteBuffer.wrap(buffer);
+			int length;
+			while ((length = channel.read(byteBuffer)) != -1) {
+				update(buffer, 0, length);
+				byteBuffer.clear();
+			}
+		}
+	}
+
+	private void scanStream(InputStream is) throws IOException {
+		final byte[] buffer = new byte[BUFFER_SIZE];
+		int length;
+		while ((length = is.read(buffer)) != -1) {
+			update(buffer, 0, length);
+		}
+	}
+
+	/**
+	 * Processes the next block of the document
+	 *
+	 * @param bytes byte array containing the block
+	 * @param offset the offset of the block within the array
+	 * @param length the length of the block
+	 */
+	private void update(final byte[] bytes, final int offset, final int length) {
+		final int end = offset + length;
+		int i = offset;
+
+		while (i < end) {
+			if (state != STATE_LINE) {
+				processAfterEof(bytes[i++]);
+				continue;
+			}
+
+			// fast path : process the bytes of the current line
+			while (i < end) {
+				final byte b = bytes[i++];
+				++position;
+
+				if (windowMatches && b == PDF_EOF_STRING[windowLength]) {
+					if (++windowLength == PDF_EOF_STRING.length) {
+						eofPosition = (int) position;
+						state = STATE_AFTER_EOF;
+						resetWindow();
+						break;
+					}
+
+				} else if (b == LINE_FEED || b == CARRIAGE_RETURN || ++windowLength > PDF_EOF_STRING.length) {
+					resetWindow();
+
+				} else {
+					windowMatches = false;
+				}
+			}
+		}
+	}
+
+	private void processAfterEof(final byte b) {
+		++position;
+		if (state == STATE_AFTER_EOF) {
+			if (LINE_FEED == b) {
+				++eofPosition;
+				addRevision();
+			} else if (CARRIAGE_RETURN == b) {
+				++eofPosition;
+				state = STATE_AFTER_EOF_CR;
+			} else {
+				// the byte is consumed and not considered as a part of the next line
+				addRevision();
+			}
+
+		} else {
+			if (LINE_FEED == b) {
+				++eofPosition;
+			}
+			addRevision();
+		}
+	}
+
+	private void resetWindow() {
+		windowLength = 0;
+		windowMatches = true;
+	}
+
+	private void addRevision() {
+		eofPositions.add(eofPosition);
+		state = STATE_LINE;
+	}
+
+	private List<Integer> finish() {
+		if (state != STATE_LINE) {
+			addRevision();
+		}
+		return eofPositions;
+	}
+
+}
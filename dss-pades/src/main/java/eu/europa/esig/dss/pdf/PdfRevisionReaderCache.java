@@ -0,0 +1,86 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * <p>
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * <p>
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * <p>
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.pdf;
+
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.utils.Utils;
+
+import java.io.Closeable;
+
+/**
+ * Keeps a single opened {@code PdfDocumentReader} of a previous revision between iterations on signatures,
+ * in order to avoid parsing the same revision twice
+ * <p>
+ * NOTE: the class is not thread-safe. A new instance shall be created for every processed document.
+ */
+class PdfRevisionReaderCache implements Closeable {
+
+	/** The cached revision document */
+	private DSSDocument revision;
+
+	/** The reader opened for the cached revision */
+	private PdfDocumentReader reader;
+
+	/**
+	 * Default constructor
+	 */
+	PdfRevisionReaderCache() {
+		// empty
+	}
+
+	/**
+	 * Returns the cached reader if it has been opened for the given {@code revisionDocument}.
+	 * The ownership of the returned reader is transferred to the caller.
+	 * Otherwise, closes the cached reader and returns NULL.
+	 *
+	 * @param revisionDocument {@link DSSDocument} revision to get a reader for
+	 * @return {@link PdfDocumentReader} if cached, NULL otherwise
+	 */
+	PdfDocumentReader take(DSSDocument revisionDocument) {
+		PdfDocumentReader result = null;
+		if (reader != null && revision.equals(revisionDocument)) {
+			result = reader;
+			reader = null;
+		}
+		close();
+		return result;
+	}
+
+	/**
+	 * Caches the {@code revisionReader} for the {@code revisionDocument}, closing the previously cached reader
+	 *
+	 * @param revisionDocument {@link DSSDocument} revision
+	 * @param revisionReader {@link PdfDocumentReader} opened for the revision
+	 */
+	void put(DSSDocument revisionDocument, PdfDocumentReader revisionReader) {
+		close();
+		this.revision = revisionDocument;
+		this.reader = revisionReader;
+	}
+
+	@Override
+	public void close() {
+		Utils.closeQuietly(reader);
+		revision = null;
+		reader = null;
+	}
+
+}
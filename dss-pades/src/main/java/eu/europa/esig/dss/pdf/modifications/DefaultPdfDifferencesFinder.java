@@ -20,6 +20,7 @@
  */
 package eu.europa.esig.dss.pdf.modifications;
 
+import eu.europa.esig.dss.model.DSSException;
 import eu.europa.esig.dss.pdf.AnnotationBox;
 import eu.europa.esig.dss.pdf.PdfAnnotation;
 import eu.europa.esig.dss.pdf.PdfDocumentReader;
@@ -35,6 +36,9 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 /**
  * Default implementation used to find differences in pages between two PDF revisions.
@@ -53,6 +57,12 @@ public class DefaultPdfDifferencesFinder implements PdfDifferencesFinder {
      */
     private int maximalPagesAmountForVisualComparison = 10;
 
+    /**
+     * The executor used to render the signed revision pages in parallel with the final revision pages.
+     * When not defined, the pages are rendered sequentially within the calling thread.
+     */
+    private ExecutorService executorService;
+
     /**
      * Sets a maximal pages amount in a PDF to process a visual screenshot
      * comparison Example: for value 10, the visual comparison will be executed for
@@ -69,6 +79,22 @@ public class DefaultPdfDifferencesFinder implements PdfDifferencesFinder {
         this.maximalPagesAmountForVisualComparison = pagesAmount;
     }
 
+    /**
+     * Sets the executor to be used to render a page of the signed revision concurrently with the same page
+     * of the final revision during the visual comparison. The pages are still compared one after another,
+     * thus at most two pages are rendered at once (one within the executor and one within the calling thread)
+     * and a single task per comparison is pending on the executor at any time.
+     *
+     * NOTE: a single {@code PdfDocumentReader} is never accessed concurrently, as the readers are not thread-safe.
+     *
+     * Default : not defined (rendering is performed sequentially)
+     *
+     * @param executorService {@link ExecutorService}
+     */
+    public void setExecutorService(ExecutorService executorService) {
+        this.executorService = executorService;
+    }
+
     /**
      * Default constructor instantiating object with default configuration
      */
@@ -156,14 +182,32 @@ public class DefaultPdfDifferencesFinder implements PdfDifferencesFinder {
         for (int pageNumber = 1; pageNumber <= signedRevisionReader.getNumberOfPages()
                 && pageNumber <= finalRevisionReader.getNumberOfPages(); pageNumber++) {
             try {
-                BufferedImage signedScreenshot = signedRevisionReader.generateImageScreenshot(pageNumber);
-
                 List<PdfAnnotation> signedAnnotations = signedRevisionReader.getPdfAnnotations(pageNumber);
                 List<PdfAnnotation> finalAnnotations = finalRevisionReader.getPdfAnnotations(pageNumber);
 
                 List<PdfAnnotation> addedAnnotations = getUpdatedAnnotations(signedAnnotations, finalAnnotations);
-                BufferedImage finalScreenshot = finalRevisionReader.generateImageScreenshotWithoutAnnotations(pageNumber,
-                        addedAnnotations);
+
+                BufferedImage signedScreenshot;
+                BufferedImage finalScreenshot;
+                if (executorService != null) {
+                    final int page = pageNumber;
+                    Future<BufferedImage> signedScreenshotFuture = executorService.submit(
+                            () -> signedRevisionReader.generateImageScreenshot(page));
+                    try {
+                        finalScreenshot = finalRevisionReader.generateImageScreenshotWithoutAnnotations(pageNumber,
+                                addedAnnotations);
+                    } catch (IOException | RuntimeException e) {
+                        // the signed revision reader shall not be accessed before the rendering task is completed
+                        awaitQuietly(signedScreenshotFuture);
+                        throw e;
+                    }
+                    signedScreenshot = getScreenshot(signedScreenshotFuture);
+
+                } else {
+                    signedScreenshot = signedRevisionReader.generateImageScreenshot(pageNumber);
+                    finalScreenshot = finalRevisionReader.generateImageScreenshotWithoutAnnotations(pageNumber,
+                            addedAnnotations);
+                }
 
                 if (!ImageUtils.imagesEqual(signedScreenshot, finalScreenshot)) {
                     LOG.warn("A visual difference found on page {} between a signed revision and the final document!",
@@ -186,6 +230,33 @@ public class DefaultPdfDifferencesFinder implements PdfDifferencesFinder {
         return visualDifferences;
     }
 
+    private BufferedImage getScreenshot(Future<BufferedImage> screenshotFuture) throws IOException {
+        try {
+            return screenshotFuture.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DSSException("Interruption while waiting for a page screenshot generation", e);
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new DSSException(String.format("Unable to generate a page screenshot : %s", cause.getMessage()), cause);
+        }
+    }
+
+    private void awaitQuietly(Future<BufferedImage> screenshotFuture) {
+        try {
+            screenshotFuture.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            LOG.debug("Unable to generate a page screenshot : {}", e.getMessage(), e);
+        }
+    }
+
     private List<PdfAnnotation> getUpdatedAnnotations(List<PdfAnnotation> signedAnnotations,
                                                       List<PdfAnnotation> finalAnnotations) {
         final List<PdfAnnotation> updatedAnnotations = new ArrayList<>();
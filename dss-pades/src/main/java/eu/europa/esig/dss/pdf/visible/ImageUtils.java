@@ -421,8 +421,31 @@ public class ImageUtils {
 	 */
 	public static boolean imagesEqual(BufferedImage img1, BufferedImage img2) {
 		if (imageDimensionsEqual(img1, img2)) {
-			int diffAmount = drawSubtractionImage(img1, img2, null);
-			return diffAmount == 0;
+			return !containsDifferentPixels(img1, img2);
+		}
+		return false;
+	}
+
+	/**
+	 * Compares the images row by row and stops on the first pixel with a different RGB color
+	 * (the alpha channel is ignored, as in {@code #drawSubtractionImage})
+	 *
+	 * @param img1 {@link BufferedImage}
+	 * @param img2 {@link BufferedImage} of the same dimensions
+	 * @return TRUE if a different pixel has been found, FALSE otherwise
+	 */
+	private static boolean containsDifferentPixels(BufferedImage img1, BufferedImage img2) {
+		final int width = img1.getWidth();
+		final int[] row1 = new int[width];
+		final int[] row2 = new int[width];
+		for (int i = 0; i < img1.getHeight(); i++) {
+			img1.getRGB(0, i, width, 1, row1, 0, width);
+			img2.getRGB(0, i, width, 1, row2, 0, width);
+			for (int j = 0; j < width; j++) {
+				if (((row1[j] ^ row2[j]) & 0xffffff) != 0) {
+					return true;
+				}
+			}
 		}
 		return false;
 	}
@@ -0,0 +1,129 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * <p>
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * <p>
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * <p>
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.pdf;
+
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.FileDocument;
+import eu.europa.esig.dss.model.InMemoryDocument;
+import eu.europa.esig.dss.spi.DSSUtils;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PdfEofScannerTest {
+
+    @Test
+    void simpleTest() throws IOException {
+        assertEquals(Collections.singletonList(14), scan("%PDF-1.4\n%%EOF"));
+        assertEquals(Collections.singletonList(15), scan("%PDF-1.4\n%%EOF\n"));
+        assertEquals(Collections.singletonList(15), scan("%PDF-1.4\n%%EOF\r"));
+        assertEquals(Collections.singletonList(16), scan("%PDF-1.4\n%%EOF\r\n"));
+        assertEquals(Collections.emptyList(), scan("%PDF-1.4\n"));
+    }
+
+    @Test
+    void multipleRevisionsTest() throws IOException {
+        assertEquals(Arrays.asList(15, 29, 40), scan("%PDF-1.4\n%%EOF\nabcdef\n%%EOF\r\nabc\r\n%%EOF\rend"));
+        // the character following the marker is consumed
+        assertEquals(Collections.singletonList(14), scan("%PDF-1.4\n%%EOF%%EOF"));
+    }
+
+    @Test
+    void markerWithinLineTest() throws IOException {
+        // the marker is not at the beginning of a line
+        assertEquals(Collections.emptyList(), scan("%PDF-1.4\n %%EOF\n"));
+        // the marker is aligned with the 6-bytes window following the last line break
+        assertEquals(Collections.singletonList(21), scan("%PDF-1.4\nabcdef%%EOF\n"));
+        // a character following the marker, other than a line break, is not included
+        assertEquals(Arrays.asList(14, 21), scan("%PDF-1.4\n%%EOFx\n%%EOF"));
+    }
+
+    @Test
+    void largeDocumentTest() throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        baos.write("%PDF-1.4\n".getBytes(StandardCharsets.US_ASCII));
+        byte[] line = "0123456789 abcdefghijklmnopqrstuvwxyz\n".getBytes(StandardCharsets.US_ASCII);
+        for (int i = 0; i < 10000; i++) {
+            baos.write(line);
+            if (i % 1000 == 999) {
+                baos.write("%%EOF\r\n".getBytes(StandardCharsets.US_ASCII));
+            }
+        }
+        byte[] bytes = baos.toByteArray();
+
+        List<Integer> inMemory = new PdfEofScanner().scan(new InMemoryDocument(bytes));
+        assertEquals(10, inMemory.size());
+        assertEquals(bytes.length, inMemory.get(9));
+        assertEquals(inMemory, new PdfEofScanner().scan(new StreamDocument(bytes)));
+
+        File file = Files.createTempFile("dss", ".pdf").toFile();
+        try {
+            Files.write(file.toPath(), bytes);
+            assertEquals(inMemory, new PdfEofScanner().scan(new FileDocument(file)));
+        } finally {
+            Files.delete(file.toPath());
+        }
+    }
+
+    @Test
+    void pdfDocumentTest() throws IOException {
+        DSSDocument document = new InMemoryDocument(getClass().getResourceAsStream("/sample_end_space.pdf"));
+        List<Integer> eofPositions = new PdfEofScanner().scan(document);
+        assertEquals(1, eofPositions.size());
+        assertEquals(eofPositions, new PdfEofScanner().scan(new StreamDocument(DSSUtils.toByteArray(document))));
+    }
+
+    private List<Integer> scan(String content) throws IOException {
+        byte[] bytes = content.getBytes(StandardCharsets.US_ASCII);
+        List<Integer> result = new PdfEofScanner().scan(new InMemoryDocument(bytes));
+        assertEquals(result, new PdfEofScanner().scan(new StreamDocument(bytes)));
+        return result;
+    }
+
+    private static class StreamDocument extends InMemoryDocument {
+
+        private static final long serialVersionUID = -2356981466286934153L;
+
+        private final byte[] content;
+
+        StreamDocument(byte[] content) {
+            this.content = content;
+        }
+
+        @Override
+        public InputStream openStream() {
+            return new ByteArrayInputStream(content);
+        }
+
+    }
+
+}
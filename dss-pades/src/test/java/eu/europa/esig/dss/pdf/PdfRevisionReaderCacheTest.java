@@ -0,0 +1,137 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * <p>
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * <p>
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * <p>
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.pdf;
+
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.InMemoryDocument;
+import eu.europa.esig.dss.pades.validation.ByteRange;
+import eu.europa.esig.dss.pades.validation.PdfByteRangeDocument;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class PdfRevisionReaderCacheTest {
+
+    private static final DSSDocument PDF = new InMemoryDocument(
+            "%PDF-1.4\n%%EOF\nabcdef\n%%EOF\n".getBytes(StandardCharsets.US_ASCII));
+
+    private AtomicInteger closedReaders;
+
+    @BeforeEach
+    void init() {
+        closedReaders = new AtomicInteger();
+    }
+
+    @Test
+    void hitTest() {
+        DSSDocument revision = revision(15);
+        PdfDocumentReader reader = reader();
+
+        try (PdfRevisionReaderCache cache = new PdfRevisionReaderCache()) {
+            cache.put(revision, reader);
+
+            // an equal revision document is served from the cache
+            assertSame(reader, cache.take(revision(15)));
+            assertEquals(0, closedReaders.get());
+
+            // the ownership has been transferred, the reader is not cached anymore
+            assertNull(cache.take(revision));
+        }
+        assertEquals(0, closedReaders.get());
+    }
+
+    @Test
+    void missTest() {
+        try (PdfRevisionReaderCache cache = new PdfRevisionReaderCache()) {
+            assertNull(cache.take(revision(15)));
+
+            cache.put(revision(15), reader());
+            assertNull(cache.take(revision(29)));
+            // the cached reader is closed on a miss
+            assertEquals(1, closedReaders.get());
+
+            // the invalidated reader is not returned for its own revision
+            assertNull(cache.take(revision(15)));
+            assertEquals(1, closedReaders.get());
+        }
+    }
+
+    @Test
+    void replaceTest() {
+        PdfDocumentReader secondReader = reader();
+        try (PdfRevisionReaderCache cache = new PdfRevisionReaderCache()) {
+            cache.put(revision(15), reader());
+            cache.put(revision(29), secondReader);
+            // the previously cached reader is closed when replaced
+            assertEquals(1, closedReaders.get());
+
+            assertNull(cache.take(revision(15)));
+            assertEquals(2, closedReaders.get());
+        }
+
+        try (PdfRevisionReaderCache cache = new PdfRevisionReaderCache()) {
+            cache.put(revision(29), secondReader);
+            assertSame(secondReader, cache.take(revision(29)));
+        }
+        assertEquals(2, closedReaders.get());
+    }
+
+    @Test
+    void closeTest() {
+        PdfRevisionReaderCache cache = new PdfRevisionReaderCache();
+        cache.put(revision(15), reader());
+        cache.close();
+        assertEquals(1, closedReaders.get());
+
+        assertNull(cache.take(revision(15)));
+        cache.close();
+        assertEquals(1, closedReaders.get());
+    }
+
+    private static DSSDocument revision(int length) {
+        return new PdfByteRangeDocument(PDF, new ByteRange(new int[] { 0, length, 0, 0 }));
+    }
+
+    private PdfDocumentReader reader() {
+        return (PdfDocumentReader) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[] { PdfDocumentReader.class }, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "close":
+                            closedReaders.incrementAndGet();
+                            return null;
+                        case "equals":
+                            return proxy == args[0];
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+
+}
@@ -0,0 +1,123 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * <p>
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * <p>
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * <p>
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.pdf.modifications;
+
+import eu.europa.esig.dss.pdf.PdfDocumentReader;
+import org.junit.jupiter.api.Test;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class DefaultPdfDifferencesFinderTest {
+
+    @Test
+    void visualDifferencesTest() {
+        PdfDocumentReader signedReader = getReader(new int[] { 0, 0, 0 }, -1);
+        PdfDocumentReader finalReader = getReader(new int[] { 0, 1, 0 }, -1);
+
+        DefaultPdfDifferencesFinder pdfDifferencesFinder = new DefaultPdfDifferencesFinder();
+        assertEquals(Collections.singletonList(2), getPages(pdfDifferencesFinder.getVisualDifferences(signedReader, finalReader)));
+
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            pdfDifferencesFinder.setExecutorService(executorService);
+            assertEquals(Collections.singletonList(2), getPages(pdfDifferencesFinder.getVisualDifferences(signedReader, finalReader)));
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    @Test
+    void renderingFailureTest() {
+        PdfDocumentReader signedReader = getReader(new int[] { 0, 0, 0 }, 1);
+        PdfDocumentReader finalReader = getReader(new int[] { 1, 1, 1 }, -1);
+
+        DefaultPdfDifferencesFinder pdfDifferencesFinder = new DefaultPdfDifferencesFinder();
+        assertEquals(Arrays.asList(2, 3), getPages(pdfDifferencesFinder.getVisualDifferences(signedReader, finalReader)));
+
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            pdfDifferencesFinder.setExecutorService(executorService);
+            assertEquals(Arrays.asList(2, 3), getPages(pdfDifferencesFinder.getVisualDifferences(signedReader, finalReader)));
+
+            // the final revision rendering fails while the signed revision page is being rendered
+            signedReader = getReader(new int[] { 0, 0, 0 }, -1);
+            finalReader = getReader(new int[] { 1, 1, 1 }, 2);
+            assertEquals(Arrays.asList(1, 3), getPages(pdfDifferencesFinder.getVisualDifferences(signedReader, finalReader)));
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    @Test
+    void pagesLimitTest() {
+        PdfDocumentReader signedReader = getReader(new int[] { 0, 0, 0 }, -1);
+        PdfDocumentReader finalReader = getReader(new int[] { 1, 1, 1 }, -1);
+
+        DefaultPdfDifferencesFinder pdfDifferencesFinder = new DefaultPdfDifferencesFinder();
+        pdfDifferencesFinder.setMaximalPagesAmountForVisualComparison(2);
+        assertEquals(Collections.emptyList(), pdfDifferencesFinder.getVisualDifferences(signedReader, finalReader));
+    }
+
+    private List<Integer> getPages(List<PdfModification> modifications) {
+        return modifications.stream().map(PdfModification::getPage).collect(Collectors.toList());
+    }
+
+    /**
+     * Creates a reader rendering each page as a single-color image
+     *
+     * @param pageColors colors of the pages
+     * @param failingPage the page number for which the rendering fails, -1 if none
+     * @return {@link PdfDocumentReader}
+     */
+    private PdfDocumentReader getReader(int[] pageColors, int failingPage) {
+        return (PdfDocumentReader) Proxy.newProxyInstance(getClass().getClassLoader(), new Class[] { PdfDocumentReader.class },
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getNumberOfPages":
+                            return pageColors.length;
+                        case "getPdfAnnotations":
+                            return Collections.emptyList();
+                        case "generateImageScreenshot":
+                        case "generateImageScreenshotWithoutAnnotations":
+                            int page = (int) args[0];
+                            if (page == failingPage) {
+                                throw new IOException("Unable to render the page");
+                            }
+                            BufferedImage image = new BufferedImage(10, 10, BufferedImage.TYPE_INT_RGB);
+                            image.setRGB(3, 3, pageColors[page - 1]);
+                            return image;
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+
+}
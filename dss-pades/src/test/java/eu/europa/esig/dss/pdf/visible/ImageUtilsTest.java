@@ -23,6 +23,7 @@ package eu.europa.esig.dss.pdf.visible;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.awt.image.BufferedImage;
 import java.io.FileInputStream;
 import java.io.IOException;
 
@@ -53,4 +54,20 @@ class ImageUtilsTest {
 		}
 	}
 
+	@Test
+	void imagesEqual() {
+		BufferedImage img1 = new BufferedImage(20, 10, BufferedImage.TYPE_INT_ARGB);
+		BufferedImage img2 = new BufferedImage(20, 10, BufferedImage.TYPE_INT_ARGB);
+		assertTrue(ImageUtils.imagesEqual(img1, img2));
+
+		// alpha channel is ignored
+		img2.setRGB(5, 5, 0xff000000);
+		assertTrue(ImageUtils.imagesEqual(img1, img2));
+
+		img2.setRGB(19, 9, 0x00000001);
+		assertFalse(ImageUtils.imagesEqual(img1, img2));
+
+		assertFalse(ImageUtils.imagesEqual(img1, new BufferedImage(20, 11, BufferedImage.TYPE_INT_ARGB)));
+	}
+
 }
@@ -38,14 +38,17 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -205,6 +208,29 @@ class JaxbPKIOCSPSourceTest extends AbstractTestJaxbPKI {
         assertEquals(SignatureAlgorithm.ED25519, ocspToken.getSignatureAlgorithm());
     }
 
+    @Test
+    void testOCSPBatch() {
+        PKIOCSPSource ocspSource = new PKIOCSPSource(repository);
+        Map<CertificateToken, OCSPToken> ocspTokens = ocspSource.getRevocationTokens(
+                Arrays.asList(goodUser, goodUserOCSPWithReqCertId, goodUser), goodCa);
+        assertEquals(2, ocspTokens.size());
+
+        OCSPToken goodUserOCSPToken = ocspTokens.get(goodUser);
+        assertNotNull(goodUserOCSPToken);
+        assertEquals(CertificateStatus.GOOD, goodUserOCSPToken.getStatus());
+        assertEquals(goodCa, goodUserOCSPToken.getIssuerCertificateToken());
+
+        OCSPToken secondOCSPToken = ocspTokens.get(goodUserOCSPWithReqCertId);
+        assertNotNull(secondOCSPToken);
+        assertEquals(CertificateStatus.GOOD, secondOCSPToken.getStatus());
+
+        // a single signed response containing a SingleResp per certificate
+        assertSame(goodUserOCSPToken.getBasicOCSPResp(), secondOCSPToken.getBasicOCSPResp());
+        assertEquals(2, goodUserOCSPToken.getBasicOCSPResp().getResponses().length);
+        assertEquals(goodUser.getSerialNumber(), goodUserOCSPToken.getLatestSingleResp().getCertID().getSerialNumber());
+        assertEquals(goodUserOCSPWithReqCertId.getSerialNumber(), secondOCSPToken.getLatestSingleResp().getCertID().getSerialNumber());
+    }
+
     @Test
     void testOCSPWithDelegatedIssuer() {
         PKIOCSPSource ocspSource = new PKIOCSPSource(repository, repository.getByCertificateToken(ocspResponder));
@@ -0,0 +1,214 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * <p>
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * <p>
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * <p>
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.pki.jaxb.revocation.ocsp;
+
+import eu.europa.esig.dss.enumerations.CertificateStatus;
+import eu.europa.esig.dss.enumerations.RevocationOrigin;
+import eu.europa.esig.dss.model.DSSException;
+import eu.europa.esig.dss.model.x509.CertificateToken;
+import eu.europa.esig.dss.pki.jaxb.AbstractTestJaxbPKI;
+import eu.europa.esig.dss.pki.x509.revocation.ocsp.PKIOCSPSource;
+import eu.europa.esig.dss.service.ocsp.OnlineOCSPSource;
+import eu.europa.esig.dss.spi.client.http.MemoryDataLoader;
+import eu.europa.esig.dss.spi.x509.revocation.ocsp.OCSPToken;
+import org.bouncycastle.cert.ocsp.OCSPReq;
+import org.bouncycastle.cert.ocsp.OCSPRespBuilder;
+import org.bouncycastle.cert.ocsp.Req;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OnlineOCSPSourceBatchTest extends AbstractTestJaxbPKI {
+
+    private static final String ALTERNATIVE_URL = "http://alternative.ocsp.url";
+
+    private static CertificateToken goodUser;
+    private static CertificateToken goodUserOCSPWithReqCertId;
+    private static CertificateToken revokedUser;
+    private static CertificateToken goodCa;
+
+    @BeforeAll
+    static void init() {
+        goodUser = repository.getCertEntityBySubject("good-user").getCertificateToken();
+        goodUserOCSPWithReqCertId = repository.getCertEntityBySubject("good-user-ocsp-certid-digest").getCertificateToken();
+        revokedUser = repository.getCertEntityBySubject("revoked-user").getCertificateToken();
+        goodCa = repository.getCertEntityBySubject("good-ca").getCertificateToken();
+    }
+
+    @Test
+    void groupByOCSPUrlTest() {
+        PKIOCSPDataLoader dataLoader = new PKIOCSPDataLoader(false);
+        OnlineOCSPSource ocspSource = new OnlineOCSPSource(dataLoader);
+
+        Map<CertificateToken, OCSPToken> ocspTokens = ocspSource.getRevocationTokens(
+                Arrays.asList(goodUser, goodUserOCSPWithReqCertId, revokedUser, goodCa), goodCa);
+        assertEquals(3, ocspTokens.size());
+
+        // good-user and revoked-user share the OCSP URL, good-user-ocsp-certid-digest uses another one
+        // and good-ca has no OCSP URL
+        assertEquals(Arrays.asList(2, 1), dataLoader.requestSizes);
+
+        OCSPToken goodUserOCSPToken = ocspTokens.get(goodUser);
+        assertNotNull(goodUserOCSPToken);
+        assertEquals(CertificateStatus.GOOD, goodUserOCSPToken.getStatus());
+        assertEquals(RevocationOrigin.EXTERNAL, goodUserOCSPToken.getExternalOrigin());
+        assertNotNull(goodUserOCSPToken.getSourceURL());
+
+        OCSPToken secondOCSPToken = ocspTokens.get(goodUserOCSPWithReqCertId);
+        assertNotNull(secondOCSPToken);
+        assertEquals(CertificateStatus.GOOD, secondOCSPToken.getStatus());
+
+        OCSPToken revokedUserOCSPToken = ocspTokens.get(revokedUser);
+        assertNotNull(revokedUserOCSPToken);
+        assertEquals(CertificateStatus.REVOKED, revokedUserOCSPToken.getStatus());
+
+        assertSame(goodUserOCSPToken.getBasicOCSPResp(), revokedUserOCSPToken.getBasicOCSPResp());
+        assertNotSame(goodUserOCSPToken.getBasicOCSPResp(), secondOCSPToken.getBasicOCSPResp());
+        assertEquals(goodUser.getSerialNumber(), goodUserOCSPToken.getLatestSingleResp().getCertID().getSerialNumber());
+        assertEquals(revokedUser.getSerialNumber(), revokedUserOCSPToken.getLatestSingleResp().getCertID().getSerialNumber());
+    }
+
+    @Test
+    void responderAnsweringFirstRequestOnlyTest() {
+        PKIOCSPDataLoader dataLoader = new PKIOCSPDataLoader(true);
+        OnlineOCSPSource ocspSource = new OnlineOCSPSource(dataLoader);
+
+        Map<CertificateToken, OCSPToken> ocspTokens = ocspSource.getRevocationTokens(
+                Arrays.asList(goodUser, revokedUser), goodCa);
+        assertEquals(2, ocspTokens.size());
+
+        // the missing status is requested individually
+        assertEquals(Arrays.asList(2, 1), dataLoader.requestSizes);
+
+        assertEquals(CertificateStatus.GOOD, ocspTokens.get(goodUser).getStatus());
+        assertEquals(CertificateStatus.REVOKED, ocspTokens.get(revokedUser).getStatus());
+        assertNotSame(ocspTokens.get(goodUser).getBasicOCSPResp(), ocspTokens.get(revokedUser).getBasicOCSPResp());
+    }
+
+    @Test
+    void noCertificateTest() {
+        PKIOCSPDataLoader dataLoader = new PKIOCSPDataLoader(false);
+        OnlineOCSPSource ocspSource = new OnlineOCSPSource(dataLoader);
+        assertTrue(ocspSource.getRevocationTokens(Collections.emptyList(), goodCa).isEmpty());
+        assertTrue(dataLoader.requestSizes.isEmpty());
+    }
+
+    @Test
+    void unavailableResponderTest() {
+        PKIOCSPDataLoader dataLoader = new PKIOCSPDataLoader(false);
+        dataLoader.unavailable = true;
+        OnlineOCSPSource ocspSource = new OnlineOCSPSource(dataLoader);
+
+        // the failure for a certificate does not interrupt the processing of the others
+        Map<CertificateToken, OCSPToken> ocspTokens = ocspSource.getRevocationTokens(
+                Arrays.asList(goodUser, goodUserOCSPWithReqCertId, revokedUser), goodCa);
+        assertTrue(ocspTokens.isEmpty());
+        // a batch request per URL group, then an individual request per certificate
+        assertEquals(Arrays.asList(2, 1, 1, 1), dataLoader.requestSizes);
+    }
+
+    @Test
+    void alternativeUrlsTest() {
+        PKIOCSPDataLoader dataLoader = new PKIOCSPDataLoader(false);
+        dataLoader.unavailable = true;
+        OnlineOCSPSource ocspSource = new OnlineOCSPSource(dataLoader);
+
+        Map<CertificateToken, OCSPToken> ocspTokens = ocspSource.getRevocationTokens(
+                Arrays.asList(goodUser, revokedUser), goodCa, Collections.singletonList(ALTERNATIVE_URL));
+        assertEquals(2, ocspTokens.size());
+
+        // the batch request fails for the certificate URL and succeeds with the alternative one
+        assertEquals(Arrays.asList(2, 2), dataLoader.requestSizes);
+        assertEquals(ALTERNATIVE_URL, dataLoader.requestUrls.get(1));
+        assertEquals(ALTERNATIVE_URL, ocspTokens.get(goodUser).getSourceURL());
+        assertEquals(CertificateStatus.GOOD, ocspTokens.get(goodUser).getStatus());
+        assertEquals(ALTERNATIVE_URL, ocspTokens.get(revokedUser).getSourceURL());
+        assertEquals(CertificateStatus.REVOKED, ocspTokens.get(revokedUser).getStatus());
+    }
+
+    /**
+     * Answers OCSP requests with a response generated by {@code PKIOCSPSource}
+     */
+    private static class PKIOCSPDataLoader extends MemoryDataLoader {
+
+        private static final long serialVersionUID = -2416573817604581693L;
+
+        private final List<CertificateToken> knownCertificates = Arrays.asList(goodUser, goodUserOCSPWithReqCertId, revokedUser);
+
+        private final List<Integer> requestSizes = new ArrayList<>();
+
+        private final List<String> requestUrls = new ArrayList<>();
+
+        private final boolean firstRequestOnly;
+
+        /** When set, only the alternative URL is available */
+        private boolean unavailable;
+
+        PKIOCSPDataLoader(boolean firstRequestOnly) {
+            super(Collections.emptyMap());
+            this.firstRequestOnly = firstRequestOnly;
+        }
+
+        @Override
+        public byte[] post(String url, byte[] content) {
+            try {
+                Req[] requestList = new OCSPReq(content).getRequestList();
+                requestSizes.add(requestList.length);
+                requestUrls.add(url);
+                if (unavailable && !ALTERNATIVE_URL.equals(url)) {
+                    throw new DSSException(String.format("The OCSP responder '%s' is unavailable", url));
+                }
+
+                List<CertificateToken> certificates = new ArrayList<>();
+                for (Req req : requestList) {
+                    for (CertificateToken certificateToken : knownCertificates) {
+                        if (certificateToken.getSerialNumber().equals(req.getCertID().getSerialNumber())) {
+                            certificates.add(certificateToken);
+                        }
+                    }
+                    if (firstRequestOnly) {
+                        break;
+                    }
+                }
+
+                Map<CertificateToken, OCSPToken> ocspTokens = new PKIOCSPSource(repository).getRevocationTokens(certificates, goodCa);
+                OCSPToken ocspToken = ocspTokens.values().iterator().next();
+                return new OCSPRespBuilder().build(OCSPRespBuilder.SUCCESSFUL, ocspToken.getBasicOCSPResp()).getEncoded();
+
+            } catch (Exception e) {
+                throw new DSSException(e);
+            }
+        }
+
+    }
+
+}
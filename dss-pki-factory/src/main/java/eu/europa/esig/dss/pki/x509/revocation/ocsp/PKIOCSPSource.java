@@ -60,8 +60,13 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.security.PrivateKey;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -304,6 +309,51 @@ public class PKIOCSPSource implements OCSPSource {
         }
     }
 
+    /**
+     * Retrieves the OCSP tokens for several certificates issued by the same issuer, using a single OCSP request
+     * containing a CertID per certificate and a single signed OCSP response containing a SingleResp per certificate.
+     *
+     * @param certificateTokens a collection of {@link CertificateToken}s to get OCSP tokens for
+     * @param issuerCertificateToken {@link CertificateToken} representing the issuer of the {@code certificateTokens}
+     * @return a map between the certificates and the obtained {@link OCSPToken}s.
+     *         Certificates for which an OCSP response cannot be generated are not returned.
+     */
+    public Map<CertificateToken, OCSPToken> getRevocationTokens(Collection<CertificateToken> certificateTokens,
+                                                                CertificateToken issuerCertificateToken) {
+        Objects.requireNonNull(certificateTokens, "Certificates cannot be null!");
+        Objects.requireNonNull(issuerCertificateToken, "The issuer of the certificates to be verified cannot be null!");
+
+        final List<CertificateToken> certificates = new ArrayList<>();
+        for (CertificateToken certificateToken : certificateTokens) {
+            if (!certificates.contains(certificateToken) && canGenerate(certificateToken, issuerCertificateToken)) {
+                certificates.add(certificateToken);
+            }
+        }
+        if (certificates.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        LOG.trace("--> PKIOCSPSource queried for {} certificates", certificates.size());
+
+        try {
+            OCSPReq ocspReq = buildOCSPRequest(certificates, issuerCertificateToken);
+            OCSPResp ocspResp = buildOCSPResponse(certificates, issuerCertificateToken, ocspReq);
+            BasicOCSPResp basicResponse = (BasicOCSPResp) ocspResp.getResponseObject();
+
+            final Map<CertificateToken, OCSPToken> result = new LinkedHashMap<>();
+            for (CertificateToken certificateToken : certificates) {
+                SingleResp latestSingleResponse = DSSRevocationUtils.getLatestSingleResponse(basicResponse, certificateToken, issuerCertificateToken);
+                OCSPToken ocspToken = new OCSPToken(basicResponse, latestSingleResponse, certificateToken, issuerCertificateToken);
+                ocspToken.setExternalOrigin(RevocationOrigin.EXTERNAL);
+                result.put(certificateToken, ocspToken);
+            }
+            return result;
+
+        } catch (OCSPException e) {
+            throw new PKIException(String.format("Unable to build an OCSP response for certificates issued by '%s'. " +
+                    "Reason : %s", issuerCertificateToken.getDSSIdAsString(), e.getMessage()), e);
+        }
+    }
+
     /**
      * Returns whether the current implementation is able to produce an OCSP response for the given {@code certificateToken}
      *
@@ -336,23 +386,57 @@ public class PKIOCSPSource implements OCSPSource {
             CertEntityRevocation certRevocation = getCertificateTokenRevocation(certificateToken, ocspReq);
             addRevocationStatusToOCSPResponse(builder, ocspReq, certRevocation);
 
-            SignatureAlgorithm signatureAlgorithm = getSignatureAlgorithm(ocspResponderEntity);
-            PrivateKey ocspPrivateKey = ocspResponderEntity.getPrivateKey();
-            ContentSigner signer = new JcaContentSignerBuilder(signatureAlgorithm.getJCEId()).build(ocspPrivateKey);
+            return buildSignedOCSPResponse(builder, ocspResponderEntity);
+
+        } catch (OperatorCreationException | OCSPException e) {
+            throw new PKIException(String.format("Unable to generate the OCSP Response. Reason: %s", e.getMessage()), e);
+        }
+    }
+
+    /**
+     * Builds an OCSP Response containing a revocation status for each certificate of the {@code ocspReq}
+     *
+     * @param certificateTokens a list of {@link CertificateToken}s, in the order of the requests within {@code ocspReq}
+     * @param issuerCertificateToken {@link CertificateToken} issuer of the {@code certificateTokens}
+     * @param ocspReq {@link OCSPReq} generated earlier
+     * @return {@link OCSPResp}
+     */
+    protected OCSPResp buildOCSPResponse(List<CertificateToken> certificateTokens, CertificateToken issuerCertificateToken, OCSPReq ocspReq) {
+        try {
+            final CertEntity ocspResponderEntity = getOcspResponder(certificateTokens.get(0), issuerCertificateToken);
+            final BasicOCSPRespBuilder builder = initBuilder(ocspResponderEntity.getCertificateToken());
 
-            X509CertificateHolder[] x509CertificateHolders = ocspResponderEntity.getCertificateChain().stream()
-                    .map(DSSASN1Utils::getX509CertificateHolder).toArray(X509CertificateHolder[]::new);
-            Date producedAtTime = getProducedAtTime();
-            BasicOCSPResp basicOCSPResp = builder.build(signer, x509CertificateHolders, producedAtTime);
+            Req[] requestList = ocspReq.getRequestList();
+            if (requestList.length != certificateTokens.size()) {
+                throw new IllegalStateException("The number of requests within OCSPReq does not match the number of certificates!");
+            }
+            for (int i = 0; i < requestList.length; i++) {
+                CertEntityRevocation certRevocation = getCertificateTokenRevocation(certificateTokens.get(i), ocspReq);
+                addRevocationStatusToOCSPResponse(builder, requestList[i].getCertID(), certRevocation);
+            }
 
-            final OCSPRespBuilder respBuilder = new OCSPRespBuilder();
-            return respBuilder.build(OCSPRespBuilder.SUCCESSFUL, basicOCSPResp);
+            return buildSignedOCSPResponse(builder, ocspResponderEntity);
 
         } catch (OperatorCreationException | OCSPException e) {
             throw new PKIException(String.format("Unable to generate the OCSP Response. Reason: %s", e.getMessage()), e);
         }
     }
 
+    private OCSPResp buildSignedOCSPResponse(BasicOCSPRespBuilder builder, CertEntity ocspResponderEntity)
+            throws OperatorCreationException, OCSPException {
+        SignatureAlgorithm signatureAlgorithm = getSignatureAlgorithm(ocspResponderEntity);
+        PrivateKey ocspPrivateKey = ocspResponderEntity.getPrivateKey();
+        ContentSigner signer = new JcaContentSignerBuilder(signatureAlgorithm.getJCEId()).build(ocspPrivateKey);
+
+        X509CertificateHolder[] x509CertificateHolders = ocspResponderEntity.getCertificateChain().stream()
+                .map(DSSASN1Utils::getX509CertificateHolder).toArray(X509CertificateHolder[]::new);
+        Date producedAtTime = getProducedAtTime();
+        BasicOCSPResp basicOCSPResp = builder.build(signer, x509CertificateHolders, producedAtTime);
+
+        final OCSPRespBuilder respBuilder = new OCSPRespBuilder();
+        return respBuilder.build(OCSPRespBuilder.SUCCESSFUL, basicOCSPResp);
+    }
+
     /**
      * Returns a revocation status for the given {@code CertificateToken} or a certificate within {@code OCSPReq}
      *
@@ -385,11 +469,24 @@ public class PKIOCSPSource implements OCSPSource {
         }
 
         Req r = ocspReq.getRequestList()[0];
+        addRevocationStatusToOCSPResponse(builder, r.getCertID(), certEntityRevocation);
+    }
+
+    /**
+     * This method adds revocation information for a certificate identified by {@code certificateID}
+     * to {@code BasicOCSPRespBuilder}
+     *
+     * @param builder {@link BasicOCSPRespBuilder} to enrich with revocation status information
+     * @param certificateID {@link CertificateID} of the requested certificate
+     * @param certEntityRevocation {@link CertEntityRevocation} containing revocation status information about the certificate
+     */
+    protected void addRevocationStatusToOCSPResponse(BasicOCSPRespBuilder builder, CertificateID certificateID,
+                                                     CertEntityRevocation certEntityRevocation) {
         if (certEntityRevocation == null || certEntityRevocation.getRevocationDate() == null) {
-            builder.addResponse(r.getCertID(), CertificateStatus.GOOD, getThisUpdate(), getNextUpdate());
+            builder.addResponse(certificateID, CertificateStatus.GOOD, getThisUpdate(), getNextUpdate());
         } else {
             RevokedStatus status = new RevokedStatus(certEntityRevocation.getRevocationDate(), certEntityRevocation.getRevocationReason().getValue());
-            builder.addResponse(r.getCertID(), status, getThisUpdate(), getNextUpdate());
+            builder.addResponse(certificateID, status, getThisUpdate(), getNextUpdate());
         }
     }
 
@@ -455,12 +552,25 @@ public class PKIOCSPSource implements OCSPSource {
      * @return {@link OCSPReq}
      */
     protected OCSPReq buildOCSPRequest(CertificateToken certificateToken, CertificateToken issuerCertificateToken) {
+        return buildOCSPRequest(Collections.singletonList(certificateToken), issuerCertificateToken);
+    }
+
+    /**
+     * Builds an OCSP request containing a CertID for each of the given {@code CertificateToken}s
+     *
+     * @param certificateTokens a list of {@link CertificateToken}s to get OCSP request for
+     * @param issuerCertificateToken {@link CertificateToken} issued the {@code certificateTokens}
+     * @return {@link OCSPReq}
+     */
+    protected OCSPReq buildOCSPRequest(List<CertificateToken> certificateTokens, CertificateToken issuerCertificateToken) {
         try {
             final OCSPReqBuilder ocspReqBuilder = new OCSPReqBuilder();
 
-            final CertificateID certId = DSSRevocationUtils
-                    .getOCSPCertificateID(certificateToken, issuerCertificateToken, digestAlgorithm);
-            ocspReqBuilder.addRequest(certId);
+            for (CertificateToken certificateToken : certificateTokens) {
+                final CertificateID certId = DSSRevocationUtils
+                        .getOCSPCertificateID(certificateToken, issuerCertificateToken, digestAlgorithm);
+                ocspReqBuilder.addRequest(certId);
+            }
 
             return ocspReqBuilder.build();
 
@@ -495,24 +495,26 @@ public class EtsiValidationPolicy implements ValidationPolicy {
 	 * Overrides all empty fields for the given {@code CryptographicConstraint}
 	 * by the default {@link CryptographicConstraint}
 	 *
+	 * NOTE: the constraint is modified only on the first call, the subsequent calls are read-only
+	 *
 	 * @param cryptographicConstraint {@link CryptographicConstraint}
 	 * @param defaultConstraint {@link CryptographicConstraint}
 	 */
 	private void initializeCryptographicSuite(CryptographicConstraint cryptographicConstraint, CryptographicConstraint defaultConstraint) {
 		if (defaultConstraint != null) {
-			if (cryptographicConstraint.getAcceptableDigestAlgo() == null) {
+			if (cryptographicConstraint.getAcceptableDigestAlgo() == null && defaultConstraint.getAcceptableDigestAlgo() != null) {
 				cryptographicConstraint.setAcceptableDigestAlgo(defaultConstraint.getAcceptableDigestAlgo());
 			}
-			if (cryptographicConstraint.getAcceptableEncryptionAlgo() == null) {
+			if (cryptographicConstraint.getAcceptableEncryptionAlgo() == null && defaultConstraint.getAcceptableEncryptionAlgo() != null) {
 				cryptographicConstraint.setAcceptableEncryptionAlgo(defaultConstraint.getAcceptableEncryptionAlgo());
 			}
-			if (cryptographicConstraint.getAlgoExpirationDate() == null) {
+			if (cryptographicConstraint.getAlgoExpirationDate() == null && defaultConstraint.getAlgoExpirationDate() != null) {
 				cryptographicConstraint.setAlgoExpirationDate(defaultConstraint.getAlgoExpirationDate());
 			}
-			if (cryptographicConstraint.getLevel() == null) {
+			if (cryptographicConstraint.getLevel() == null && defaultConstraint.getLevel() != null) {
 				cryptographicConstraint.setLevel(defaultConstraint.getLevel());
 			}
-			if (cryptographicConstraint.getMiniPublicKeySize() == null) {
+			if (cryptographicConstraint.getMiniPublicKeySize() == null && defaultConstraint.getMiniPublicKeySize() != null) {
 				cryptographicConstraint.setMiniPublicKeySize(defaultConstraint.getMiniPublicKeySize());
 			}
 		}
@@ -28,7 +28,9 @@ import eu.europa.esig.dss.ws.dto.SignatureValueDTO;
 import eu.europa.esig.dss.ws.dto.ToBeSignedDTO;
 import eu.europa.esig.dss.ws.server.signing.dto.RemoteKeyEntry;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * The interface used for a remote signing
@@ -119,4 +121,32 @@ public interface RemoteSignatureTokenConnection {
 	 */
 	SignatureValueDTO signDigest(DigestDTO digest, SignatureAlgorithm signatureAlgorithm, String alias) throws DSSException;
 
+	/**
+	 * This method signs the list of {@code digests} with a {@code signatureAlgorithm} and the
+	 * given {@code alias} within a single call. The key is retrieved only once for the whole batch.
+	 * <p>
+	 * The default implementation signs the digests one by one using
+	 * {@code signDigest(digest, signatureAlgorithm, alias)}.
+	 *
+	 * @param digests
+	 *               The list of digested data that need to be signed
+	 * @param signatureAlgorithm
+	 *                        The signature algorithm to be used for signing
+	 * @param alias
+	 *               The key alias to be used
+	 * @return the list of signature value representations with the used algorithm and the
+	 *         binary value, in the order of the provided digests
+	 * @throws DSSException
+	 *                      If there is any problem during the signature process
+	 */
+	default List<SignatureValueDTO> signDigests(List<DigestDTO> digests, SignatureAlgorithm signatureAlgorithm,
+												String alias) throws DSSException {
+		Objects.requireNonNull(digests, "List of digests shall be provided.");
+		final List<SignatureValueDTO> signatureValues = new ArrayList<>(digests.size());
+		for (DigestDTO digest : digests) {
+			signatureValues.add(signDigest(digest, signatureAlgorithm, alias));
+		}
+		return signatureValues;
+	}
+
 }
@@ -24,6 +24,7 @@ import eu.europa.esig.dss.enumerations.DigestAlgorithm;
 import eu.europa.esig.dss.enumerations.EncryptionAlgorithm;
 import eu.europa.esig.dss.enumerations.SignatureAlgorithm;
 import eu.europa.esig.dss.model.DSSException;
+import eu.europa.esig.dss.model.Digest;
 import eu.europa.esig.dss.model.SignatureValue;
 import eu.europa.esig.dss.model.x509.CertificateToken;
 import eu.europa.esig.dss.token.AbstractKeyStoreTokenConnection;
@@ -39,6 +40,7 @@ import eu.europa.esig.dss.ws.server.signing.dto.RemoteKeyEntry;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * Default implementation of a remote signing service
@@ -116,6 +118,22 @@ public class RemoteSignatureTokenConnectionImpl implements RemoteSignatureTokenC
 		return DTOConverter.toSignatureValueDTO(signatureValue);
 	}
 
+	@Override
+	public List<SignatureValueDTO> signDigests(List<DigestDTO> digests, SignatureAlgorithm signatureAlgorithm, String alias) throws DSSException {
+		Objects.requireNonNull(digests, "List of digests shall be provided.");
+		DSSPrivateKeyEntry key = token.getKey(alias);
+		List<Digest> digestList = new ArrayList<>(digests.size());
+		for (DigestDTO digest : digests) {
+			digestList.add(DTOConverter.toDigest(digest));
+		}
+		List<SignatureValue> signatureValues = token.signDigests(digestList, signatureAlgorithm, key);
+		List<SignatureValueDTO> result = new ArrayList<>(signatureValues.size());
+		for (SignatureValue signatureValue : signatureValues) {
+			result.add(DTOConverter.toSignatureValueDTO(signatureValue));
+		}
+		return result;
+	}
+
 	private RemoteKeyEntry convert(KSPrivateKeyEntry key) {
 		if (key == null) {
 			return null;
@@ -36,9 +36,11 @@ import java.io.IOException;
 import java.security.GeneralSecurityException;
 import java.security.KeyStore.PasswordProtection;
 import java.security.Signature;
+import java.util.ArrayList;
 import java.util.Base64;
 import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -213,4 +215,51 @@ class RemoteSignatureTokenConnectionImplTest {
 		}
 	}
 
+	@Test
+	void testRemoteSignDigests() throws IOException {
+
+		Pkcs12SignatureToken serverToken = new Pkcs12SignatureToken("src/test/resources/good-user.p12",
+				new PasswordProtection("ks-password".toCharArray()));
+
+		RemoteSignatureTokenConnectionImpl exposedToken = new RemoteSignatureTokenConnectionImpl();
+		exposedToken.setToken(serverToken);
+
+		List<RemoteKeyEntry> keys = exposedToken.getKeys();
+		assertTrue(keys != null && keys.size() > 0);
+
+		RemoteKeyEntry remoteKeyEntry = keys.get(0);
+		List<byte[]> toBeSignedList = new ArrayList<>();
+		List<DigestDTO> digests = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			byte[] toBeSigned = {1, 2, 3, 4, (byte) i};
+			toBeSignedList.add(toBeSigned);
+			digests.add(new DigestDTO(DigestAlgorithm.SHA256, DSSUtils.digest(DigestAlgorithm.SHA256, toBeSigned)));
+		}
+
+		List<SignatureValueDTO> signatureValues = exposedToken.signDigests(
+				digests, SignatureAlgorithm.RSA_SHA256, remoteKeyEntry.getAlias());
+		assertNotNull(signatureValues);
+		assertEquals(digests.size(), signatureValues.size());
+
+		CertificateToken certificateToken = DSSUtils.loadCertificate(remoteKeyEntry.getCertificate().getEncodedCertificate());
+		for (int i = 0; i < signatureValues.size(); i++) {
+			SignatureValueDTO signatureValue = signatureValues.get(i);
+			assertNotNull(signatureValue.getValue());
+			assertEquals(SignatureAlgorithm.RSA_SHA256, signatureValue.getAlgorithm());
+
+			SignatureValueDTO singleSignatureValue = exposedToken.signDigest(
+					digests.get(i), SignatureAlgorithm.RSA_SHA256, remoteKeyEntry.getAlias());
+			assertArrayEquals(singleSignatureValue.getValue(), signatureValue.getValue());
+
+			try {
+				Signature sig = Signature.getInstance(signatureValue.getAlgorithm().getJCEId());
+				sig.initVerify(certificateToken.getPublicKey());
+				sig.update(toBeSignedList.get(i));
+				assertTrue(sig.verify(signatureValue.getValue()));
+			} catch (GeneralSecurityException e) {
+				Assertions.fail(e.getMessage());
+			}
+		}
+	}
+
 }
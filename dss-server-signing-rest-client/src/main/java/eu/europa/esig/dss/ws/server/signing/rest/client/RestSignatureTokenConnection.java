@@ -133,4 +133,22 @@ public interface RestSignatureTokenConnection extends Serializable {
 	SignatureValueDTO signDigest(DigestDTO digest, @PathParam("signature-algo") SignatureAlgorithm signatureAlgorithm,
 								 @PathParam("alias") String alias);
 
+	/**
+	 * This method signs the list of {@code digests} with a {@code signatureAlgorithm} and the
+	 * given {@code alias} within a single request.
+	 *
+	 * @param digests
+	 *               The list of digested data that need to be signed
+	 * @param signatureAlgorithm
+	 *                        The signature algorithm to be used for signing
+	 * @param alias
+	 *               The key alias to be used
+	 * @return the list of signature value representations with the used algorithm and the
+	 *         binary value, in the order of the provided digests
+	 */
+	@POST
+	@Path("sign-digests-with-signature-algo/{alias}/{signature-algo}")
+	List<SignatureValueDTO> signDigests(List<DigestDTO> digests, @PathParam("signature-algo") SignatureAlgorithm signatureAlgorithm,
+										@PathParam("alias") String alias);
+
 }
@@ -87,4 +87,9 @@ public class RestSignatureTokenConnectionImpl implements RestSignatureTokenConne
 		return token.signDigest(digest, signatureAlgorithm, alias);
 	}
 
+	@Override
+	public List<SignatureValueDTO> signDigests(List<DigestDTO> digests, SignatureAlgorithm signatureAlgorithm, String alias) {
+		return token.signDigests(digests, signatureAlgorithm, alias);
+	}
+
 }
@@ -132,4 +132,24 @@ public interface SoapSignatureTokenConnection extends Serializable {
 								 @WebParam(name = "signatureAlgorithm") SignatureAlgorithm signatureAlgorithm,
 								 @WebParam(name = "alias") String alias);
 
+	/**
+	 *
+	 * This method signs the list of {@code digests} with a {@code signatureAlgorithm} and
+	 * the given {@code alias} within a single request.
+	 *
+	 * @param digests
+	 *               The list of digested data that need to be signed
+	 * @param signatureAlgorithm
+	 *                        The digest algorithm to be used for signing
+	 * @param alias
+	 *               The key alias to be used
+	 * @return the list of signature value representations with the used algorithm and the
+	 *         binary value, in the order of the provided digests
+	 */
+	@WebMethod(operationName = "signDigestsWithSignatureAlgo")
+	@WebResult(name = "response")
+	List<SignatureValueDTO> signDigests(@WebParam(name = "digests") List<DigestDTO> digests,
+										@WebParam(name = "signatureAlgorithm") SignatureAlgorithm signatureAlgorithm,
+										@WebParam(name = "alias") String alias);
+
 }
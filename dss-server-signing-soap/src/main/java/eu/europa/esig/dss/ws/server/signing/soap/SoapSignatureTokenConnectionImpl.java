@@ -86,4 +86,9 @@ public class SoapSignatureTokenConnectionImpl implements SoapSignatureTokenConne
 		return token.signDigest(digest, signatureAlgorithm, alias);
 	}
 
+	@Override
+	public List<SignatureValueDTO> signDigests(List<DigestDTO> digests, SignatureAlgorithm signatureAlgorithm, String alias) {
+		return token.signDigests(digests, signatureAlgorithm, alias);
+	}
+
 }
@@ -86,11 +86,17 @@ public class JdbcCacheCRLSource extends JdbcRevocationSource<CRL> implements CRL
     private static final SqlSelectQuery SQL_FIND_QUERY = new SqlSelectQuery("SELECT * FROM CACHED_CRL WHERE ID = ?") {
         @Override
         public SqlCRLRecord getRecord(ResultSet rs) throws SQLException {
-            SqlCRLRecord response = new SqlCRLRecord();
-            response.id = rs.getString("ID");
-            response.crlBinary = rs.getBytes("DATA");
-            response.certificateIssuerBinary = rs.getBytes("ISSUER");
-            return response;
+            return buildRecord(rs);
+        }
+    };
+
+    /**
+     * Used to extract the records for several ids within a single request
+     */
+    private static final SqlSelectQuery SQL_FIND_BATCH_QUERY = new SqlSelectQuery("SELECT * FROM CACHED_CRL WHERE ID IN (%s)") {
+        @Override
+        public SqlCRLRecord getRecord(ResultSet rs) throws SQLException {
+            return buildRecord(rs);
         }
     };
 
@@ -136,6 +142,24 @@ public class JdbcCacheCRLSource extends JdbcRevocationSource<CRL> implements CRL
         return SQL_FIND_QUERY;
     }
 
+    @Override
+    protected SqlSelectQuery getRevocationDataBatchExtractQuery() {
+        return SQL_FIND_BATCH_QUERY;
+    }
+
+    @Override
+    protected String getRevocationTokenKey(SqlRecord sqlRecord) {
+        return ((SqlCRLRecord) sqlRecord).id;
+    }
+
+    private static SqlCRLRecord buildRecord(ResultSet rs) throws SQLException {
+        SqlCRLRecord response = new SqlCRLRecord();
+        response.id = rs.getString("ID");
+        response.crlBinary = rs.getBytes("DATA");
+        response.certificateIssuerBinary = rs.getBytes("ISSUER");
+        return response;
+    }
+
     /**
      * Returns a revocation token key
      *
@@ -28,7 +28,9 @@ import eu.europa.esig.dss.model.x509.CertificateToken;
 import eu.europa.esig.dss.model.x509.revocation.crl.CRL;
 import eu.europa.esig.dss.service.http.commons.CommonsDataLoader;
 import eu.europa.esig.dss.spi.CertificateExtensionsUtils;
+import eu.europa.esig.dss.spi.client.http.AsyncDataLoader;
 import eu.europa.esig.dss.spi.client.http.DataLoader;
+import eu.europa.esig.dss.spi.client.http.DataLoader.DataAndUrl;
 import eu.europa.esig.dss.spi.client.http.Protocol;
 import eu.europa.esig.dss.spi.exception.DSSExternalResourceException;
 import eu.europa.esig.dss.spi.x509.revocation.RevocationSourceAlternateUrlsSupport;
@@ -38,10 +40,13 @@ import eu.europa.esig.dss.utils.Utils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * Online CRL repository. This CRL repository implementation will download the
@@ -70,6 +75,11 @@ public class OnlineCRLSource implements CRLSource, RevocationSourceAlternateUrls
 	 */
 	private DataLoader dataLoader;
 
+	/**
+	 * The component that allows to retrieve the data asynchronously (not defined by default).
+	 */
+	private AsyncDataLoader asyncDataLoader;
+
 	/**
 	 * The default constructor. A {@code CommonsDataLoader is created}.
 	 */
@@ -113,6 +123,19 @@ public class OnlineCRLSource implements CRLSource, RevocationSourceAlternateUrls
 		this.dataLoader = dataLoader;
 	}
 
+	/**
+	 * Sets the AsyncDataLoader used to download the CRLs within
+	 * {@code #getRevocationTokenAsync(certificateToken, issuerCertificateToken)}.
+	 * When defined, the CRLs are downloaded without blocking the calling thread
+	 * (e.g. using {@code eu.europa.esig.dss.service.http.commons.AsyncCommonsDataLoader}).
+	 *
+	 * @param asyncDataLoader
+	 *            the component that allows to retrieve a CRL asynchronously
+	 */
+	public void setAsyncDataLoader(final AsyncDataLoader asyncDataLoader) {
+		this.asyncDataLoader = asyncDataLoader;
+	}
+
 	@Override
 	public CRLToken getRevocationToken(CertificateToken certificateToken, CertificateToken issuerCertificateToken) {
 		return getRevocationToken(certificateToken, issuerCertificateToken, Collections.emptyList());
@@ -144,15 +167,7 @@ public class OnlineCRLSource implements CRLSource, RevocationSourceAlternateUrls
 
 			try {
 				final CRLBinary crlBinary = executeCRLRequest(crlUrl);
-				final CRLValidity crlValidity = CRLUtils.buildCRLValidity(crlBinary, issuerToken);
-				final CRLToken crlToken = new CRLToken(certificateToken, crlValidity);
-				crlToken.setExternalOrigin(RevocationOrigin.EXTERNAL);
-				crlToken.setSourceURL(crlUrl);
-				if (LOG.isDebugEnabled()) {
-					LOG.debug("CRL '{}' has been retrieved from a source with URL '{}'.",
-							crlToken.getDSSIdAsString(), crlUrl);
-				}
-				return crlToken;
+				return buildCRLToken(crlBinary, certificateToken, issuerToken, crlUrl);
 
 			} catch (Exception e) {
 				if (nbTries == 0) {
@@ -170,6 +185,91 @@ public class OnlineCRLSource implements CRLSource, RevocationSourceAlternateUrls
 				"for a certificate call with id '%s'", certificateToken.getDSSIdAsString()));
 	}
 
+	/**
+	 * Retrieves a CRL token for {@code certificateToken} without blocking the calling thread,
+	 * using the defined {@code AsyncDataLoader} (see {@code #setAsyncDataLoader(asyncDataLoader)}).
+	 *
+	 * @param certificateToken {@link CertificateToken} to retrieve a CRL token for
+	 * @param issuerToken {@link CertificateToken} representing the issuer of {@code certificateToken}
+	 * @return {@link CompletableFuture} with {@link CRLToken}, or with null when no CRL location is found
+	 */
+	public CompletableFuture<CRLToken> getRevocationTokenAsync(CertificateToken certificateToken,
+															   CertificateToken issuerToken) {
+		return getRevocationTokenAsync(certificateToken, issuerToken, Collections.emptyList());
+	}
+
+	/**
+	 * Retrieves a CRL token for {@code certificateToken} without blocking the calling thread,
+	 * using the defined {@code AsyncDataLoader} (see {@code #setAsyncDataLoader(asyncDataLoader)}).
+	 * The CRL distribution points and {@code alternativeUrls} are passed to the {@code AsyncDataLoader}
+	 * in the order defined by {@code #getCRLAccessURLs(certificateToken, alternativeUrls)}, allowing the loader
+	 * to request the alternative locations (e.g. with hedged requests). The CRL is built from the first
+	 * obtained content. The returned future is completed exceptionally
+	 * with a {@code DSSExternalResourceException} when no valid CRL has been obtained.
+	 *
+	 * @param certificateToken {@link CertificateToken} to retrieve a CRL token for
+	 * @param issuerToken {@link CertificateToken} representing the issuer of {@code certificateToken}
+	 * @param alternativeUrls a list of {@link String} alternative CRL URLs
+	 * @return {@link CompletableFuture} with {@link CRLToken}, or with null when no CRL location is found
+	 */
+	public CompletableFuture<CRLToken> getRevocationTokenAsync(final CertificateToken certificateToken,
+															   final CertificateToken issuerToken,
+															   List<String> alternativeUrls) {
+		Objects.requireNonNull(certificateToken, "CertificateToken cannot be null!");
+		Objects.requireNonNull(issuerToken, "Issuer CertificateToken cannot be null!");
+		Objects.requireNonNull(asyncDataLoader, "AsyncDataLoader is not provided !");
+		LOG.trace("--> OnlineCRLSource queried asynchronously for {}", certificateToken.getDSSIdAsString());
+
+		final List<String> crlUrls = getCRLAccessURLs(certificateToken, alternativeUrls);
+		if (Utils.isCollectionEmpty(crlUrls)) {
+			if (LOG.isDebugEnabled()) {
+				LOG.debug("No CRL location found for certificate with Id '{}'", certificateToken.getDSSIdAsString());
+			}
+			return CompletableFuture.completedFuture(null);
+		}
+
+		CompletableFuture<DataAndUrl> request;
+		try {
+			request = asyncDataLoader.getAsync(crlUrls);
+		} catch (Exception e) {
+			request = new CompletableFuture<>();
+			request.completeExceptionally(e);
+		}
+
+		final CompletableFuture<CRLToken> result = new CompletableFuture<>();
+		request.whenComplete((dataAndUrl, e) -> {
+			Throwable cause = e;
+			if (cause == null) {
+				try {
+					final CRLBinary crlBinary = CRLUtils.buildCRLBinary(dataAndUrl.getData());
+					result.complete(buildCRLToken(crlBinary, certificateToken, issuerToken, dataAndUrl.getUrlString()));
+					return;
+				} catch (Exception ex) {
+					cause = ex;
+				}
+			} else if (cause instanceof CompletionException && cause.getCause() != null) {
+				cause = cause.getCause();
+			}
+			result.completeExceptionally(new DSSExternalResourceException(String.format(
+					"Unable to retrieve CRL for certificate with Id '%s' from URLs %s. Reason : %s",
+					certificateToken.getDSSIdAsString(), crlUrls, cause.getMessage()), cause));
+		});
+		return result;
+	}
+
+	private CRLToken buildCRLToken(CRLBinary crlBinary, CertificateToken certificateToken,
+								   CertificateToken issuerToken, String crlUrl) throws IOException {
+		final CRLValidity crlValidity = CRLUtils.buildCRLValidity(crlBinary, issuerToken);
+		final CRLToken crlToken = new CRLToken(certificateToken, crlValidity);
+		crlToken.setExternalOrigin(RevocationOrigin.EXTERNAL);
+		crlToken.setSourceURL(crlUrl);
+		if (LOG.isDebugEnabled()) {
+			LOG.debug("CRL '{}' has been retrieved from a source with URL '{}'.",
+					crlToken.getDSSIdAsString(), crlUrl);
+		}
+		return crlToken;
+	}
+
 	/**
 	 * Extracts a list of CRL distribution point URLs to be used in the provided order to retrieve a CRL
 	 *
@@ -0,0 +1,458 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * <p>
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * <p>
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * <p>
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.service.http.commons;
+
+import eu.europa.esig.dss.spi.client.http.AbstractAsyncDataLoader;
+import eu.europa.esig.dss.spi.client.http.Protocol;
+import eu.europa.esig.dss.spi.exception.DSSExternalResourceException;
+import eu.europa.esig.dss.utils.Utils;
+import org.apache.hc.client5.http.async.methods.AbstractBinResponseConsumer;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.config.TlsConfig;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManager;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.HttpException;
+import org.apache.hc.core5.http.HttpResponse;
+import org.apache.hc.core5.http.HttpStatus;
+import org.apache.hc.core5.http.nio.AsyncRequestProducer;
+import org.apache.hc.core5.http.nio.entity.AsyncEntityProducers;
+import org.apache.hc.core5.http.nio.ssl.TlsStrategy;
+import org.apache.hc.core5.http.nio.support.AsyncRequestBuilder;
+import org.apache.hc.core5.http2.HttpVersionPolicy;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+
+/**
+ * Implementation of {@code AsyncDataLoader} for HTTP and HTTPS protocols, based on the asynchronous
+ * Apache HttpClient 5. The requests do not block a thread while waiting for a response and,
+ * when supported by the server, are multiplexed within HTTP/2 connections.
+ * <p>
+ * Unlike {@code CommonsDataLoader}, the HTTP client is created on the first call and reused by the following ones.
+ * The client shall be released with {@link #close()} when the data loader is not used anymore.
+ */
+public class AsyncCommonsDataLoader extends AbstractAsyncDataLoader implements Closeable {
+
+	private static final Logger LOG = LoggerFactory.getLogger(AsyncCommonsDataLoader.class);
+
+	/** The default connection timeout (1 minute) */
+	private static final int TIMEOUT_CONNECTION = 60000;
+
+	/** The default value of maximum connections in time (20) */
+	private static final int CONNECTIONS_MAX_TOTAL = 20;
+
+	/** The default value of maximum connections per route (2) */
+	private static final int CONNECTIONS_MAX_PER_ROUTE = 2;
+
+	/** The default connection total time to live (TTL) (1 minute) */
+	private static final int CONNECTION_TIME_TO_LIVE = 60000;
+
+	/** The content-type string */
+	private static final String CONTENT_TYPE = "Content-Type";
+
+	/** The content type value */
+	private String contentType;
+
+	/** The timeout connection */
+	private int timeoutConnection = TIMEOUT_CONNECTION;
+
+	/** The connection request timeout */
+	private int timeoutConnectionRequest = TIMEOUT_CONNECTION;
+
+	/** The server response timeout */
+	private int timeoutResponse = TIMEOUT_CONNECTION;
+
+	/** Maximum connections number in time */
+	private int connectionsMaxTotal = CONNECTIONS_MAX_TOTAL;
+
+	/** Maximum connections number per route */
+	private int connectionsMaxPerRoute = CONNECTIONS_MAX_PER_ROUTE;
+
+	/** The finite connection total time to live (TTL) */
+	private int connectionTimeToLive = CONNECTION_TIME_TO_LIVE;
+
+	/** Defines if the redirection is enabled */
+	private boolean redirectsEnabled = true;
+
+	/** Max size of the response content (0 - no limit) */
+	private int maxInputSize = 0;
+
+	/** The HTTP protocol version policy */
+	private HttpVersionPolicy httpVersionPolicy = HttpVersionPolicy.NEGOTIATE;
+
+	/** The TLS strategy (when not defined, the default strategy is used) */
+	private TlsStrategy tlsStrategy;
+
+	/** The HTTP client, created on the first call */
+	private CloseableHttpAsyncClient httpAsyncClient;
+
+	/**
+	 * The default constructor for AsyncCommonsDataLoader.
+	 */
+	public AsyncCommonsDataLoader() {
+		this(null);
+	}
+
+	/**
+	 * The constructor for AsyncCommonsDataLoader with defined content-type.
+	 *
+	 * @param contentType {@link String} The content type of each request
+	 */
+	public AsyncCommonsDataLoader(final String contentType) {
+		this.contentType = contentType;
+	}
+
+	/**
+	 * Sets the content type of the requests.
+	 * Example: Content-Type "application/ocsp-request"
+	 *
+	 * @param contentType {@link String}
+	 */
+	public void setContentType(String contentType) {
+		this.contentType = contentType;
+	}
+
+	/**
+	 * Sets the connection timeout in milliseconds.
+	 *
+	 * NOTE: the configuration shall be defined before the first call.
+	 *
+	 * @param timeoutConnection the value (millis)
+	 */
+	public void setTimeoutConnection(int timeoutConnection) {
+		this.timeoutConnection = timeoutConnection;
+	}
+
+	/**
+	 * Sets the connection request timeout in milliseconds.
+	 *
+	 * NOTE: the configuration shall be defined before the first call.
+	 *
+	 * @param timeoutConnectionRequest the value (millis)
+	 */
+	public void setTimeoutConnectionRequest(int timeoutConnectionRequest) {
+		this.timeoutConnectionRequest = timeoutConnectionRequest;
+	}
+
+	/**
+	 * Sets the server response timeout in milliseconds.
+	 *
+	 * NOTE: the configuration shall be defined before the first call.
+	 *
+	 * @param timeoutResponse the value (millis)
+	 */
+	public void setTimeoutResponse(int timeoutResponse) {
+		this.timeoutResponse = timeoutResponse;
+	}
+
+	/**
+	 * Sets the maximum connections number.
+	 *
+	 * NOTE: the configuration shall be defined before the first call.
+	 *
+	 * @param connectionsMaxTotal the value
+	 */
+	public void setConnectionsMaxTotal(int connectionsMaxTotal) {
+		this.connectionsMaxTotal = connectionsMaxTotal;
+	}
+
+	/**
+	 * Sets the maximum connections number per route.
+	 *
+	 * NOTE: the configuration shall be defined before the first call.
+	 *
+	 * @param connectionsMaxPerRoute the value
+	 */
+	public void setConnectionsMaxPerRoute(int connectionsMaxPerRoute) {
+		this.connectionsMaxPerRoute = connectionsMaxPerRoute;
+	}
+
+	/**
+	 * Sets the finite connection time to live in milliseconds.
+	 *
+	 * NOTE: the configuration shall be defined before the first call.
+	 *
+	 * @param connectionTimeToLive the value (millis)
+	 */
+	public void setConnectionTimeToLive(int connectionTimeToLive) {
+		this.connectionTimeToLive = connectionTimeToLive;
+	}
+
+	/**
+	 * Sets whether redirects should be handled automatically.
+	 *
+	 * NOTE: the configuration shall be defined before the first call.
+	 *
+	 * @param redirectsEnabled true if the redirects are enabled
+	 */
+	public void setRedirectsEnabled(boolean redirectsEnabled) {
+		this.redirectsEnabled = redirectsEnabled;
+	}
+
+	/**
+	 * Sets the maximum size of the response content in bytes.
+	 * The request fails as soon as the received content exceeds the limit.
+	 *
+	 * Default : 0 (no limit)
+	 *
+	 * @param maxInputSize maximum response size
+	 */
+	public void setMaxInputSize(int maxInputSize) {
+		this.maxInputSize = maxInputSize;
+	}
+
+	/**
+	 * Sets the HTTP protocol version policy.
+	 *
+	 * NOTE: the configuration shall be defined before the first call.
+	 *
+	 * Default : {@code HttpVersionPolicy.NEGOTIATE} (HTTP/2 is used when supported by the server)
+	 *
+	 * @param httpVersionPolicy {@link HttpVersionPolicy}
+	 */
+	public void setHttpVersionPolicy(HttpVersionPolicy httpVersionPolicy) {
+		this.httpVersionPolicy = httpVersionPolicy;
+	}
+
+	/**
+	 * Sets the TLS strategy to be used for HTTPS connections.
+	 *
+	 * NOTE: the configuration shall be defined before the first call.
+	 *
+	 * @param tlsStrategy {@link TlsStrategy}
+	 */
+	public void setTlsStrategy(TlsStrategy tlsStrategy) {
+		this.tlsStrategy = tlsStrategy;
+	}
+
+	@Override
+	public CompletableFuture<byte[]> getAsync(final String url) {
+		if (!Protocol.isHttpUrl(url)) {
+			return failedFuture(new DSSExternalResourceException(String.format(
+					"Unable to process GET call for url [%s]. Reason : [Only HTTP and HTTPS urls are supported]", url)));
+		}
+		try {
+			final AsyncRequestBuilder requestBuilder = AsyncRequestBuilder.get(URI.create(Utils.trim(url)));
+			if (contentType != null) {
+				requestBuilder.addHeader(CONTENT_TYPE, contentType);
+			}
+			return execute(url, requestBuilder.build());
+
+		} catch (IllegalArgumentException e) {
+			return failedFuture(new DSSExternalResourceException(String.format(
+					"Unable to process GET call for url [%s]. Reason : [%s]", url, e.getMessage()), e));
+		}
+	}
+
+	@Override
+	public CompletableFuture<byte[]> postAsync(final String url, final byte[] content) {
+		LOG.debug("Fetching data via asynchronous POST from url {}", url);
+		try {
+			final AsyncRequestBuilder requestBuilder = AsyncRequestBuilder.post(URI.create(Utils.trim(url)))
+					.setEntity(AsyncEntityProducers.create(content, toContentType(contentType)));
+			return execute(url, requestBuilder.build());
+
+		} catch (IllegalArgumentException e) {
+			return failedFuture(new DSSExternalResourceException(String.format(
+					"Unable to process POST call for url [%s]. Reason : [%s]", url, e.getMessage()), e));
+		}
+	}
+
+	/**
+	 * Executes the request and returns a future with the response content
+	 *
+	 * @param url {@link String} the requested url
+	 * @param requestProducer {@link AsyncRequestProducer} the request
+	 * @return {@link CompletableFuture} with the response content
+	 */
+	protected CompletableFuture<byte[]> execute(final String url, final AsyncRequestProducer requestProducer) {
+		final CompletableFuture<byte[]> result = new CompletableFuture<>();
+		final Future<byte[]> execution = getHttpAsyncClient().execute(requestProducer, new MaxSizeResponseConsumer(url),
+				new FutureCallback<byte[]>() {
+
+					@Override
+					public void completed(byte[] bytes) {
+						result.complete(bytes);
+					}
+
+					@Override
+					public void failed(Exception e) {
+						result.completeExceptionally(new DSSExternalResourceException(String.format(
+								"Unable to process call for url [%s]. Reason : [%s]", url, e.getMessage()), e));
+					}
+
+					@Override
+					public void cancelled() {
+						result.cancel(false);
+					}
+
+				});
+		result.whenComplete((bytes, e) -> {
+			if (result.isCancelled()) {
+				execution.cancel(true);
+			}
+		});
+		return result;
+	}
+
+	/**
+	 * Gets the HTTP client, creates and starts it on the first call
+	 *
+	 * @return {@link CloseableHttpAsyncClient}
+	 */
+	protected synchronized CloseableHttpAsyncClient getHttpAsyncClient() {
+		if (httpAsyncClient == null) {
+			httpAsyncClient = HttpAsyncClients.custom()
+					.setConnectionManager(getConnectionManager())
+					.setDefaultRequestConfig(getRequestConfig())
+					.build();
+			httpAsyncClient.start();
+		}
+		return httpAsyncClient;
+	}
+
+	/**
+	 * Gets a configured {@code PoolingAsyncClientConnectionManager}
+	 *
+	 * @return {@link PoolingAsyncClientConnectionManager}
+	 */
+	protected PoolingAsyncClientConnectionManager getConnectionManager() {
+		final PoolingAsyncClientConnectionManagerBuilder builder = PoolingAsyncClientConnectionManagerBuilder.create()
+				.setMaxConnTotal(connectionsMaxTotal)
+				.setMaxConnPerRoute(connectionsMaxPerRoute)
+				.setDefaultConnectionConfig(ConnectionConfig.custom()
+						.setConnectTimeout(Timeout.ofMilliseconds(timeoutConnection))
+						.setTimeToLive(TimeValue.ofMilliseconds(connectionTimeToLive))
+						.build())
+				.setDefaultTlsConfig(TlsConfig.custom()
+						.setVersionPolicy(httpVersionPolicy)
+						.build());
+		if (tlsStrategy != null) {
+			builder.setTlsStrategy(tlsStrategy);
+		}
+		return builder.build();
+	}
+
+	/**
+	 * Builds and gets a {@code RequestConfig}
+	 *
+	 * @return {@link RequestConfig}
+	 */
+	protected RequestConfig getRequestConfig() {
+		return RequestConfig.custom()
+				.setConnectionRequestTimeout(Timeout.ofMilliseconds(timeoutConnectionRequest))
+				.setResponseTimeout(Timeout.ofMilliseconds(timeoutResponse))
+				.setRedirectsEnabled(redirectsEnabled)
+				.build();
+	}
+
+	@Override
+	public synchronized void close() {
+		if (httpAsyncClient != null) {
+			httpAsyncClient.close(CloseMode.GRACEFUL);
+			httpAsyncClient = null;
+		}
+	}
+
+	private static ContentType toContentType(String contentTypeString) {
+		return Utils.isStringNotBlank(contentTypeString) ? ContentType.create(contentTypeString) : null;
+	}
+
+	/**
+	 * Accumulates the response content and fails as soon as the max input size is exceeded
+	 */
+	private class MaxSizeResponseConsumer extends AbstractBinResponseConsumer<byte[]> {
+
+		/** The requested url */
+		private final String url;
+
+		/** The received content */
+		private ByteArrayOutputStream content;
+
+		/**
+		 * Default constructor
+		 *
+		 * @param url {@link String} the requested url
+		 */
+		private MaxSizeResponseConsumer(String url) {
+			this.url = url;
+		}
+
+		@Override
+		protected void start(HttpResponse response, ContentType contentType) throws HttpException, IOException {
+			final int statusCode = response.getCode();
+			if (HttpStatus.SC_OK != statusCode) {
+				final String reasonPhrase = response.getReasonPhrase();
+				String reason = Utils.isStringNotEmpty(reasonPhrase) ? " / reason : " + reasonPhrase : "";
+				throw new IOException("Not acceptable HTTP Status (HTTP status code : " + statusCode + reason + ")");
+			}
+			content = new ByteArrayOutputStream();
+		}
+
+		@Override
+		protected int capacityIncrement() {
+			return Integer.MAX_VALUE;
+		}
+
+		@Override
+		protected void data(ByteBuffer data, boolean endOfStream) throws IOException {
+			final int length = data.remaining();
+			if (maxInputSize > 0 && content.size() + length > maxInputSize) {
+				throw new IOException("Cannot fetch data limit=" + maxInputSize + ", url=" + url);
+			}
+			final byte[] chunk = new byte[length];
+			data.get(chunk);
+			content.write(chunk);
+		}
+
+		@Override
+		protected byte[] buildResult() {
+			return content != null ? content.toByteArray() : null;
+		}
+
+		@Override
+		public void failed(Exception cause) {
+			// handled within the callback
+		}
+
+		@Override
+		public void releaseResources() {
+			content = null;
+		}
+
+	}
+
+}
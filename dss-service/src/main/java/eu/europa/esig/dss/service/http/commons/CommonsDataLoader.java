@@ -53,13 +53,18 @@ import org.apache.hc.client5.http.routing.HttpRoutePlanner;
 import org.apache.hc.client5.http.ssl.DefaultClientTlsStrategy;
 import org.apache.hc.client5.http.ssl.DefaultHostnameVerifier;
 import org.apache.hc.client5.http.ssl.TlsSocketStrategy;
+import org.apache.hc.core5.http.ClassicHttpResponse;
 import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.Header;
 import org.apache.hc.core5.http.HttpEntity;
 import org.apache.hc.core5.http.HttpException;
+import org.apache.hc.core5.http.HttpHeaders;
 import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.http.HttpStatus;
 import org.apache.hc.core5.http.io.HttpClientResponseHandler;
 import org.apache.hc.core5.http.io.SocketConfig;
 import org.apache.hc.core5.http.io.entity.BufferedHttpEntity;
+import org.apache.hc.core5.http.io.entity.EntityUtils;
 import org.apache.hc.core5.http.io.entity.InputStreamEntity;
 import org.apache.hc.core5.http.protocol.HttpContext;
 import org.apache.hc.core5.reactor.ssl.SSLBufferMode;
@@ -945,6 +950,65 @@ public class CommonsDataLoader implements DataLoader {
 		}
 	}
 
+	/**
+	 * This method executes a conditional GET request using the validators obtained from a previous response.
+	 * When the server responds with 304 (Not Modified), no content is transferred and
+	 * {@link ConditionalGetResponse#isNotModified()} returns TRUE.
+	 * For non-HTTP urls, a plain GET is performed and the status code 200 (OK) is returned.
+	 *
+	 * @param url {@link String} to access
+	 * @param eTag {@link String} the entity tag of the cached content, to be sent within 'If-None-Match' header (optional)
+	 * @param lastModified {@link String} the Last-Modified value of the cached content, to be sent within
+	 *                     'If-Modified-Since' header (optional)
+	 * @return {@link ConditionalGetResponse}
+	 */
+	public ConditionalGetResponse conditionalGet(final String url, final String eTag, final String lastModified) {
+		if (!Protocol.isHttpUrl(url)) {
+			return new ConditionalGetResponse(HttpStatus.SC_OK, get(url), null, null);
+		}
+
+		HttpGet httpRequest = null;
+		CloseableHttpClient client = null;
+
+		try {
+			httpRequest = getHttpRequest(url);
+			if (Utils.isStringNotEmpty(eTag)) {
+				httpRequest.setHeader(HttpHeaders.IF_NONE_MATCH, eTag);
+			}
+			if (Utils.isStringNotEmpty(lastModified)) {
+				httpRequest.setHeader(HttpHeaders.IF_MODIFIED_SINCE, lastModified);
+			}
+			client = getHttpClient(url);
+
+			final HttpHost targetHost = getHttpHost(httpRequest);
+			final HttpContext localContext = getHttpContext(targetHost);
+			return client.execute(targetHost, httpRequest, localContext, response -> {
+				final String responseETag = getHeaderValue(response, HttpHeaders.ETAG);
+				final String responseLastModified = getHeaderValue(response, HttpHeaders.LAST_MODIFIED);
+				if (HttpStatus.SC_NOT_MODIFIED == response.getCode()) {
+					LOG.debug("The content from url [{}] has not been modified.", url);
+					EntityUtils.consumeQuietly(response.getEntity());
+					return new ConditionalGetResponse(response.getCode(), null, responseETag != null ? responseETag : eTag,
+							responseLastModified != null ? responseLastModified : lastModified);
+				}
+				return new ConditionalGetResponse(response.getCode(), getHttpClientResponseHandler().handleResponse(response),
+						responseETag, responseLastModified);
+			});
+
+		} catch (URISyntaxException | IOException e) {
+			throw new DSSExternalResourceException(String.format("Unable to process GET call for url [%s]. Reason : [%s]", url, DSSUtils.getExceptionMessage(e)), e);
+
+		} finally {
+			closeQuietly(httpRequest, client);
+
+		}
+	}
+
+	private String getHeaderValue(final ClassicHttpResponse response, final String headerName) {
+		final Header header = response.getFirstHeader(headerName);
+		return header != null ? header.getValue() : null;
+	}
+
 	@Override
 	public byte[] post(final String url, final byte[] content) {
 		LOG.debug("Fetching data via POST from url {}", url);
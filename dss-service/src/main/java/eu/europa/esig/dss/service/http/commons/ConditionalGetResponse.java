@@ -0,0 +1,105 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * <p>
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * <p>
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * <p>
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.service.http.commons;
+
+/**
+ * This class represents the result of a conditional HTTP GET request (see RFC 9110, section 13.1),
+ * sent with the validators (ETag and/or Last-Modified) obtained from a previous response
+ *
+ */
+public class ConditionalGetResponse {
+
+	/** The HTTP status code 304 (Not Modified) */
+	private static final int NOT_MODIFIED = 304;
+
+	/** The HTTP status code returned by the server */
+	private final int statusCode;
+
+	/** The obtained content, null when the resource has not been modified */
+	private final byte[] content;
+
+	/** The entity tag returned by the server */
+	private final String eTag;
+
+	/** The Last-Modified value returned by the server */
+	private final String lastModified;
+
+	/**
+	 * Default constructor
+	 *
+	 * @param statusCode the HTTP status code returned by the server
+	 * @param content byte array representing the obtained content, null when the resource has not been modified
+	 * @param eTag {@link String} the entity tag returned by the server, when present
+	 * @param lastModified {@link String} the Last-Modified value returned by the server, when present
+	 */
+	public ConditionalGetResponse(final int statusCode, final byte[] content, final String eTag, final String lastModified) {
+		this.statusCode = statusCode;
+		this.content = content;
+		this.eTag = eTag;
+		this.lastModified = lastModified;
+	}
+
+	/**
+	 * Gets the HTTP status code returned by the server
+	 *
+	 * @return the status code
+	 */
+	public int getStatusCode() {
+		return statusCode;
+	}
+
+	/**
+	 * Gets the obtained content
+	 *
+	 * @return byte array, null when the resource has not been modified
+	 */
+	public byte[] getContent() {
+		return content;
+	}
+
+	/**
+	 * Gets whether the server responded with 304 (Not Modified)
+	 *
+	 * @return TRUE if the resource has not been modified since the previous request, FALSE otherwise
+	 */
+	public boolean isNotModified() {
+		return NOT_MODIFIED == statusCode;
+	}
+
+	/**
+	 * Gets the entity tag returned by the server
+	 *
+	 * @return {@link String}
+	 */
+	public String getETag() {
+		return eTag;
+	}
+
+	/**
+	 * Gets the Last-Modified value returned by the server
+	 *
+	 * @return {@link String}
+	 */
+	public String getLastModified() {
+		return lastModified;
+	}
+
+}
@@ -36,6 +36,8 @@ import org.slf4j.LoggerFactory;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Date;
@@ -43,6 +45,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Properties;
 
 /**
  * This class provides some caching features to handle the resources. The default cache folder is set to
@@ -58,6 +61,15 @@ public class FileCacheDataLoader implements DataLoader, DSSCacheFileLoader {
 	/** The error message if the dataloader is not configured */
 	private static final String DATA_LOADER_NOT_CONFIGURED = "The DataLoader is not configured";
 
+	/** The extension of a file storing the HTTP validators (ETag, Last-Modified) of a cached file */
+	private static final String VALIDATORS_FILE_EXTENSION = ".validators";
+
+	/** The ETag property name */
+	private static final String ETAG = "ETag";
+
+	/** The Last-Modified property name */
+	private static final String LAST_MODIFIED = "Last-Modified";
+
 	/** The directory to cache files */
 	private File fileCacheDirectory = new File(System.getProperty("java.io.tmpdir"));
 
@@ -76,6 +88,9 @@ public class FileCacheDataLoader implements DataLoader, DSSCacheFileLoader {
 	/** The dataloader to be used for a remote files access */
 	private DataLoader dataLoader;
 
+	/** Defines whether conditional GET requests shall be used to refresh expired cached files */
+	private boolean conditionalGetEnabled = false;
+
 	/**
 	 * Empty constructor
 	 */
@@ -145,6 +160,22 @@ public class FileCacheDataLoader implements DataLoader, DSSCacheFileLoader {
 		this.cacheExpirationTime = cacheExpirationTimeInMilliseconds;
 	}
 
+	/**
+	 * Sets whether an expired cached file shall be refreshed using a conditional GET request.
+	 * When enabled, the ETag and Last-Modified values returned by the server are stored next to the cached file
+	 * and sent back within 'If-None-Match' and 'If-Modified-Since' headers. On a 304 (Not Modified) response
+	 * the cached file is kept and its expiration time is reset, without downloading the content again.
+	 * <p>
+	 * NOTE: applicable only for HTTP(S) urls, when a {@code CommonsDataLoader} is used as the underlying data loader.
+	 * <p>
+	 * Default: FALSE (the content is always downloaded again)
+	 *
+	 * @param conditionalGetEnabled whether conditional GET requests shall be used
+	 */
+	public void setConditionalGetEnabled(boolean conditionalGetEnabled) {
+		this.conditionalGetEnabled = conditionalGetEnabled;
+	}
+
 	/**
 	 * Sets the ResourceLoader for an absolute path creation
 	 *
@@ -244,9 +275,21 @@ public class FileCacheDataLoader implements DataLoader, DSSCacheFileLoader {
 		}
 		
 		byte[] bytes;
+		ConditionalGetResponse conditionalGetResponse = null;
 		if (!isNetworkProtocol(url)) {
 			bytes = getLocalFileContent(url);
 			
+		} else if (isConditionalGetApplicable(url)) {
+			conditionalGetResponse = conditionalGet(url, fileName, fileExists);
+			if (conditionalGetResponse.isNotModified()) {
+				LOG.debug("The cached file is up to date for url '{}'.", url);
+				if (!file.setLastModified(new Date().getTime())) {
+					LOG.debug("Unable to update the last modification time of the cached file for url '{}'.", url);
+				}
+				return new FileDocument(file);
+			}
+			bytes = conditionalGetResponse.getContent();
+
 		} else {
 			bytes = dataLoader.get(url);
 			
@@ -254,6 +297,9 @@ public class FileCacheDataLoader implements DataLoader, DSSCacheFileLoader {
 		
 		if (Utils.isArrayNotEmpty(bytes)) {
 			final File out = createFile(fileName, bytes);
+			if (conditionalGetResponse != null) {
+				saveValidators(fileName, conditionalGetResponse);
+			}
 			return new FileDocument(out);
 			
 		} 
@@ -265,6 +311,56 @@ public class FileCacheDataLoader implements DataLoader, DSSCacheFileLoader {
 	public DSSDocument getDocument(String url) {
 		return getDocument(url, false);
 	}
+
+	private boolean isConditionalGetApplicable(final String url) {
+		return conditionalGetEnabled && dataLoader instanceof CommonsDataLoader && Protocol.isHttpUrl(url);
+	}
+
+	private ConditionalGetResponse conditionalGet(final String url, final String fileName, final boolean fileExists) {
+		String eTag = null;
+		String lastModified = null;
+		if (fileExists) {
+			final Properties validators = loadValidators(fileName);
+			eTag = validators.getProperty(ETAG);
+			lastModified = validators.getProperty(LAST_MODIFIED);
+		}
+		return ((CommonsDataLoader) dataLoader).conditionalGet(url, eTag, lastModified);
+	}
+
+	private Properties loadValidators(final String fileName) {
+		final Properties validators = new Properties();
+		final File validatorsFile = getCacheFile(fileName + VALIDATORS_FILE_EXTENSION);
+		if (validatorsFile.exists()) {
+			try (InputStream is = Files.newInputStream(validatorsFile.toPath())) {
+				validators.load(is);
+			} catch (IOException e) {
+				LOG.warn("Unable to read the validators file '{}'. Reason : {}", validatorsFile.getName(), e.getMessage());
+			}
+		}
+		return validators;
+	}
+
+	private void saveValidators(final String fileName, final ConditionalGetResponse conditionalGetResponse) {
+		final File validatorsFile = getCacheFile(fileName + VALIDATORS_FILE_EXTENSION);
+		final Properties validators = new Properties();
+		if (conditionalGetResponse.getETag() != null) {
+			validators.setProperty(ETAG, conditionalGetResponse.getETag());
+		}
+		if (conditionalGetResponse.getLastModified() != null) {
+			validators.setProperty(LAST_MODIFIED, conditionalGetResponse.getLastModified());
+		}
+		try {
+			if (validators.isEmpty()) {
+				Files.deleteIfExists(validatorsFile.toPath());
+			} else {
+				try (OutputStream os = Files.newOutputStream(validatorsFile.toPath())) {
+					validators.store(os, null);
+				}
+			}
+		} catch (IOException e) {
+			LOG.warn("Unable to store the validators file '{}'. Reason : {}", validatorsFile.getName(), e.getMessage());
+		}
+	}
 	
 	@Override
 	public boolean remove(String url) {
@@ -276,6 +372,7 @@ public class FileCacheDataLoader implements DataLoader, DSSCacheFileLoader {
 			}
 			try {
 				Files.delete(file.toPath());
+				Files.deleteIfExists(getCacheFile(fileName + VALIDATORS_FILE_EXTENSION).toPath());
 				return true;
 
 			} catch (IOException e) {
@@ -88,11 +88,17 @@ public class JdbcCacheOCSPSource extends JdbcRevocationSource<OCSP> implements O
 	private static final SqlSelectQuery SQL_FIND_QUERY = new SqlSelectQuery("SELECT * FROM CACHED_OCSP WHERE ID = ?") {
 		@Override
 		public SqlOCSPResponse getRecord(ResultSet rs) throws SQLException {
-			SqlOCSPResponse response = new SqlOCSPResponse();
-			response.id = rs.getString("ID");
-			response.ocspBinary = rs.getBytes("DATA");
-			response.ocspUrl = rs.getString("LOC");
-			return response;
+			return buildRecord(rs);
+		}
+	};
+
+	/**
+	 * Used to extract the records for several ids within a single request
+	 */
+	private static final SqlSelectQuery SQL_FIND_BATCH_QUERY = new SqlSelectQuery("SELECT * FROM CACHED_OCSP WHERE ID IN (%s)") {
+		@Override
+		public SqlOCSPResponse getRecord(ResultSet rs) throws SQLException {
+			return buildRecord(rs);
 		}
 	};
 
@@ -138,6 +144,24 @@ public class JdbcCacheOCSPSource extends JdbcRevocationSource<OCSP> implements O
 		return SQL_FIND_QUERY;
 	}
 
+	@Override
+	protected SqlSelectQuery getRevocationDataBatchExtractQuery() {
+		return SQL_FIND_BATCH_QUERY;
+	}
+
+	@Override
+	protected String getRevocationTokenKey(SqlRecord sqlRecord) {
+		return ((SqlOCSPResponse) sqlRecord).id;
+	}
+
+	private static SqlOCSPResponse buildRecord(ResultSet rs) throws SQLException {
+		SqlOCSPResponse response = new SqlOCSPResponse();
+		response.id = rs.getString("ID");
+		response.ocspBinary = rs.getBytes("DATA");
+		response.ocspUrl = rs.getString("LOC");
+		return response;
+	}
+
 	@Override
 	protected final List<String> initRevocationTokenKeys(CertificateToken certificateToken) {
 		return DSSRevocationUtils.getOcspRevocationTokenKeys(certificateToken);
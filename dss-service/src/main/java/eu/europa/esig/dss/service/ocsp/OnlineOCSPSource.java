@@ -35,6 +35,7 @@ import eu.europa.esig.dss.service.http.commons.OCSPDataLoader;
 import eu.europa.esig.dss.spi.CertificateExtensionsUtils;
 import eu.europa.esig.dss.spi.DSSRevocationUtils;
 import eu.europa.esig.dss.spi.DSSUtils;
+import eu.europa.esig.dss.spi.client.http.AsyncDataLoader;
 import eu.europa.esig.dss.spi.client.http.DataLoader;
 import eu.europa.esig.dss.spi.exception.DSSExternalResourceException;
 import eu.europa.esig.dss.spi.x509.revocation.RevocationSourceAlternateUrlsSupport;
@@ -62,10 +63,16 @@ import org.slf4j.event.Level;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * Online OCSP repository. This implementation will contact the OCSP Responder
@@ -85,6 +92,11 @@ public class OnlineOCSPSource implements OCSPSource, RevocationSourceAlternateUr
 	 * The data loader used to retrieve the OCSP response.
 	 */
 	private DataLoader dataLoader;
+
+	/**
+	 * The data loader used to retrieve the OCSP response asynchronously (not defined by default).
+	 */
+	private AsyncDataLoader asyncDataLoader;
 	
 	/**
 	 * The DigestAlgorithm to be used in hash calculation for CertID on a request building
@@ -148,6 +160,19 @@ public class OnlineOCSPSource implements OCSPSource, RevocationSourceAlternateUr
 		this.dataLoader = dataLoader;
 	}
 
+	/**
+	 * Sets the AsyncDataLoader used to query a revocation server within
+	 * {@code #getRevocationTokenAsync(certificateToken, issuerCertificateToken)}.
+	 * When defined, the OCSP requests are executed without blocking the calling thread
+	 * (e.g. using {@code eu.europa.esig.dss.service.http.commons.AsyncCommonsDataLoader}).
+	 *
+	 * @param asyncDataLoader
+	 *            the component that allows to retrieve an OCSP response asynchronously
+	 */
+	public void setAsyncDataLoader(final AsyncDataLoader asyncDataLoader) {
+		this.asyncDataLoader = asyncDataLoader;
+	}
+
 	/**
 	 * Set the NonceSource to use for querying the OCSP server.
 	 *
@@ -252,18 +277,7 @@ public class OnlineOCSPSource implements OCSPSource, RevocationSourceAlternateUr
 
 			try {
 				BasicOCSPResp basicResponse = executeOCSPRequest(ocspAccessLocation, content);
-				SingleResp latestSingleResponse = DSSRevocationUtils.getLatestSingleResponse(basicResponse, certificateToken, issuerCertificateToken);
-				assertOCSPResponseValid(basicResponse, latestSingleResponse, nonce);
-
-				OCSPToken ocspToken = new OCSPToken(basicResponse, latestSingleResponse, certificateToken, issuerCertificateToken);
-				ocspToken.setSourceURL(ocspAccessLocation);
-				ocspToken.setExternalOrigin(RevocationOrigin.EXTERNAL);
-
-				if (LOG.isDebugEnabled()) {
-					LOG.debug("OCSP Response '{}' has been retrieved from a source with URL '{}'.",
-							ocspToken.getDSSIdAsString(), ocspAccessLocation);
-				}
-				return ocspToken;
+				return buildOCSPToken(basicResponse, certificateToken, issuerCertificateToken, nonce, ocspAccessLocation);
 
 			} catch (Exception e) {
 				if (nbTries == 0) {
@@ -280,6 +294,244 @@ public class OnlineOCSPSource implements OCSPSource, RevocationSourceAlternateUr
 				"for a certificate call with id '%s'", certificateToken.getDSSIdAsString()));
 	}
 
+	/**
+	 * Retrieves an OCSP token for {@code certificateToken} without blocking the calling thread,
+	 * using the defined {@code AsyncDataLoader} (see {@code #setAsyncDataLoader(asyncDataLoader)}).
+	 *
+	 * @param certificateToken {@link CertificateToken} to retrieve an OCSP token for
+	 * @param issuerCertificateToken {@link CertificateToken} representing the issuer of {@code certificateToken}
+	 * @return {@link CompletableFuture} with {@link OCSPToken}, or with null when no OCSP access location is found
+	 */
+	public CompletableFuture<OCSPToken> getRevocationTokenAsync(CertificateToken certificateToken,
+																CertificateToken issuerCertificateToken) {
+		return getRevocationTokenAsync(certificateToken, issuerCertificateToken, Collections.emptyList());
+	}
+
+	/**
+	 * Retrieves an OCSP token for {@code certificateToken} without blocking the calling thread,
+	 * using the defined {@code AsyncDataLoader} (see {@code #setAsyncDataLoader(asyncDataLoader)}).
+	 * The OCSP access locations are requested in the same order as within
+	 * {@code #getRevocationToken(certificateToken, issuerCertificateToken, alternativeUrls)}, the next URL being requested
+	 * once the previous request failed. The returned future is completed exceptionally
+	 * with a {@code DSSExternalResourceException} when no valid OCSP response has been obtained.
+	 *
+	 * @param certificateToken {@link CertificateToken} to retrieve an OCSP token for
+	 * @param issuerCertificateToken {@link CertificateToken} representing the issuer of {@code certificateToken}
+	 * @param alternativeUrls a list of {@link String} alternative OCSP access URLs
+	 * @return {@link CompletableFuture} with {@link OCSPToken}, or with null when no OCSP access location is found
+	 */
+	public CompletableFuture<OCSPToken> getRevocationTokenAsync(CertificateToken certificateToken,
+																CertificateToken issuerCertificateToken,
+																List<String> alternativeUrls) {
+		Objects.requireNonNull(certificateToken, "CertificateToken cannot be null!");
+		Objects.requireNonNull(issuerCertificateToken, "Issuer CertificateToken cannot be null!");
+		Objects.requireNonNull(asyncDataLoader, "AsyncDataLoader is not provided !");
+		LOG.trace("--> OnlineOCSPSource queried asynchronously for {}", certificateToken.getDSSIdAsString());
+
+		final List<String> ocspUrls = getOCSPAccessURLs(certificateToken, alternativeUrls);
+		if (Utils.isCollectionEmpty(ocspUrls)) {
+			if (LOG.isDebugEnabled()) {
+				LOG.debug("No OCSP location found for certificate with Id '{}'", certificateToken.getDSSIdAsString());
+			}
+			return CompletableFuture.completedFuture(null);
+		}
+
+		byte[] nonce = null;
+		if (nonceSource != null) {
+			nonce = nonceSource.getNonceValue();
+		}
+
+		final byte[] content = buildOCSPRequest(certificateToken, issuerCertificateToken, nonce);
+
+		final CompletableFuture<OCSPToken> result = new CompletableFuture<>();
+		requestOCSPTokenAsync(result, ocspUrls.iterator(), certificateToken, issuerCertificateToken, content, nonce);
+		return result;
+	}
+
+	private void requestOCSPTokenAsync(CompletableFuture<OCSPToken> result, Iterator<String> ocspUrls,
+									   CertificateToken certificateToken, CertificateToken issuerCertificateToken,
+									   byte[] content, byte[] nonce) {
+		final String ocspAccessLocation = ocspUrls.next();
+		if (LOG.isDebugEnabled()) {
+			LOG.debug("Trying to retrieve asynchronously an OCSP response from URL '{}'...", ocspAccessLocation);
+		}
+
+		CompletableFuture<byte[]> request;
+		try {
+			request = asyncDataLoader.postAsync(ocspAccessLocation, content);
+		} catch (Exception e) {
+			request = new CompletableFuture<>();
+			request.completeExceptionally(e);
+		}
+
+		request.whenComplete((ocspRespBytes, e) -> {
+			if (result.isDone()) {
+				return;
+			}
+			Throwable cause = e;
+			if (cause == null) {
+				try {
+					BasicOCSPResp basicResponse = toBasicOCSPResp(ocspAccessLocation, ocspRespBytes);
+					result.complete(buildOCSPToken(basicResponse, certificateToken, issuerCertificateToken, nonce, ocspAccessLocation));
+					return;
+				} catch (Exception ex) {
+					cause = ex;
+				}
+			} else if (cause instanceof CompletionException && cause.getCause() != null) {
+				cause = cause.getCause();
+			}
+
+			if (ocspUrls.hasNext()) {
+				LOG.warn("Unable to retrieve OCSP response with URL '{}' : {}", ocspAccessLocation, cause.getMessage());
+				requestOCSPTokenAsync(result, ocspUrls, certificateToken, issuerCertificateToken, content, nonce);
+			} else {
+				result.completeExceptionally(new DSSExternalResourceException(String.format(
+						"Unable to retrieve OCSP response for certificate with Id '%s' from URL '%s'. Reason : %s",
+						certificateToken.getDSSIdAsString(), ocspAccessLocation, cause.getMessage()), cause));
+			}
+		});
+	}
+
+	private OCSPToken buildOCSPToken(BasicOCSPResp basicResponse, CertificateToken certificateToken,
+									 CertificateToken issuerCertificateToken, byte[] nonce, String ocspAccessLocation) {
+		SingleResp latestSingleResponse = DSSRevocationUtils.getLatestSingleResponse(basicResponse, certificateToken, issuerCertificateToken);
+		assertOCSPResponseValid(basicResponse, latestSingleResponse, nonce);
+
+		OCSPToken ocspToken = new OCSPToken(basicResponse, latestSingleResponse, certificateToken, issuerCertificateToken);
+		ocspToken.setSourceURL(ocspAccessLocation);
+		ocspToken.setExternalOrigin(RevocationOrigin.EXTERNAL);
+
+		if (LOG.isDebugEnabled()) {
+			LOG.debug("OCSP Response '{}' has been retrieved from a source with URL '{}'.",
+					ocspToken.getDSSIdAsString(), ocspAccessLocation);
+		}
+		return ocspToken;
+	}
+
+	/**
+	 * Retrieves OCSP tokens for several certificates issued by the same {@code issuerCertificateToken}.
+	 * The certificates are grouped by their OCSP access URLs, and a single OCSP request containing a CertID
+	 * per certificate is sent for each group (see RFC 6960, 4.1.1). The obtained basic OCSP response is then
+	 * split into an {@code OCSPToken} per certificate.
+	 *
+	 * NOTE: a certificate is requested individually when the batch request fails or when the responder does
+	 * not return a status for it (e.g. a responder answering only the first request).
+	 * A certificate for which no OCSP response can be obtained is not returned.
+	 *
+	 * @param certificateTokens a collection of {@link CertificateToken}s to retrieve OCSP tokens for
+	 * @param issuerCertificateToken {@link CertificateToken} representing the issuer of the {@code certificateTokens}
+	 * @return a map between the certificates and the obtained {@link OCSPToken}s.
+	 *         Certificates without an OCSP access location are not returned.
+	 */
+	public Map<CertificateToken, OCSPToken> getRevocationTokens(Collection<CertificateToken> certificateTokens,
+																CertificateToken issuerCertificateToken) {
+		return getRevocationTokens(certificateTokens, issuerCertificateToken, Collections.emptyList());
+	}
+
+	/**
+	 * Retrieves OCSP tokens for several certificates issued by the same {@code issuerCertificateToken},
+	 * using the given {@code alternativeUrls} after the OCSP access URLs of each certificate.
+	 * See {@code getRevocationTokens(certificateTokens, issuerCertificateToken)}.
+	 *
+	 * @param certificateTokens a collection of {@link CertificateToken}s to retrieve OCSP tokens for
+	 * @param issuerCertificateToken {@link CertificateToken} representing the issuer of the {@code certificateTokens}
+	 * @param alternativeUrls a list of {@link String} alternative OCSP access URLs
+	 * @return a map between the certificates and the obtained {@link OCSPToken}s.
+	 *         Certificates without an OCSP access location are not returned.
+	 */
+	public Map<CertificateToken, OCSPToken> getRevocationTokens(Collection<CertificateToken> certificateTokens,
+																CertificateToken issuerCertificateToken,
+																List<String> alternativeUrls) {
+		Objects.requireNonNull(certificateTokens, "Collection of CertificateTokens cannot be null!");
+		Objects.requireNonNull(issuerCertificateToken, "Issuer CertificateToken cannot be null!");
+		Objects.requireNonNull(dataLoader, "DataLoader is not provided !");
+
+		final Map<List<String>, List<CertificateToken>> certificatesByOCSPUrls = new LinkedHashMap<>();
+		for (CertificateToken certificateToken : certificateTokens) {
+			final List<String> ocspUrls = getOCSPAccessURLs(certificateToken, alternativeUrls);
+			if (Utils.isCollectionEmpty(ocspUrls)) {
+				if (LOG.isDebugEnabled()) {
+					LOG.debug("No OCSP location found for certificate with Id '{}'", certificateToken.getDSSIdAsString());
+				}
+				continue;
+			}
+			List<CertificateToken> certificates = certificatesByOCSPUrls.computeIfAbsent(ocspUrls, k -> new ArrayList<>());
+			if (!certificates.contains(certificateToken)) {
+				certificates.add(certificateToken);
+			}
+		}
+
+		final Map<CertificateToken, OCSPToken> result = new LinkedHashMap<>();
+		for (Map.Entry<List<String>, List<CertificateToken>> entry : certificatesByOCSPUrls.entrySet()) {
+			final List<CertificateToken> certificates = entry.getValue();
+			if (certificates.size() > 1) {
+				result.putAll(getBatchRevocationTokens(certificates, issuerCertificateToken, entry.getKey()));
+			}
+			for (CertificateToken certificateToken : certificates) {
+				if (!result.containsKey(certificateToken)) {
+					try {
+						OCSPToken ocspToken = getRevocationToken(certificateToken, issuerCertificateToken, alternativeUrls);
+						if (ocspToken != null) {
+							result.put(certificateToken, ocspToken);
+						}
+					} catch (DSSExternalResourceException e) {
+						LOG.warn("Unable to retrieve OCSP response for certificate with Id '{}' : {}",
+								certificateToken.getDSSIdAsString(), e.getMessage());
+					}
+				}
+			}
+		}
+		return result;
+	}
+
+	private Map<CertificateToken, OCSPToken> getBatchRevocationTokens(List<CertificateToken> certificateTokens,
+																 CertificateToken issuerCertificateToken, List<String> ocspUrls) {
+		byte[] nonce = null;
+		if (nonceSource != null) {
+			nonce = nonceSource.getNonceValue();
+		}
+
+		final byte[] content = buildOCSPRequest(certificateTokens, issuerCertificateToken, nonce);
+
+		for (String ocspAccessLocation : ocspUrls) {
+			if (LOG.isDebugEnabled()) {
+				LOG.debug("Trying to retrieve an OCSP response for {} certificates from URL '{}'...",
+						certificateTokens.size(), ocspAccessLocation);
+			}
+
+			try {
+				final BasicOCSPResp basicResponse = executeOCSPRequest(ocspAccessLocation, content);
+
+				final Map<CertificateToken, OCSPToken> result = new LinkedHashMap<>();
+				for (CertificateToken certificateToken : certificateTokens) {
+					SingleResp latestSingleResponse = DSSRevocationUtils.getLatestSingleResponse(basicResponse, certificateToken, issuerCertificateToken);
+					if (latestSingleResponse == null) {
+						LOG.debug("No single response found for certificate with Id '{}' within the OCSP response from URL '{}'.",
+								certificateToken.getDSSIdAsString(), ocspAccessLocation);
+						continue;
+					}
+					assertOCSPResponseValid(basicResponse, latestSingleResponse, nonce);
+
+					OCSPToken ocspToken = new OCSPToken(basicResponse, latestSingleResponse, certificateToken, issuerCertificateToken);
+					ocspToken.setSourceURL(ocspAccessLocation);
+					ocspToken.setExternalOrigin(RevocationOrigin.EXTERNAL);
+					result.put(certificateToken, ocspToken);
+				}
+
+				if (LOG.isDebugEnabled()) {
+					LOG.debug("OCSP Response for {} out of {} certificates has been retrieved from a source with URL '{}'.",
+							result.size(), certificateTokens.size(), ocspAccessLocation);
+				}
+				return result;
+
+			} catch (Exception e) {
+				LOG.warn("Unable to retrieve OCSP response for {} certificates with URL '{}' : {}",
+						certificateTokens.size(), ocspAccessLocation, e.getMessage());
+			}
+		}
+		return Collections.emptyMap();
+	}
+
 	/**
 	 * Extracts a list of OCSP access URLs to be used in the provided order to retrieve an OCSP response
 	 *
@@ -309,11 +561,25 @@ public class OnlineOCSPSource implements OCSPSource, RevocationSourceAlternateUr
 	 * @return byte array representing an OCSP request
 	 */
 	protected byte[] buildOCSPRequest(CertificateToken certificateToken, CertificateToken issuerToken, byte[] nonce) {
+		return buildOCSPRequest(Collections.singletonList(certificateToken), issuerToken, nonce);
+	}
+
+	/**
+	 * Builds an OCSP request containing a CertID for each of the {@code certificateTokens}
+	 *
+	 * @param certificateTokens a collection of {@link CertificateToken}s to retrieve an OCSP token for
+	 * @param issuerToken {@link CertificateToken} representing an issuer certificate of {@code certificateTokens}
+	 * @param nonce byte array containing a unique nonce
+	 * @return byte array representing an OCSP request
+	 */
+	protected byte[] buildOCSPRequest(Collection<CertificateToken> certificateTokens, CertificateToken issuerToken, byte[] nonce) {
 		try {
 			final OCSPReqBuilder ocspReqBuilder = new OCSPReqBuilder();
 
-			final CertificateID certId = DSSRevocationUtils.getOCSPCertificateID(certificateToken, issuerToken, certIDDigestAlgorithm);
-			ocspReqBuilder.addRequest(certId);
+			for (CertificateToken certificateToken : certificateTokens) {
+				final CertificateID certId = DSSRevocationUtils.getOCSPCertificateID(certificateToken, issuerToken, certIDDigestAlgorithm);
+				ocspReqBuilder.addRequest(certId);
+			}
 			/*
 			 * The nonce extension is used to bind a request to a response to
 			 * prevent replay attacks. RFC 6960 (OCSP) section 4.1.2 such
@@ -345,6 +611,10 @@ public class OnlineOCSPSource implements OCSPSource, RevocationSourceAlternateUr
 	 */
 	protected BasicOCSPResp executeOCSPRequest(String ocspAccessLocation, byte[] request) throws IOException, OCSPException {
 		final byte[] ocspRespBytes = dataLoader.post(ocspAccessLocation, request);
+		return toBasicOCSPResp(ocspAccessLocation, ocspRespBytes);
+	}
+
+	private BasicOCSPResp toBasicOCSPResp(String ocspAccessLocation, byte[] ocspRespBytes) throws IOException, OCSPException {
 		if (Utils.isArrayNotEmpty(ocspRespBytes)) {
 			if (LOG.isTraceEnabled()) {
 				LOG.trace(String.format("Obtained OCSPResponse binaries from URL '%s' : %s", ocspAccessLocation, Utils.toBase64(ocspRespBytes)));
@@ -34,9 +34,11 @@ import org.slf4j.LoggerFactory;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -81,11 +83,17 @@ public class JdbcCacheAIASource extends RepositoryAIASource {
     private static final SqlSelectQuery SQL_FIND_QUERY = new SqlSelectQuery("SELECT * FROM AIA_CERTIFICATES WHERE AIA = ?") {
         @Override
         public SqlAIAResponse getRecord(ResultSet rs) throws SQLException {
-            SqlAIAResponse response = new SqlAIAResponse();
-            response.id = rs.getString("ID");
-            response.aiaKey = rs.getString("AIA");
-            response.certificateBinary = rs.getBytes("DATA");
-            return response;
+            return buildRecord(rs);
+        }
+    };
+
+    /**
+     * Requests to extract AIA certificates for several AIA keys within a single request
+     */
+    private static final SqlSelectQuery SQL_FIND_BATCH_QUERY = new SqlSelectQuery("SELECT * FROM AIA_CERTIFICATES WHERE AIA IN (%s)") {
+        @Override
+        public SqlAIAResponse getRecord(ResultSet rs) throws SQLException {
+            return buildRecord(rs);
         }
     };
 
@@ -176,6 +184,16 @@ public class JdbcCacheAIASource extends RepositoryAIASource {
         return SQL_FIND_QUERY;
     }
 
+    /**
+     * Returns an SQL query to extract AIA certificates for several AIA keys from a table.
+     * The query shall contain an {@code IN (%s)} clause, see {@code JdbcCacheConnector#selectByKeys}.
+     *
+     * @return {@link SqlSelectQuery}
+     */
+    protected SqlSelectQuery getAIACertificatesBatchExtractQuery() {
+        return SQL_FIND_BATCH_QUERY;
+    }
+
     /**
      * Returns an SQL query to extract stored AIA keys in a table
      *
@@ -191,6 +209,15 @@ public class JdbcCacheAIASource extends RepositoryAIASource {
         return buildCertificatesFromResult(records);
     }
 
+    @Override
+    protected Set<CertificateToken> findCertificates(final Collection<String> keys) {
+        if (Utils.collectionSize(keys) < 2) {
+            return super.findCertificates(keys);
+        }
+        Collection<SqlRecord> records = jdbcCacheConnector.selectByKeys(getAIACertificatesBatchExtractQuery(), keys);
+        return buildCertificatesFromResult(records);
+    }
+
     private Set<CertificateToken> buildCertificatesFromResult(Collection<SqlRecord> records) {
         try {
             Set<CertificateToken> certificateTokens = new LinkedHashSet<>();
@@ -225,6 +252,40 @@ public class JdbcCacheAIASource extends RepositoryAIASource {
         LOG.debug("Certificate tokens with AIA key '{}' successfully removed from DB", aiaKey);
     }
 
+    @Override
+    protected void insertCertificates(final Map<CertificateToken, String> certificates) {
+        final List<Object[]> arguments = new ArrayList<>();
+        for (Map.Entry<CertificateToken, String> entry : certificates.entrySet()) {
+            final CertificateToken certificateToken = entry.getKey();
+            final String aiaKey = entry.getValue();
+            if (certificateToken != null && aiaKey != null) {
+                arguments.add(new Object[] { getUniqueCertificateAiaId(certificateToken, aiaKey), aiaKey, certificateToken.getEncoded() });
+            }
+        }
+        if (Utils.isCollectionNotEmpty(arguments)) {
+            jdbcCacheConnector.executeBatch(getInsertCertificateTokenEntryQuery(), arguments);
+            LOG.debug("{} AIA Certificates successfully inserted in DB", arguments.size());
+        }
+    }
+
+    @Override
+    protected void removeCertificates(final Collection<String> aiaKeys) {
+        final List<Object[]> arguments = new ArrayList<>();
+        for (String aiaKey : aiaKeys) {
+            arguments.add(new Object[] { aiaKey });
+        }
+        jdbcCacheConnector.executeBatch(getRemoveCertificateTokenEntryQuery(), arguments);
+        LOG.debug("Certificate tokens with AIA keys '{}' successfully removed from DB", aiaKeys);
+    }
+
+    private static SqlAIAResponse buildRecord(ResultSet rs) throws SQLException {
+        SqlAIAResponse response = new SqlAIAResponse();
+        response.id = rs.getString("ID");
+        response.aiaKey = rs.getString("AIA");
+        response.certificateBinary = rs.getBytes("DATA");
+        return response;
+    }
+
     @Override
     protected List<String> getExistingAIAKeys() {
         Collection<SqlRecord> result = jdbcCacheConnector.select(getAIAKeysExtractQuery());
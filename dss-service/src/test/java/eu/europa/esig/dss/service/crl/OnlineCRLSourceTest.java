@@ -25,6 +25,7 @@ import eu.europa.esig.dss.enumerations.SignatureValidity;
 import eu.europa.esig.dss.model.x509.CertificateToken;
 import eu.europa.esig.dss.model.x509.revocation.crl.CRL;
 import eu.europa.esig.dss.service.OnlineSourceTest;
+import eu.europa.esig.dss.service.http.commons.AsyncCommonsDataLoader;
 import eu.europa.esig.dss.service.http.commons.CommonsDataLoader;
 import eu.europa.esig.dss.spi.DSSASN1Utils;
 import eu.europa.esig.dss.spi.DSSUtils;
@@ -38,6 +39,9 @@ import org.junit.jupiter.api.Test;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
@@ -98,6 +102,45 @@ class OnlineCRLSourceTest extends OnlineSourceTest {
 		assertTrue(revocationToken.isValid());
 	}
 	
+	@Test
+	void getRevocationTokenAsyncTest() throws Exception {
+		try (AsyncCommonsDataLoader asyncDataLoader = new AsyncCommonsDataLoader()) {
+			onlineCRLSource.setAsyncDataLoader(asyncDataLoader);
+
+			assertNull(onlineCRLSource.getRevocationTokenAsync(goodUser, goodCa).get());
+
+			CRLToken revocationToken = onlineCRLSource.getRevocationTokenAsync(goodCa, rootCa).get();
+			assertNotNull(revocationToken);
+			assertTrue(revocationToken.isValid());
+
+			ExecutionException exception = assertThrows(ExecutionException.class,
+					() -> onlineCRLSource.getRevocationTokenAsync(invalidSigGoodUser, goodCa).get());
+			assertInstanceOf(DSSExternalResourceException.class, exception.getCause());
+			assertTrue(exception.getCause().getMessage().contains("Unable to retrieve CRL for certificate with Id '" + invalidSigGoodUser.getDSSIdAsString() + "'"));
+		}
+	}
+
+	@Test
+	void getRevocationTokenAsyncHedgedTest() throws Exception {
+		ScheduledExecutorService hedgingExecutor = Executors.newSingleThreadScheduledExecutor();
+		try (AsyncCommonsDataLoader asyncDataLoader = new AsyncCommonsDataLoader()) {
+			asyncDataLoader.setHedgingExecutor(hedgingExecutor);
+			asyncDataLoader.setHedgingDelay(500);
+			onlineCRLSource.setAsyncDataLoader(asyncDataLoader);
+
+			// the alternative URL is requested while the CRL distribution point does not respond
+			String alternativeUrl = String.format(CUSTOM_TIMEOUT_CRL_URL, 1, DSSASN1Utils.getSubjectCommonName(goodCa));
+			CRLToken crlToken = onlineCRLSource.getRevocationTokenAsync(timeoutSigGoodUser, goodCa,
+					Collections.singletonList(alternativeUrl)).get();
+			assertNotNull(crlToken);
+			assertTrue(crlToken.isValid());
+			assertEquals(alternativeUrl, crlToken.getSourceURL());
+
+		} finally {
+			hedgingExecutor.shutdown();
+		}
+	}
+
 	@Test
 	void getRevocationTokenEd25519Test() {
 		Exception exception = assertThrows(DSSExternalResourceException.class,
@@ -0,0 +1,136 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * <p>
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * <p>
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * <p>
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.service.http.commons;
+
+import com.sun.net.httpserver.HttpServer;
+import eu.europa.esig.dss.spi.client.http.DataLoader.DataAndUrl;
+import eu.europa.esig.dss.spi.exception.DSSDataLoaderMultipleException;
+import eu.europa.esig.dss.spi.exception.DSSExternalResourceException;
+import eu.europa.esig.dss.utils.Utils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AsyncCommonsDataLoaderTest {
+
+	private static final byte[] CONTENT = "<TrustServiceStatusList/>".getBytes(StandardCharsets.UTF_8);
+
+	private HttpServer server;
+
+	private String baseUrl;
+
+	@BeforeEach
+	void init() throws IOException {
+		server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+		server.createContext("/tl.xml", exchange -> {
+			exchange.sendResponseHeaders(200, CONTENT.length);
+			exchange.getResponseBody().write(CONTENT);
+			exchange.close();
+		});
+		server.createContext("/echo", exchange -> {
+			byte[] request = Utils.toByteArray(exchange.getRequestBody());
+			exchange.sendResponseHeaders(200, request.length);
+			exchange.getResponseBody().write(request);
+			exchange.close();
+		});
+		server.createContext("/missing", exchange -> {
+			exchange.sendResponseHeaders(404, -1);
+			exchange.close();
+		});
+		server.start();
+
+		baseUrl = "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+	}
+
+	@AfterEach
+	void shutdown() {
+		server.stop(0);
+	}
+
+	@Test
+	void getTest() throws Exception {
+		try (AsyncCommonsDataLoader dataLoader = new AsyncCommonsDataLoader()) {
+			assertArrayEquals(CONTENT, dataLoader.getAsync(baseUrl + "/tl.xml").get());
+
+			CompletableFuture<byte[]> first = dataLoader.getAsync(baseUrl + "/tl.xml");
+			CompletableFuture<byte[]> second = dataLoader.getAsync(baseUrl + "/tl.xml");
+			assertArrayEquals(CONTENT, first.get());
+			assertArrayEquals(CONTENT, second.get());
+
+			ExecutionException exception = assertThrows(ExecutionException.class,
+					() -> dataLoader.getAsync(baseUrl + "/missing").get());
+			assertInstanceOf(DSSExternalResourceException.class, exception.getCause());
+			assertTrue(exception.getCause().getMessage().contains("404"));
+
+			exception = assertThrows(ExecutionException.class,
+					() -> dataLoader.getAsync("ldap://ldap.example.com/dc=example").get());
+			assertInstanceOf(DSSExternalResourceException.class, exception.getCause());
+		}
+	}
+
+	@Test
+	void postTest() throws Exception {
+		try (AsyncCommonsDataLoader dataLoader = new AsyncCommonsDataLoader("application/ocsp-request")) {
+			assertArrayEquals(CONTENT, dataLoader.postAsync(baseUrl + "/echo", CONTENT).get());
+		}
+	}
+
+	@Test
+	void maxInputSizeTest() throws Exception {
+		try (AsyncCommonsDataLoader dataLoader = new AsyncCommonsDataLoader()) {
+			dataLoader.setMaxInputSize(CONTENT.length);
+			assertArrayEquals(CONTENT, dataLoader.getAsync(baseUrl + "/tl.xml").get());
+
+			dataLoader.setMaxInputSize(CONTENT.length - 1);
+			ExecutionException exception = assertThrows(ExecutionException.class,
+					() -> dataLoader.getAsync(baseUrl + "/tl.xml").get());
+			assertInstanceOf(DSSExternalResourceException.class, exception.getCause());
+		}
+	}
+
+	@Test
+	void getAlternativeUrlsTest() throws Exception {
+		try (AsyncCommonsDataLoader dataLoader = new AsyncCommonsDataLoader()) {
+			DataAndUrl dataAndUrl = dataLoader.getAsync(Arrays.asList(baseUrl + "/missing", baseUrl + "/tl.xml")).get();
+			assertEquals(baseUrl + "/tl.xml", dataAndUrl.getUrlString());
+			assertArrayEquals(CONTENT, dataAndUrl.getData());
+
+			ExecutionException exception = assertThrows(ExecutionException.class,
+					() -> dataLoader.getAsync(Arrays.asList(baseUrl + "/missing", "ldap://ldap.example.com/dc=example")).get());
+			assertInstanceOf(DSSDataLoaderMultipleException.class, exception.getCause());
+		}
+	}
+
+}
@@ -20,6 +20,7 @@
  */
 package eu.europa.esig.dss.service.http.commons;
 
+import com.sun.net.httpserver.HttpServer;
 import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.model.DSSException;
 import eu.europa.esig.dss.spi.DSSUtils;
@@ -33,6 +34,9 @@ import org.junit.jupiter.api.io.TempDir;
 
 import java.io.File;
 import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Arrays;
@@ -41,10 +45,14 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -179,6 +187,71 @@ class FileCacheDataLoaderTest {
 		assertNotNull(dataAndUrl.getData());
 	}
 
+	@Test
+	void conditionalGetTest() throws IOException {
+		final byte[] content = "<TrustServiceStatusList/>".getBytes(StandardCharsets.UTF_8);
+		final String eTag = "\"v1\"";
+		final AtomicInteger requestCounter = new AtomicInteger();
+		final AtomicInteger contentCounter = new AtomicInteger();
+
+		HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+		server.createContext("/tl.xml", exchange -> {
+			requestCounter.incrementAndGet();
+			exchange.getResponseHeaders().add("ETag", eTag);
+			if (eTag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+				exchange.sendResponseHeaders(304, -1);
+			} else {
+				contentCounter.incrementAndGet();
+				exchange.sendResponseHeaders(200, content.length);
+				exchange.getResponseBody().write(content);
+			}
+			exchange.close();
+		});
+		server.start();
+
+		try {
+			String url = "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort() + "/tl.xml";
+
+			FileCacheDataLoader conditionalDataLoader = new FileCacheDataLoader(new CommonsDataLoader());
+			conditionalDataLoader.setFileCacheDirectory(cacheDirectory);
+			conditionalDataLoader.setCacheExpirationTime(0);
+			conditionalDataLoader.setConditionalGetEnabled(true);
+
+			assertArrayEquals(content, DSSUtils.toByteArray(conditionalDataLoader.getDocument(url)));
+			assertEquals(1, requestCounter.get());
+			assertEquals(1, contentCounter.get());
+
+			assertArrayEquals(content, DSSUtils.toByteArray(conditionalDataLoader.getDocument(url)));
+			assertArrayEquals(content, conditionalDataLoader.get(url));
+			assertEquals(3, requestCounter.get());
+			assertEquals(1, contentCounter.get());
+
+			assertTrue(conditionalDataLoader.remove(url));
+			assertArrayEquals(content, DSSUtils.toByteArray(conditionalDataLoader.getDocument(url)));
+			assertEquals(4, requestCounter.get());
+			assertEquals(2, contentCounter.get());
+
+			conditionalDataLoader.setConditionalGetEnabled(false);
+			assertArrayEquals(content, DSSUtils.toByteArray(conditionalDataLoader.getDocument(url)));
+			assertEquals(5, requestCounter.get());
+			assertEquals(3, contentCounter.get());
+
+			ConditionalGetResponse response = new CommonsDataLoader().conditionalGet(url, eTag, null);
+			assertEquals(304, response.getStatusCode());
+			assertTrue(response.isNotModified());
+			assertNull(response.getContent());
+			assertEquals(eTag, response.getETag());
+
+			response = new CommonsDataLoader().conditionalGet(url, "\"v0\"", null);
+			assertEquals(200, response.getStatusCode());
+			assertFalse(response.isNotModified());
+			assertArrayEquals(content, response.getContent());
+
+		} finally {
+			server.stop(0);
+		}
+	}
+
 	private long getUrlAndReturnCacheCreationTime() {
 		byte[] bytesArray = dataLoader.get(URL_TO_LOAD);
 		assertTrue(bytesArray.length > 0);
@@ -28,12 +28,14 @@ import eu.europa.esig.dss.model.x509.CertificateToken;
 import eu.europa.esig.dss.model.x509.revocation.ocsp.OCSP;
 import eu.europa.esig.dss.service.OnlineSourceTest;
 import eu.europa.esig.dss.service.SecureRandomNonceSource;
+import eu.europa.esig.dss.service.http.commons.AsyncCommonsDataLoader;
 import eu.europa.esig.dss.service.http.commons.CommonsDataLoader;
 import eu.europa.esig.dss.service.http.commons.FileCacheDataLoader;
 import eu.europa.esig.dss.service.http.commons.OCSPDataLoader;
 import eu.europa.esig.dss.spi.DSSASN1Utils;
 import eu.europa.esig.dss.spi.DSSUtils;
 import eu.europa.esig.dss.spi.alerts.DSSExternalResourceExceptionAlert;
+import eu.europa.esig.dss.spi.client.http.ExecutorAsyncDataLoader;
 import eu.europa.esig.dss.spi.client.http.IgnoreDataLoader;
 import eu.europa.esig.dss.spi.exception.DSSExternalResourceException;
 import eu.europa.esig.dss.spi.x509.AlternateUrlsSourceAdapter;
@@ -49,6 +51,9 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -297,6 +302,52 @@ class OnlineOCSPSourceTest extends OnlineSourceTest {
 		assertNotNull(ocspToken);
 	}
 
+	@Test
+	void getRevocationTokenAsyncTest() throws Exception {
+		try (AsyncCommonsDataLoader asyncDataLoader = new AsyncCommonsDataLoader("application/ocsp-request")) {
+			OnlineOCSPSource ocspSource = new OnlineOCSPSource();
+			ocspSource.setAsyncDataLoader(asyncDataLoader);
+
+			OCSPToken ocspToken = ocspSource.getRevocationTokenAsync(goodUser, goodCa).get();
+			assertNotNull(ocspToken);
+			assertNotNull(ocspToken.getBasicOCSPResp());
+			assertTrue(ocspToken.isValid());
+
+			String alternativeUrl = String.format(CUSTOM_TIMEOUT_OCSP_URL, 1, DSSASN1Utils.getSubjectCommonName(goodCa));
+			ocspToken = ocspSource.getRevocationTokenAsync(timeoutSigGoodUser, goodCa, Collections.singletonList(alternativeUrl)).get();
+			assertNotNull(ocspToken);
+			assertTrue(ocspToken.isValid());
+			assertEquals(alternativeUrl, ocspToken.getSourceURL());
+		}
+	}
+
+	@Test
+	void getRevocationTokenAsyncInvalidNextUpdateTest() throws Exception {
+		ExecutorService executorService = Executors.newSingleThreadExecutor();
+		try {
+			OnlineOCSPSource ocspSource = new OnlineOCSPSource();
+			ocspSource.setAsyncDataLoader(new ExecutorAsyncDataLoader(new SubstituteOCSPDataLoader(qtspOcsp), executorService));
+			assertNotNull(ocspSource.getRevocationTokenAsync(qtspUser, qtspCa).get());
+
+			ocspSource.setAlertOnInvalidUpdateTime(new DSSExternalResourceExceptionAlert());
+			ExecutionException exception = assertThrows(ExecutionException.class,
+					() -> ocspSource.getRevocationTokenAsync(qtspUser, qtspCa).get());
+			assertInstanceOf(DSSExternalResourceException.class, exception.getCause());
+			assertTrue(exception.getCause().getMessage().contains("The current time"));
+
+		} finally {
+			executorService.shutdown();
+		}
+	}
+
+	@Test
+	void getRevocationTokenAsyncNoAsyncDataLoaderTest() {
+		OnlineOCSPSource ocspSource = new OnlineOCSPSource();
+		Exception exception = assertThrows(NullPointerException.class,
+				() -> ocspSource.getRevocationTokenAsync(qtspUser, qtspCa));
+		assertEquals("AsyncDataLoader is not provided !", exception.getMessage());
+	}
+
 	@Test
 	void testOCSPWithFileCache() {
 		File cacheFolder = new File("target/ocsp-cache");
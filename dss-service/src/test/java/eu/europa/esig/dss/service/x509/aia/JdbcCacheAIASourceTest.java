@@ -35,8 +35,11 @@ import org.junit.jupiter.api.Test;
 
 import java.io.File;
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -176,6 +179,33 @@ class JdbcCacheAIASourceTest {
         assertEquals(2, urlNotFoundCounter);
     }
 
+    @Test
+    void testBatchOperations() {
+        CertificateToken firstCertificate = DSSUtils.loadCertificate(new File("src/test/resources/CALT.crt"));
+        CertificateToken secondCertificate = DSSUtils.loadCertificate(new File("src/test/resources/ec.europa.eu.crt"));
+        CertificateToken thirdCertificate = DSSUtils.loadCertificate(new File("src/test/resources/belgiumrs2.crt"));
+
+        String firstKey = DSSUtils.getSHA1Digest("http://first.aia");
+        String secondKey = DSSUtils.getSHA1Digest("http://second.aia");
+        String thirdKey = DSSUtils.getSHA1Digest("http://third.aia");
+
+        Map<CertificateToken, String> certificates = new LinkedHashMap<>();
+        certificates.put(firstCertificate, firstKey);
+        certificates.put(secondCertificate, firstKey);
+        certificates.put(thirdCertificate, secondKey);
+        aiaSource.insertCertificates(certificates);
+
+        assertEquals(2, aiaSource.findCertificates(Collections.singletonList(firstKey)).size());
+        assertEquals(3, aiaSource.findCertificates(Arrays.asList(firstKey, secondKey, thirdKey)).size());
+        assertEquals(0, aiaSource.findCertificates(Collections.singletonList(thirdKey)).size());
+        assertEquals(2, aiaSource.getExistingAIAKeys().size());
+
+        aiaSource.removeCertificates(Arrays.asList(firstKey, thirdKey));
+        Set<CertificateToken> remaining = aiaSource.findCertificates(Arrays.asList(firstKey, secondKey, thirdKey));
+        assertEquals(1, remaining.size());
+        assertTrue(remaining.contains(thirdCertificate));
+    }
+
     @AfterEach
     void cleanUp() throws SQLException {
         aiaSource.destroyTable();
@@ -35,6 +35,7 @@ import eu.europa.esig.dss.enumerations.TimestampContainerForm;
 import eu.europa.esig.dss.jades.JAdESTimestampParameters;
 import eu.europa.esig.dss.jades.signature.JAdESCounterSignatureParameters;
 import eu.europa.esig.dss.model.BLevelParameters;
+import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.model.InMemoryDocument;
 import eu.europa.esig.dss.model.Policy;
 import eu.europa.esig.dss.model.SerializableCounterSignatureParameters;
@@ -50,11 +51,13 @@ import eu.europa.esig.dss.pades.PAdESTimestampParameters;
 import eu.europa.esig.dss.pades.SignatureFieldParameters;
 import eu.europa.esig.dss.pades.SignatureImageParameters;
 import eu.europa.esig.dss.pades.SignatureImageTextParameters;
+import eu.europa.esig.dss.spi.signature.resources.DSSResourcesHandlerBuilder;
 import eu.europa.esig.dss.utils.Utils;
 import eu.europa.esig.dss.ws.converter.ColorConverter;
 import eu.europa.esig.dss.ws.converter.RemoteCertificateConverter;
 import eu.europa.esig.dss.ws.converter.RemoteDocumentConverter;
 import eu.europa.esig.dss.ws.dto.RemoteCertificate;
+import eu.europa.esig.dss.ws.dto.RemoteDocument;
 import eu.europa.esig.dss.ws.dto.SignatureValueDTO;
 import eu.europa.esig.dss.ws.signature.dto.parameters.RemoteBLevelParameters;
 import eu.europa.esig.dss.ws.signature.dto.parameters.RemoteSignatureFieldParameters;
@@ -77,6 +80,9 @@ import java.util.stream.Collectors;
  */
 public abstract class AbstractRemoteSignatureServiceImpl {
 
+	/** Used to store the received documents during the request processing (in-memory, when not defined) */
+	private DSSResourcesHandlerBuilder resourcesHandlerBuilder;
+
 	/**
 	 * Default constructor
 	 */
@@ -84,6 +90,48 @@ public abstract class AbstractRemoteSignatureServiceImpl {
 		// empty
 	}
 
+	/**
+	 * Sets the resources handler builder used to store the documents received within a request,
+	 * for the time of the request processing.
+	 * <p>
+	 * When a {@code eu.europa.esig.dss.signature.resources.TempFileResourcesHandlerBuilder} is provided,
+	 * the documents are written to temporary files and are processed as {@code FileDocument}s.
+	 * The binaries of the received {@code RemoteDocument}s are released once written.
+	 * The temporary files are removed once the request is processed.
+	 * <p>
+	 * Default : null (the documents are kept in memory)
+	 *
+	 * @param resourcesHandlerBuilder {@link DSSResourcesHandlerBuilder}
+	 */
+	public void setResourcesHandlerBuilder(DSSResourcesHandlerBuilder resourcesHandlerBuilder) {
+		this.resourcesHandlerBuilder = resourcesHandlerBuilder;
+	}
+
+	/**
+	 * Converts the received {@code RemoteDocument} to a {@code DSSDocument} using the defined resources handler builder,
+	 * and adds the created document to {@code storedDocuments} when applicable
+	 *
+	 * @param remoteDocument {@link RemoteDocument} to convert
+	 * @param storedDocuments a list of {@link DSSDocument}s to be removed after the request processing
+	 * @return {@link DSSDocument}
+	 */
+	protected DSSDocument toDSSDocument(RemoteDocument remoteDocument, List<DSSDocument> storedDocuments) {
+		DSSDocument document = RemoteDocumentConverter.toDSSDocument(remoteDocument, resourcesHandlerBuilder);
+		if (resourcesHandlerBuilder != null && document != null) {
+			storedDocuments.add(document);
+		}
+		return document;
+	}
+
+	/**
+	 * Removes the temporary files created for the given documents
+	 *
+	 * @param storedDocuments a list of {@link DSSDocument}s created with the resources handler builder
+	 */
+	protected void deleteStoredDocuments(List<DSSDocument> storedDocuments) {
+		RemoteDocumentConverter.deleteStoredDocuments(storedDocuments);
+	}
+
 	/**
 	 * Gets the ASiC Signature Parameters
 	 *
@@ -46,6 +46,8 @@ import eu.europa.esig.dss.xades.signature.XAdESService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -213,10 +215,16 @@ public class RemoteDocumentSignatureServiceImpl extends AbstractRemoteSignatureS
 		LOG.info("GetDataToSign in process...");
 		SerializableSignatureParameters parameters = createParameters(remoteParameters);
 		DocumentSignatureService service = getServiceForSignature(remoteParameters.getSignatureLevel().getSignatureForm(), remoteParameters.getAsicContainerType());
-		DSSDocument dssDocument = RemoteDocumentConverter.toDSSDocument(remoteDocument);
-		ToBeSigned dataToSign = service.getDataToSign(dssDocument, parameters);
-		LOG.info("GetDataToSign is finished");
-		return DTOConverter.toToBeSignedDTO(dataToSign);
+		List<DSSDocument> storedDocuments = new ArrayList<>();
+		try {
+			DSSDocument dssDocument = toDSSDocument(remoteDocument, storedDocuments);
+			ToBeSigned dataToSign = service.getDataToSign(dssDocument, parameters);
+			LOG.info("GetDataToSign is finished");
+			return DTOConverter.toToBeSignedDTO(dataToSign);
+
+		} finally {
+			deleteStoredDocuments(storedDocuments);
+		}
 	}
 
 	@SuppressWarnings({ "rawtypes", "unchecked" })
@@ -228,10 +236,16 @@ public class RemoteDocumentSignatureServiceImpl extends AbstractRemoteSignatureS
 		LOG.info("SignDocument in process...");
 		SerializableSignatureParameters parameters = createParameters(remoteParameters);
 		DocumentSignatureService service = getServiceForSignature(remoteParameters.getSignatureLevel().getSignatureForm(), remoteParameters.getAsicContainerType());
-		DSSDocument dssDocument = RemoteDocumentConverter.toDSSDocument(remoteDocument);
-		DSSDocument signDocument = service.signDocument(dssDocument, parameters, toSignatureValue(signatureValueDTO));
-		LOG.info("SignDocument is finished");
-		return RemoteDocumentConverter.toRemoteDocument(signDocument);
+		List<DSSDocument> storedDocuments = new ArrayList<>();
+		try {
+			DSSDocument dssDocument = toDSSDocument(remoteDocument, storedDocuments);
+			DSSDocument signDocument = service.signDocument(dssDocument, parameters, toSignatureValue(signatureValueDTO));
+			LOG.info("SignDocument is finished");
+			return RemoteDocumentConverter.toRemoteDocument(signDocument);
+
+		} finally {
+			deleteStoredDocuments(storedDocuments);
+		}
 	}
 
 	@SuppressWarnings({ "rawtypes", "unchecked" })
@@ -243,10 +257,16 @@ public class RemoteDocumentSignatureServiceImpl extends AbstractRemoteSignatureS
 		LOG.info("ExtendDocument in process...");
 		SerializableSignatureParameters parameters = createParameters(remoteParameters);
 		DocumentSignatureService service = getServiceForSignature(remoteParameters.getSignatureLevel().getSignatureForm(), remoteParameters.getAsicContainerType());
-		DSSDocument dssDocument = RemoteDocumentConverter.toDSSDocument(remoteDocument);
-		DSSDocument extendDocument = service.extendDocument(dssDocument, parameters);
-		LOG.info("ExtendDocument is finished");
-		return RemoteDocumentConverter.toRemoteDocument(extendDocument);
+		List<DSSDocument> storedDocuments = new ArrayList<>();
+		try {
+			DSSDocument dssDocument = toDSSDocument(remoteDocument, storedDocuments);
+			DSSDocument extendDocument = service.extendDocument(dssDocument, parameters);
+			LOG.info("ExtendDocument is finished");
+			return RemoteDocumentConverter.toRemoteDocument(extendDocument);
+
+		} finally {
+			deleteStoredDocuments(storedDocuments);
+		}
 	}
 
 	@SuppressWarnings({ "rawtypes", "unchecked" })
@@ -258,10 +278,16 @@ public class RemoteDocumentSignatureServiceImpl extends AbstractRemoteSignatureS
 		LOG.info("Timestamp document in process...");
 		TimestampParameters parameters = toTimestampParameters(remoteParameters);
 		DocumentSignatureService service = getServiceForTimestamp(remoteParameters.getTimestampContainerForm());
-		DSSDocument dssDocument = RemoteDocumentConverter.toDSSDocument(remoteDocument);
-		DSSDocument timestampedDocument = service.timestamp(dssDocument, parameters);
-		LOG.info("Timestamp document is finished");
-		return RemoteDocumentConverter.toRemoteDocument(timestampedDocument);
+		List<DSSDocument> storedDocuments = new ArrayList<>();
+		try {
+			DSSDocument dssDocument = toDSSDocument(remoteDocument, storedDocuments);
+			DSSDocument timestampedDocument = service.timestamp(dssDocument, parameters);
+			LOG.info("Timestamp document is finished");
+			return RemoteDocumentConverter.toRemoteDocument(timestampedDocument);
+
+		} finally {
+			deleteStoredDocuments(storedDocuments);
+		}
 	}
 
 	@SuppressWarnings({ "rawtypes", "unchecked" })
@@ -275,10 +301,16 @@ public class RemoteDocumentSignatureServiceImpl extends AbstractRemoteSignatureS
 		SerializableCounterSignatureParameters counterSignatureParameters = createCounterSignatureParameters(remoteParameters);
 		CounterSignatureService counterSignatureService = getServiceForCounterSignature(
 				remoteParameters.getSignatureLevel().getSignatureForm(), remoteParameters.getAsicContainerType());
-		DSSDocument dssDocument = RemoteDocumentConverter.toDSSDocument(signatureDocument);
-		ToBeSigned dataToSign = counterSignatureService.getDataToBeCounterSigned(dssDocument, counterSignatureParameters);
-		LOG.info("GetDataToCounterSign is finished");
-		return DTOConverter.toToBeSignedDTO(dataToSign);
+		List<DSSDocument> storedDocuments = new ArrayList<>();
+		try {
+			DSSDocument dssDocument = toDSSDocument(signatureDocument, storedDocuments);
+			ToBeSigned dataToSign = counterSignatureService.getDataToBeCounterSigned(dssDocument, counterSignatureParameters);
+			LOG.info("GetDataToCounterSign is finished");
+			return DTOConverter.toToBeSignedDTO(dataToSign);
+
+		} finally {
+			deleteStoredDocuments(storedDocuments);
+		}
 	}
 
 	@SuppressWarnings({ "unchecked", "rawtypes" })
@@ -292,11 +324,17 @@ public class RemoteDocumentSignatureServiceImpl extends AbstractRemoteSignatureS
 		SerializableCounterSignatureParameters parameters = createCounterSignatureParameters(remoteParameters);
 		CounterSignatureService counterSignatureService = getServiceForCounterSignature(
 				remoteParameters.getSignatureLevel().getSignatureForm(), remoteParameters.getAsicContainerType());
-		DSSDocument dssDocument = RemoteDocumentConverter.toDSSDocument(signatureDocument);
-		DSSDocument signDocument = counterSignatureService.counterSignSignature(dssDocument, parameters,
-				toSignatureValue(signatureValueDTO));
-		LOG.info("CounterSignDocument is finished");
-		return RemoteDocumentConverter.toRemoteDocument(signDocument);
+		List<DSSDocument> storedDocuments = new ArrayList<>();
+		try {
+			DSSDocument dssDocument = toDSSDocument(signatureDocument, storedDocuments);
+			DSSDocument signDocument = counterSignatureService.counterSignSignature(dssDocument, parameters,
+					toSignatureValue(signatureValueDTO));
+			LOG.info("CounterSignDocument is finished");
+			return RemoteDocumentConverter.toRemoteDocument(signDocument);
+
+		} finally {
+			deleteStoredDocuments(storedDocuments);
+		}
 	}
 
 }
@@ -0,0 +1,242 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * <p>
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * <p>
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * <p>
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.spi.client.http;
+
+import eu.europa.esig.dss.spi.client.http.DataLoader.DataAndUrl;
+import eu.europa.esig.dss.spi.exception.DSSDataLoaderMultipleException;
+import eu.europa.esig.dss.spi.exception.DSSExternalResourceException;
+import eu.europa.esig.dss.utils.Utils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The abstract implementation of {@code AsyncDataLoader} retrieving the data from alternative URLs.
+ * By default, the next URL is requested only when the previous request failed or returned empty content.
+ * When a hedging executor and a hedging delay are defined, the next URL is also requested when the previous
+ * requests did not complete within the delay. The first successful response is returned and
+ * the pending requests are cancelled.
+ *
+ */
+public abstract class AbstractAsyncDataLoader implements AsyncDataLoader {
+
+	private static final Logger LOG = LoggerFactory.getLogger(AbstractAsyncDataLoader.class);
+
+	/**
+	 * The executor used to schedule the hedged requests
+	 */
+	private ScheduledExecutorService hedgingExecutor;
+
+	/**
+	 * Time in milliseconds to wait for a response before requesting the next URL
+	 */
+	private long hedgingDelay = 0;
+
+	/**
+	 * Default constructor
+	 */
+	protected AbstractAsyncDataLoader() {
+		// empty
+	}
+
+	/**
+	 * Sets the executor used to schedule requests to the alternative URLs after the hedging delay.
+	 * When not defined, the next URL is requested only when the previous request fails.
+	 *
+	 * @param hedgingExecutor {@link ScheduledExecutorService}
+	 */
+	public void setHedgingExecutor(ScheduledExecutorService hedgingExecutor) {
+		this.hedgingExecutor = hedgingExecutor;
+	}
+
+	/**
+	 * Sets the time in milliseconds to wait for a response before requesting the next URL.
+	 * The value is used only when a hedging executor is defined.
+	 *
+	 * Default : 0 (the next URL is requested only when the previous request fails)
+	 *
+	 * @param hedgingDelay time in milliseconds
+	 */
+	public void setHedgingDelay(long hedgingDelay) {
+		if (hedgingDelay < 0) {
+			throw new IllegalArgumentException("The hedging delay cannot be negative!");
+		}
+		this.hedgingDelay = hedgingDelay;
+	}
+
+	@Override
+	public CompletableFuture<DataAndUrl> getAsync(final List<String> urlStrings) {
+		if (Utils.isCollectionEmpty(urlStrings)) {
+			return failedFuture(new DSSExternalResourceException("Cannot process the GET call. List of URLs is empty!"));
+		}
+		return new AlternativeUrlsCall(urlStrings).start();
+	}
+
+	/**
+	 * Returns a {@code CompletableFuture} completed exceptionally with the given {@code throwable}
+	 *
+	 * @param throwable {@link Throwable}
+	 * @param <T> the type of the future
+	 * @return {@link CompletableFuture}
+	 */
+	protected static <T> CompletableFuture<T> failedFuture(Throwable throwable) {
+		final CompletableFuture<T> future = new CompletableFuture<>();
+		future.completeExceptionally(throwable);
+		return future;
+	}
+
+	private static Throwable unwrap(Throwable throwable) {
+		if ((throwable instanceof CompletionException || throwable instanceof ExecutionException)
+				&& throwable.getCause() != null) {
+			return throwable.getCause();
+		}
+		return throwable;
+	}
+
+	/**
+	 * Processes the GET call over the list of alternative URLs
+	 */
+	private class AlternativeUrlsCall {
+
+		/** The alternative URLs */
+		private final List<String> urlStrings;
+
+		/** The future to be completed with the first obtained data */
+		private final CompletableFuture<DataAndUrl> result = new CompletableFuture<>();
+
+		/** Map of exceptions thrown for urls */
+		private final Map<String, Throwable> exceptions = new ConcurrentHashMap<>();
+
+		/** The started requests */
+		private final List<CompletableFuture<byte[]>> requests = new ArrayList<>();
+
+		/** Index of the next URL to be requested */
+		private int nextIndex = 0;
+
+		/** Number of the started requests not completed yet */
+		private int pendingRequests = 0;
+
+		/**
+		 * Default constructor
+		 *
+		 * @param urlStrings a list of alternative URLs
+		 */
+		private AlternativeUrlsCall(List<String> urlStrings) {
+			this.urlStrings = urlStrings;
+		}
+
+		private CompletableFuture<DataAndUrl> start() {
+			result.whenComplete((dataAndUrl, e) -> cancelPendingRequests());
+			requestNextUrl();
+			return result;
+		}
+
+		private void requestNextUrl() {
+			final String urlString;
+			final boolean hasNext;
+			synchronized (this) {
+				if (result.isDone() || nextIndex >= urlStrings.size()) {
+					return;
+				}
+				urlString = urlStrings.get(nextIndex++);
+				hasNext = nextIndex < urlStrings.size();
+				++pendingRequests;
+			}
+
+			LOG.debug("Processing an asynchronous GET call to URL [{}]...", urlString);
+			CompletableFuture<byte[]> request;
+			try {
+				request = getAsync(urlString);
+			} catch (Exception e) {
+				request = failedFuture(e);
+			}
+			final boolean cancelled;
+			synchronized (this) {
+				// the result may have been completed while the request was starting, in which case
+				// the list of requests has already been processed by cancelPendingRequests()
+				cancelled = result.isDone();
+				if (!cancelled) {
+					requests.add(request);
+				}
+			}
+			if (cancelled) {
+				request.cancel(true);
+			}
+			request.whenComplete((bytes, e) -> onRequestCompleted(urlString, bytes, e));
+
+			if (hasNext && hedgingExecutor != null && hedgingDelay > 0 && !result.isDone()) {
+				try {
+					hedgingExecutor.schedule(this::requestNextUrl, hedgingDelay, TimeUnit.MILLISECONDS);
+				} catch (RejectedExecutionException ex) {
+					LOG.warn("Unable to schedule a hedged request : {}", ex.getMessage());
+				}
+			}
+		}
+
+		private void onRequestCompleted(String urlString, byte[] bytes, Throwable e) {
+			if (e == null && Utils.isArrayNotEmpty(bytes)) {
+				result.complete(new DataAndUrl(urlString, bytes));
+				return;
+			}
+
+			if (e == null) {
+				LOG.debug("The retrieved content from URL [{}] is empty. Continue with other URLs...", urlString);
+			} else if (!(unwrap(e) instanceof CancellationException)) {
+				LOG.warn("Cannot obtain data using '{}' : {}", urlString, unwrap(e).getMessage());
+				exceptions.put(urlString, unwrap(e));
+			}
+
+			final boolean exhausted;
+			synchronized (this) {
+				--pendingRequests;
+				exhausted = pendingRequests == 0 && nextIndex >= urlStrings.size();
+			}
+			if (exhausted) {
+				result.completeExceptionally(new DSSDataLoaderMultipleException(exceptions));
+			} else {
+				requestNextUrl();
+			}
+		}
+
+		private void cancelPendingRequests() {
+			final List<CompletableFuture<byte[]>> startedRequests;
+			synchronized (this) {
+				startedRequests = new ArrayList<>(requests);
+			}
+			for (CompletableFuture<byte[]> request : startedRequests) {
+				request.cancel(true);
+			}
+		}
+
+	}
+
+}
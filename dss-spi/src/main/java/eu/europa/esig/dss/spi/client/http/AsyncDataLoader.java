@@ -0,0 +1,65 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * <p>
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * <p>
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * <p>
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.spi.client.http;
+
+import eu.europa.esig.dss.spi.client.http.DataLoader.DataAndUrl;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Component that allows to retrieve the data in a non-blocking way.
+ * The returned {@code CompletableFuture} is completed exceptionally when the data cannot be retrieved.
+ *
+ */
+public interface AsyncDataLoader {
+
+	/**
+	 * Executes a HTTP GET operation asynchronously
+	 *
+	 * @param url
+	 *            the url to access
+	 * @return {@link CompletableFuture} with {@code byte} array of obtained data
+	 */
+	CompletableFuture<byte[]> getAsync(final String url);
+
+	/**
+	 * Executes a HTTP GET operation asynchronously. This method is used when many URls are available to access
+	 * the same resource. The operation completes with the first successful download.
+	 *
+	 * @param urlStrings
+	 *            {@code List} of {@code String}s representing the URLs to be used to obtain the data
+	 * @return {@link CompletableFuture} with {@code DataAndUrl} representing the array of obtained data and used url
+	 */
+	CompletableFuture<DataAndUrl> getAsync(final List<String> urlStrings);
+
+	/**
+	 * Executes a HTTP POST operation asynchronously
+	 *
+	 * @param url
+	 *            to access
+	 * @param content
+	 *            the content to post
+	 * @return {@link CompletableFuture} with {@code byte} array of obtained data
+	 */
+	CompletableFuture<byte[]> postAsync(final String url, final byte[] content);
+
+}
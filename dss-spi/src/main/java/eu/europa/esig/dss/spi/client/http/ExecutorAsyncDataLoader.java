@@ -0,0 +1,70 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * <p>
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * <p>
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * <p>
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.spi.client.http;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * This class allows to use a blocking {@code DataLoader} as an {@code AsyncDataLoader},
+ * by executing the calls within the provided {@code Executor}.
+ * On a JVM supporting virtual threads, a virtual thread per task executor may be provided.
+ *
+ * NOTE: a cancelled request is not interrupted and is left to complete within the executor.
+ *
+ */
+public class ExecutorAsyncDataLoader extends AbstractAsyncDataLoader {
+
+	/**
+	 * The blocking data loader to be used
+	 */
+	private final DataLoader dataLoader;
+
+	/**
+	 * The executor running the calls
+	 */
+	private final Executor executor;
+
+	/**
+	 * Default constructor
+	 *
+	 * @param dataLoader {@link DataLoader} to be used to retrieve the data
+	 * @param executor {@link Executor} to run the calls
+	 */
+	public ExecutorAsyncDataLoader(DataLoader dataLoader, Executor executor) {
+		Objects.requireNonNull(dataLoader, "DataLoader cannot be null!");
+		Objects.requireNonNull(executor, "Executor cannot be null!");
+		this.dataLoader = dataLoader;
+		this.executor = executor;
+	}
+
+	@Override
+	public CompletableFuture<byte[]> getAsync(String url) {
+		return CompletableFuture.supplyAsync(() -> dataLoader.get(url), executor);
+	}
+
+	@Override
+	public CompletableFuture<byte[]> postAsync(String url, byte[] content) {
+		return CompletableFuture.supplyAsync(() -> dataLoader.post(url, content), executor);
+	}
+
+}
@@ -32,8 +32,10 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -44,6 +46,11 @@ public class JdbcCacheConnector {
 
     private static final Logger LOG = LoggerFactory.getLogger(JdbcCacheConnector.class);
 
+    /**
+     * Maximum number of values provided within a single {@code IN (...)} clause
+     */
+    private static final int MAX_IN_CLAUSE_SIZE = 500;
+
     /**
      * SQL DataSource to create connection with
      */
@@ -131,6 +138,124 @@ public class JdbcCacheConnector {
         }
     }
 
+    /**
+     * This method executes the query for a collection of key values within a single database round-trip
+     * and returns a collection of selected objects.
+     * <p>
+     * The query string shall contain a single {@code %s} placeholder within an {@code IN (...)} clause,
+     * which is replaced by the number of parameters corresponding to the given {@code keys}
+     * (e.g. "SELECT * FROM CACHED_CRL WHERE ID IN (%s)").
+     * Large collections of keys are split into several statements executed over the same connection.
+     *
+     * @param selectQuery {@link SqlSelectQuery} the query to SELECT objects, containing an IN clause placeholder
+     * @param keys a collection of {@link Object}s, representing the values of the IN clause
+     * @return a collection of {@link SqlRecord}s
+     */
+    public Collection<SqlRecord> selectByKeys(final SqlSelectQuery selectQuery, final Collection<?> keys) {
+        Objects.requireNonNull(selectQuery, "Query cannot be null!");
+        if (keys == null || keys.isEmpty()) {
+            return Collections.emptySet();
+        }
+
+        Connection c = null;
+        PreparedStatement s = null;
+        ResultSet rs = null;
+        try {
+            c = dataSource.getConnection();
+            c.setAutoCommit(false);
+
+            final Collection<SqlRecord> records = new ArrayList<>();
+            int preparedSize = -1;
+            final List<Object> keyList = new ArrayList<>(keys);
+            for (int from = 0; from < keyList.size(); from += MAX_IN_CLAUSE_SIZE) {
+                final List<Object> chunk = keyList.subList(from, Math.min(from + MAX_IN_CLAUSE_SIZE, keyList.size()));
+                // the statement is re-prepared only when the number of parameters changes
+                if (preparedSize != chunk.size()) {
+                    closeQuietly(s);
+                    s = c.prepareStatement(String.format(selectQuery.getQueryString(), getParameterPlaceholders(chunk.size())));
+                    preparedSize = chunk.size();
+                }
+                for (int ii = 0; ii < chunk.size(); ii++) {
+                    s.setObject(ii + 1, chunk.get(ii));
+                }
+                rs = s.executeQuery();
+                records.addAll(selectQuery.getRecords(rs));
+                closeQuietly(rs);
+                rs = null;
+            }
+
+            c.commit();
+            LOG.debug("The SELECT query [{}] has been executed successfully for {} keys.", selectQuery, keyList.size());
+            return records;
+
+        } catch (final SQLException e) {
+            LOG.error("Unable to execute query [{}]. Reason : {}", selectQuery, e.getMessage(), e);
+            rollback(c);
+            return Collections.emptySet();
+
+        } finally {
+            closeQuietly(c, s, rs);
+        }
+    }
+
+    /**
+     * This method executes the same query, such as INSERT, UPDATE or DELETE, for each set of arguments
+     * within a single JDBC batch and a single transaction, by handling an exception.
+     *
+     * @param query {@link SqlQuery} the query
+     * @param argumentsList a collection of {@link Object} arrays, each representing arguments of a query execution
+     * @return number of rows concerned by the batch, when reported by the driver
+     */
+    public int executeBatch(final SqlQuery query, final Collection<Object[]> argumentsList) {
+        Objects.requireNonNull(query, "Query cannot be null!");
+        if (argumentsList == null || argumentsList.isEmpty()) {
+            return 0;
+        }
+
+        Connection c = null;
+        PreparedStatement s = null;
+        try {
+            c = dataSource.getConnection();
+            c.setAutoCommit(false);
+
+            s = c.prepareStatement(query.getQueryString());
+            for (Object[] arguments : argumentsList) {
+                for (int ii = 0; ii < arguments.length; ii++) {
+                    s.setObject(ii + 1, arguments[ii]);
+                }
+                s.addBatch();
+            }
+            int result = 0;
+            for (int count : s.executeBatch()) {
+                if (count > 0) {
+                    result += count;
+                }
+            }
+            c.commit();
+            LOG.debug("The batch query [{}] has been executed successfully for {} entries", query, argumentsList.size());
+            return result;
+
+        } catch (final SQLException e) {
+            LOG.error("Unable to execute the batch query [{}]. Reason : '{}'", query, e.getMessage(), e);
+            rollback(c);
+            return 0;
+
+        } finally {
+            closeQuietly(c, s, null);
+        }
+    }
+
+    private String getParameterPlaceholders(int number) {
+        final StringBuilder sb = new StringBuilder();
+        for (int ii = 0; ii < number; ii++) {
+            if (ii != 0) {
+                sb.append(", ");
+            }
+            sb.append('?');
+        }
+        return sb.toString();
+    }
+
     /**
      * This method allows table creation, removal and existence check
      *
@@ -33,6 +33,7 @@ import eu.europa.esig.dss.utils.Utils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
@@ -50,13 +51,14 @@ public class TrustedListsCertificateSource extends CommonTrustedCertificateSourc
 	private static final Logger LOG = LoggerFactory.getLogger(TrustedListsCertificateSource.class);
 
 	/** The TL Validation job summary */
-	private TLValidationJobSummary summary;
+	private volatile TLValidationJobSummary summary;
 
-	/** The map of trust properties by EntityIdentifier (public keys) */
-	private Map<EntityIdentifier, List<TrustProperties>> trustPropertiesByEntity = new HashMap<>();
-
-	/** The map of trust time periods by EntityIdentifier */
-	private Map<EntityIdentifier, List<CertificateTrustTime>> trustTimeByEntity = new HashMap<>();
+	/**
+	 * The current immutable state of the source (certificates, trust properties and trust times),
+	 * replaced atomically on synchronization, so the read operations do not require any lock
+	 */
+	private volatile TrustedListsSnapshot snapshot = new TrustedListsSnapshot(
+			buildCertificatePool(Collections.emptyList()), Collections.emptyMap(), Collections.emptyMap());
 
 	/**
 	 * The default constructor.
@@ -102,62 +104,120 @@ public class TrustedListsCertificateSource extends CommonTrustedCertificateSourc
 	}
 
 	@Override
-	public synchronized void setTrustPropertiesByCertificates(final Map<CertificateToken, List<TrustProperties>> trustPropertiesByCerts) {
-		Objects.requireNonNull(trustPropertiesByCerts, "TrustPropertiesByCerts cannot be null!");
-		this.trustPropertiesByEntity = new HashMap<>(); // reinit the map
-		super.reset();
-		trustPropertiesByCerts.forEach(this::addCertificate);
-	}
-	
-	private void addCertificate(CertificateToken certificateToken, List<TrustProperties> trustPropertiesList) {
-		super.addCertificate(certificateToken);
-		Objects.requireNonNull(trustPropertiesList, "TrustPropertiesList must be filled");
-		
-		EntityIdentifier entityKey = certificateToken.getEntityKey();
-		List<TrustProperties> list = trustPropertiesByEntity.computeIfAbsent(entityKey, k -> new ArrayList<>());
-		for (TrustProperties trustProperties : trustPropertiesList) {
-			if (!list.contains(trustProperties)) {
-				list.add(trustProperties);
-			}
-		}
+	protected void removeCertificate(CertificateToken certificate) {
+		throw new UnsupportedOperationException("Cannot directly remove certificate from a TrustedListsCertificateSource");
 	}
 
 	@Override
-	public synchronized List<TrustProperties> getTrustServices(CertificateToken token) {
-		List<TrustProperties> currentTrustProperties = trustPropertiesByEntity.get(token.getEntityKey());
-		if (currentTrustProperties != null) {
-			return currentTrustProperties;
-		} else {
-			return Collections.emptyList();
-		}
+	protected CertificatePool getCertificatePool() {
+		return snapshot.certificatePool;
+	}
+
+	@Override
+	protected void reset() {
+		snapshot = new TrustedListsSnapshot(buildCertificatePool(Collections.emptyList()),
+				Collections.emptyMap(), Collections.emptyMap());
+	}
+
+	@Override
+	public synchronized void setTrustPropertiesByCertificates(final Map<CertificateToken, List<TrustProperties>> trustPropertiesByCerts) {
+		Objects.requireNonNull(trustPropertiesByCerts, "TrustPropertiesByCerts cannot be null!");
+		final TrustedListsSnapshot current = snapshot;
+		snapshot = new TrustedListsSnapshot(buildCertificatePool(getCertificates(trustPropertiesByCerts)),
+				buildTrustPropertiesByEntity(trustPropertiesByCerts), current.trustTimeByEntity);
 	}
 
 	@Override
 	public synchronized void setTrustTimeByCertificates(Map<CertificateToken, List<CertificateTrustTime>> trustTimeByCertificate) {
 		Objects.requireNonNull(trustTimeByCertificate, "trustTimeByCertificate cannot be null!");
-		this.trustTimeByEntity = new HashMap<>(); // reinit the map
-		trustTimeByCertificate.forEach(this::addCertificateTrustTimes);
+		final TrustedListsSnapshot current = snapshot;
+		final List<CertificateToken> certificates = new ArrayList<>(current.certificatePool.getCertificates());
+		certificates.addAll(getCertificates(trustTimeByCertificate));
+		snapshot = new TrustedListsSnapshot(buildCertificatePool(certificates),
+				current.trustPropertiesByEntity, buildTrustTimeByEntity(trustTimeByCertificate));
 	}
 
-	private void addCertificateTrustTimes(CertificateToken certificateToken, List<CertificateTrustTime> certificateTrustTimes) {
-		super.addCertificate(certificateToken);
-		Objects.requireNonNull(certificateTrustTimes, "CertificateTrustTimes must be filled");
+	/**
+	 * This method allows to fill the CertificateSource with the trust properties and trusted time periods at once.
+	 * The new content replaces the previous one atomically, meaning that a concurrent validation
+	 * observes either the previous or the new state, but never a combination of both.
+	 *
+	 * @param trustPropertiesByCerts map between {@link CertificateToken}s and a list of {@link TrustProperties}
+	 * @param trustTimeByCertificate map between {@link CertificateToken}s and a list of {@link CertificateTrustTime}s
+	 */
+	public synchronized void setTrustPropertiesAndTimeByCertificates(final Map<CertificateToken, List<TrustProperties>> trustPropertiesByCerts,
+			final Map<CertificateToken, List<CertificateTrustTime>> trustTimeByCertificate) {
+		Objects.requireNonNull(trustPropertiesByCerts, "TrustPropertiesByCerts cannot be null!");
+		Objects.requireNonNull(trustTimeByCertificate, "trustTimeByCertificate cannot be null!");
+		final List<CertificateToken> certificates = getCertificates(trustPropertiesByCerts);
+		certificates.addAll(getCertificates(trustTimeByCertificate));
+		snapshot = new TrustedListsSnapshot(buildCertificatePool(certificates),
+				buildTrustPropertiesByEntity(trustPropertiesByCerts), buildTrustTimeByEntity(trustTimeByCertificate));
+	}
+
+	private List<CertificateToken> getCertificates(Map<CertificateToken, ?> mapByCertificates) {
+		final List<CertificateToken> certificates = new ArrayList<>();
+		for (CertificateToken certificateToken : mapByCertificates.keySet()) {
+			Objects.requireNonNull(certificateToken, "The certificate must be filled");
+			certificates.add(certificateToken);
+		}
+		return certificates;
+	}
 
-		EntityIdentifier entityKey = certificateToken.getEntityKey();
-		List<CertificateTrustTime> list = trustTimeByEntity.computeIfAbsent(entityKey, k -> new ArrayList<>());
-		for (CertificateTrustTime trustTime : certificateTrustTimes) {
-			if (!list.contains(trustTime)) {
-				list.add(trustTime);
+	private Map<EntityIdentifier, List<TrustProperties>> buildTrustPropertiesByEntity(
+			final Map<CertificateToken, List<TrustProperties>> trustPropertiesByCerts) {
+		final Map<EntityIdentifier, List<TrustProperties>> trustPropertiesByEntity = new HashMap<>();
+		for (Map.Entry<CertificateToken, List<TrustProperties>> entry : trustPropertiesByCerts.entrySet()) {
+			Objects.requireNonNull(entry.getValue(), "TrustPropertiesList must be filled");
+			EntityIdentifier entityKey = entry.getKey().getEntityKey();
+			List<TrustProperties> list = trustPropertiesByEntity.computeIfAbsent(entityKey, k -> new ArrayList<>());
+			for (TrustProperties trustProperties : entry.getValue()) {
+				if (!list.contains(trustProperties)) {
+					list.add(trustProperties);
+				}
+			}
+		}
+		return toUnmodifiableMap(trustPropertiesByEntity);
+	}
+
+	private Map<EntityIdentifier, List<CertificateTrustTime>> buildTrustTimeByEntity(
+			final Map<CertificateToken, List<CertificateTrustTime>> trustTimeByCertificate) {
+		final Map<EntityIdentifier, List<CertificateTrustTime>> trustTimeByEntity = new HashMap<>();
+		for (Map.Entry<CertificateToken, List<CertificateTrustTime>> entry : trustTimeByCertificate.entrySet()) {
+			Objects.requireNonNull(entry.getValue(), "CertificateTrustTimes must be filled");
+			EntityIdentifier entityKey = entry.getKey().getEntityKey();
+			List<CertificateTrustTime> list = trustTimeByEntity.computeIfAbsent(entityKey, k -> new ArrayList<>());
+			for (CertificateTrustTime trustTime : entry.getValue()) {
+				if (!list.contains(trustTime)) {
+					list.add(trustTime);
+				}
 			}
 		}
+		return toUnmodifiableMap(trustTimeByEntity);
+	}
+
+	private <T> Map<EntityIdentifier, List<T>> toUnmodifiableMap(Map<EntityIdentifier, List<T>> map) {
+		map.replaceAll((k, v) -> Collections.unmodifiableList(v));
+		return Collections.unmodifiableMap(map);
 	}
 
 	@Override
-	public synchronized CertificateTrustTime getTrustTime(CertificateToken token) {
-		if (!super.isTrusted(token)) {
+	public List<TrustProperties> getTrustServices(CertificateToken token) {
+		List<TrustProperties> currentTrustProperties = snapshot.trustPropertiesByEntity.get(token.getEntityKey());
+		if (currentTrustProperties != null) {
+			return currentTrustProperties;
+		} else {
+			return Collections.emptyList();
+		}
+	}
+
+	@Override
+	public CertificateTrustTime getTrustTime(CertificateToken token) {
+		final TrustedListsSnapshot current = snapshot;
+		if (!current.certificatePool.isKnown(token)) {
 			return new CertificateTrustTime(false);
 		}
-		List<CertificateTrustTime> trustTimes = trustTimeByEntity.get(token.getEntityKey());
+		List<CertificateTrustTime> trustTimes = current.trustTimeByEntity.get(token.getEntityKey());
 		if (Utils.isCollectionNotEmpty(trustTimes)) {
 			CertificateTrustTime certificateTrustTime = null;
 			for (CertificateTrustTime trustTime : trustTimes) {
@@ -212,11 +272,9 @@ public class TrustedListsCertificateSource extends CommonTrustedCertificateSourc
 
 	@Override
 	public boolean isTrusted(CertificateToken certificateToken) {
-		if (super.isTrusted(certificateToken)) {
-			CertificateTrustTime trustTime = getTrustTime(certificateToken);
-			return trustTime == null || trustTime.isTrusted();
-		}
-		return false;
+		// the trust time of an unknown certificate is not trusted
+		CertificateTrustTime trustTime = getTrustTime(certificateToken);
+		return trustTime == null || trustTime.isTrusted();
 	}
 
 	/**
@@ -225,7 +283,33 @@ public class TrustedListsCertificateSource extends CommonTrustedCertificateSourc
 	 * @return the number of trusted entity keys (public key + subject name)
 	 */
 	public int getNumberOfTrustedEntityKeys() {
-		return trustPropertiesByEntity.size();
+		return snapshot.trustPropertiesByEntity.size();
+	}
+
+	/**
+	 * Represents an immutable state of the certificate source
+	 */
+	private static final class TrustedListsSnapshot implements Serializable {
+
+		private static final long serialVersionUID = -3216389712804571236L;
+
+		/** The pool of trusted certificates */
+		private final CertificatePool certificatePool;
+
+		/** The map of trust properties by EntityIdentifier (public keys) */
+		private final Map<EntityIdentifier, List<TrustProperties>> trustPropertiesByEntity;
+
+		/** The map of trust time periods by EntityIdentifier */
+		private final Map<EntityIdentifier, List<CertificateTrustTime>> trustTimeByEntity;
+
+		private TrustedListsSnapshot(final CertificatePool certificatePool,
+									 final Map<EntityIdentifier, List<TrustProperties>> trustPropertiesByEntity,
+									 final Map<EntityIdentifier, List<CertificateTrustTime>> trustTimeByEntity) {
+			this.certificatePool = certificatePool;
+			this.trustPropertiesByEntity = trustPropertiesByEntity;
+			this.trustTimeByEntity = trustTimeByEntity;
+		}
+
 	}
 
 }
@@ -21,6 +21,7 @@
 package eu.europa.esig.dss.spi.validation;
 
 import eu.europa.esig.dss.model.x509.CertificateToken;
+import eu.europa.esig.dss.spi.x509.revocation.RevocationSource;
 import eu.europa.esig.dss.spi.x509.revocation.RevocationToken;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -61,4 +62,9 @@ public class CRLFirstRevocationDataLoadingStrategy extends RevocationDataLoading
         return null;
     }
 
+    @Override
+    protected RevocationSource<?> getPrimaryRevocationSource() {
+        return crlSource != null ? crlSource : ocspSource;
+    }
+
 }
@@ -30,6 +30,8 @@ import eu.europa.esig.dss.spi.x509.ListCertificateSource;
 import eu.europa.esig.dss.spi.x509.aia.AIASource;
 import eu.europa.esig.dss.spi.x509.revocation.RevocationSource;
 
+import java.util.concurrent.ExecutorService;
+
 /**
  * Provides information on the sources to be used in the validation process in
  * the context of a signature.
@@ -129,6 +131,30 @@ public interface CertificateVerifier {
 	 */
 	void setRevocationFallback(boolean revocationFallback);
 
+	/**
+	 * Returns the executor used to request revocation data from online sources concurrently
+	 *
+	 * @return {@link ExecutorService}
+	 */
+	ExecutorService getRevocationPrefetchExecutor();
+
+	/**
+	 * Sets the executor used to request revocation data from the online OCSP/CRL sources concurrently,
+	 * before the sequential validation of the collected tokens.
+	 * When defined, certificate chains are resolved first and revocation requests for all certificates
+	 * without embedded revocation data are submitted at once, thus the validation waits approximately
+	 * for the slowest response instead of a sum of all responses.
+	 * The obtained revocation data is processed and verified in the same way as without the prefetching.
+	 * <p>
+	 * NOTE: The executor is not managed (i.e. shut down) by DSS.
+	 *       A virtual-thread-per-task executor may be used on Java 21+.
+	 * <p>
+	 * Default : NULL (revocation data is requested sequentially)
+	 *
+	 * @param revocationPrefetchExecutor {@link ExecutorService}
+	 */
+	void setRevocationPrefetchExecutor(ExecutorService revocationPrefetchExecutor);
+
 	/**
 	 * Returns a {@code TimestampTokenVerifier} associated with this verifier.
 	 *
@@ -50,6 +50,7 @@ public class CertificateVerifierBuilder {
 			copy.setOcspSource(certificateVerifier.getOcspSource());
 			copy.setRevocationDataLoadingStrategyFactory(certificateVerifier.getRevocationDataLoadingStrategyFactory());
 			copy.setRevocationFallback(certificateVerifier.isRevocationFallback());
+			copy.setRevocationPrefetchExecutor(certificateVerifier.getRevocationPrefetchExecutor());
 			copy.setRevocationDataVerifier(certificateVerifier.getRevocationDataVerifier());
 			copy.setTimestampTokenVerifier(certificateVerifier.getTimestampTokenVerifier());
 			copy.setTrustAnchorVerifier(certificateVerifier.getTrustAnchorVerifier());
@@ -35,6 +35,7 @@ import org.slf4j.LoggerFactory;
 import org.slf4j.event.Level;
 
 import java.util.Objects;
+import java.util.concurrent.ExecutorService;
 
 /**
  * This class provides the different sources used to verify the status of a certificate using the trust model. There are
@@ -90,6 +91,12 @@ public class CommonCertificateVerifier implements CertificateVerifier {
 	 */
 	private boolean revocationFallback = false;
 
+	/**
+	 * Used to request revocation data from online sources concurrently (optional).
+	 * When not defined, revocation data is requested sequentially.
+	 */
+	private ExecutorService revocationPrefetchExecutor;
+
 	/**
 	 * Verifies validity of a timestamp tokens encapsulated within the signature document.
 	 */
@@ -271,6 +278,16 @@ public class CommonCertificateVerifier implements CertificateVerifier {
 		this.revocationFallback = revocationFallback;
 	}
 
+	@Override
+	public ExecutorService getRevocationPrefetchExecutor() {
+		return revocationPrefetchExecutor;
+	}
+
+	@Override
+	public void setRevocationPrefetchExecutor(ExecutorService revocationPrefetchExecutor) {
+		this.revocationPrefetchExecutor = revocationPrefetchExecutor;
+	}
+
 	@Override
 	public TimestampTokenVerifier getTimestampTokenVerifier() {
 		return timestampTokenVerifier;
@@ -0,0 +1,217 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * <p>
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * <p>
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * <p>
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.spi.validation;
+
+import eu.europa.esig.dss.model.x509.CertificateToken;
+import eu.europa.esig.dss.spi.x509.revocation.RevocationToken;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Objects;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class requests OCSP and CRL sources concurrently and returns the first acceptable result.
+ * The OCSP request is started first, while the CRL request is started either immediately
+ * or, when a hedging delay is defined, after the delay has elapsed without an acceptable OCSP response.
+ *
+ * NOTE: when only one of the sources is defined, the revocation data is requested within the calling thread.
+ *
+ */
+public class ConcurrentRevocationDataLoadingStrategy extends RevocationDataLoadingStrategy {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ConcurrentRevocationDataLoadingStrategy.class);
+
+    /**
+     * The executor used to request the revocation sources
+     */
+    private final ExecutorService executorService;
+
+    /**
+     * Time in milliseconds to wait for an OCSP response before requesting the CRL source
+     * (0 - both sources are requested at once)
+     */
+    private long hedgingDelay = 0;
+
+    /**
+     * Defines whether the request still running when an acceptable revocation token has been obtained
+     * shall be cancelled
+     */
+    private boolean cancelSlowerRequest = true;
+
+    /**
+     * Defines whether the thread executing a cancelled request shall be interrupted
+     */
+    private boolean interruptSlowerRequest = false;
+
+    /**
+     * Default constructor
+     *
+     * @param executorService {@link ExecutorService} to be used to request the revocation sources
+     */
+    public ConcurrentRevocationDataLoadingStrategy(ExecutorService executorService) {
+        Objects.requireNonNull(executorService, "ExecutorService cannot be null!");
+        this.executorService = executorService;
+    }
+
+    /**
+     * Sets the time in milliseconds to wait for an OCSP response before requesting the CRL source.
+     * The CRL source is requested earlier, when the OCSP request completes without an acceptable token.
+     *
+     * Default : 0 (both sources are requested at once)
+     *
+     * @param hedgingDelay time in milliseconds
+     */
+    public void setHedgingDelay(long hedgingDelay) {
+        if (hedgingDelay < 0) {
+            throw new IllegalArgumentException("The hedging delay cannot be negative!");
+        }
+        this.hedgingDelay = hedgingDelay;
+    }
+
+    /**
+     * Sets whether the request still running when an acceptable revocation token has been obtained
+     * shall be cancelled. When set to FALSE, the slower request is completed in background,
+     * which allows a caching revocation source to store its result for the next calls.
+     *
+     * Default : TRUE (the slower request is cancelled)
+     *
+     * @param cancelSlowerRequest whether the slower request shall be cancelled
+     */
+    public void setCancelSlowerRequest(boolean cancelSlowerRequest) {
+        this.cancelSlowerRequest = cancelSlowerRequest;
+    }
+
+    /**
+     * Sets whether the thread executing the slower request shall be interrupted on cancellation.
+     * When set to FALSE, a request not started yet is skipped, while a running request is completed in background.
+     * NOTE: interrupting a thread blocked on I/O may leave the underlying connection (or a cache) in an inconsistent
+     * state, depending on the used {@code DataLoader} and revocation source implementations.
+     *
+     * Default : FALSE (a running request is not interrupted)
+     *
+     * @param interruptSlowerRequest whether the thread executing the slower request shall be interrupted
+     */
+    public void setInterruptSlowerRequest(boolean interruptSlowerRequest) {
+        this.interruptSlowerRequest = interruptSlowerRequest;
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public RevocationToken getRevocationToken(CertificateToken certificateToken, CertificateToken issuerToken) {
+        if (ocspSource == null || crlSource == null) {
+            return getRevocationTokenSequentially(certificateToken, issuerToken);
+        }
+
+        final CompletionService<RevocationToken<?>> completionService = new ExecutorCompletionService<>(executorService);
+        final Future<RevocationToken<?>> ocspFuture = completionService.submit(() -> checkOCSP(certificateToken, issuerToken));
+        Future<RevocationToken<?>> crlFuture = null;
+
+        RevocationToken<?> ocspToken = null;
+        RevocationToken<?> crlToken = null;
+        try {
+            int pendingRequests = 1;
+            if (hedgingDelay > 0) {
+                Future<RevocationToken<?>> completed = completionService.poll(hedgingDelay, TimeUnit.MILLISECONDS);
+                if (completed != null) {
+                    --pendingRequests;
+                    ocspToken = getResult(completed, certificateToken);
+                    if (ocspToken != null && isAcceptableToken(ocspToken)) {
+                        return ocspToken;
+                    }
+                }
+            }
+
+            crlFuture = completionService.submit(() -> checkCRL(certificateToken, issuerToken));
+            ++pendingRequests;
+
+            while (pendingRequests > 0) {
+                Future<RevocationToken<?>> completed = completionService.take();
+                --pendingRequests;
+                RevocationToken<?> revocationToken = getResult(completed, certificateToken);
+                if (completed == ocspFuture) {
+                    ocspToken = revocationToken;
+                } else {
+                    crlToken = revocationToken;
+                }
+                if (revocationToken != null && isAcceptableToken(revocationToken)) {
+                    return revocationToken;
+                }
+            }
+
+        } catch (InterruptedException e) {
+            LOG.warn("Interrupted while waiting for revocation data for certificate '{}'", certificateToken.getDSSIdAsString());
+            Thread.currentThread().interrupt();
+            return null;
+
+        } finally {
+            if (cancelSlowerRequest) {
+                ocspFuture.cancel(interruptSlowerRequest);
+                if (crlFuture != null) {
+                    crlFuture.cancel(interruptSlowerRequest);
+                }
+            }
+        }
+
+        return getFallbackToken(certificateToken, ocspToken, crlToken);
+    }
+
+    private RevocationToken<?> getRevocationTokenSequentially(CertificateToken certificateToken, CertificateToken issuerToken) {
+        RevocationToken<?> ocspToken = checkOCSP(certificateToken, issuerToken);
+        if (ocspToken != null && isAcceptableToken(ocspToken)) {
+            return ocspToken;
+        }
+        RevocationToken<?> crlToken = checkCRL(certificateToken, issuerToken);
+        if (crlToken != null && isAcceptableToken(crlToken)) {
+            return crlToken;
+        }
+        return getFallbackToken(certificateToken, ocspToken, crlToken);
+    }
+
+    private RevocationToken<?> getFallbackToken(CertificateToken certificateToken,
+                                                RevocationToken<?> ocspToken, RevocationToken<?> crlToken) {
+        if (ocspToken == null && crlToken == null && LOG.isDebugEnabled()) {
+            LOG.debug("There is no response for {} neither from OCSP nor from CRL!", certificateToken.getDSSIdAsString());
+        }
+        if (fallbackEnabled) {
+            // return first successful result
+            return ocspToken != null ? ocspToken : crlToken;
+        }
+        return null;
+    }
+
+    private RevocationToken<?> getResult(Future<RevocationToken<?>> future, CertificateToken certificateToken)
+            throws InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            LOG.warn("Unable to retrieve revocation data for certificate '{}' : {}",
+                    certificateToken.getDSSIdAsString(), e.getCause() != null ? e.getCause().getMessage() : e.getMessage());
+            return null;
+        }
+    }
+
+}
@@ -0,0 +1,108 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * <p>
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * <p>
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * <p>
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.spi.validation;
+
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * This class initializes a {@code ConcurrentRevocationDataLoadingStrategy}.
+ *
+ */
+public class ConcurrentRevocationDataLoadingStrategyFactory implements RevocationDataLoadingStrategyFactory {
+
+    /**
+     * The executor used to request the revocation sources
+     */
+    private final ExecutorService executorService;
+
+    /**
+     * Time in milliseconds to wait for an OCSP response before requesting the CRL source
+     */
+    private long hedgingDelay = 0;
+
+    /**
+     * Defines whether the slower revocation request shall be cancelled
+     */
+    private boolean cancelSlowerRequest = true;
+
+    /**
+     * Defines whether the thread executing the slower revocation request shall be interrupted on cancellation
+     */
+    private boolean interruptSlowerRequest = false;
+
+    /**
+     * Default constructor
+     *
+     * @param executorService {@link ExecutorService} to be used to request the revocation sources
+     */
+    public ConcurrentRevocationDataLoadingStrategyFactory(ExecutorService executorService) {
+        Objects.requireNonNull(executorService, "ExecutorService cannot be null!");
+        this.executorService = executorService;
+    }
+
+    /**
+     * Sets the time in milliseconds to wait for an OCSP response before requesting the CRL source
+     *
+     * Default : 0 (both sources are requested at once)
+     *
+     * @param hedgingDelay time in milliseconds
+     */
+    public void setHedgingDelay(long hedgingDelay) {
+        if (hedgingDelay < 0) {
+            throw new IllegalArgumentException("The hedging delay cannot be negative!");
+        }
+        this.hedgingDelay = hedgingDelay;
+    }
+
+    /**
+     * Sets whether the request still running when an acceptable revocation token has been obtained
+     * shall be cancelled
+     *
+     * Default : TRUE (the slower request is cancelled)
+     *
+     * @param cancelSlowerRequest whether the slower request shall be cancelled
+     */
+    public void setCancelSlowerRequest(boolean cancelSlowerRequest) {
+        this.cancelSlowerRequest = cancelSlowerRequest;
+    }
+
+    /**
+     * Sets whether the thread executing the slower request shall be interrupted on cancellation
+     *
+     * Default : FALSE (a running request is not interrupted)
+     *
+     * @param interruptSlowerRequest whether the thread executing the slower request shall be interrupted
+     */
+    public void setInterruptSlowerRequest(boolean interruptSlowerRequest) {
+        this.interruptSlowerRequest = interruptSlowerRequest;
+    }
+
+    @Override
+    public RevocationDataLoadingStrategy create() {
+        ConcurrentRevocationDataLoadingStrategy revocationDataLoadingStrategy = new ConcurrentRevocationDataLoadingStrategy(executorService);
+        revocationDataLoadingStrategy.setHedgingDelay(hedgingDelay);
+        revocationDataLoadingStrategy.setCancelSlowerRequest(cancelSlowerRequest);
+        revocationDataLoadingStrategy.setInterruptSlowerRequest(interruptSlowerRequest);
+        return revocationDataLoadingStrategy;
+    }
+
+}
@@ -0,0 +1,112 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * <p>
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * <p>
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * <p>
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.spi.validation;
+
+import eu.europa.esig.dss.model.DSSException;
+import eu.europa.esig.dss.model.x509.CertificateToken;
+import eu.europa.esig.dss.model.x509.revocation.Revocation;
+import eu.europa.esig.dss.spi.x509.revocation.RevocationSource;
+import eu.europa.esig.dss.spi.x509.revocation.RevocationToken;
+import eu.europa.esig.dss.spi.x509.revocation.crl.CRLToken;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+/**
+ * This class wraps a {@code RevocationSource} and returns a revocation token requested in advance
+ * (e.g. concurrently by {@code SignatureValidationContext}) for the given certificate and its issuer.
+ * Requests for other certificates are delegated to the wrapped source.
+ * <p>
+ * A CRL request may be shared between the certificates of the same issuer. In this case, the obtained CRL token
+ * is re-created for the given certificate.
+ *
+ * @param <R> implementation of {@code Revocation} (CRL or OCSP)
+ */
+class PrefetchedRevocationSource<R extends Revocation> implements RevocationSource<R> {
+
+	private static final long serialVersionUID = -2385036429318725473L;
+
+	private static final Logger LOG = LoggerFactory.getLogger(PrefetchedRevocationSource.class);
+
+	/** The wrapped revocation source */
+	private final RevocationSource<R> revocationSource;
+
+	/** The certificate the revocation data has been requested for */
+	private final CertificateToken certificateToken;
+
+	/** The issuer of {@code certificateToken} */
+	private final CertificateToken issuerCertificateToken;
+
+	/** The pending or completed request, consumed on the first call */
+	private transient Future<RevocationToken<R>> prefetchedRevocationToken;
+
+	/**
+	 * Default constructor
+	 *
+	 * @param revocationSource {@link RevocationSource} to delegate the calls to
+	 * @param certificateToken {@link CertificateToken} the revocation data has been requested for
+	 * @param issuerCertificateToken {@link CertificateToken} issuer of {@code certificateToken}
+	 * @param prefetchedRevocationToken {@link Future} the request result
+	 */
+	PrefetchedRevocationSource(RevocationSource<R> revocationSource, CertificateToken certificateToken,
+							   CertificateToken issuerCertificateToken, Future<RevocationToken<R>> prefetchedRevocationToken) {
+		this.revocationSource = revocationSource;
+		this.certificateToken = certificateToken;
+		this.issuerCertificateToken = issuerCertificateToken;
+		this.prefetchedRevocationToken = prefetchedRevocationToken;
+	}
+
+	@Override
+	public RevocationToken<R> getRevocationToken(CertificateToken certificateToken, CertificateToken issuerCertificateToken) {
+		if (prefetchedRevocationToken != null && this.certificateToken.equals(certificateToken)
+				&& this.issuerCertificateToken.equals(issuerCertificateToken)) {
+			final Future<RevocationToken<R>> future = prefetchedRevocationToken;
+			prefetchedRevocationToken = null;
+			try {
+				return getRelatedRevocationToken(future.get(), certificateToken);
+			} catch (InterruptedException e) {
+				LOG.warn("Interruption while waiting for a prefetched revocation data for certificate '{}'.",
+						certificateToken.getDSSIdAsString());
+				Thread.currentThread().interrupt();
+				return null;
+			} catch (ExecutionException e) {
+				final Throwable cause = e.getCause();
+				if (cause instanceof RuntimeException) {
+					throw (RuntimeException) cause;
+				}
+				throw new DSSException(String.format("Unable to retrieve revocation data for certificate '%s' : %s",
+						certificateToken.getDSSIdAsString(), cause.getMessage()), cause);
+			}
+		}
+		return revocationSource.getRevocationToken(certificateToken, issuerCertificateToken);
+	}
+
+	@SuppressWarnings("unchecked")
+	private RevocationToken<R> getRelatedRevocationToken(RevocationToken<R> revocationToken, CertificateToken certificateToken) {
+		if (revocationToken instanceof CRLToken) {
+			return (RevocationToken<R>) ((CRLToken) revocationToken).getRelatedCRLToken(certificateToken);
+		}
+		return revocationToken;
+	}
+
+}
@@ -125,6 +125,19 @@ public abstract class RevocationDataLoadingStrategy {
 	public abstract RevocationToken getRevocationToken(CertificateToken certificateToken,
 														  CertificateToken issuerCertificateToken);
 
+	/**
+	 * Returns the revocation source to be requested first by the strategy.
+	 * The returned source is used by the validation context in order to prefetch revocation data
+	 * from online sources concurrently (see {@code CertificateVerifier#setRevocationPrefetchExecutor}).
+	 * <p>
+	 * Default : OCSP source, when defined, CRL source otherwise
+	 *
+	 * @return {@link RevocationSource}
+	 */
+	protected RevocationSource<?> getPrimaryRevocationSource() {
+		return ocspSource != null ? ocspSource : crlSource;
+	}
+
 	/**
 	 * This method returns a control time to verify validity of revocation data against
 	 *
@@ -28,6 +28,7 @@ import eu.europa.esig.dss.model.x509.Token;
 import eu.europa.esig.dss.model.x509.X500PrincipalHelper;
 import eu.europa.esig.dss.model.x509.revocation.crl.CRL;
 import eu.europa.esig.dss.model.x509.revocation.ocsp.OCSP;
+import eu.europa.esig.dss.spi.CertificateExtensionsUtils;
 import eu.europa.esig.dss.spi.DSSUtils;
 import eu.europa.esig.dss.spi.signature.AdvancedSignature;
 import eu.europa.esig.dss.spi.validation.status.RevocationFreshnessStatus;
@@ -55,26 +56,29 @@ import eu.europa.esig.dss.spi.x509.revocation.RevocationToken;
 import eu.europa.esig.dss.spi.x509.revocation.crl.CRLToken;
 import eu.europa.esig.dss.spi.x509.revocation.ocsp.OCSPToken;
 import eu.europa.esig.dss.spi.x509.tsp.TimestampToken;
-import eu.europa.esig.dss.spi.x509.tsp.TimestampTokenComparator;
 import eu.europa.esig.dss.spi.x509.tsp.TimestampedReference;
 import eu.europa.esig.dss.utils.Utils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 /**
  * During the validation of a signature, the software retrieves different X509 artifacts like Certificate, CRL and OCSP
@@ -119,6 +123,15 @@ public class SignatureValidationContext implements ValidationContext {
 	/** Map of tokens defining if they have been processed yet */
 	private final Map<Token, Boolean> tokensToProcess = new HashMap<>();
 
+	/** Queue of tokens to be processed, in the order of their addition (each token is queued once) */
+	private final Deque<Token> tokensQueue = new ArrayDeque<>();
+
+	/** Queue of revocation tokens to be processed with a priority, in the order of their addition */
+	private final Deque<RevocationToken<?>> revocationsQueue = new ArrayDeque<>();
+
+	/** Timestamps to be verified, sorted from the freshest one */
+	private final TimestampTokenQueue timestampsQueue = new TimestampTokenQueue();
+
 	/** A map between certificate tokens and corresponding signatures (b-level creation) */
 	private final Map<CertificateToken, List<AdvancedSignature>> certificateSignaturesUsage = new HashMap<>();
 
@@ -167,6 +180,18 @@ public class SignatureValidationContext implements ValidationContext {
 	/** Defines whether a revocation data still shall be returned, when validation of obtained revocation tokens failed */
 	private boolean revocationFallback;
 
+	/** Used to request revocation data from online sources concurrently before the validation (optional) */
+	private ExecutorService revocationPrefetchExecutor;
+
+	/** Map of OCSP responses requested in advance, by certificate and issuer identifiers */
+	private final Map<String, Future<RevocationToken<OCSP>>> prefetchedOCSPTokens = new HashMap<>();
+
+	/** Map of CRLs requested in advance, by certificate and issuer identifiers */
+	private final Map<String, Future<RevocationToken<CRL>>> prefetchedCRLTokens = new HashMap<>();
+
+	/** Map of CRL requests submitted in advance, by issuer identifier and CRL distribution point urls */
+	private final Map<String, Future<RevocationToken<CRL>>> prefetchedCRLRequests = new HashMap<>();
+
 	/** This class is used to verify validity of a {@code TimestampToken} */
 	private TimestampTokenVerifier timestampTokenVerifier;
 
@@ -224,6 +249,7 @@ public class SignatureValidationContext implements ValidationContext {
 		this.revocationDataLoadingStrategyFactory = certificateVerifier.getRevocationDataLoadingStrategyFactory();
 		this.revocationDataVerifier = certificateVerifier.getRevocationDataVerifier();
 		this.revocationFallback = certificateVerifier.isRevocationFallback();
+		this.revocationPrefetchExecutor = certificateVerifier.getRevocationPrefetchExecutor();
 		this.timestampTokenVerifier = certificateVerifier.getTimestampTokenVerifier();
 		this.trustAnchorVerifier = certificateVerifier.getTrustAnchorVerifier();
 	}
@@ -437,11 +463,14 @@ public class SignatureValidationContext implements ValidationContext {
 			if (revocationToken != null) {
 				return revocationToken;
 			}
-			for (final Entry<Token, Boolean> entry : tokensToProcess.entrySet()) {
-				if (entry.getValue() == null) {
-					entry.setValue(true);
-					return entry.getKey();
+			Token token = tokensQueue.poll();
+			while (token != null) {
+				// the token may have been already processed as part of a certificate chain
+				if (tokensToProcess.get(token) == null) {
+					tokensToProcess.put(token, true);
+					return token;
 				}
+				token = tokensQueue.poll();
 			}
 			return null;
 		}
@@ -455,16 +484,16 @@ public class SignatureValidationContext implements ValidationContext {
 	 * @return token to verify or null
 	 */
 	private RevocationToken<?> getNotYetVerifiedRevocationToken() {
-		if (Utils.isCollectionEmpty(processedRevocations)) {
-			return null;
-		}
-		final List<RevocationToken<?>> revocationTokens = new ArrayList<>(processedRevocations);
-		for (RevocationToken<?> revocationToken : revocationTokens) {
-			if (!isYetVerified(revocationToken)) {
-				return revocationToken;
+		synchronized (tokensToProcess) {
+			RevocationToken<?> revocationToken = revocationsQueue.poll();
+			while (revocationToken != null) {
+				if (!isYetVerified(revocationToken)) {
+					return revocationToken;
+				}
+				revocationToken = revocationsQueue.poll();
 			}
+			return null;
 		}
-		return null;
 	}
 
 	/**
@@ -473,18 +502,10 @@ public class SignatureValidationContext implements ValidationContext {
 	 * @return token to verify or null
 	 */
 	private TimestampToken getNotYetVerifiedTimestamp() {
-		if (Utils.isCollectionEmpty(processedTimestamps)) {
-			return null;
-		}
-		final List<TimestampToken> sortedTimestampTokens = new ArrayList<>(processedTimestamps);
-		sortedTimestampTokens.sort(new TimestampTokenComparator());
-		Collections.reverse(sortedTimestampTokens); // start processing from the freshest timestamp
-		for (TimestampToken timestampToken : sortedTimestampTokens) {
-			if (!isYetVerified(timestampToken)) {
-				return timestampToken;
-			}
+		synchronized (tokensToProcess) {
+			// start processing from the freshest timestamp
+			return timestampsQueue.next(this::isYetVerified);
 		}
-		return null;
 	}
 
 	private Token getNotYetVerifiedTokenFromChain(List<Token> certChain) {
@@ -800,6 +821,7 @@ public class SignatureValidationContext implements ValidationContext {
 				}
 
 				tokensToProcess.put(token, null);
+				tokensQueue.add(token);
 				registerPOE(token.getDSSIdAsString(), currentTime);
 				if (traceEnabled) {
 					LOG.trace("+ New {} to check: {}", token.getClass().getSimpleName(), token.getAbbreviation());
@@ -828,6 +850,11 @@ public class SignatureValidationContext implements ValidationContext {
 			}
 
 			final boolean added = processedRevocations.add(revocationToken);
+			if (added) {
+				synchronized (tokensToProcess) {
+					revocationsQueue.add(revocationToken);
+				}
+			}
 			if (LOG.isTraceEnabled()) {
 				if (added) {
 					LOG.trace("RevocationToken added to processedRevocations: {} ", revocationToken);
@@ -872,6 +899,11 @@ public class SignatureValidationContext implements ValidationContext {
 			registerTimestampUsageDate(timestampToken);
 
 			final boolean added = processedTimestamps.add(timestampToken);
+			if (added) {
+				synchronized (tokensToProcess) {
+					timestampsQueue.add(timestampToken);
+				}
+			}
 			if (LOG.isTraceEnabled()) {
 				if (added) {
 					LOG.trace("TimestampToken added to processedTimestamps: {} ", processedTimestamps);
@@ -968,16 +1000,162 @@ public class SignatureValidationContext implements ValidationContext {
 
 	@Override
 	public void validate() {
-		TimestampToken timestampToken = getNotYetVerifiedTimestamp();
-		while (timestampToken != null) {
-			validateTimestamp(timestampToken);
-			timestampToken = getNotYetVerifiedTimestamp();
+		try {
+			// TSA certificate chains are processed first
+			prefetchTimestampRevocationData();
+
+			TimestampToken timestampToken = getNotYetVerifiedTimestamp();
+			while (timestampToken != null) {
+				validateTimestamp(timestampToken);
+				timestampToken = getNotYetVerifiedTimestamp();
+			}
+
+			// POEs extracted from the timestamps are registered at this point
+			prefetchRevocationData();
+
+			Token token = getNotYetVerifiedToken();
+			while (token != null) {
+				validateToken(token);
+				token = getNotYetVerifiedToken();
+			}
+
+		} finally {
+			cancelPrefetchedRevocationData();
 		}
-		
-		Token token = getNotYetVerifiedToken();
-		while (token != null) {
-			validateToken(token);
-			token = getNotYetVerifiedToken();
+	}
+
+	/**
+	 * This method requests revocation data for the certificate chains of the timestamps to be processed,
+	 * before their validation. See {@code #prefetchRevocationData()} for more details.
+	 */
+	private void prefetchTimestampRevocationData() {
+		if (!isRevocationPrefetchEnabled()) {
+			return;
+		}
+
+		for (TimestampToken timestampToken : new ArrayList<>(processedTimestamps)) {
+			if (isAlreadyVerified(timestampToken)) {
+				continue;
+			}
+			final List<Token> certChain = getCertChain(timestampToken);
+			for (int i = 0; i < certChain.size(); i++) {
+				final Token token = certChain.get(i);
+				if (token instanceof CertificateToken) {
+					prefetchRevocationData((CertificateToken) token, certChain.subList(i, certChain.size()));
+				}
+			}
+		}
+	}
+
+	/**
+	 * This method resolves certificate chains of the tokens to be processed and requests revocation data
+	 * from the online sources concurrently, using the defined {@code revocationPrefetchExecutor}.
+	 * The obtained tokens are consumed later by {@code findRevocationData}, thus the validation process
+	 * (i.e. revocation data verification and the processed tokens bookkeeping) remains unchanged.
+	 * <p>
+	 * The method is called after the validation of timestamps, in order to decide whether the revocation data
+	 * is required based on the POEs extracted from the timestamps. The revocation data for the TSA certificate
+	 * chains is requested before (see {@code #prefetchTimestampRevocationData()}). A CRL is requested only once
+	 * for all the certificates issued by the same issuer with the same CRL distribution points.
+	 * <p>
+	 * NOTE: revocation data is requested only for certificates without embedded revocation data.
+	 *       Other certificates are processed sequentially.
+	 */
+	private void prefetchRevocationData() {
+		if (!isRevocationPrefetchEnabled()) {
+			return;
+		}
+
+		// resolve certificate chains (may add new certificates, e.g. from AIA)
+		final Map<CertificateToken, List<Token>> certificateChains = new LinkedHashMap<>();
+		List<CertificateToken> certificatesToResolve = new ArrayList<>(processedCertificates);
+		while (Utils.isCollectionNotEmpty(certificatesToResolve)) {
+			for (CertificateToken certificateToken : certificatesToResolve) {
+				certificateChains.put(certificateToken, getCertChain(certificateToken));
+			}
+			certificatesToResolve = new ArrayList<>(processedCertificates);
+			certificatesToResolve.removeAll(certificateChains.keySet());
+		}
+
+		for (Map.Entry<CertificateToken, List<Token>> entry : certificateChains.entrySet()) {
+			prefetchRevocationData(entry.getKey(), entry.getValue());
+		}
+	}
+
+	private boolean isRevocationPrefetchEnabled() {
+		return revocationPrefetchExecutor != null && (remoteOCSPSource != null || remoteCRLSource != null);
+	}
+
+	private void prefetchRevocationData(final CertificateToken certToken, final List<Token> certChain) {
+		if (isAlreadyVerified(certToken) || isRevocationDataNotRequired(certToken, getLowestPOETime(certToken))) {
+			return;
+		}
+
+		final CertificateToken issuerToken = getIssuer(certToken);
+		if (issuerToken == null) {
+			return;
+		}
+
+		final String key = getPrefetchKey(certToken, issuerToken);
+		if (prefetchedOCSPTokens.containsKey(key) || prefetchedCRLTokens.containsKey(key)) {
+			return;
+		}
+
+		if (Utils.isCollectionNotEmpty(documentCRLSource.getRevocationTokens(certToken, issuerToken)) ||
+				Utils.isCollectionNotEmpty(documentOCSPSource.getRevocationTokens(certToken, issuerToken))) {
+			// refresh decision is made during the validation
+			return;
+		}
+
+		if (!checkRevocationForUntrustedChains && !containsTrustAnchor(certChain)) {
+			return;
+		}
+
+		final CertificateToken trustAnchor = (CertificateToken) getFirstTrustAnchor(certChain);
+		final RevocationSource<OCSP> currentOCSPSource = getOCSPSource(trustAnchor);
+		final RevocationSource<CRL> currentCRLSource = getCRLSource(trustAnchor);
+
+		final RevocationDataLoadingStrategy revocationDataLoadingStrategy =
+				createRevocationDataLoadingStrategy(currentOCSPSource, currentCRLSource);
+		final RevocationSource<?> primaryRevocationSource = revocationDataLoadingStrategy.getPrimaryRevocationSource();
+		if (primaryRevocationSource == null) {
+			return;
+		}
+
+		LOG.trace("Prefetching revocation data for certificate : {}", certToken.getDSSIdAsString());
+		if (primaryRevocationSource == currentOCSPSource) {
+			prefetchedOCSPTokens.put(key, revocationPrefetchExecutor.submit(
+					() -> currentOCSPSource.getRevocationToken(certToken, issuerToken)));
+		} else if (primaryRevocationSource == currentCRLSource) {
+			// the CRL obtained for another certificate is re-bound on consumption (see PrefetchedRevocationSource)
+			prefetchedCRLTokens.put(key, prefetchedCRLRequests.computeIfAbsent(getPrefetchCRLKey(certToken, issuerToken),
+					k -> revocationPrefetchExecutor.submit(() -> currentCRLSource.getRevocationToken(certToken, issuerToken))));
+		}
+	}
+
+	private String getPrefetchCRLKey(CertificateToken certificateToken, CertificateToken issuerCertificateToken) {
+		return issuerCertificateToken.getDSSIdAsString() + CertificateExtensionsUtils.getCRLAccessUrls(certificateToken);
+	}
+
+	private String getPrefetchKey(CertificateToken certificateToken, CertificateToken issuerCertificateToken) {
+		return certificateToken.getDSSIdAsString() + issuerCertificateToken.getDSSIdAsString();
+	}
+
+	private void cancelPrefetchedRevocationData() {
+		for (Future<?> future : prefetchedOCSPTokens.values()) {
+			future.cancel(true);
+		}
+		prefetchedOCSPTokens.clear();
+		for (Future<?> future : prefetchedCRLTokens.values()) {
+			future.cancel(true);
+		}
+		prefetchedCRLTokens.clear();
+		prefetchedCRLRequests.clear();
+	}
+
+	private boolean isAlreadyVerified(Token token) {
+		synchronized (tokensToProcess) {
+			return Boolean.TRUE.equals(tokensToProcess.get(token));
 		}
 	}
 
@@ -1146,25 +1324,54 @@ public class SignatureValidationContext implements ValidationContext {
 	private RevocationToken<?> getRevocationToken(CertificateToken certificateToken, CertificateToken issuerCertificate,
 												  CertificateToken trustAnchor) {
 		// configure the CompositeRevocationSource
-		RevocationSource<OCSP> currentOCSPSource;
-		RevocationSource<CRL> currentCRLSource;
+		RevocationSource<OCSP> currentOCSPSource = getOCSPSource(trustAnchor);
+		RevocationSource<CRL> currentCRLSource = getCRLSource(trustAnchor);
+
+		// use the data requested in advance, when available
+		final String prefetchKey = getPrefetchKey(certificateToken, issuerCertificate);
+		final Future<RevocationToken<OCSP>> prefetchedOCSPToken = prefetchedOCSPTokens.remove(prefetchKey);
+		if (prefetchedOCSPToken != null) {
+			currentOCSPSource = new PrefetchedRevocationSource<>(currentOCSPSource, certificateToken, issuerCertificate, prefetchedOCSPToken);
+		}
+		final Future<RevocationToken<CRL>> prefetchedCRLToken = prefetchedCRLTokens.remove(prefetchKey);
+		if (prefetchedCRLToken != null) {
+			currentCRLSource = new PrefetchedRevocationSource<>(currentCRLSource, certificateToken, issuerCertificate, prefetchedCRLToken);
+		}
+
+		// fetch the data
+		final RevocationDataLoadingStrategy revocationDataLoadingStrategy =
+				createRevocationDataLoadingStrategy(currentOCSPSource, currentCRLSource);
+		return revocationDataLoadingStrategy.getRevocationToken(certificateToken, issuerCertificate);
+	}
+
+	private RevocationSource<OCSP> getOCSPSource(CertificateToken trustAnchor) {
 		if (!trustedCertSources.isEmpty() && trustAnchor != null) {
-			LOG.trace("Initializing a revocation verifier for a trusted chain...");
-			currentOCSPSource = instantiateOCSPWithTrustServices(trustAnchor);
-			currentCRLSource = instantiateCRLWithTrustServices(trustAnchor);
+			LOG.trace("Initializing an OCSP source for a trusted chain...");
+			return instantiateOCSPWithTrustServices(trustAnchor);
 		} else {
-			LOG.trace("Initializing a revocation verifier for not trusted chain...");
-			currentOCSPSource = remoteOCSPSource;
-			currentCRLSource = remoteCRLSource;
+			LOG.trace("Initializing an OCSP source for not trusted chain...");
+			return remoteOCSPSource;
 		}
+	}
 
-		// fetch the data
+	private RevocationSource<CRL> getCRLSource(CertificateToken trustAnchor) {
+		if (!trustedCertSources.isEmpty() && trustAnchor != null) {
+			LOG.trace("Initializing a CRL source for a trusted chain...");
+			return instantiateCRLWithTrustServices(trustAnchor);
+		} else {
+			LOG.trace("Initializing a CRL source for not trusted chain...");
+			return remoteCRLSource;
+		}
+	}
+
+	private RevocationDataLoadingStrategy createRevocationDataLoadingStrategy(RevocationSource<OCSP> ocspSource,
+																			  RevocationSource<CRL> crlSource) {
 		final RevocationDataLoadingStrategy revocationDataLoadingStrategy = revocationDataLoadingStrategyFactory.create();
-		revocationDataLoadingStrategy.setCrlSource(currentCRLSource);
-		revocationDataLoadingStrategy.setOcspSource(currentOCSPSource);
+		revocationDataLoadingStrategy.setCrlSource(crlSource);
+		revocationDataLoadingStrategy.setOcspSource(ocspSource);
 		revocationDataLoadingStrategy.setRevocationDataVerifier(getRevocationDataVerifier());
 		revocationDataLoadingStrategy.setFallbackEnabled(revocationFallback);
-		return revocationDataLoadingStrategy.getRevocationToken(certificateToken, issuerCertificate);
+		return revocationDataLoadingStrategy;
 	}
 
 	private RevocationSource<OCSP> instantiateOCSPWithTrustServices(CertificateToken trustAnchor) {
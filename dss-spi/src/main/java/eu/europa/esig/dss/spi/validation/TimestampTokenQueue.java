@@ -0,0 +1,110 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * <p>
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * <p>
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * <p>
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.spi.validation;
+
+import eu.europa.esig.dss.spi.x509.tsp.TimestampToken;
+import eu.europa.esig.dss.spi.x509.tsp.TimestampTokenComparator;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * This class keeps the timestamps to be verified by {@code SignatureValidationContext} sorted from the freshest one.
+ * A new timestamp is inserted at its sorted position, so the list is never sorted again.
+ * <p>
+ * NOTE: the class is not thread-safe, the calls shall be synchronized by the caller.
+ */
+class TimestampTokenQueue {
+
+	/** Used to sort the timestamps */
+	private final Comparator<TimestampToken> comparator = new TimestampTokenComparator();
+
+	/** Timestamps sorted from the freshest one */
+	private final List<TimestampToken> timestamps = new ArrayList<>();
+
+	/** Position of the next timestamp to check, the timestamps before this position are already verified */
+	private int position;
+
+	/**
+	 * Default constructor
+	 */
+	TimestampTokenQueue() {
+		// empty
+	}
+
+	/**
+	 * Adds the timestamp at its sorted position. A timestamp fresher than the already returned ones
+	 * will be returned by the next call of {@code next(isVerified)}.
+	 * Among equivalent timestamps, the last added one is returned first.
+	 *
+	 * @param timestampToken {@link TimestampToken} to add
+	 * @return TRUE if the timestamp has been added, FALSE if it is already present
+	 */
+	boolean add(TimestampToken timestampToken) {
+		final int index = getInsertionIndex(timestampToken);
+		for (int i = index; i < timestamps.size() && comparator.compare(timestamps.get(i), timestampToken) == 0; i++) {
+			if (timestamps.get(i).equals(timestampToken)) {
+				return false;
+			}
+		}
+		timestamps.add(index, timestampToken);
+		if (index < position) {
+			position = index;
+		}
+		return true;
+	}
+
+	/**
+	 * Returns the freshest timestamp which is not yet verified
+	 *
+	 * @param isVerified {@link Predicate} checking whether a timestamp is already verified
+	 * @return {@link TimestampToken}, null if all the timestamps are verified
+	 */
+	TimestampToken next(Predicate<TimestampToken> isVerified) {
+		while (position < timestamps.size()) {
+			TimestampToken timestampToken = timestamps.get(position++);
+			if (!isVerified.test(timestampToken)) {
+				return timestampToken;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the first index with a timestamp which is not fresher than the given one
+	 */
+	private int getInsertionIndex(TimestampToken timestampToken) {
+		int low = 0;
+		int high = timestamps.size();
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (comparator.compare(timestamps.get(mid), timestampToken) > 0) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+}
@@ -20,9 +20,11 @@
  */
 package eu.europa.esig.dss.spi.validation.analyzer;
 
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
 import eu.europa.esig.dss.enumerations.TimestampedObjectType;
 import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.model.DSSException;
+import eu.europa.esig.dss.model.DigestDocument;
 import eu.europa.esig.dss.model.ManifestFile;
 import eu.europa.esig.dss.model.SignaturePolicyStore;
 import eu.europa.esig.dss.model.identifier.OriginalIdentifierProvider;
@@ -66,6 +68,7 @@ import java.util.Date;
 import java.util.List;
 import java.util.Objects;
 import java.util.ServiceLoader;
+import java.util.Set;
 
 /**
  * This class contains a common code for processing of signed documents
@@ -731,10 +734,75 @@ public abstract class DefaultDocumentAnalyzer implements DocumentAnalyzer {
      */
     protected <T extends AdvancedSignature> void processSignaturesValidation(Collection<T> allSignatureList) {
         for (final AdvancedSignature signature : allSignatureList) {
+            if (!signature.isCounterSignature()) {
+                computeDetachedContentsDigests(signature);
+            }
             signature.checkSignatureIntegrity();
         }
     }
 
+    private void computeDetachedContentsDigests(AdvancedSignature signature) {
+        try {
+            computeDigests(signature.getDetachedContents(), getDetachedContentsDigestAlgorithms(signature));
+        } catch (Exception e) {
+            // the digests are computed on demand on validation
+            LOG.warn("Unable to compute digests of detached contents for a signature with Id '{}' : {}",
+                    signature.getId(), e.getMessage());
+        }
+    }
+
+    /**
+     * Returns a set of digest algorithms used to compute digests of the detached contents
+     * on validation of the {@code signature}.
+     * When more than one digest algorithm is returned, the digests are computed within a single read
+     * of each detached document.
+     *
+     * @param signature {@link AdvancedSignature} to be validated
+     * @return a set of {@link DigestAlgorithm}s
+     */
+    protected Set<DigestAlgorithm> getDetachedContentsDigestAlgorithms(AdvancedSignature signature) {
+        return Collections.emptySet();
+    }
+
+    /**
+     * Computes digests of each of the {@code documents} for all the given {@code digestAlgorithms}
+     * within a single read of the document. The computed digests are cached within the documents.
+     * NOTE: nothing is done when less than two digest algorithms are provided,
+     *       as the digest is computed on demand within a single read anyway.
+     *
+     * @param documents a list of {@link DSSDocument}s to compute digests for
+     * @param digestAlgorithms a set of {@link DigestAlgorithm}s
+     */
+    protected void computeDigests(List<DSSDocument> documents, Set<DigestAlgorithm> digestAlgorithms) {
+        if (Utils.isCollectionEmpty(documents) || Utils.collectionSize(digestAlgorithms) < 2) {
+            return;
+        }
+        for (DSSDocument document : documents) {
+            if (document instanceof DigestDocument) {
+                continue;
+            }
+            try {
+                document.getDigestValues(digestAlgorithms);
+            } catch (Exception e) {
+                LOG.warn("Unable to compute digests within a single read for a document with name '{}' : {}. " +
+                        "The digests are computed for each algorithm separately.", document.getName(), e.getMessage());
+                computeDigestsSeparately(document, digestAlgorithms);
+            }
+        }
+    }
+
+    private void computeDigestsSeparately(DSSDocument document, Set<DigestAlgorithm> digestAlgorithms) {
+        for (DigestAlgorithm digestAlgorithm : digestAlgorithms) {
+            try {
+                document.getDigestValue(digestAlgorithm);
+            } catch (Exception e) {
+                // the digest computation is repeated and reported on validation
+                LOG.warn("Unable to compute {} digest for a document with name '{}' : {}",
+                        digestAlgorithm, document.getName(), e.getMessage());
+            }
+        }
+    }
+
     /**
      * Returns a list of timestamped references from the given list of {@code SignatureScope}s
      *
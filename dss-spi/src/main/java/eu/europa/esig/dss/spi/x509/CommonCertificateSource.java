@@ -31,9 +31,11 @@ import eu.europa.esig.dss.utils.Utils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.Serializable;
 import java.security.PublicKey;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
@@ -59,22 +61,10 @@ public class CommonCertificateSource implements CertificateSource {
 	protected final transient CertificateTokenRefMatcher certificateMatcher = new CertificateTokenRefMatcher();
 
 	/**
-	 * Map of entries, the key is a hash of the entity key (public key + subject name combination).
-	 * All entries share the same key pair and a subject name.
+	 * The pool of certificates, indexed by entity key, public key and subject name
+	 * (created on the first use, not used when {@code getCertificatePool()} is overridden)
 	 */
-	private Map<EntityIdentifier, EquivalentCertificatesEntity> entitiesByEntityKey = new HashMap<>();
-
-	/**
-	 * Map of entries, the key is a hash of a public key.
-	 * For a same KeyIdentifier, different subject names (and certificates) are possible.
-	 */
-	private Map<KeyIdentifier, EquivalentCertificatesEntity> entitiesByPublicKey = new HashMap<>();
-
-	/**
-	 * Map of tokens, the key is a key of X500Name (RDN)
-	 * For a same SubjectX500Principal, different key pairs (and certificates) are possible
-	 */
-	private Map<X500NameIdentifier, Set<CertificateToken>> tokensBySubject = new HashMap<>();
+	private volatile CertificatePool certificatePool;
 
 	/**
 	 * The default constructor
@@ -99,36 +89,7 @@ public class CommonCertificateSource implements CertificateSource {
 			LOG.trace("Certificate to add: {} | {}", certificateToAdd.getIssuerX500Principal(), certificateToAdd.getSerialNumber());
 		}
 
-		synchronized (entitiesByEntityKey) {
-			final EntityIdentifier entityKey = certificateToAdd.getEntityKey();
-			EquivalentCertificatesEntity poolEntity = entitiesByEntityKey.get(entityKey);
-			if (poolEntity == null) {
-				LOG.trace("Entity key {} is not in the pool", entityKey);
-				poolEntity = new EquivalentCertificatesEntity(certificateToAdd);
-				entitiesByEntityKey.put(entityKey, poolEntity);
-			} else {
-				LOG.trace("Entity key {} is already in the pool", entityKey);
-				poolEntity.addEquivalentCertificate(certificateToAdd);
-			}
-		}
-
-		synchronized (entitiesByPublicKey) {
-			final KeyIdentifier keyIdentifier = new KeyIdentifier(certificateToAdd.getPublicKey());
-			EquivalentCertificatesEntity poolEntity = entitiesByPublicKey.get(keyIdentifier);
-			if (poolEntity == null) {
-				LOG.trace("Key identifier {} is not in the pool", keyIdentifier);
-				poolEntity = new EquivalentCertificatesEntity(certificateToAdd);
-				entitiesByPublicKey.put(keyIdentifier, poolEntity);
-			} else {
-				LOG.trace("Key identifier {} is already in the pool", keyIdentifier);
-				poolEntity.addEquivalentCertificate(certificateToAdd);
-			}
-		}
-
-		synchronized (tokensBySubject) {
-			X500NameIdentifier x500NameIdentifier = new X500NameIdentifier(certificateToAdd.getSubject().getPrincipal());
-			tokensBySubject.computeIfAbsent(x500NameIdentifier, k -> new HashSet<>()).add(certificateToAdd);
-		}
+		getCertificatePool().addCertificate(certificateToAdd);
 
 		return certificateToAdd;
 	}
@@ -145,73 +106,57 @@ public class CommonCertificateSource implements CertificateSource {
 			LOG.trace("Certificate to remove: {} | {}", certificateToRemove.getIssuerX500Principal(), certificateToRemove.getSerialNumber());
 		}
 
-		synchronized (entitiesByEntityKey) {
-			final EntityIdentifier entityKey = certificateToRemove.getEntityKey();
-			EquivalentCertificatesEntity poolEntity = entitiesByEntityKey.get(entityKey);
-			if (poolEntity == null) {
-				LOG.trace("Entity key {} is not in the pool", entityKey);
-			} else {
-				LOG.trace("Entity key {} is in the pool", entityKey);
-				if (poolEntity.getEquivalentCertificates().size() == 1) {
-					LOG.trace("Remove the entity key {} from the pool", entityKey);
-					entitiesByEntityKey.remove(entityKey);
-				} else {
-					LOG.trace("Remove the token {} from the pool", certificateToRemove.getAbbreviation());
-					poolEntity.removeEquivalentCertificate(certificateToRemove);
-				}
-			}
-		}
+		getCertificatePool().removeCertificate(certificateToRemove);
+	}
 
-		synchronized (entitiesByPublicKey) {
-			final KeyIdentifier keyIdentifier = new KeyIdentifier(certificateToRemove.getPublicKey());
-			EquivalentCertificatesEntity poolEntity = entitiesByPublicKey.get(keyIdentifier);
-			if (poolEntity == null) {
-				LOG.trace("Key identifier {} is not in the pool", keyIdentifier);
-			} else {
-				LOG.trace("Key identifier {} is in the pool", keyIdentifier);
-				if (poolEntity.getEquivalentCertificates().size() == 1) {
-					LOG.trace("Remove the Key identifier {} from the pool", keyIdentifier);
-					entitiesByPublicKey.remove(keyIdentifier);
-				} else {
-					LOG.trace("Remove the token {} from the pool", certificateToRemove.getAbbreviation());
-					poolEntity.removeEquivalentCertificate(certificateToRemove);
-				}
-			}
-		}
+	/**
+	 * This method removes all certificates from the source
+	 */
+	protected void reset() {
+		certificatePool = new CertificatePool();
+	}
 
-		synchronized (tokensBySubject) {
-			final X500NameIdentifier x500NameIdentifier = new X500NameIdentifier(certificateToRemove.getSubject().getPrincipal());
-			Set<CertificateToken> certificateTokens = tokensBySubject.get(x500NameIdentifier);
-			if (Utils.isCollectionEmpty(certificateTokens)) {
-				LOG.trace("RDN {} is not in the pool", x500NameIdentifier);
-			} else {
-				if (certificateTokens.size() == 1) {
-					tokensBySubject.remove(x500NameIdentifier);
-				} else {
-					certificateTokens.remove(certificateToRemove);
+	/**
+	 * Returns the pool of certificates used by this source.
+	 * A subclass may override this method in order to publish an immutable pool built with
+	 * {@link #buildCertificatePool(Collection)}, so the pool can be replaced atomically.
+	 *
+	 * @return {@link CertificatePool}
+	 */
+	protected CertificatePool getCertificatePool() {
+		CertificatePool pool = certificatePool;
+		if (pool == null) {
+			synchronized (this) {
+				pool = certificatePool;
+				if (pool == null) {
+					pool = new CertificatePool();
+					certificatePool = pool;
 				}
 			}
 		}
+		return pool;
 	}
 
 	/**
-	 * This method removes all certificates from the source
+	 * Builds a new read-only pool of certificates containing the given {@code certificateTokens}.
+	 * The returned pool cannot be modified, an attempt to add or remove a certificate throws an exception.
+	 *
+	 * @param certificateTokens a collection of {@link CertificateToken}s to be added
+	 * @return {@link CertificatePool}
 	 */
-	protected void reset() {
-		entitiesByEntityKey = new HashMap<>();
-		entitiesByPublicKey = new HashMap<>();
-		tokensBySubject = new HashMap<>();
+	protected static CertificatePool buildCertificatePool(Collection<CertificateToken> certificateTokens) {
+		CertificatePool pool = new CertificatePool();
+		for (CertificateToken certificateToken : certificateTokens) {
+			Objects.requireNonNull(certificateToken, "The certificate must be filled");
+			pool.addCertificate(certificateToken);
+		}
+		pool.readOnly = true;
+		return pool;
 	}
 
 	@Override
 	public boolean isKnown(CertificateToken token) {
-		final EquivalentCertificatesEntity poolEntity = entitiesByEntityKey.get(token.getEntityKey());
-		if (poolEntity != null) {
-			Set<CertificateToken> certsByPublicKey = poolEntity.getEquivalentCertificates();
-			Set<CertificateToken> certsBySubject = getBySubject(token.getSubject());
-			return Utils.containsAny(certsByPublicKey, certsBySubject);
-		}
-		return false;
+		return getCertificatePool().isKnown(token);
 	}
 
 	/**
@@ -221,16 +166,12 @@ public class CommonCertificateSource implements CertificateSource {
 	 */
 	@Override
 	public List<CertificateToken> getCertificates() {
-		List<CertificateToken> allCertificates = new ArrayList<>();
-		for (EquivalentCertificatesEntity entity : entitiesByEntityKey.values()) {
-			allCertificates.addAll(entity.getEquivalentCertificates());
-		}
-		return Collections.unmodifiableList(allCertificates);
+		return getCertificatePool().getCertificates();
 	}
 
 	@Override
 	public List<CertificateSourceEntity> getEntities() {
-		return new ArrayList<>(entitiesByEntityKey.values());
+		return new ArrayList<>(getCertificatePool().entitiesByEntityKey.values());
 	}
 
 	/**
@@ -242,7 +183,7 @@ public class CommonCertificateSource implements CertificateSource {
 	 */
 	@Override
 	public Set<CertificateToken> getByPublicKey(PublicKey publicKey) {
-		EquivalentCertificatesEntity entity = entitiesByPublicKey.get(new KeyIdentifier(publicKey));
+		EquivalentCertificatesEntity entity = getCertificatePool().entitiesByPublicKey.get(new KeyIdentifier(publicKey));
 		if (entity != null) {
 			return entity.getEquivalentCertificates();
 		} else {
@@ -252,7 +193,7 @@ public class CommonCertificateSource implements CertificateSource {
 
 	@Override
 	public Set<CertificateToken> getByEntityKey(EntityIdentifier entityKey) {
-		EquivalentCertificatesEntity entity = entitiesByEntityKey.get(entityKey);
+		EquivalentCertificatesEntity entity = getCertificatePool().entitiesByEntityKey.get(entityKey);
 		if (entity != null) {
 			return entity.getEquivalentCertificates();
 		} else {
@@ -269,7 +210,7 @@ public class CommonCertificateSource implements CertificateSource {
 	 */
 	@Override
 	public Set<CertificateToken> getBySki(byte[] ski) {
-		for (EquivalentCertificatesEntity entity : entitiesByPublicKey.values()) {
+		for (EquivalentCertificatesEntity entity : getCertificatePool().entitiesByPublicKey.values()) {
 			if (Arrays.equals(entity.getSki(), ski)) {
 				return entity.getEquivalentCertificates();
 			}
@@ -285,17 +226,13 @@ public class CommonCertificateSource implements CertificateSource {
 	 */
 	@Override
 	public Set<CertificateToken> getBySubject(X500PrincipalHelper subject) {
-		final Set<CertificateToken> tokensSet = tokensBySubject.get(new X500NameIdentifier(subject.getPrincipal()));
-		if (tokensSet != null) {
-			return tokensSet;
-		}
-		return Collections.emptySet();
+		return getCertificatePool().getBySubject(subject);
 	}
 
 	@Override
 	public Set<CertificateToken> getBySignerIdentifier(SignerIdentifier signerIdentifier) {
 		Set<CertificateToken> result = new HashSet<>();
-		for (EquivalentCertificatesEntity entry : entitiesByEntityKey.values()) {
+		for (EquivalentCertificatesEntity entry : getCertificatePool().entitiesByEntityKey.values()) {
 			for (CertificateToken certificateToken : entry.getEquivalentCertificates()) {
 				// run over all entries to compare with the SN too
 				if (signerIdentifier.isRelatedToCertificate(certificateToken)) {
@@ -309,7 +246,7 @@ public class CommonCertificateSource implements CertificateSource {
 	@Override
 	public Set<CertificateToken> getByCertificateDigest(Digest digest) {
 		Set<CertificateToken> result = new HashSet<>();
-		for (EquivalentCertificatesEntity entry : entitiesByEntityKey.values()) {
+		for (EquivalentCertificatesEntity entry : getCertificatePool().entitiesByEntityKey.values()) {
 			for (CertificateToken certificateToken : entry.getEquivalentCertificates()) {
 				if (Arrays.equals(digest.getValue(), certificateToken.getDigest(digest.getAlgorithm()))) {
 					result.add(certificateToken);
@@ -322,7 +259,7 @@ public class CommonCertificateSource implements CertificateSource {
 	@Override
 	public Set<CertificateToken> findTokensFromCertRef(CertificateRef certificateRef) {
 		Set<CertificateToken> result = new HashSet<>();
-		for (EquivalentCertificatesEntity entry : entitiesByEntityKey.values()) {
+		for (EquivalentCertificatesEntity entry : getCertificatePool().entitiesByEntityKey.values()) {
 			for (CertificateToken certificateToken : entry.getEquivalentCertificates()) {
 				if (doesCertificateReferenceMatch(certificateToken, certificateRef)) {
 					result.add(certificateToken);
@@ -359,7 +296,7 @@ public class CommonCertificateSource implements CertificateSource {
 	 * @return number of entities in this instance
 	 */
 	public int getNumberOfEntities() {
-		return entitiesByEntityKey.size();
+		return getCertificatePool().entitiesByEntityKey.size();
 	}
 
 	@Override
@@ -397,4 +334,171 @@ public class CommonCertificateSource implements CertificateSource {
 		return new HashSet<>(getEntities()).equals(new HashSet<>(certificateSource.getEntities()));
 	}
 
-}
\ No newline at end of file
+	/**
+	 * Contains the certificates of a source indexed by entity key, public key and subject name
+	 */
+	protected static final class CertificatePool implements Serializable {
+
+		private static final long serialVersionUID = 2893719537813574802L;
+
+		/**
+		 * Map of entries, the key is a hash of the entity key (public key + subject name combination).
+		 * All entries share the same key pair and a subject name.
+		 */
+		private final Map<EntityIdentifier, EquivalentCertificatesEntity> entitiesByEntityKey = new HashMap<>();
+
+		/**
+		 * Map of entries, the key is a hash of a public key.
+		 * For a same KeyIdentifier, different subject names (and certificates) are possible.
+		 */
+		private final Map<KeyIdentifier, EquivalentCertificatesEntity> entitiesByPublicKey = new HashMap<>();
+
+		/**
+		 * Map of tokens, the key is a key of X500Name (RDN)
+		 * For a same SubjectX500Principal, different key pairs (and certificates) are possible
+		 */
+		private final Map<X500NameIdentifier, Set<CertificateToken>> tokensBySubject = new HashMap<>();
+
+		/**
+		 * Defines whether the pool is read-only (i.e. shared with lock-free readers)
+		 */
+		private boolean readOnly;
+
+		/**
+		 * Empty constructor
+		 */
+		private CertificatePool() {
+			// empty
+		}
+
+		private void assertModifiable() {
+			if (readOnly) {
+				throw new UnsupportedOperationException("The certificate pool is read-only!");
+			}
+		}
+
+		private void addCertificate(final CertificateToken certificateToAdd) {
+			assertModifiable();
+			synchronized (entitiesByEntityKey) {
+				final EntityIdentifier entityKey = certificateToAdd.getEntityKey();
+				EquivalentCertificatesEntity poolEntity = entitiesByEntityKey.get(entityKey);
+				if (poolEntity == null) {
+					LOG.trace("Entity key {} is not in the pool", entityKey);
+					poolEntity = new EquivalentCertificatesEntity(certificateToAdd);
+					entitiesByEntityKey.put(entityKey, poolEntity);
+				} else {
+					LOG.trace("Entity key {} is already in the pool", entityKey);
+					poolEntity.addEquivalentCertificate(certificateToAdd);
+				}
+			}
+
+			synchronized (entitiesByPublicKey) {
+				final KeyIdentifier keyIdentifier = new KeyIdentifier(certificateToAdd.getPublicKey());
+				EquivalentCertificatesEntity poolEntity = entitiesByPublicKey.get(keyIdentifier);
+				if (poolEntity == null) {
+					LOG.trace("Key identifier {} is not in the pool", keyIdentifier);
+					poolEntity = new EquivalentCertificatesEntity(certificateToAdd);
+					entitiesByPublicKey.put(keyIdentifier, poolEntity);
+				} else {
+					LOG.trace("Key identifier {} is already in the pool", keyIdentifier);
+					poolEntity.addEquivalentCertificate(certificateToAdd);
+				}
+			}
+
+			synchronized (tokensBySubject) {
+				X500NameIdentifier x500NameIdentifier = new X500NameIdentifier(certificateToAdd.getSubject().getPrincipal());
+				tokensBySubject.computeIfAbsent(x500NameIdentifier, k -> new HashSet<>()).add(certificateToAdd);
+			}
+		}
+
+		private void removeCertificate(final CertificateToken certificateToRemove) {
+			assertModifiable();
+			synchronized (entitiesByEntityKey) {
+				final EntityIdentifier entityKey = certificateToRemove.getEntityKey();
+				EquivalentCertificatesEntity poolEntity = entitiesByEntityKey.get(entityKey);
+				if (poolEntity == null) {
+					LOG.trace("Entity key {} is not in the pool", entityKey);
+				} else {
+					LOG.trace("Entity key {} is in the pool", entityKey);
+					if (poolEntity.getEquivalentCertificates().size() == 1) {
+						LOG.trace("Remove the entity key {} from the pool", entityKey);
+						entitiesByEntityKey.remove(entityKey);
+					} else {
+						LOG.trace("Remove the token {} from the pool", certificateToRemove.getAbbreviation());
+						poolEntity.removeEquivalentCertificate(certificateToRemove);
+					}
+				}
+			}
+
+			synchronized (entitiesByPublicKey) {
+				final KeyIdentifier keyIdentifier = new KeyIdentifier(certificateToRemove.getPublicKey());
+				EquivalentCertificatesEntity poolEntity = entitiesByPublicKey.get(keyIdentifier);
+				if (poolEntity == null) {
+					LOG.trace("Key identifier {} is not in the pool", keyIdentifier);
+				} else {
+					LOG.trace("Key identifier {} is in the pool", keyIdentifier);
+					if (poolEntity.getEquivalentCertificates().size() == 1) {
+						LOG.trace("Remove the Key identifier {} from the pool", keyIdentifier);
+						entitiesByPublicKey.remove(keyIdentifier);
+					} else {
+						LOG.trace("Remove the token {} from the pool", certificateToRemove.getAbbreviation());
+						poolEntity.removeEquivalentCertificate(certificateToRemove);
+					}
+				}
+			}
+
+			synchronized (tokensBySubject) {
+				final X500NameIdentifier x500NameIdentifier = new X500NameIdentifier(certificateToRemove.getSubject().getPrincipal());
+				Set<CertificateToken> certificateTokens = tokensBySubject.get(x500NameIdentifier);
+				if (Utils.isCollectionEmpty(certificateTokens)) {
+					LOG.trace("RDN {} is not in the pool", x500NameIdentifier);
+				} else {
+					if (certificateTokens.size() == 1) {
+						tokensBySubject.remove(x500NameIdentifier);
+					} else {
+						certificateTokens.remove(certificateToRemove);
+					}
+				}
+			}
+		}
+
+		/**
+		 * Checks whether the given {@code token} is present in the pool
+		 *
+		 * @param token {@link CertificateToken} to check
+		 * @return TRUE if the certificate is known, FALSE otherwise
+		 */
+		public boolean isKnown(CertificateToken token) {
+			final EquivalentCertificatesEntity poolEntity = entitiesByEntityKey.get(token.getEntityKey());
+			if (poolEntity != null) {
+				Set<CertificateToken> certsByPublicKey = poolEntity.getEquivalentCertificates();
+				Set<CertificateToken> certsBySubject = getBySubject(token.getSubject());
+				return Utils.containsAny(certsByPublicKey, certsBySubject);
+			}
+			return false;
+		}
+
+		/**
+		 * Returns the unmodifiable list of all certificate tokens from the pool
+		 *
+		 * @return a list of {@link CertificateToken}s
+		 */
+		public List<CertificateToken> getCertificates() {
+			List<CertificateToken> allCertificates = new ArrayList<>();
+			for (EquivalentCertificatesEntity entity : entitiesByEntityKey.values()) {
+				allCertificates.addAll(entity.getEquivalentCertificates());
+			}
+			return Collections.unmodifiableList(allCertificates);
+		}
+
+		private Set<CertificateToken> getBySubject(X500PrincipalHelper subject) {
+			final Set<CertificateToken> tokensSet = tokensBySubject.get(new X500NameIdentifier(subject.getPrincipal()));
+			if (tokensSet != null) {
+				return tokensSet;
+			}
+			return Collections.emptySet();
+		}
+
+	}
+
+}
@@ -0,0 +1,173 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * <p>
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * <p>
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * <p>
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.spi.x509;
+
+import eu.europa.esig.dss.model.DSSException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent requests with the same key into a single execution ("single-flight").
+ * <p>
+ * While a request for a given key is in progress, other callers requesting the same key wait
+ * for its completion and receive the same result (or the same exception), instead of executing
+ * their own request. By default, once the request is completed, the key is released and the next call executes
+ * a new request, thus the results are not cached by the class. When created with {@code keepCompletedResults},
+ * the successful results are kept and returned for the following calls with the same key (e.g. within a short-living
+ * context such as a batch of documents). Failed requests are never kept.
+ * <p>
+ * The class is thread-safe and can be used to protect external resources (e.g. OCSP responders or
+ * CRL distribution points) from simultaneous identical requests.
+ *
+ * @param <V> the type of the result
+ */
+public class RequestCoalescer<V> {
+
+	private static final Logger LOG = LoggerFactory.getLogger(RequestCoalescer.class);
+
+	/** Requests in progress (and completed ones, when kept) by key */
+	private final ConcurrentMap<String, CompletableFuture<V>> requests = new ConcurrentHashMap<>();
+
+	/** Defines whether the successful results are kept for the following calls */
+	private final boolean keepCompletedResults;
+
+	/** Number of executed requests */
+	private final AtomicLong executedRequests = new AtomicLong();
+
+	/** Number of requests served by the result of another request */
+	private final AtomicLong coalescedRequests = new AtomicLong();
+
+	/**
+	 * Default constructor, the results are not kept after the completion of the requests
+	 */
+	public RequestCoalescer() {
+		this(false);
+	}
+
+	/**
+	 * Constructor defining whether the successful results shall be kept for the following calls with the same key
+	 *
+	 * @param keepCompletedResults whether the successful results shall be kept
+	 */
+	public RequestCoalescer(boolean keepCompletedResults) {
+		this.keepCompletedResults = keepCompletedResults;
+	}
+
+	/**
+	 * Executes the {@code request} for the given {@code key}, or waits for the result
+	 * of a request with the same key being executed by another thread (or returns the kept result)
+	 *
+	 * @param key {@link String} identifying the request
+	 * @param request {@link Supplier} executing the request
+	 * @return result of the request
+	 */
+	public V execute(String key, Supplier<V> request) {
+		Objects.requireNonNull(key, "Key cannot be null!");
+		Objects.requireNonNull(request, "Request cannot be null!");
+
+		final CompletableFuture<V> future = new CompletableFuture<>();
+		final CompletableFuture<V> existing = requests.putIfAbsent(key, future);
+		if (existing != null) {
+			coalescedRequests.incrementAndGet();
+			LOG.debug("Using the result of another request with key '{}'", key);
+			return await(existing);
+		}
+
+		executedRequests.incrementAndGet();
+		boolean completed = false;
+		try {
+			V result = request.get();
+			future.complete(result);
+			completed = true;
+			return result;
+
+		} catch (RuntimeException | Error e) {
+			future.completeExceptionally(e);
+			throw e;
+
+		} finally {
+			if (!completed || !keepCompletedResults) {
+				requests.remove(key, future);
+			}
+		}
+	}
+
+	private V await(CompletableFuture<V> future) {
+		try {
+			return future.join();
+		} catch (CompletionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			} else if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw new DSSException(String.format("Unable to obtain the result of the request. Reason : %s",
+					cause != null ? cause.getMessage() : e.getMessage()), e);
+		}
+	}
+
+	/**
+	 * Returns the number of requests being currently executed
+	 *
+	 * @return number of requests in progress
+	 */
+	public int getInFlightRequests() {
+		if (!keepCompletedResults) {
+			return requests.size();
+		}
+		int inFlightRequests = 0;
+		for (CompletableFuture<V> future : requests.values()) {
+			if (!future.isDone()) {
+				++inFlightRequests;
+			}
+		}
+		return inFlightRequests;
+	}
+
+	/**
+	 * Returns the number of executed requests
+	 *
+	 * @return number of executed requests
+	 */
+	public long getExecutedRequests() {
+		return executedRequests.get();
+	}
+
+	/**
+	 * Returns the number of requests which were not executed, but obtained the result of another request
+	 * (in progress, or completed when the results are kept)
+	 *
+	 * @return number of coalesced requests
+	 */
+	public long getCoalescedRequests() {
+		return coalescedRequests.get();
+	}
+
+}
@@ -23,15 +23,19 @@ package eu.europa.esig.dss.spi.x509.aia;
 import eu.europa.esig.dss.model.x509.CertificateToken;
 import eu.europa.esig.dss.spi.CertificateExtensionsUtils;
 import eu.europa.esig.dss.spi.DSSUtils;
+import eu.europa.esig.dss.spi.x509.RequestCoalescer;
 import eu.europa.esig.dss.utils.Utils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 
@@ -49,6 +53,11 @@ public abstract class RepositoryAIASource implements AIASource {
      */
     protected AIASource proxiedSource;
 
+    /**
+     * When defined, concurrent requests to the proxied source for the same AIA URLs are executed only once
+     */
+    private transient RequestCoalescer<Set<CertificateToken>> requestCoalescer;
+
     /**
      * Default constructor instantiating object with null proxied source
      */
@@ -66,6 +75,20 @@ public abstract class RepositoryAIASource implements AIASource {
         this.proxiedSource = proxiedSource;
     }
 
+    /**
+     * Sets the request coalescer used to execute the concurrent requests to the proxied source
+     * for the same AIA URLs only once. Threads requesting certificates for AIA URLs, which are being already
+     * requested by another thread, wait for the result of this request (including its insertion to the cache)
+     * instead of querying the proxied source.
+     * <p>
+     * Default : NULL (each cache miss results in a request to the proxied source)
+     *
+     * @param requestCoalescer {@link RequestCoalescer}
+     */
+    public void setRequestCoalescer(RequestCoalescer<Set<CertificateToken>> requestCoalescer) {
+        this.requestCoalescer = requestCoalescer;
+    }
+
     @Override
     public Set<CertificateToken> getCertificatesByAIA(CertificateToken certificateToken) {
         return getCertificatesByAIA(certificateToken, false);
@@ -116,29 +139,44 @@ public abstract class RepositoryAIASource implements AIASource {
             LOG.warn("Proxied AIASource is not provided!");
             return Collections.emptySet();
         }
+        if (requestCoalescer != null) {
+            return requestCoalescer.execute(String.join("-", aiaKeys),
+                    () -> extractAndInsertCertificates(certificateToken, aiaKeys));
+        }
+        return extractAndInsertCertificates(certificateToken, aiaKeys);
+    }
 
+    private Set<CertificateToken> extractAndInsertCertificates(final CertificateToken certificateToken,
+                                                               final List<String> aiaKeys) {
         List<String> existingAIAKeys = getExistingAIAKeys();
+        final List<String> keysToRemove = new ArrayList<>();
         for (String aiaKey : aiaKeys) {
             if (existingAIAKeys.contains(aiaKey)) {
                 LOG.info("AIA Certificates with key '{}' have been removed from DB", aiaKey);
-                removeCertificates(aiaKey);
+                keysToRemove.add(aiaKey);
             }
         }
+        if (Utils.isCollectionNotEmpty(keysToRemove)) {
+            removeCertificates(keysToRemove);
+        }
 
         final Set<CertificateToken> result = new HashSet<>();
 
         Set<CertificateToken> certificatesTokenByAIA = proxiedSource.getCertificatesByAIA(certificateToken);
         if (Utils.isCollectionNotEmpty(certificatesTokenByAIA)) {
+            final Map<CertificateToken, String> certificatesToInsert = new LinkedHashMap<>();
             for (CertificateToken certificate : certificatesTokenByAIA) {
                 String sourceUrl = getCertificateTokenAIAUrl(certificate);
                 if (sourceUrl == null) {
                     LOG.warn("Not able to find AIA CA issuers URL for certificate '{}'. CA issuers will not be added to the cache.", certificateToken.getDSSIdAsString());
+                    // the certificates processed before are still added to the cache
+                    insertCertificates(certificatesToInsert);
                     return certificatesTokenByAIA;
                 }
-                String aiaKey = getAIAKey(sourceUrl);
-                insertCertificate(aiaKey, certificate);
+                certificatesToInsert.put(certificate, getAIAKey(sourceUrl));
                 result.add(certificate);
             }
+            insertCertificates(certificatesToInsert);
             LOG.info("CA issuers for a certificate with Id '{}' are added into the cache", certificateToken.getDSSIdAsString());
         }
 
@@ -210,13 +248,54 @@ public abstract class RepositoryAIASource implements AIASource {
     }
 
     private Set<CertificateToken> extractAIAFromCacheSource(List<String> aiaKeys) {
+        return findCertificates(aiaKeys);
+    }
+
+    /**
+     * This method returns a set of certificates from a DB with any of the given keys
+     * <p>
+     * The default implementation calls {@code findCertificates(key)} for each key.
+     * Implementations may override the method in order to retrieve the data within a single request.
+     *
+     * @param keys a collection of {@link String} aiaKeys to extract certificates by
+     * @return a set of {@link CertificateToken}s
+     */
+    protected Set<CertificateToken> findCertificates(final Collection<String> keys) {
         Set<CertificateToken> certificateTokens = new LinkedHashSet<>();
-        for (String key : aiaKeys) {
+        for (String key : keys) {
             certificateTokens.addAll(findCertificates(key));
         }
         return certificateTokens;
     }
 
+    /**
+     * This method allows inserting of several certificates into the DB
+     * <p>
+     * The default implementation calls {@code insertCertificate(aiaKey, certificateToken)} for each entry.
+     * Implementations may override the method in order to insert the data within a single request.
+     *
+     * @param certificates a map between {@link CertificateToken}s to insert and their {@link String} AIA keys
+     */
+    protected void insertCertificates(final Map<CertificateToken, String> certificates) {
+        for (Map.Entry<CertificateToken, String> entry : certificates.entrySet()) {
+            insertCertificate(entry.getValue(), entry.getKey());
+        }
+    }
+
+    /**
+     * This method removes the certificates from DB with any of the given aiaKeys
+     * <p>
+     * The default implementation calls {@code removeCertificates(aiaKey)} for each key.
+     * Implementations may override the method in order to remove the data within a single request.
+     *
+     * @param aiaKeys a collection of {@link String}s representing AIA URL identifiers
+     */
+    protected void removeCertificates(final Collection<String> aiaKeys) {
+        for (String aiaKey : aiaKeys) {
+            removeCertificates(aiaKey);
+        }
+    }
+
     /**
      * This method returns a set of certificates from a DB with the given key
      *
@@ -36,7 +36,9 @@ import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -146,6 +148,31 @@ public abstract class JdbcRevocationSource<R extends Revocation> extends Reposit
 		return Collections.emptyList();
 	}
 
+	@Override
+	protected Map<String, List<RevocationToken<R>>> findRevocations(final Collection<String> keys,
+			final CertificateToken certificateToken, final CertificateToken issuerCertificateToken) {
+		final SqlSelectQuery batchQuery = getRevocationDataBatchExtractQuery();
+		if (batchQuery == null || Utils.collectionSize(keys) < 2) {
+			return super.findRevocations(keys, certificateToken, issuerCertificateToken);
+		}
+
+		final Collection<SqlRecord> responses = getJdbcCacheConnector().selectByKeys(batchQuery, keys);
+		LOG.debug("Record obtained for {} keys : {}", keys.size(), responses.size());
+		final Map<String, List<RevocationToken<R>>> result = new LinkedHashMap<>();
+		for (SqlRecord sqlRecord : responses) {
+			final String revocationTokenKey = getRevocationTokenKey(sqlRecord);
+			if (revocationTokenKey == null) {
+				LOG.debug("The revocation token key cannot be extracted from the record. Data is requested for each key separately.");
+				return super.findRevocations(keys, certificateToken, issuerCertificateToken);
+			}
+			final RevocationToken<R> revocationToken = buildRevocationTokenFromResult(sqlRecord, certificateToken, issuerCertificateToken);
+			if (revocationToken != null) {
+				result.computeIfAbsent(revocationTokenKey, k -> new ArrayList<>()).add(revocationToken);
+			}
+		}
+		return result;
+	}
+
 	private List<RevocationToken<R>> getRevocationDataFromRecords(
 			Collection<SqlRecord> records, CertificateToken certificateToken, CertificateToken issuerCertificateToken) {
 		List<RevocationToken<R>> revocationTokens = new ArrayList<>();
@@ -165,11 +192,48 @@ public abstract class JdbcRevocationSource<R extends Revocation> extends Reposit
 	 */
 	protected abstract SqlSelectQuery getRevocationDataExtractQuery();
 
+	/**
+	 * Returns a request to find revocation data for several keys within a single request.
+	 * The query shall contain an {@code IN (%s)} clause, see {@code JdbcCacheConnector#selectByKeys}.
+	 * <p>
+	 * When the method returns NULL (default), the data is requested for each key separately.
+	 * The obtained records are dispatched by keys using {@code getRevocationTokenKey(sqlRecord)},
+	 * which shall be implemented as well, otherwise the data is requested for each key separately.
+	 *
+	 * @return {@link SqlSelectQuery}
+	 */
+	protected SqlSelectQuery getRevocationDataBatchExtractQuery() {
+		return null;
+	}
+
+	/**
+	 * Returns a revocation token key the given extracted {@code sqlRecord} is stored with.
+	 * Used to dispatch the records obtained with {@code getRevocationDataBatchExtractQuery()}.
+	 * <p>
+	 * When the method returns NULL (default), the batch query result is ignored and
+	 * the data is requested for each key separately.
+	 *
+	 * @param sqlRecord {@link SqlRecord}
+	 * @return {@link String} revocation token key, NULL if not supported
+	 */
+	protected String getRevocationTokenKey(SqlRecord sqlRecord) {
+		return null;
+	}
+
 	@Override
 	protected void removeRevocation(final String revocationTokenKey) {
 		getJdbcCacheConnector().execute(getRemoveRevocationTokenEntryQuery(), revocationTokenKey);
 	}
 
+	@Override
+	protected void removeRevocations(final Collection<String> revocationTokenKeys) {
+		final List<Object[]> arguments = new ArrayList<>();
+		for (String revocationTokenKey : revocationTokenKeys) {
+			arguments.add(new Object[] { revocationTokenKey });
+		}
+		getJdbcCacheConnector().executeBatch(getRemoveRevocationTokenEntryQuery(), arguments);
+	}
+
 	/**
 	 * Initialize the revocation token table by creating the table if it does not exist.
 	 *
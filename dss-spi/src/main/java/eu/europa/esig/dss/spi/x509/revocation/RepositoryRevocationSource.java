@@ -22,16 +22,24 @@ package eu.europa.esig.dss.spi.x509.revocation;
 
 import eu.europa.esig.dss.model.x509.CertificateToken;
 import eu.europa.esig.dss.model.x509.revocation.Revocation;
+import eu.europa.esig.dss.spi.x509.RequestCoalescer;
 import eu.europa.esig.dss.utils.Utils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 /**
@@ -66,6 +74,46 @@ public abstract class RepositoryRevocationSource<R extends Revocation> implement
      */
     private boolean removeExpired = true;
 
+    /**
+     * When defined, the expired revocation data is removed from the repository asynchronously using the executor
+     */
+    private transient ExecutorService expiredRevocationPurgeExecutor;
+
+    /**
+     * Keys of the expired revocation data waiting for the removal by the background purge
+     */
+    private final Set<String> expiredKeysToPurge = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Defines whether a purge task has been submitted to the executor and not yet started
+     */
+    private final AtomicBoolean purgeScheduled = new AtomicBoolean(false);
+
+    /**
+     * Optional in-memory cache of parsed revocation tokens, requested before the repository
+     */
+    private transient RevocationTokenMemoryCache<R> memoryCache;
+
+    /**
+     * Number of requests served by the in-memory cache
+     */
+    private final AtomicLong memoryHits = new AtomicLong();
+
+    /**
+     * Number of requests served by the repository
+     */
+    private final AtomicLong repositoryHits = new AtomicLong();
+
+    /**
+     * Number of requests not served by the caches
+     */
+    private final AtomicLong cacheMisses = new AtomicLong();
+
+    /**
+     * When defined, concurrent requests to the proxied source for the same certificate are executed only once
+     */
+    private transient RequestCoalescer<RevocationToken<R>> requestCoalescer;
+
     /**
      * Default constructor instantiating object with null values
      */
@@ -116,6 +164,44 @@ public abstract class RepositoryRevocationSource<R extends Revocation> implement
      */
     protected abstract void removeRevocation(final String revocationKey);
 
+    /**
+     * Finds RevocationTokens in the cache for the given {@code certificateToken} with any of the given {@code keys}.
+     * The method returns entries only for keys with available revocation data.
+     * <p>
+     * The default implementation calls {@code findRevocations(key, certificateToken, issuerCertToken)} for each key.
+     * Implementations may override the method in order to retrieve the data for all keys within a single request.
+     *
+     * @param keys             a collection of {@link String} keys
+     * @param certificateToken {@link CertificateToken}
+     * @param issuerCertToken  {@link CertificateToken}
+     * @return a map between {@link String} keys and lists of {@link RevocationToken} objects
+     */
+    protected Map<String, List<RevocationToken<R>>> findRevocations(final Collection<String> keys,
+            final CertificateToken certificateToken, final CertificateToken issuerCertToken) {
+        final Map<String, List<RevocationToken<R>>> result = new LinkedHashMap<>();
+        for (String key : keys) {
+            final List<RevocationToken<R>> revocationTokens = findRevocations(key, certificateToken, issuerCertToken);
+            if (Utils.isCollectionNotEmpty(revocationTokens)) {
+                result.put(key, revocationTokens);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Removes the RevocationTokens from cache with the given keys
+     * <p>
+     * The default implementation calls {@code removeRevocation(key)} for each key.
+     * Implementations may override the method in order to remove the data within a single request.
+     *
+     * @param revocationKeys a collection of {@link String}s
+     */
+    protected void removeRevocations(final Collection<String> revocationKeys) {
+        for (String revocationKey : revocationKeys) {
+            removeRevocation(revocationKey);
+        }
+    }
+
     /**
      * Sets the default next update delay for the cached files in seconds. If
      * more time has passed from the revocation token's thisUpdate and next update
@@ -168,6 +254,58 @@ public abstract class RepositoryRevocationSource<R extends Revocation> implement
         this.removeExpired = removeExpired;
     }
 
+    /**
+     * Sets the executor used to remove the expired revocation data from the cache in background.
+     * When defined, the keys of the expired entries found during a lookup are collected and removed
+     * by a task executed within the given executor, instead of being removed within the calling thread.
+     * The removal is applied only when {@code removeExpired} is enabled.
+     * <p>
+     * Default : NULL (expired revocation data is removed within the calling thread)
+     *
+     * @param expiredRevocationPurgeExecutor {@link ExecutorService}
+     */
+    public void setExpiredRevocationPurgeExecutor(ExecutorService expiredRevocationPurgeExecutor) {
+        this.expiredRevocationPurgeExecutor = expiredRevocationPurgeExecutor;
+    }
+
+    /**
+     * Sets the in-memory cache of parsed revocation tokens to be used in front of the repository.
+     * When defined, the cached tokens are returned without accessing the repository and parsing the revocation data,
+     * as long as they are considered fresh (see {@code setDefaultNextUpdateDelay} and {@code setMaxNextUpdateDelay}).
+     * Only the tokens built from the repository (i.e. with a {@code CACHED} origin) are kept in memory,
+     * the tokens obtained from the proxied source are returned to the caller only.
+     * <p>
+     * Default : NULL (the repository is requested on each call)
+     *
+     * @param memoryCache {@link RevocationTokenMemoryCache}
+     */
+    public void setMemoryCache(RevocationTokenMemoryCache<R> memoryCache) {
+        this.memoryCache = memoryCache;
+    }
+
+    /**
+     * Sets the request coalescer used to execute the concurrent requests to the proxied source
+     * for the same certificate only once. Threads requesting revocation data for a certificate,
+     * which is being already requested by another thread, wait for the result of this request
+     * (including its insertion to the cache) instead of querying the proxied source.
+     * <p>
+     * Default : NULL (each cache miss results in a request to the proxied source)
+     *
+     * @param requestCoalescer {@link RequestCoalescer}
+     */
+    public void setRequestCoalescer(RequestCoalescer<RevocationToken<R>> requestCoalescer) {
+        this.requestCoalescer = requestCoalescer;
+    }
+
+    /**
+     * Returns the usage statistics of the in-memory cache and the repository
+     *
+     * @return {@link RevocationCacheStatistics}
+     */
+    public RevocationCacheStatistics getCacheStatistics() {
+        return new RevocationCacheStatistics(memoryHits.get(), repositoryHits.get(), cacheMisses.get());
+    }
+
     @Override
     public RevocationToken<R> getRevocationToken(final CertificateToken certificateToken, final CertificateToken issuerCertificateToken) {
         return getRevocationToken(certificateToken, issuerCertificateToken, false);
@@ -223,13 +361,23 @@ public abstract class RepositoryRevocationSource<R extends Revocation> implement
             LOG.info("Cache is skipped to retrieve the revocation token for certificate with Id '{}'",
                     certificateToken.getDSSIdAsString());
         } else {
+            final List<RevocationToken<R>> memoryCachedTokens =
+                    extractRevocationFromMemoryCache(certificateToken, issuerCertificateToken, keys);
+            if (Utils.isCollectionNotEmpty(memoryCachedTokens)) {
+                memoryHits.incrementAndGet();
+                return memoryCachedTokens;
+            }
+
             final Map<String, List<RevocationToken<R>>> cachedRevocationTokensMap =
                     extractRevocationFromCacheSource(certificateToken, issuerCertificateToken, keys);
             keys = cachedRevocationTokensMap.keySet(); // override with returned keys
             if (Utils.isMapNotEmpty(cachedRevocationTokensMap)) {
+                repositoryHits.incrementAndGet();
+                putInMemoryCache(certificateToken, cachedRevocationTokensMap);
                 // add all extracted revocation values to a single List
                 return cachedRevocationTokensMap.values().stream().flatMap(Collection::stream).collect(Collectors.toList());
             }
+            cacheMisses.incrementAndGet();
         }
 
         final RevocationToken<R> revocationToken = extractAndInsertRevocationTokenFromProxiedSource(
@@ -240,6 +388,62 @@ public abstract class RepositoryRevocationSource<R extends Revocation> implement
         return Collections.emptyList();
     }
 
+    /**
+     * Returns the still fresh revocation data tokens cached in memory for the given {@code certificateToken}
+     * and the requested revocation {@code keys}. Expired entries are removed from the memory cache.
+     *
+     * @param certificateToken       {@link CertificateToken} to extract the revocation token for
+     * @param issuerCertificateToken {@link CertificateToken} of the issuer
+     * @param keys                   a collection of {@link String} keys,
+     *                               that can be used as unique identifications of the revocation entry
+     * @return a list of {@link RevocationToken}s, empty list if none is found
+     */
+    private List<RevocationToken<R>> extractRevocationFromMemoryCache(final CertificateToken certificateToken,
+            final CertificateToken issuerCertificateToken, final Collection<String> keys) {
+        if (memoryCache == null) {
+            return Collections.emptyList();
+        }
+        final List<RevocationToken<R>> result = new ArrayList<>();
+        for (String key : keys) {
+            final String memoryCacheKey = getMemoryCacheKey(certificateToken, key);
+            final List<RevocationToken<R>> revocationTokens = memoryCache.get(memoryCacheKey);
+            if (Utils.isCollectionNotEmpty(revocationTokens)) {
+                final List<RevocationToken<R>> freshRevocationData = revocationTokens.stream()
+                        .filter(r -> isNotExpired(r, issuerCertificateToken)).collect(Collectors.toList());
+                if (Utils.isCollectionNotEmpty(freshRevocationData)) {
+                    result.addAll(freshRevocationData);
+                } else {
+                    memoryCache.remove(memoryCacheKey);
+                }
+            }
+        }
+        if (Utils.isCollectionNotEmpty(result)) {
+            LOG.debug("Revocation token for certificate with Id '{}' has been loaded from the memory cache",
+                    certificateToken.getDSSIdAsString());
+        }
+        return result;
+    }
+
+    private void putInMemoryCache(final CertificateToken certificateToken,
+                                  final Map<String, List<RevocationToken<R>>> revocationTokensMap) {
+        if (memoryCache != null) {
+            for (Map.Entry<String, List<RevocationToken<R>>> entry : revocationTokensMap.entrySet()) {
+                memoryCache.put(getMemoryCacheKey(certificateToken, entry.getKey()), entry.getValue());
+            }
+        }
+    }
+
+    private void removeFromMemoryCache(final CertificateToken certificateToken, final String revocationKey) {
+        if (memoryCache != null) {
+            memoryCache.remove(getMemoryCacheKey(certificateToken, revocationKey));
+        }
+    }
+
+    private String getMemoryCacheKey(final CertificateToken certificateToken, final String revocationKey) {
+        // revocation tokens are built for a given certificate (e.g. a CRL is shared between certificates)
+        return certificateToken.getDSSIdAsString() + "-" + revocationKey;
+    }
+
     /**
      * Returns a map of correspondence between requested revocation {@code keys} and extracted revocation data tokens.
      * The map contains entries only for keys with available and still fresh revocation data.
@@ -252,23 +456,27 @@ public abstract class RepositoryRevocationSource<R extends Revocation> implement
      */
     private Map<String, List<RevocationToken<R>>> extractRevocationFromCacheSource(
             final CertificateToken certificateToken, final CertificateToken issuerCertificateToken, Collection<String> keys) {
-        final Map<String, List<RevocationToken<R>>> result = new HashMap<>();
-        for (String key : keys) {
-            final List<RevocationToken<R>> revocationTokens = findRevocations(key, certificateToken, issuerCertificateToken);
+        final Map<String, List<RevocationToken<R>>> result = new LinkedHashMap<>();
+        final List<String> expiredKeys = new ArrayList<>();
+        final Map<String, List<RevocationToken<R>>> cachedRevocationTokens =
+                findRevocations(keys, certificateToken, issuerCertificateToken);
+        for (Map.Entry<String, List<RevocationToken<R>>> entry : cachedRevocationTokens.entrySet()) {
+            final List<RevocationToken<R>> revocationTokens = entry.getValue();
             if (Utils.isCollectionNotEmpty(revocationTokens)) {
                 final List<RevocationToken<R>> freshRevocationData = revocationTokens.stream()
                         .filter(r -> isNotExpired(r, issuerCertificateToken)).collect(Collectors.toList());
                 if (Utils.isCollectionNotEmpty(freshRevocationData)) {
-                    result.put(key, freshRevocationData);
+                    result.put(entry.getKey(), freshRevocationData);
                 } else {
                     LOG.debug("Revocation token is expired in the cache for certificate with Id '{}'",
                             certificateToken.getDSSIdAsString());
-                    if (removeExpired) {
-                        removeRevocation(key);
-                    }
+                    expiredKeys.add(entry.getKey());
                 }
             }
         }
+        if (removeExpired && Utils.isCollectionNotEmpty(expiredKeys)) {
+            removeExpiredRevocations(expiredKeys);
+        }
         if (Utils.isMapNotEmpty(result)) {
             LOG.info("Revocation token for certificate with Id '{}' has been loaded from the cache",
                     certificateToken.getDSSIdAsString());
@@ -276,6 +484,58 @@ public abstract class RepositoryRevocationSource<R extends Revocation> implement
         return result;
     }
 
+    private void removeExpiredRevocations(final List<String> expiredKeys) {
+        if (expiredRevocationPurgeExecutor == null) {
+            removeRevocations(expiredKeys);
+            return;
+        }
+
+        expiredKeysToPurge.addAll(expiredKeys);
+        if (purgeScheduled.compareAndSet(false, true)) {
+            try {
+                expiredRevocationPurgeExecutor.execute(this::purgeExpiredRevocations);
+            } catch (RejectedExecutionException e) {
+                LOG.warn("Unable to schedule the removal of expired revocation data. " +
+                        "The data is removed within the current thread. Reason : {}", e.getMessage());
+                purgeExpiredRevocations();
+            }
+        }
+    }
+
+    private void purgeExpiredRevocations() {
+        // reset before draining, so keys added in the meantime will schedule a new task
+        purgeScheduled.set(false);
+        synchronized (expiredKeysToPurge) {
+            if (expiredKeysToPurge.isEmpty()) {
+                return;
+            }
+            final List<String> keysToRemove = new ArrayList<>(expiredKeysToPurge);
+            expiredKeysToPurge.removeAll(keysToRemove);
+            try {
+                removeRevocations(keysToRemove);
+                LOG.debug("{} expired revocation entries have been removed from the cache", keysToRemove.size());
+            } catch (Exception e) {
+                LOG.warn("Unable to remove expired revocation data from the cache. Reason : {}", e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * Ensures the expired entry with the given key, waiting for the background purge, is removed before
+     * a new revocation token is inserted with the same key, and is not purged afterwards
+     *
+     * @param revocationTokenKey {@link String}
+     */
+    private void ensureExpiredEntryRemoved(final String revocationTokenKey) {
+        if (expiredRevocationPurgeExecutor != null) {
+            synchronized (expiredKeysToPurge) {
+                if (expiredKeysToPurge.remove(revocationTokenKey)) {
+                    removeRevocation(revocationTokenKey);
+                }
+            }
+        }
+    }
+
     private RevocationToken<R> getLatestRevocationData(Collection<RevocationToken<R>> revocationTokens) {
         RevocationToken<R> latestRevocationData = null;
         if (Utils.isCollectionNotEmpty(revocationTokens)) {
@@ -305,8 +565,17 @@ public abstract class RepositoryRevocationSource<R extends Revocation> implement
             LOG.warn("Proxied revocation source is not initialized for the called RevocationSource!");
             return null;
         }
+        if (requestCoalescer != null) {
+            final String requestKey = certificateToken.getDSSIdAsString() + "-" + issuerCertificateToken.getDSSIdAsString();
+            return requestCoalescer.execute(requestKey,
+                    () -> extractAndInsertRevocationToken(certificateToken, issuerCertificateToken, keys));
+        }
+        return extractAndInsertRevocationToken(certificateToken, issuerCertificateToken, keys);
+    }
 
-
+    private RevocationToken<R> extractAndInsertRevocationToken(
+            final CertificateToken certificateToken, final CertificateToken issuerCertificateToken,
+            final Collection<String> keys) {
         RevocationToken<R> revocationToken =
                 proxiedSource.getRevocationToken(certificateToken, issuerCertificateToken);
         if (revocationToken != null) {
@@ -318,12 +587,16 @@ public abstract class RepositoryRevocationSource<R extends Revocation> implement
                 }
                 String revocationTokenKey = getRevocationTokenKey(certificateToken, sourceUrl);
                 if (!keys.contains(revocationTokenKey)) {
+                    ensureExpiredEntryRemoved(revocationTokenKey);
                     insertRevocation(revocationTokenKey, revocationToken);
                     LOG.info("Revocation token for certificate '{}' is added into the cache", certificateToken.getDSSIdAsString());
                 } else {
                     updateRevocation(revocationTokenKey, revocationToken);
                     LOG.info("Revocation token for certificate '{}' is updated in the cache", certificateToken.getDSSIdAsString());
                 }
+                // the token obtained from the proxied source is owned by the caller and is not cached in memory,
+                // the entry is cached on the next request from the token rebuilt by the repository
+                removeFromMemoryCache(certificateToken, revocationTokenKey);
             } else {
                 LOG.warn("The extracted revocation token with Id '{}' is invalid! Reason: {}",
                         revocationToken.getDSSIdAsString(), revocationToken.getInvalidityReason());
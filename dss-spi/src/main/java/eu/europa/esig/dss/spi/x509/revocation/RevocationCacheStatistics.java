@@ -0,0 +1,121 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * <p>
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * <p>
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * <p>
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.spi.x509.revocation;
+
+import java.io.Serializable;
+
+/**
+ * Contains a snapshot of the cache usage statistics of a {@code RepositoryRevocationSource}
+ * <p>
+ * Each revocation request (not forcing the refresh) is served either by the in-memory cache
+ * (when configured), by the repository (e.g. DB or file system), or by the proxied source.
+ */
+public class RevocationCacheStatistics implements Serializable {
+
+	private static final long serialVersionUID = -6157208451346128531L;
+
+	/** Number of requests served by the in-memory cache */
+	private final long memoryHits;
+
+	/** Number of requests served by the repository */
+	private final long repositoryHits;
+
+	/** Number of requests not served by any of the caches */
+	private final long misses;
+
+	/**
+	 * Default constructor
+	 *
+	 * @param memoryHits number of requests served by the in-memory cache
+	 * @param repositoryHits number of requests served by the repository
+	 * @param misses number of requests not served by any of the caches
+	 */
+	public RevocationCacheStatistics(long memoryHits, long repositoryHits, long misses) {
+		this.memoryHits = memoryHits;
+		this.repositoryHits = repositoryHits;
+		this.misses = misses;
+	}
+
+	/**
+	 * Returns the number of requests served by the in-memory cache
+	 *
+	 * @return number of hits
+	 */
+	public long getMemoryHits() {
+		return memoryHits;
+	}
+
+	/**
+	 * Returns the number of requests served by the repository
+	 *
+	 * @return number of hits
+	 */
+	public long getRepositoryHits() {
+		return repositoryHits;
+	}
+
+	/**
+	 * Returns the number of requests not served by any of the caches
+	 *
+	 * @return number of misses
+	 */
+	public long getMisses() {
+		return misses;
+	}
+
+	/**
+	 * Returns the total number of processed requests
+	 *
+	 * @return number of requests
+	 */
+	public long getRequests() {
+		return memoryHits + repositoryHits + misses;
+	}
+
+	/**
+	 * Returns the ratio of requests served by the in-memory cache, among all requests
+	 *
+	 * @return hit rate between 0 and 1
+	 */
+	public double getMemoryHitRate() {
+		return ratio(memoryHits, getRequests());
+	}
+
+	/**
+	 * Returns the ratio of requests served by the repository, among the requests not served by the in-memory cache
+	 *
+	 * @return hit rate between 0 and 1
+	 */
+	public double getRepositoryHitRate() {
+		return ratio(repositoryHits, repositoryHits + misses);
+	}
+
+	private static double ratio(long value, long total) {
+		return total == 0 ? 0 : (double) value / total;
+	}
+
+	@Override
+	public String toString() {
+		return "RevocationCacheStatistics [memoryHits=" + memoryHits + ", repositoryHits=" + repositoryHits
+				+ ", misses=" + misses + "]";
+	}
+
+}
@@ -0,0 +1,198 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * <p>
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * <p>
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * <p>
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.spi.x509.revocation;
+
+import eu.europa.esig.dss.model.x509.revocation.Revocation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bounded in-memory cache of parsed revocation tokens, used as a first-level cache
+ * in front of a {@code RepositoryRevocationSource}.
+ * <p>
+ * The cache is bounded by a number of entries and by a total size of the encoded revocation data.
+ * When one of the limits is reached, the least recently used entries are evicted.
+ * <p>
+ * NOTE: the entries are stored per certificate, as the revocation tokens are built for a given certificate.
+ * A CRL shared by several certificates is therefore held (and counted within the size limit) once per certificate.
+ * The freshness of the cached tokens is checked by the {@code RepositoryRevocationSource} on each access
+ * (based on the nextUpdate of the revocation data), and expired entries are removed from the cache.
+ * <p>
+ * The cached tokens are returned as-is to all callers requesting the same entry,
+ * therefore they shall be treated as read-only and shall not be modified.
+ * <p>
+ * The class is thread-safe.
+ *
+ * @param <R> {@code CRL} or {@code OCSP}
+ */
+public class RevocationTokenMemoryCache<R extends Revocation> {
+
+	/** The default maximum total size of the cached revocation data in bytes (50 MB) */
+	public static final long DEFAULT_MAX_SIZE_IN_BYTES = 50L * 1024 * 1024;
+
+	/** The maximum number of entries */
+	private final int maxEntries;
+
+	/** The maximum total size of the cached revocation data in bytes */
+	private final long maxSizeInBytes;
+
+	/** The cached entries in access order */
+	private final LinkedHashMap<String, CacheEntry<R>> cache = new LinkedHashMap<>(16, 0.75f, true);
+
+	/** The current total size of the cached revocation data in bytes */
+	private long sizeInBytes;
+
+	/**
+	 * Constructor to instantiate a cache bounded by the number of entries
+	 * and by the default total size of the revocation data ({@value #DEFAULT_MAX_SIZE_IN_BYTES} bytes)
+	 *
+	 * @param maxEntries the maximum number of entries
+	 */
+	public RevocationTokenMemoryCache(int maxEntries) {
+		this(maxEntries, DEFAULT_MAX_SIZE_IN_BYTES);
+	}
+
+	/**
+	 * Constructor to instantiate a cache bounded by the number of entries and the total size of the revocation data
+	 *
+	 * @param maxEntries the maximum number of entries
+	 * @param maxSizeInBytes the maximum total size of the encoded revocation data in bytes
+	 */
+	public RevocationTokenMemoryCache(int maxEntries, long maxSizeInBytes) {
+		if (maxEntries < 1) {
+			throw new IllegalArgumentException("The maximum number of entries shall be positive!");
+		}
+		if (maxSizeInBytes < 1) {
+			throw new IllegalArgumentException("The maximum size in bytes shall be positive!");
+		}
+		this.maxEntries = maxEntries;
+		this.maxSizeInBytes = maxSizeInBytes;
+	}
+
+	/**
+	 * Returns the revocation tokens cached with the given {@code key}
+	 *
+	 * @param key {@link String}
+	 * @return a list of {@link RevocationToken}s, empty list if no entry is found
+	 */
+	public synchronized List<RevocationToken<R>> get(String key) {
+		CacheEntry<R> entry = cache.get(key);
+		if (entry == null) {
+			return Collections.emptyList();
+		}
+		return entry.revocationTokens;
+	}
+
+	/**
+	 * Caches the revocation tokens with the given {@code key}, replacing the existing entry, if any.
+	 * The entry is not cached when its size exceeds the size limit of the cache.
+	 *
+	 * @param key {@link String}
+	 * @param revocationTokens a list of {@link RevocationToken}s
+	 */
+	public synchronized void put(String key, List<RevocationToken<R>> revocationTokens) {
+		remove(key);
+		if (revocationTokens == null || revocationTokens.isEmpty()) {
+			return;
+		}
+		CacheEntry<R> entry = new CacheEntry<>(revocationTokens);
+		if (entry.sizeInBytes > maxSizeInBytes) {
+			return;
+		}
+		cache.put(key, entry);
+		sizeInBytes += entry.sizeInBytes;
+		evict();
+	}
+
+	/**
+	 * Removes the entry with the given {@code key}
+	 *
+	 * @param key {@link String}
+	 */
+	public synchronized void remove(String key) {
+		CacheEntry<R> entry = cache.remove(key);
+		if (entry != null) {
+			sizeInBytes -= entry.sizeInBytes;
+		}
+	}
+
+	/**
+	 * Removes all the entries
+	 */
+	public synchronized void clear() {
+		cache.clear();
+		sizeInBytes = 0;
+	}
+
+	/**
+	 * Returns the number of cached entries
+	 *
+	 * @return number of entries
+	 */
+	public synchronized int size() {
+		return cache.size();
+	}
+
+	/**
+	 * Returns the total size of the cached revocation data in bytes
+	 *
+	 * @return size in bytes
+	 */
+	public synchronized long getSizeInBytes() {
+		return sizeInBytes;
+	}
+
+	private void evict() {
+		Iterator<Map.Entry<String, CacheEntry<R>>> iterator = cache.entrySet().iterator();
+		while ((cache.size() > maxEntries || sizeInBytes > maxSizeInBytes) && iterator.hasNext()) {
+			sizeInBytes -= iterator.next().getValue().sizeInBytes;
+			iterator.remove();
+		}
+	}
+
+	private static class CacheEntry<R extends Revocation> {
+
+		/** The cached tokens */
+		private final List<RevocationToken<R>> revocationTokens;
+
+		/** The size of the encoded revocation data */
+		private final long sizeInBytes;
+
+		private CacheEntry(List<RevocationToken<R>> revocationTokens) {
+			this.revocationTokens = Collections.unmodifiableList(new ArrayList<>(revocationTokens));
+			long size = 0;
+			for (RevocationToken<R> revocationToken : revocationTokens) {
+				byte[] encoded = revocationToken.getEncoded();
+				if (encoded != null) {
+					size += encoded.length;
+				}
+			}
+			this.sizeInBytes = size;
+		}
+
+	}
+
+}
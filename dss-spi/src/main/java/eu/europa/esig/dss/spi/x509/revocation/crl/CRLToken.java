@@ -160,6 +160,23 @@ public class CRLToken extends RevocationToken<CRL> {
 		return crlValidity;
 	}
 
+	/**
+	 * Returns a {@code CRLToken} for the given certificate, based on the same CRL.
+	 * Used when a CRL obtained for a certificate is reused for another certificate of the same issuer.
+	 *
+	 * @param certificateToken {@link CertificateToken} covered by the CRL
+	 * @return {@link CRLToken} related to the {@code certificateToken}
+	 */
+	public CRLToken getRelatedCRLToken(CertificateToken certificateToken) {
+		if (certificateToken.equals(relatedCertificate)) {
+			return this;
+		}
+		final CRLToken relatedCRLToken = new CRLToken(certificateToken, crlValidity);
+		relatedCRLToken.setExternalOrigin(getExternalOrigin());
+		relatedCRLToken.setSourceURL(getSourceURL());
+		return relatedCRLToken;
+	}
+
 	@Override
 	public X500Principal getIssuerX500Principal() {
 		if (crlValidity.getIssuerToken() != null) { // if the signature is invalid, the issuer is null
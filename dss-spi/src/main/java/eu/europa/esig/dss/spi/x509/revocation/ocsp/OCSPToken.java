@@ -28,6 +28,7 @@ import eu.europa.esig.dss.enumerations.SignatureAlgorithm;
 import eu.europa.esig.dss.enumerations.SignatureValidity;
 import eu.europa.esig.dss.model.Digest;
 import eu.europa.esig.dss.model.x509.CertificateToken;
+import eu.europa.esig.dss.model.x509.SignatureVerificationCache;
 import eu.europa.esig.dss.model.x509.revocation.ocsp.OCSP;
 import eu.europa.esig.dss.spi.DSSASN1Utils;
 import eu.europa.esig.dss.spi.DSSRevocationUtils;
@@ -299,6 +300,17 @@ public class OCSPToken extends RevocationToken<OCSP> {
 	 */
 	@Override
 	protected SignatureValidity checkIsSignedBy(final PublicKey publicKey) {
+		final SignatureVerificationCache verificationCache = SignatureVerificationCache.getInstance();
+		final byte[] digest = verificationCache.isEnabled() ? getDigest(DigestAlgorithm.SHA256) : null;
+		if (digest != null) {
+			SignatureVerificationCache.CachedSignatureValidity cachedResult = verificationCache.get(digest, publicKey);
+			if (cachedResult != null) {
+				signatureValidity = cachedResult.getSignatureValidity();
+				signatureInvalidityReason = cachedResult.getSignatureInvalidityReason();
+				return signatureValidity;
+			}
+		}
+
 		try {
 			signatureInvalidityReason = "";
 			JcaContentVerifierProviderBuilder jcaContentVerifierProviderBuilder = new JcaContentVerifierProviderBuilder();
@@ -310,6 +322,10 @@ public class OCSPToken extends RevocationToken<OCSP> {
 			signatureInvalidityReason = e.getClass().getSimpleName() + " - " + e.getMessage();
 			signatureValidity = SignatureValidity.INVALID;
 		}
+
+		if (digest != null) {
+			verificationCache.put(digest, publicKey, signatureValidity, signatureInvalidityReason);
+		}
 		return signatureValidity;
 	}
 
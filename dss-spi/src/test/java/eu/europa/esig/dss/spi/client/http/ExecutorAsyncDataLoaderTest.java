@@ -0,0 +1,158 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * <p>
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * <p>
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * <p>
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.spi.client.http;
+
+import eu.europa.esig.dss.spi.client.http.DataLoader.DataAndUrl;
+import eu.europa.esig.dss.spi.exception.DSSDataLoaderMultipleException;
+import eu.europa.esig.dss.spi.exception.DSSExternalResourceException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ExecutorAsyncDataLoaderTest {
+
+	private static final String URL_OK = "http://mirror1/data";
+	private static final String URL_EMPTY = "http://mirror2/data";
+	private static final String URL_FAILING = "http://failing/data";
+	private static final String URL_SLOW = "http://slow/data";
+
+	private static final byte[] CONTENT = "content".getBytes(StandardCharsets.UTF_8);
+
+	private ExecutorService executorService;
+
+	private ScheduledExecutorService hedgingExecutor;
+
+	private CountDownLatch slowRequestLatch;
+
+	@BeforeEach
+	void init() {
+		executorService = Executors.newFixedThreadPool(4);
+		hedgingExecutor = Executors.newSingleThreadScheduledExecutor();
+		slowRequestLatch = new CountDownLatch(1);
+	}
+
+	@AfterEach
+	void shutdown() {
+		slowRequestLatch.countDown();
+		executorService.shutdownNow();
+		hedgingExecutor.shutdownNow();
+	}
+
+	@Test
+	void getTest() throws Exception {
+		ExecutorAsyncDataLoader dataLoader = new ExecutorAsyncDataLoader(new MockDataLoader(), executorService);
+		assertArrayEquals(CONTENT, dataLoader.getAsync(URL_OK).get());
+		assertArrayEquals(CONTENT, dataLoader.postAsync(URL_OK, CONTENT).get());
+
+		ExecutionException exception = assertThrows(ExecutionException.class, () -> dataLoader.getAsync(URL_FAILING).get());
+		assertInstanceOf(DSSExternalResourceException.class, exception.getCause());
+	}
+
+	@Test
+	void getAlternativeUrlsTest() throws Exception {
+		ExecutorAsyncDataLoader dataLoader = new ExecutorAsyncDataLoader(new MockDataLoader(), executorService);
+
+		DataAndUrl dataAndUrl = dataLoader.getAsync(Arrays.asList(URL_FAILING, URL_EMPTY, URL_OK)).get();
+		assertEquals(URL_OK, dataAndUrl.getUrlString());
+		assertArrayEquals(CONTENT, dataAndUrl.getData());
+
+		ExecutionException exception = assertThrows(ExecutionException.class,
+				() -> dataLoader.getAsync(Arrays.asList(URL_FAILING, URL_EMPTY)).get());
+		assertInstanceOf(DSSDataLoaderMultipleException.class, exception.getCause());
+
+		exception = assertThrows(ExecutionException.class, () -> dataLoader.getAsync(Collections.emptyList()).get());
+		assertInstanceOf(DSSExternalResourceException.class, exception.getCause());
+	}
+
+	@Test
+	void hedgedRequestTest() throws Exception {
+		ExecutorAsyncDataLoader dataLoader = new ExecutorAsyncDataLoader(new MockDataLoader(), executorService);
+		dataLoader.setHedgingExecutor(hedgingExecutor);
+		dataLoader.setHedgingDelay(50);
+
+		// the slow request is never released, the alternative url is requested after the delay
+		DataAndUrl dataAndUrl = dataLoader.getAsync(Arrays.asList(URL_SLOW, URL_OK)).get(10, TimeUnit.SECONDS);
+		assertEquals(URL_OK, dataAndUrl.getUrlString());
+		assertArrayEquals(CONTENT, dataAndUrl.getData());
+	}
+
+	private class MockDataLoader extends MemoryDataLoader {
+
+		private static final long serialVersionUID = 2370580786713398473L;
+
+		MockDataLoader() {
+			super(getDataMap());
+		}
+
+		@Override
+		public byte[] get(String url) {
+			if (URL_FAILING.equals(url)) {
+				throw new DSSExternalResourceException("Unable to reach " + url);
+			}
+			if (URL_SLOW.equals(url)) {
+				try {
+					slowRequestLatch.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+			return super.get(url);
+		}
+
+		@Override
+		public DataAndUrl get(List<String> urlStrings) {
+			throw new UnsupportedOperationException("Not expected to be called!");
+		}
+
+		@Override
+		public byte[] post(String url, byte[] content) {
+			return content;
+		}
+
+	}
+
+	private static Map<String, byte[]> getDataMap() {
+		Map<String, byte[]> dataMap = new HashMap<>();
+		dataMap.put(URL_OK, CONTENT);
+		dataMap.put(URL_SLOW, CONTENT);
+		dataMap.put(URL_EMPTY, new byte[0]);
+		return dataMap;
+	}
+
+}
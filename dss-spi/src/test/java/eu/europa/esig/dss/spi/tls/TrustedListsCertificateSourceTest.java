@@ -29,10 +29,14 @@ import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -58,6 +62,29 @@ class TrustedListsCertificateSourceTest {
 		assertEquals("Cannot directly add certificate to a TrustedListsCertificateSource", exception.getMessage());
 	}
 
+	@Test
+	void removeCertificateNotAllowedTest() {
+		Map<CertificateToken, List<TrustProperties>> trustPropertiesMap = new HashMap<>();
+		trustPropertiesMap.put(CERT, new ArrayList<>());
+
+		TrustedListsCertificateSource trustedCertSource = new TrustedListsCertificateSource() {
+
+			private static final long serialVersionUID = -2418127573582356937L;
+
+			@Override
+			public int getNumberOfCertificates() {
+				removeCertificate(CERT);
+				return super.getNumberOfCertificates();
+			}
+
+		};
+		trustedCertSource.setTrustPropertiesByCertificates(trustPropertiesMap);
+
+		Exception exception = assertThrows(UnsupportedOperationException.class, trustedCertSource::getNumberOfCertificates);
+		assertEquals("Cannot directly remove certificate from a TrustedListsCertificateSource", exception.getMessage());
+		assertTrue(trustedCertSource.isTrusted(CERT));
+	}
+
 	@Test
 	void trustPropertiesNullTest() {
 		TrustedListsCertificateSource trustedCertSource = new TrustedListsCertificateSource();
@@ -203,4 +230,80 @@ class TrustedListsCertificateSourceTest {
 		assertFalse(trustTime.isTrustedAtTime(futureTime));
 	}
 
+	@Test
+	void setTrustPropertiesAndTimeTest() {
+		TrustedListsCertificateSource trustedCertSource = new TrustedListsCertificateSource();
+		assertFalse(trustedCertSource.isTrusted(CERT));
+
+		Exception exception = assertThrows(NullPointerException.class,
+				() -> trustedCertSource.setTrustPropertiesAndTimeByCertificates(null, new HashMap<>()));
+		assertEquals("TrustPropertiesByCerts cannot be null!", exception.getMessage());
+		exception = assertThrows(NullPointerException.class,
+				() -> trustedCertSource.setTrustPropertiesAndTimeByCertificates(new HashMap<>(), null));
+		assertEquals("trustTimeByCertificate cannot be null!", exception.getMessage());
+
+		Calendar calendar = Calendar.getInstance();
+		calendar.add(Calendar.YEAR, -2);
+		Date startDate = calendar.getTime();
+		calendar.add(Calendar.YEAR, 1);
+		Date sunsetDate = calendar.getTime();
+
+		Map<CertificateToken, List<TrustProperties>> trustPropertiesMap = new HashMap<>();
+		trustPropertiesMap.put(CERT, new ArrayList<>());
+		Map<CertificateToken, List<CertificateTrustTime>> certTrustTimeMap = new HashMap<>();
+		certTrustTimeMap.put(CERT, Collections.singletonList(new CertificateTrustTime(startDate, sunsetDate)));
+
+		trustedCertSource.setTrustPropertiesAndTimeByCertificates(trustPropertiesMap, certTrustTimeMap);
+		assertEquals(1, trustedCertSource.getNumberOfCertificates());
+		assertEquals(1, trustedCertSource.getNumberOfTrustedEntityKeys());
+		assertTrue(trustedCertSource.isTrusted(CERT));
+		assertFalse(trustedCertSource.isTrustedAtTime(CERT, new Date()));
+		assertTrue(trustedCertSource.isTrustedAtTime(CERT, startDate));
+
+		trustedCertSource.setTrustPropertiesAndTimeByCertificates(new HashMap<>(), new HashMap<>());
+		assertEquals(0, trustedCertSource.getNumberOfCertificates());
+		assertEquals(0, trustedCertSource.getNumberOfTrustedEntityKeys());
+		assertFalse(trustedCertSource.isTrusted(CERT));
+	}
+
+	@Test
+	void concurrentReadWhileSynchronizingTest() throws Exception {
+		TrustedListsCertificateSource trustedCertSource = new TrustedListsCertificateSource();
+
+		Map<CertificateToken, List<TrustProperties>> trustPropertiesMap = new HashMap<>();
+		trustPropertiesMap.put(CERT, new ArrayList<>());
+		Map<CertificateToken, List<CertificateTrustTime>> certTrustTimeMap = new HashMap<>();
+		certTrustTimeMap.put(CERT, new ArrayList<>());
+
+		ExecutorService executorService = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<Boolean>> futures = new ArrayList<>();
+			for (int i = 0; i < 8; i++) {
+				futures.add(executorService.submit(() -> {
+					for (int j = 0; j < 1000; j++) {
+						// a certificate is known and trusted in one state, and unknown in the other
+						CertificateTrustTime trustTime = trustedCertSource.getTrustTime(CERT);
+						int nbCertificates = trustedCertSource.getNumberOfCertificates();
+						if (trustTime == null || nbCertificates > 1 || trustedCertSource.getTrustServices(CERT) == null) {
+							return false;
+						}
+					}
+					return true;
+				}));
+			}
+			for (int i = 0; i < 200; i++) {
+				if (i % 2 == 0) {
+					trustedCertSource.setTrustPropertiesAndTimeByCertificates(trustPropertiesMap, certTrustTimeMap);
+				} else {
+					trustedCertSource.setTrustPropertiesAndTimeByCertificates(new HashMap<>(), new HashMap<>());
+				}
+			}
+			for (Future<Boolean> future : futures) {
+				assertTrue(future.get());
+			}
+		} finally {
+			executorService.shutdown();
+		}
+	}
+
 }
@@ -34,12 +34,14 @@ import eu.europa.esig.dss.spi.x509.revocation.ocsp.OfflineOCSPSource;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
 
 class CertificateVerifierBuilderTest {
 
@@ -52,6 +54,7 @@ class CertificateVerifierBuilderTest {
         assertEquals(certificateVerifier.getOcspSource(), copy.getOcspSource());
         assertEquals(certificateVerifier.getRevocationDataLoadingStrategyFactory(), copy.getRevocationDataLoadingStrategyFactory());
         assertEquals(certificateVerifier.isRevocationFallback(), copy.isRevocationFallback());
+        assertEquals(certificateVerifier.getRevocationPrefetchExecutor(), copy.getRevocationPrefetchExecutor());
         assertEquals(certificateVerifier.getRevocationDataVerifier(), copy.getRevocationDataVerifier());
         assertEquals(certificateVerifier.isCheckRevocationForUntrustedChains(), copy.isCheckRevocationForUntrustedChains());
         assertEquals(certificateVerifier.getTimestampTokenVerifier(), copy.getTimestampTokenVerifier());
@@ -92,6 +95,7 @@ class CertificateVerifierBuilderTest {
         assertNull(copy.getOcspSource());
         assertNotNull(copy.getRevocationDataLoadingStrategyFactory()); // not relevant for offline validation
         assertFalse(copy.isRevocationFallback());
+        assertNull(copy.getRevocationPrefetchExecutor());
         assertFalse(copy.isCheckRevocationForUntrustedChains());
         assertEquals(certificateVerifier.getAlertOnInvalidSignature(), copy.getAlertOnInvalidSignature());
         assertEquals(certificateVerifier.getAlertOnInvalidTimestamp(), copy.getAlertOnInvalidTimestamp());
@@ -127,6 +131,7 @@ class CertificateVerifierBuilderTest {
         assertNull(copy.getOcspSource());
         assertNotNull(copy.getRevocationDataLoadingStrategyFactory()); // not relevant for offline validation
         assertFalse(copy.isRevocationFallback());
+        assertNull(copy.getRevocationPrefetchExecutor());
         assertFalse(copy.isCheckRevocationForUntrustedChains());
         assertNull(copy.getAlertOnInvalidSignature());
         assertNull(copy.getAlertOnInvalidTimestamp());
@@ -192,6 +197,7 @@ class CertificateVerifierBuilderTest {
         certificateVerifier.setTimestampTokenVerifier(TimestampTokenVerifier.createDefaultTimestampTokenVerifier());
         certificateVerifier.setTrustAnchorVerifier(TrustAnchorVerifier.createDefaultTrustAnchorVerifier());
         certificateVerifier.setRevocationFallback(true);
+        certificateVerifier.setRevocationPrefetchExecutor(mock(ExecutorService.class));
         certificateVerifier.setCheckRevocationForUntrustedChains(true);
         certificateVerifier.setAdjunctCertSources(new CommonCertificateSource());
         certificateVerifier.setTrustedCertSources(new CommonTrustedCertificateSource());
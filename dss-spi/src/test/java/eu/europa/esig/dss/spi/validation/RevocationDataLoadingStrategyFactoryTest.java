@@ -41,9 +41,19 @@ import org.bouncycastle.cert.ocsp.SingleResp;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 class RevocationDataLoadingStrategyFactoryTest {
@@ -147,6 +157,164 @@ class RevocationDataLoadingStrategyFactoryTest {
         assertNotNull(revocationToken);
     }
 
+    @Test
+    void concurrentTest() {
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            RevocationDataLoadingStrategy revocationDataLoadingStrategy = new ConcurrentRevocationDataLoadingStrategyFactory(executorService).create();
+            revocationDataLoadingStrategy.setOcspSource(ocspSource);
+            revocationDataLoadingStrategy.setCrlSource(crlSource);
+            revocationDataLoadingStrategy.setRevocationDataVerifier(getRevocationDataVerifier());
+
+            RevocationToken<?> revocationToken = revocationDataLoadingStrategy.getRevocationToken(CERTIFICATE, ISSUER);
+            assertNotNull(revocationToken);
+
+            revocationDataLoadingStrategy.setOcspSource(null);
+            revocationToken = revocationDataLoadingStrategy.getRevocationToken(CERTIFICATE, ISSUER);
+            assertNotNull(revocationToken);
+            assertEquals(RevocationType.CRL, revocationToken.getRevocationType());
+
+            revocationDataLoadingStrategy.setOcspSource(ocspSource);
+            revocationDataLoadingStrategy.setCrlSource(null);
+            revocationToken = revocationDataLoadingStrategy.getRevocationToken(CERTIFICATE, ISSUER);
+            assertNotNull(revocationToken);
+            assertEquals(RevocationType.OCSP, revocationToken.getRevocationType());
+
+            revocationDataLoadingStrategy.setOcspSource(null);
+            revocationToken = revocationDataLoadingStrategy.getRevocationToken(CERTIFICATE, ISSUER);
+            assertNull(revocationToken);
+
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    void concurrentWithSlowOcspTest() throws Exception {
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            CountDownLatch ocspInterrupted = new CountDownLatch(1);
+            OCSPSource slowOcspSource = (certificateToken, issuerCertificateToken) -> {
+                try {
+                    // never released, the request is expected to be cancelled
+                    new CountDownLatch(1).await();
+                } catch (InterruptedException e) {
+                    ocspInterrupted.countDown();
+                    Thread.currentThread().interrupt();
+                }
+                return null;
+            };
+
+            ConcurrentRevocationDataLoadingStrategyFactory factory = new ConcurrentRevocationDataLoadingStrategyFactory(executorService);
+            factory.setInterruptSlowerRequest(true);
+
+            RevocationDataLoadingStrategy revocationDataLoadingStrategy = factory.create();
+            revocationDataLoadingStrategy.setOcspSource(slowOcspSource);
+            revocationDataLoadingStrategy.setCrlSource(crlSource);
+            revocationDataLoadingStrategy.setRevocationDataVerifier(getRevocationDataVerifier());
+
+            RevocationToken<?> revocationToken = revocationDataLoadingStrategy.getRevocationToken(CERTIFICATE, ISSUER);
+            assertNotNull(revocationToken);
+            assertEquals(RevocationType.CRL, revocationToken.getRevocationType());
+            assertTrue(ocspInterrupted.await(10, TimeUnit.SECONDS));
+
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    void concurrentWithSlowOcspNotInterruptedTest() throws Exception {
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            CountDownLatch ocspStarted = new CountDownLatch(1);
+            CountDownLatch ocspReleased = new CountDownLatch(1);
+            CountDownLatch ocspCompleted = new CountDownLatch(1);
+            AtomicBoolean ocspInterrupted = new AtomicBoolean();
+            OCSPSource slowOcspSource = (certificateToken, issuerCertificateToken) -> {
+                ocspStarted.countDown();
+                try {
+                    ocspReleased.await();
+                } catch (InterruptedException e) {
+                    ocspInterrupted.set(true);
+                    Thread.currentThread().interrupt();
+                }
+                ocspCompleted.countDown();
+                return null;
+            };
+            // ensures the OCSP request is running when the CRL is obtained
+            CRLSource crlSourceAfterOcspStart = (certificateToken, issuerCertificateToken) -> {
+                try {
+                    assertTrue(ocspStarted.await(10, TimeUnit.SECONDS));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return crlToken;
+            };
+
+            RevocationDataLoadingStrategy revocationDataLoadingStrategy = new ConcurrentRevocationDataLoadingStrategyFactory(executorService).create();
+            revocationDataLoadingStrategy.setOcspSource(slowOcspSource);
+            revocationDataLoadingStrategy.setCrlSource(crlSourceAfterOcspStart);
+            revocationDataLoadingStrategy.setRevocationDataVerifier(getRevocationDataVerifier());
+
+            RevocationToken<?> revocationToken = revocationDataLoadingStrategy.getRevocationToken(CERTIFICATE, ISSUER);
+            assertNotNull(revocationToken);
+            assertEquals(RevocationType.CRL, revocationToken.getRevocationType());
+
+            // the running OCSP request is cancelled without interruption and completes in background
+            ocspReleased.countDown();
+            assertTrue(ocspCompleted.await(10, TimeUnit.SECONDS));
+            assertFalse(ocspInterrupted.get());
+
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    void concurrentWithHedgingDelayTest() {
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            AtomicInteger crlCalls = new AtomicInteger();
+            CRLSource countingCrlSource = (certificateToken, issuerCertificateToken) -> {
+                crlCalls.incrementAndGet();
+                return crlToken;
+            };
+
+            ConcurrentRevocationDataLoadingStrategyFactory factory = new ConcurrentRevocationDataLoadingStrategyFactory(executorService);
+            assertThrows(IllegalArgumentException.class, () -> factory.setHedgingDelay(-1));
+            factory.setHedgingDelay(10000);
+
+            RevocationDataLoadingStrategy revocationDataLoadingStrategy = factory.create();
+            revocationDataLoadingStrategy.setOcspSource(ocspSource);
+            revocationDataLoadingStrategy.setCrlSource(countingCrlSource);
+            revocationDataLoadingStrategy.setRevocationDataVerifier(getRevocationDataVerifier());
+
+            RevocationToken<?> revocationToken = revocationDataLoadingStrategy.getRevocationToken(CERTIFICATE, ISSUER);
+            assertNotNull(revocationToken);
+            assertEquals(RevocationType.OCSP, revocationToken.getRevocationType());
+            assertEquals(0, crlCalls.get());
+
+            // OCSP completes without a token, the CRL is requested without waiting for the delay
+            revocationDataLoadingStrategy.setOcspSource((certificateToken, issuerCertificateToken) -> null);
+            revocationToken = revocationDataLoadingStrategy.getRevocationToken(CERTIFICATE, ISSUER);
+            assertNotNull(revocationToken);
+            assertEquals(RevocationType.CRL, revocationToken.getRevocationType());
+            assertEquals(1, crlCalls.get());
+
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    private RevocationDataVerifier getRevocationDataVerifier() {
+        RevocationDataVerifier revocationDataVerifier = RevocationDataVerifier.createDefaultRevocationDataVerifier();
+        TrustAnchorVerifier trustAnchorVerifier = TrustAnchorVerifier.createDefaultTrustAnchorVerifier();
+        trustAnchorVerifier.setAcceptRevocationUntrustedCertificateChains(true);
+        revocationDataVerifier.setTrustAnchorVerifier(trustAnchorVerifier);
+        return revocationDataVerifier;
+    }
+
     private static class MockOCSPSource implements OCSPSource {
 
         private static final long serialVersionUID = -3854454644299458096L;
@@ -0,0 +1,157 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * <p>
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * <p>
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * <p>
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.spi.validation;
+
+import eu.europa.esig.dss.enumerations.TimestampType;
+import eu.europa.esig.dss.spi.x509.tsp.TimestampToken;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TimestampTokenQueueTest {
+
+	@Test
+	void orderTest() {
+		TimestampToken first = getTimestamp("T-1", 1000L);
+		TimestampToken second = getTimestamp("T-2", 2000L);
+		TimestampToken third = getTimestamp("T-3", 3000L);
+		TimestampToken fourth = getTimestamp("T-4", 4000L);
+
+		TimestampTokenQueue queue = new TimestampTokenQueue();
+		for (TimestampToken timestampToken : Arrays.asList(second, fourth, first, third)) {
+			assertTrue(queue.add(timestampToken));
+		}
+		assertEquals(Arrays.asList(fourth, third, second, first), pollAll(queue, new HashSet<>()));
+	}
+
+	@Test
+	void addedWhileProcessingTest() {
+		TimestampToken first = getTimestamp("T-1", 1000L);
+		TimestampToken second = getTimestamp("T-2", 2000L);
+		TimestampToken third = getTimestamp("T-3", 3000L);
+		TimestampToken fourth = getTimestamp("T-4", 4000L);
+
+		Set<TimestampToken> verified = new HashSet<>();
+		TimestampTokenQueue queue = new TimestampTokenQueue();
+		queue.add(first);
+		queue.add(third);
+
+		assertSame(third, poll(queue, verified));
+
+		// a fresher timestamp is returned first, then the processing continues with the older ones
+		queue.add(fourth);
+		queue.add(second);
+		assertEquals(Arrays.asList(fourth, second, first), pollAll(queue, verified));
+		assertNull(queue.next(verified::contains));
+	}
+
+	@Test
+	void sameGenerationTimeTest() {
+		TimestampToken first = getTimestamp("T-1", 1000L);
+		TimestampToken second = getTimestamp("T-2", 1000L);
+		TimestampToken third = getTimestamp("T-3", 1000L);
+
+		TimestampTokenQueue queue = new TimestampTokenQueue();
+		queue.add(first);
+		queue.add(second);
+		queue.add(third);
+
+		// the last added timestamp is returned first, as with a stable sort in reversed order
+		assertEquals(Arrays.asList(third, second, first), pollAll(queue, new HashSet<>()));
+	}
+
+	@Test
+	void deduplicationTest() {
+		TimestampToken first = getTimestamp("T-1", 1000L);
+		TimestampToken second = getTimestamp("T-2", 1000L);
+		TimestampToken third = getTimestamp("T-3", 2000L);
+
+		TimestampTokenQueue queue = new TimestampTokenQueue();
+		assertTrue(queue.add(first));
+		assertTrue(queue.add(second));
+		assertTrue(queue.add(third));
+		assertFalse(queue.add(first));
+		assertFalse(queue.add(second));
+		assertFalse(queue.add(third));
+
+		Set<TimestampToken> verified = new HashSet<>();
+		assertEquals(Arrays.asList(third, second, first), pollAll(queue, verified));
+
+		// a verified timestamp added again is not returned
+		assertFalse(queue.add(third));
+		assertNull(queue.next(verified::contains));
+	}
+
+	@Test
+	void verifiedTimestampsSkippedTest() {
+		TimestampToken first = getTimestamp("T-1", 1000L);
+		TimestampToken second = getTimestamp("T-2", 2000L);
+
+		TimestampTokenQueue queue = new TimestampTokenQueue();
+		queue.add(first);
+		queue.add(second);
+
+		Set<TimestampToken> verified = new HashSet<>(Collections.singletonList(second));
+		assertEquals(Collections.singletonList(first), pollAll(queue, verified));
+	}
+
+	private static TimestampToken poll(TimestampTokenQueue queue, Set<TimestampToken> verified) {
+		TimestampToken timestampToken = queue.next(verified::contains);
+		if (timestampToken != null) {
+			verified.add(timestampToken);
+		}
+		return timestampToken;
+	}
+
+	private static List<TimestampToken> pollAll(TimestampTokenQueue queue, Set<TimestampToken> verified) {
+		List<TimestampToken> result = new ArrayList<>();
+		TimestampToken timestampToken = poll(queue, verified);
+		while (timestampToken != null) {
+			result.add(timestampToken);
+			timestampToken = poll(queue, verified);
+		}
+		return result;
+	}
+
+	private static TimestampToken getTimestamp(String id, long generationTime) {
+		TimestampToken timestampToken = mock(TimestampToken.class);
+		when(timestampToken.getGenerationTime()).thenReturn(new Date(generationTime));
+		when(timestampToken.getTimeStampType()).thenReturn(TimestampType.SIGNATURE_TIMESTAMP);
+		when(timestampToken.getDSSIdAsString()).thenReturn(id);
+		when(timestampToken.getTimestampedReferences()).thenReturn(Collections.emptyList());
+		return timestampToken;
+	}
+
+}
@@ -0,0 +1,155 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * <p>
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * <p>
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * <p>
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.spi.x509;
+
+import eu.europa.esig.dss.model.DSSException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RequestCoalescerTest {
+
+    private static final int NUMBER_OF_THREADS = 10;
+
+    @Test
+    void coalescedRequestsTest() throws Exception {
+        RequestCoalescer<String> requestCoalescer = new RequestCoalescer<>();
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(NUMBER_OF_THREADS);
+        try {
+            List<Future<String>> futures = new ArrayList<>();
+            for (int i = 0; i < NUMBER_OF_THREADS; i++) {
+                futures.add(executorService.submit(() -> requestCoalescer.execute("key", () -> {
+                    executions.incrementAndGet();
+                    await(release);
+                    return "result";
+                })));
+            }
+            waitForCoalescedRequests(requestCoalescer, NUMBER_OF_THREADS - 1);
+            assertEquals(1, requestCoalescer.getInFlightRequests());
+            release.countDown();
+
+            for (Future<String> future : futures) {
+                assertEquals("result", future.get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            executorService.shutdown();
+        }
+
+        assertEquals(1, executions.get());
+        assertEquals(1, requestCoalescer.getExecutedRequests());
+        assertEquals(NUMBER_OF_THREADS - 1, requestCoalescer.getCoalescedRequests());
+        assertEquals(0, requestCoalescer.getInFlightRequests());
+
+        // the key is released after completion
+        assertEquals("second", requestCoalescer.execute("key", () -> "second"));
+        assertEquals(2, requestCoalescer.getExecutedRequests());
+    }
+
+    @Test
+    void differentKeysTest() {
+        RequestCoalescer<String> requestCoalescer = new RequestCoalescer<>();
+        assertEquals("first", requestCoalescer.execute("first", () -> "first"));
+        assertEquals("second", requestCoalescer.execute("second", () -> "second"));
+        assertEquals(2, requestCoalescer.getExecutedRequests());
+        assertEquals(0, requestCoalescer.getCoalescedRequests());
+    }
+
+    @Test
+    void exceptionTest() throws Exception {
+        RequestCoalescer<String> requestCoalescer = new RequestCoalescer<>();
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            List<Future<String>> futures = new ArrayList<>();
+            for (int i = 0; i < 2; i++) {
+                futures.add(executorService.submit(() -> requestCoalescer.execute("key", () -> {
+                    await(release);
+                    throw new DSSException("Unable to load");
+                })));
+            }
+            waitForCoalescedRequests(requestCoalescer, 1);
+            release.countDown();
+
+            for (Future<String> future : futures) {
+                ExecutionException exception = assertThrows(ExecutionException.class, () -> future.get(10, TimeUnit.SECONDS));
+                assertInstanceOf(DSSException.class, exception.getCause());
+                assertEquals("Unable to load", exception.getCause().getMessage());
+            }
+        } finally {
+            executorService.shutdown();
+        }
+        assertEquals(0, requestCoalescer.getInFlightRequests());
+    }
+
+    @Test
+    void keepCompletedResultsTest() {
+        RequestCoalescer<String> requestCoalescer = new RequestCoalescer<>(true);
+        assertEquals("first", requestCoalescer.execute("key", () -> "first"));
+        assertEquals("first", requestCoalescer.execute("key", () -> "second"));
+        assertEquals(1, requestCoalescer.getExecutedRequests());
+        assertEquals(1, requestCoalescer.getCoalescedRequests());
+        assertEquals(0, requestCoalescer.getInFlightRequests());
+
+        // failed requests are not kept
+        assertThrows(DSSException.class, () -> requestCoalescer.execute("failure", () -> {
+            throw new DSSException("Unable to load");
+        }));
+        assertEquals("result", requestCoalescer.execute("failure", () -> "result"));
+        assertEquals("result", requestCoalescer.execute("failure", () -> "other"));
+        assertEquals(3, requestCoalescer.getExecutedRequests());
+        assertEquals(2, requestCoalescer.getCoalescedRequests());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void waitForCoalescedRequests(RequestCoalescer<?> requestCoalescer, long expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10000;
+        while (requestCoalescer.getCoalescedRequests() < expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(expected, requestCoalescer.getCoalescedRequests());
+    }
+
+}
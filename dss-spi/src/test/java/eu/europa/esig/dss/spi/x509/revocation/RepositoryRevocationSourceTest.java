@@ -0,0 +1,379 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * <p>
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * <p>
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * <p>
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.spi.x509.revocation;
+
+import eu.europa.esig.dss.model.x509.CertificateToken;
+import eu.europa.esig.dss.model.x509.revocation.ocsp.OCSP;
+import eu.europa.esig.dss.spi.DSSUtils;
+import eu.europa.esig.dss.spi.x509.RequestCoalescer;
+import eu.europa.esig.dss.spi.x509.revocation.ocsp.OCSPToken;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RepositoryRevocationSourceTest {
+
+    private static final CertificateToken CERT = DSSUtils.loadCertificate(new File("src/test/resources/sk_user.cer"));
+
+    private static final CertificateToken CA_CERT = DSSUtils.loadCertificate(new File("src/test/resources/sk_ca.cer"));
+
+    private static final String FIRST_KEY = "first-key";
+
+    private static final String SECOND_KEY = "second-key";
+
+    @Test
+    void multiKeyLookupTest() {
+        MockRepositoryRevocationSource repositorySource = new MockRepositoryRevocationSource();
+        OCSPToken freshToken = getToken(true);
+        repositorySource.repository.put(SECOND_KEY, new ArrayList<>(Collections.singletonList(freshToken)));
+
+        List<RevocationToken<OCSP>> revocationTokens = repositorySource.getRevocationTokens(CERT, CA_CERT);
+        assertEquals(1, revocationTokens.size());
+        assertSame(freshToken, revocationTokens.get(0));
+
+        // all keys are requested at once
+        assertEquals(1, repositorySource.lookups.size());
+        assertEquals(Arrays.asList(FIRST_KEY, SECOND_KEY), repositorySource.lookups.get(0));
+    }
+
+    @Test
+    void expiredEntriesRemovedInlineTest() {
+        MockRepositoryRevocationSource repositorySource = new MockRepositoryRevocationSource();
+        repositorySource.repository.put(FIRST_KEY, new ArrayList<>(Collections.singletonList(getToken(false))));
+        repositorySource.repository.put(SECOND_KEY, new ArrayList<>(Collections.singletonList(getToken(false))));
+
+        assertNull(repositorySource.getRevocationToken(CERT, CA_CERT));
+        assertTrue(repositorySource.repository.isEmpty());
+        assertEquals(1, repositorySource.removals.size());
+        assertEquals(2, repositorySource.removals.get(0).size());
+    }
+
+    @Test
+    void expiredEntriesNotRemovedTest() {
+        MockRepositoryRevocationSource repositorySource = new MockRepositoryRevocationSource();
+        repositorySource.setRemoveExpired(false);
+        repositorySource.repository.put(FIRST_KEY, new ArrayList<>(Collections.singletonList(getToken(false))));
+
+        assertNull(repositorySource.getRevocationToken(CERT, CA_CERT));
+        assertEquals(1, repositorySource.repository.size());
+        assertTrue(repositorySource.removals.isEmpty());
+    }
+
+    @Test
+    void expiredEntryReplacedBeforePurgeTest() throws InterruptedException {
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        MockRepositoryRevocationSource repositorySource = new MockRepositoryRevocationSource();
+        OCSPToken freshToken = getToken(true);
+        // block the executor, so the purge task cannot be processed before the insertion
+        Object lock = new Object();
+        synchronized (lock) {
+            executorService.execute(() -> {
+                synchronized (lock) {
+                    // wait for the main thread
+                }
+            });
+
+            repositorySource.setExpiredRevocationPurgeExecutor(executorService);
+            repositorySource.repository.put(FIRST_KEY, new ArrayList<>(Collections.singletonList(getToken(false))));
+
+            when(freshToken.isValid()).thenReturn(true);
+            when(freshToken.getSourceURL()).thenReturn(FIRST_KEY);
+            repositorySource.setProxySource(new MockProxySource(freshToken));
+
+            assertSame(freshToken, repositorySource.getRevocationToken(CERT, CA_CERT));
+            // the expired entry has been removed before the insertion of the new one
+            assertEquals(Collections.singletonList(freshToken), repositorySource.repository.get(FIRST_KEY));
+        }
+
+        executorService.shutdown();
+        assertTrue(executorService.awaitTermination(10, TimeUnit.SECONDS));
+
+        // the fresh entry is not affected by the purge
+        assertEquals(Collections.singletonList(freshToken), repositorySource.repository.get(FIRST_KEY));
+        assertEquals(1, repositorySource.removals.size());
+    }
+
+    @Test
+    void expiredEntriesPurgedInBackgroundTest() throws InterruptedException {
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        MockRepositoryRevocationSource repositorySource = new MockRepositoryRevocationSource();
+        repositorySource.setExpiredRevocationPurgeExecutor(executorService);
+        repositorySource.repository.put(FIRST_KEY, new ArrayList<>(Collections.singletonList(getToken(false))));
+        repositorySource.repository.put(SECOND_KEY, new ArrayList<>(Collections.singletonList(getToken(false))));
+
+        assertNull(repositorySource.getRevocationToken(CERT, CA_CERT));
+
+        executorService.shutdown();
+        assertTrue(executorService.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertTrue(repositorySource.repository.isEmpty());
+        assertEquals(1, repositorySource.removals.size());
+        assertEquals(2, repositorySource.removals.get(0).size());
+        assertFalse(repositorySource.lookups.isEmpty());
+    }
+
+    @Test
+    void memoryCacheTest() {
+        MockRepositoryRevocationSource repositorySource = new MockRepositoryRevocationSource();
+        repositorySource.setMemoryCache(new RevocationTokenMemoryCache<>(10));
+        OCSPToken freshToken = getToken(true);
+        repositorySource.repository.put(FIRST_KEY, new ArrayList<>(Collections.singletonList(freshToken)));
+
+        assertSame(freshToken, repositorySource.getRevocationToken(CERT, CA_CERT));
+        assertEquals(1, repositorySource.lookups.size());
+
+        // served by the memory cache, the repository is not requested
+        assertSame(freshToken, repositorySource.getRevocationToken(CERT, CA_CERT));
+        assertSame(freshToken, repositorySource.getRevocationToken(CERT, CA_CERT));
+        assertEquals(1, repositorySource.lookups.size());
+
+        // another certificate does not share the memory cache entries
+        assertSame(freshToken, repositorySource.getRevocationToken(CA_CERT, CA_CERT));
+        assertEquals(2, repositorySource.lookups.size());
+
+        assertNull(repositorySource.getRevocationToken(CERT, null));
+
+        RevocationCacheStatistics statistics = repositorySource.getCacheStatistics();
+        assertEquals(2, statistics.getMemoryHits());
+        assertEquals(2, statistics.getRepositoryHits());
+        assertEquals(0, statistics.getMisses());
+        assertEquals(4, statistics.getRequests());
+        assertEquals(0.5, statistics.getMemoryHitRate(), 0.0001);
+        assertEquals(1.0, statistics.getRepositoryHitRate(), 0.0001);
+    }
+
+    @Test
+    void memoryCacheExpiredTest() {
+        MockRepositoryRevocationSource repositorySource = new MockRepositoryRevocationSource();
+        RevocationTokenMemoryCache<OCSP> memoryCache = new RevocationTokenMemoryCache<>(10);
+        repositorySource.setMemoryCache(memoryCache);
+        repositorySource.setRemoveExpired(false);
+
+        OCSPToken freshToken = getToken(true);
+        repositorySource.repository.put(FIRST_KEY, new ArrayList<>(Collections.singletonList(freshToken)));
+        assertSame(freshToken, repositorySource.getRevocationToken(CERT, CA_CERT));
+        assertEquals(1, memoryCache.size());
+
+        // the token is expired in the meantime
+        when(freshToken.getNextUpdate()).thenReturn(new Date(System.currentTimeMillis() - 1000L));
+        assertNull(repositorySource.getRevocationToken(CERT, CA_CERT));
+        assertEquals(0, memoryCache.size());
+        assertEquals(2, repositorySource.lookups.size());
+
+        RevocationCacheStatistics statistics = repositorySource.getCacheStatistics();
+        assertEquals(0, statistics.getMemoryHits());
+        assertEquals(1, statistics.getRepositoryHits());
+        assertEquals(1, statistics.getMisses());
+        assertEquals(0.5, statistics.getRepositoryHitRate(), 0.0001);
+    }
+
+    @Test
+    void memoryCacheProxiedSourceTest() {
+        MockRepositoryRevocationSource repositorySource = new MockRepositoryRevocationSource();
+
+        OCSPToken freshToken = getToken(true);
+        when(freshToken.isValid()).thenReturn(true);
+        when(freshToken.getSourceURL()).thenReturn(SECOND_KEY);
+        repositorySource.setProxySource(new MockProxySource(freshToken));
+
+        RevocationTokenMemoryCache<OCSP> memoryCache = new RevocationTokenMemoryCache<>(10);
+        repositorySource.setMemoryCache(memoryCache);
+
+        assertSame(freshToken, repositorySource.getRevocationToken(CERT, CA_CERT));
+        // the token of the proxied source is not cached in memory
+        assertEquals(0, memoryCache.size());
+
+        OCSPToken cachedToken = getToken(true);
+        repositorySource.repository.put(SECOND_KEY, new ArrayList<>(Collections.singletonList(cachedToken)));
+
+        // the token rebuilt by the repository is cached in memory
+        assertSame(cachedToken, repositorySource.getRevocationToken(CERT, CA_CERT));
+        assertEquals(1, memoryCache.size());
+        assertSame(cachedToken, repositorySource.getRevocationToken(CERT, CA_CERT));
+        assertEquals(2, repositorySource.lookups.size());
+
+        RevocationCacheStatistics statistics = repositorySource.getCacheStatistics();
+        assertEquals(1, statistics.getMisses());
+        assertEquals(1, statistics.getRepositoryHits());
+        assertEquals(1, statistics.getMemoryHits());
+    }
+
+    @Test
+    void requestCoalescingTest() throws Exception {
+        MockRepositoryRevocationSource repositorySource = new MockRepositoryRevocationSource();
+        RequestCoalescer<RevocationToken<OCSP>> requestCoalescer = new RequestCoalescer<>();
+        repositorySource.setRequestCoalescer(requestCoalescer);
+
+        OCSPToken freshToken = getToken(true);
+        when(freshToken.isValid()).thenReturn(true);
+        when(freshToken.getSourceURL()).thenReturn(FIRST_KEY);
+
+        AtomicInteger proxiedCalls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        repositorySource.setProxySource((RevocationSource<OCSP>) (certificateToken, issuerCertificateToken) -> {
+            proxiedCalls.incrementAndGet();
+            try {
+                assertTrue(release.await(10, TimeUnit.SECONDS));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return freshToken;
+        });
+
+        ExecutorService executorService = Executors.newFixedThreadPool(3);
+        try {
+            List<Future<RevocationToken<OCSP>>> futures = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                futures.add(executorService.submit(() -> repositorySource.getRevocationToken(CERT, CA_CERT)));
+            }
+            long deadline = System.currentTimeMillis() + 10000;
+            while (requestCoalescer.getCoalescedRequests() < 2 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            release.countDown();
+
+            for (Future<RevocationToken<OCSP>> future : futures) {
+                assertSame(freshToken, future.get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            executorService.shutdown();
+        }
+
+        assertEquals(1, proxiedCalls.get());
+        assertEquals(2, requestCoalescer.getCoalescedRequests());
+        assertEquals(Collections.singletonList(freshToken), repositorySource.repository.get(FIRST_KEY));
+    }
+
+    private static OCSPToken getToken(boolean fresh) {
+        OCSPToken ocspToken = mock(OCSPToken.class);
+        long now = System.currentTimeMillis();
+        when(ocspToken.getThisUpdate()).thenReturn(new Date(now - 60000L));
+        when(ocspToken.getNextUpdate()).thenReturn(new Date(fresh ? now + 60000L : now - 1000L));
+        return ocspToken;
+    }
+
+    @SuppressWarnings("serial")
+    private static class MockRepositoryRevocationSource extends RepositoryRevocationSource<OCSP> {
+
+        private final Map<String, List<RevocationToken<OCSP>>> repository = new HashMap<>();
+
+        private final List<List<String>> lookups = new ArrayList<>();
+
+        private final List<List<String>> removals = new ArrayList<>();
+
+        @Override
+        protected List<String> initRevocationTokenKeys(CertificateToken certificateToken) {
+            return Arrays.asList(FIRST_KEY, SECOND_KEY);
+        }
+
+        @Override
+        protected List<RevocationToken<OCSP>> findRevocations(String key, CertificateToken certificateToken,
+                                                              CertificateToken issuerCertToken) {
+            throw new UnsupportedOperationException("Multi-key lookup is expected");
+        }
+
+        @Override
+        protected synchronized Map<String, List<RevocationToken<OCSP>>> findRevocations(Collection<String> keys,
+                CertificateToken certificateToken, CertificateToken issuerCertToken) {
+            lookups.add(new ArrayList<>(keys));
+            Map<String, List<RevocationToken<OCSP>>> result = new HashMap<>();
+            for (String key : keys) {
+                if (repository.containsKey(key)) {
+                    result.put(key, new ArrayList<>(repository.get(key)));
+                }
+            }
+            return result;
+        }
+
+        @Override
+        protected synchronized void insertRevocation(String revocationKey, RevocationToken<OCSP> token) {
+            repository.computeIfAbsent(revocationKey, k -> new ArrayList<>()).add(token);
+        }
+
+        @Override
+        protected synchronized void updateRevocation(String revocationKey, RevocationToken<OCSP> token) {
+            repository.put(revocationKey, new ArrayList<>(Collections.singletonList(token)));
+        }
+
+        @Override
+        protected synchronized void removeRevocation(String revocationKey) {
+            removeRevocations(Collections.singletonList(revocationKey));
+        }
+
+        @Override
+        protected synchronized void removeRevocations(Collection<String> revocationKeys) {
+            removals.add(new ArrayList<>(revocationKeys));
+            for (String revocationKey : revocationKeys) {
+                repository.remove(revocationKey);
+            }
+        }
+
+        @Override
+        protected List<String> getRevocationAccessUrls(CertificateToken certificateToken) {
+            return Collections.emptyList();
+        }
+
+        @Override
+        protected String getRevocationTokenKey(CertificateToken certificateToken, String urlString) {
+            return urlString;
+        }
+
+    }
+
+    @SuppressWarnings("serial")
+    private static class MockProxySource implements RevocationSource<OCSP> {
+
+        private final RevocationToken<OCSP> revocationToken;
+
+        private MockProxySource(RevocationToken<OCSP> revocationToken) {
+            this.revocationToken = revocationToken;
+        }
+
+        @Override
+        public RevocationToken<OCSP> getRevocationToken(CertificateToken certificateToken, CertificateToken issuerCertificateToken) {
+            return revocationToken;
+        }
+
+    }
+
+}
@@ -0,0 +1,111 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * <p>
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * <p>
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * <p>
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.spi.x509.revocation;
+
+import eu.europa.esig.dss.model.x509.revocation.ocsp.OCSP;
+import eu.europa.esig.dss.spi.x509.revocation.ocsp.OCSPToken;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RevocationTokenMemoryCacheTest {
+
+    @Test
+    void maxEntriesTest() {
+        RevocationTokenMemoryCache<OCSP> cache = new RevocationTokenMemoryCache<>(2);
+        List<RevocationToken<OCSP>> first = getTokens(10);
+        List<RevocationToken<OCSP>> second = getTokens(10);
+        List<RevocationToken<OCSP>> third = getTokens(10);
+
+        cache.put("first", first);
+        cache.put("second", second);
+        assertEquals(first, cache.get("first")); // "second" becomes the least recently used entry
+
+        cache.put("third", third);
+        assertEquals(2, cache.size());
+        assertEquals(first, cache.get("first"));
+        assertTrue(cache.get("second").isEmpty());
+        assertEquals(third, cache.get("third"));
+        assertEquals(20, cache.getSizeInBytes());
+    }
+
+    @Test
+    void maxSizeTest() {
+        RevocationTokenMemoryCache<OCSP> cache = new RevocationTokenMemoryCache<>(10, 100);
+        cache.put("first", getTokens(40));
+        cache.put("second", getTokens(40, 20));
+        assertEquals(2, cache.size());
+        assertEquals(100, cache.getSizeInBytes());
+
+        cache.put("third", getTokens(30));
+        assertEquals(2, cache.size());
+        assertTrue(cache.get("first").isEmpty());
+        assertEquals(90, cache.getSizeInBytes());
+
+        // too big to be cached
+        cache.put("fourth", getTokens(101));
+        assertTrue(cache.get("fourth").isEmpty());
+        assertEquals(2, cache.size());
+
+        // replacement of an entry
+        cache.put("third", getTokens(10));
+        assertEquals(70, cache.getSizeInBytes());
+
+        cache.remove("second");
+        assertEquals(10, cache.getSizeInBytes());
+
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getSizeInBytes());
+    }
+
+    @Test
+    void invalidParametersTest() {
+        assertThrows(IllegalArgumentException.class, () -> new RevocationTokenMemoryCache<>(0));
+        assertThrows(IllegalArgumentException.class, () -> new RevocationTokenMemoryCache<>(10, 0));
+    }
+
+    @Test
+    void emptyEntryTest() {
+        RevocationTokenMemoryCache<OCSP> cache = new RevocationTokenMemoryCache<>(10);
+        cache.put("first", Collections.emptyList());
+        assertEquals(0, cache.size());
+    }
+
+    private static List<RevocationToken<OCSP>> getTokens(int... sizes) {
+        RevocationToken<OCSP>[] tokens = new OCSPToken[sizes.length];
+        for (int i = 0; i < sizes.length; i++) {
+            OCSPToken token = mock(OCSPToken.class);
+            when(token.getEncoded()).thenReturn(new byte[sizes[i]]);
+            tokens[i] = token;
+        }
+        return Arrays.asList(tokens);
+    }
+
+}
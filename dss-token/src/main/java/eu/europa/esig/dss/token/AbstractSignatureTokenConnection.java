@@ -37,6 +37,8 @@ import java.security.Signature;
 import java.security.spec.AlgorithmParameterSpec;
 import java.security.spec.MGF1ParameterSpec;
 import java.security.spec.PSSParameterSpec;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -108,6 +110,45 @@ public abstract class AbstractSignatureTokenConnection implements SignatureToken
 		}
 	}
 
+	@Override
+	public List<SignatureValue> signDigests(List<Digest> digests, SignatureAlgorithm signatureAlgorithm, DSSPrivateKeyEntry keyEntry)
+			throws DSSException {
+		Objects.requireNonNull(digests, "List of digests shall be provided.");
+		assertEncryptionAlgorithmValid(signatureAlgorithm, keyEntry);
+		for (Digest digest : digests) {
+			Objects.requireNonNull(digest, "Digest shall be provided.");
+			assertDigestAlgorithmValid(digest, signatureAlgorithm);
+		}
+
+		final String javaSignatureAlgorithm = getRawSignatureAlgorithm(signatureAlgorithm.getEncryptionAlgorithm()).getJCEId();
+
+		final List<SignatureValue> signatureValues = new ArrayList<>(digests.size());
+		try {
+			// the Signature is reset to its initialized state after each sign() call and is re-used for the whole batch,
+			// unless the algorithm parameters depend on the DigestAlgorithm of the current digest (e.g. RSASSA-PSS)
+			Signature signature = null;
+			AlgorithmParameterSpec param = null;
+			DigestAlgorithm initializedDigestAlgorithm = null;
+			for (Digest digest : digests) {
+				digest = ensureDigestUniform(signatureAlgorithm, digest);
+				if (signature == null || (param != null && initializedDigestAlgorithm != digest.getAlgorithm())) {
+					param = initParameters(signatureAlgorithm, digest.getAlgorithm());
+					signature = initSignature(javaSignatureAlgorithm, param, keyEntry);
+					initializedDigestAlgorithm = digest.getAlgorithm();
+				}
+				signature.update(digest.getValue());
+
+				SignatureValue value = new SignatureValue();
+				value.setAlgorithm(getSignatureAlgorithm(signatureAlgorithm.getEncryptionAlgorithm(), digest.getAlgorithm()));
+				value.setValue(signature.sign());
+				signatureValues.add(value);
+			}
+		} catch (Exception e) {
+			throw new DSSException(String.format("Unable to sign digests : %s", e.getMessage()), e);
+		}
+		return signatureValues;
+	}
+
 	/**
 	 * This method ensures the digest value is provided in the correct format for signing according
 	 * to the given {@code signatureAlgorithm}
@@ -141,6 +182,13 @@ public abstract class AbstractSignatureTokenConnection implements SignatureToken
 
 	private byte[] sign(final byte[] bytes, final String javaSignatureAlgorithm, final AlgorithmParameterSpec param,
 						final DSSPrivateKeyEntry keyEntry) throws GeneralSecurityException {
+		final Signature signature = initSignature(javaSignatureAlgorithm, param, keyEntry);
+		signature.update(bytes);
+		return signature.sign();
+	}
+
+	private Signature initSignature(final String javaSignatureAlgorithm, final AlgorithmParameterSpec param,
+									final DSSPrivateKeyEntry keyEntry) throws GeneralSecurityException {
 		if (!(keyEntry instanceof DSSPrivateKeyAccessEntry)) {
 			throw new IllegalArgumentException("Only DSSPrivateKeyAccessEntry are supported");
 		}
@@ -150,8 +198,7 @@ public abstract class AbstractSignatureTokenConnection implements SignatureToken
 			signature.setParameter(param);
 		}
 		signature.initSign(((DSSPrivateKeyAccessEntry) keyEntry).getPrivateKey());
-		signature.update(bytes);
-		return signature.sign();
+		return signature;
 	}
 
 	/**
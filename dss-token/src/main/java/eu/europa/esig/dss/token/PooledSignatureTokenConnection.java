@@ -0,0 +1,446 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * <p>
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * <p>
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * <p>
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.token;
+
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
+import eu.europa.esig.dss.enumerations.SignatureAlgorithm;
+import eu.europa.esig.dss.model.DSSException;
+import eu.europa.esig.dss.model.Digest;
+import eu.europa.esig.dss.model.SignatureValue;
+import eu.europa.esig.dss.model.ToBeSigned;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.security.KeyStore;
+import java.security.KeyStoreException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Thread-safe token connection keeping a pool of independent sessions to the same token.
+ * <p>
+ * Each session is a separate {@code AbstractKeyStoreTokenConnection} (e.g. a {@code Pkcs11SignatureToken}
+ * with its own provider and login, or a {@code KeyStoreSignatureTokenConnection}) created by the given factory,
+ * with its private key entries resolved once on opening. Concurrent callers are served by different sessions,
+ * so the signing throughput scales with the number of sessions the token is able to process in parallel.
+ * <p>
+ * The key entries returned by this class may be used with any of the sessions: they are matched to
+ * the pre-resolved entries of the session performing the operation by their alias.
+ * <p>
+ * When an operation fails and the session does not pass the health check anymore, the session is closed,
+ * re-opened (i.e. logged-in again) through the factory and the operation is retried once.
+ * <p>
+ * NOTE: The factory shall return a new token connection on each call. The sessions are closed
+ * together with this object.
+ * <p>
+ * NOTE: The sessions are re-opened independently, thus each of them shall own its login state.
+ * With PKCS#11, the login is shared by all the sessions opened by the application to the same slot, and
+ * the provider is registered under a name derived from the configuration: closing a session
+ * (e.g. a {@code Pkcs11SignatureToken}, which logs out and removes its provider) would then also invalidate
+ * the other sessions. Therefore, the factory shall create each session with a distinct configuration
+ * (e.g. a dedicated slot, or a distinct provider name), otherwise a pool of a single session shall be used.
+ */
+public class PooledSignatureTokenConnection implements SignatureTokenConnection {
+
+	private static final Logger LOG = LoggerFactory.getLogger(PooledSignatureTokenConnection.class);
+
+	/** Creates a new session (token connection) on each call */
+	private final Supplier<? extends AbstractKeyStoreTokenConnection> sessionFactory;
+
+	/** The sessions available for the signing operations */
+	private final BlockingQueue<PooledSession> idleSessions;
+
+	/** Defines whether the connection has been closed */
+	private final AtomicBoolean closed = new AtomicBoolean(false);
+
+	/**
+	 * Verifies whether a session is still usable.
+	 * Default : NULL (the key store is accessible and contains a key entry resolved on the session's opening)
+	 */
+	private Predicate<AbstractKeyStoreTokenConnection> healthCheck;
+
+	/**
+	 * Defines whether the health check shall be executed on each session before its use.
+	 * Default : false (the health check is executed only when an operation fails)
+	 */
+	private boolean healthCheckOnBorrow = false;
+
+	/**
+	 * The maximum time in milliseconds to wait for an available session.
+	 * Default : -1 (waits until a session is available)
+	 */
+	private long borrowTimeout = -1;
+
+	/**
+	 * The constructor opening {@code poolSize} sessions using the given {@code sessionFactory}
+	 *
+	 * @param sessionFactory {@link Supplier} returning a new token connection on each call
+	 * @param poolSize the number of sessions to be opened
+	 */
+	public PooledSignatureTokenConnection(Supplier<? extends AbstractKeyStoreTokenConnection> sessionFactory, int poolSize) {
+		Objects.requireNonNull(sessionFactory, "Session factory cannot be null!");
+		if (poolSize < 1) {
+			throw new IllegalArgumentException("The pool size shall be a positive number!");
+		}
+		this.sessionFactory = sessionFactory;
+		this.idleSessions = new ArrayBlockingQueue<>(poolSize);
+
+		try {
+			for (int i = 0; i < poolSize; i++) {
+				PooledSession session = new PooledSession();
+				session.open();
+				idleSessions.add(session);
+			}
+		} catch (RuntimeException e) {
+			close();
+			throw e;
+		}
+	}
+
+	/**
+	 * Sets the health check verifying whether a session is still usable.
+	 * Default : NULL (the key store is accessible and contains a key entry resolved on the session's opening,
+	 * without extracting the private keys and certificate chains)
+	 *
+	 * @param healthCheck {@link Predicate} of {@link AbstractKeyStoreTokenConnection}
+	 */
+	public void setHealthCheck(Predicate<AbstractKeyStoreTokenConnection> healthCheck) {
+		this.healthCheck = healthCheck;
+	}
+
+	/**
+	 * Sets whether the health check shall be executed on each session before its use.
+	 * When enabled, unhealthy sessions are re-opened before processing an operation.
+	 * Default : false (the health check is executed only when an operation fails)
+	 *
+	 * @param healthCheckOnBorrow whether the health check shall be executed before each use of a session
+	 */
+	public void setHealthCheckOnBorrow(boolean healthCheckOnBorrow) {
+		this.healthCheckOnBorrow = healthCheckOnBorrow;
+	}
+
+	/**
+	 * Sets the maximum time in milliseconds to wait for an available session.
+	 * A negative value means waiting until a session becomes available.
+	 * Default : -1
+	 *
+	 * @param borrowTimeout the maximum waiting time in milliseconds
+	 */
+	public void setBorrowTimeout(long borrowTimeout) {
+		this.borrowTimeout = borrowTimeout;
+	}
+
+	/**
+	 * Gets the number of sessions currently available for signing operations
+	 *
+	 * @return the number of idle sessions
+	 */
+	public int getIdleSessionsNumber() {
+		return idleSessions.size();
+	}
+
+	/**
+	 * Executes the health check on all idle sessions and re-opens the ones which are not usable anymore.
+	 * This method may be called periodically in order to detect the session loss before a signing operation.
+	 *
+	 * @return the number of re-opened sessions
+	 */
+	public int checkHealth() {
+		assertNotClosed();
+		final List<PooledSession> sessions = new ArrayList<>();
+		idleSessions.drainTo(sessions);
+
+		int reopened = 0;
+		for (PooledSession session : sessions) {
+			try {
+				if (!session.isHealthy()) {
+					session.invalidate();
+					session.open();
+					reopened++;
+				}
+			} catch (Exception e) {
+				LOG.warn("Unable to re-open the token session : {}", e.getMessage(), e);
+			} finally {
+				release(session);
+			}
+		}
+		return reopened;
+	}
+
+	@Override
+	public List<DSSPrivateKeyEntry> getKeys() throws DSSException {
+		return execute(session -> new ArrayList<>(session.getKeys().values()));
+	}
+
+	/**
+	 * This method allows to retrieve a DSSPrivateKeyEntry by alias
+	 *
+	 * @param alias
+	 *            the expected entry alias
+	 *
+	 * @return the private key or null if the alias does not exist
+	 */
+	public DSSPrivateKeyEntry getKey(String alias) {
+		return execute(session -> session.getKey(alias));
+	}
+
+	@Override
+	public SignatureValue sign(ToBeSigned toBeSigned, DigestAlgorithm digestAlgorithm, DSSPrivateKeyEntry keyEntry)
+			throws DSSException {
+		return execute(session -> session.getToken().sign(toBeSigned, digestAlgorithm, session.resolveKey(keyEntry)));
+	}
+
+	@Override
+	public SignatureValue sign(ToBeSigned toBeSigned, SignatureAlgorithm signatureAlgorithm, DSSPrivateKeyEntry keyEntry)
+			throws DSSException {
+		return execute(session -> session.getToken().sign(toBeSigned, signatureAlgorithm, session.resolveKey(keyEntry)));
+	}
+
+	@Override
+	public SignatureValue signDigest(Digest digest, DSSPrivateKeyEntry keyEntry) throws DSSException {
+		return execute(session -> session.getToken().signDigest(digest, session.resolveKey(keyEntry)));
+	}
+
+	@Override
+	public SignatureValue signDigest(Digest digest, SignatureAlgorithm signatureAlgorithm, DSSPrivateKeyEntry keyEntry)
+			throws DSSException {
+		return execute(session -> session.getToken().signDigest(digest, signatureAlgorithm, session.resolveKey(keyEntry)));
+	}
+
+	@Override
+	public List<SignatureValue> signDigests(List<Digest> digests, SignatureAlgorithm signatureAlgorithm, DSSPrivateKeyEntry keyEntry)
+			throws DSSException {
+		return execute(session -> session.getToken().signDigests(digests, signatureAlgorithm, session.resolveKey(keyEntry)));
+	}
+
+	/**
+	 * Executes the {@code operation} within an available session. When the operation fails because of
+	 * a session loss, the session is re-opened and the operation is executed once again.
+	 *
+	 * @param operation {@link Function} to be executed within a session
+	 * @param <T> the result type
+	 * @return the operation's result
+	 */
+	private <T> T execute(Function<PooledSession, T> operation) {
+		final PooledSession session = borrow();
+		try {
+			try {
+				return operation.apply(session);
+			} catch (DSSException e) {
+				if (session.isHealthy()) {
+					throw e;
+				}
+				LOG.warn("The token session is lost ({}). Re-opening the session and retrying the operation.", e.getMessage());
+				session.invalidate();
+				return operation.apply(session);
+			}
+		} finally {
+			release(session);
+		}
+	}
+
+	private PooledSession borrow() {
+		assertNotClosed();
+		final PooledSession session;
+		try {
+			if (borrowTimeout < 0) {
+				session = idleSessions.take();
+			} else {
+				session = idleSessions.poll(borrowTimeout, TimeUnit.MILLISECONDS);
+				if (session == null) {
+					throw new DSSException(String.format("No token session has been available within %s ms!", borrowTimeout));
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new DSSException("Interrupted while waiting for a token session", e);
+		}
+
+		if (closed.get()) {
+			release(session);
+			throw new DSSException("The token connection is closed!");
+		}
+		if (healthCheckOnBorrow && session.isOpened() && !session.isHealthy()) {
+			LOG.warn("The token session did not pass the health check. The session will be re-opened.");
+			session.invalidate();
+		}
+		return session;
+	}
+
+	private void release(PooledSession session) {
+		if (closed.get()) {
+			session.invalidate();
+			return;
+		}
+		idleSessions.add(session);
+		// the connection may have been closed concurrently
+		if (closed.get() && idleSessions.remove(session)) {
+			session.invalidate();
+		}
+	}
+
+	private void assertNotClosed() {
+		if (closed.get()) {
+			throw new DSSException("The token connection is closed!");
+		}
+	}
+
+	@Override
+	public void close() {
+		closed.set(true);
+		final List<PooledSession> sessions = new ArrayList<>();
+		idleSessions.drainTo(sessions);
+		for (PooledSession session : sessions) {
+			session.invalidate();
+		}
+	}
+
+	/**
+	 * A session to the token with its pre-resolved private key entries.
+	 * A session is used by a single thread at a time.
+	 */
+	private final class PooledSession {
+
+		/** The token connection, null when the session is not opened */
+		private AbstractKeyStoreTokenConnection token;
+
+		/** The private key entries resolved on the session's opening, by alias */
+		private Map<String, DSSPrivateKeyEntry> keys;
+
+		private void open() {
+			final AbstractKeyStoreTokenConnection newToken = sessionFactory.get();
+			Objects.requireNonNull(newToken, "The session factory returned a null token connection!");
+			try {
+				final Map<String, DSSPrivateKeyEntry> newKeys = new LinkedHashMap<>();
+				for (DSSPrivateKeyEntry keyEntry : newToken.getKeys()) {
+					newKeys.put(getAlias(keyEntry), keyEntry);
+				}
+				this.keys = newKeys;
+				this.token = newToken;
+			} catch (RuntimeException e) {
+				closeQuietly(newToken);
+				throw e;
+			}
+		}
+
+		private boolean isOpened() {
+			return token != null;
+		}
+
+		private AbstractKeyStoreTokenConnection getToken() {
+			if (token == null) {
+				open();
+			}
+			return token;
+		}
+
+		private Map<String, DSSPrivateKeyEntry> getKeys() {
+			getToken();
+			return keys;
+		}
+
+		private DSSPrivateKeyEntry getKey(String alias) {
+			DSSPrivateKeyEntry keyEntry = getKeys().get(alias);
+			if (keyEntry == null) {
+				keyEntry = token.getKey(alias);
+				if (keyEntry != null) {
+					keys.put(alias, keyEntry);
+				}
+			}
+			return keyEntry;
+		}
+
+		private DSSPrivateKeyEntry resolveKey(DSSPrivateKeyEntry keyEntry) {
+			Objects.requireNonNull(keyEntry, "keyEntry shall be provided.");
+			final DSSPrivateKeyEntry sessionKeyEntry = getKey(getAlias(keyEntry));
+			if (sessionKeyEntry == null) {
+				throw new DSSException(String.format("The key with alias '%s' is not found in the token session!",
+						getAlias(keyEntry)));
+			}
+			return sessionKeyEntry;
+		}
+
+		private String getAlias(DSSPrivateKeyEntry keyEntry) {
+			if (!(keyEntry instanceof KSPrivateKeyEntry)) {
+				throw new IllegalArgumentException("Only KSPrivateKeyEntry are supported");
+			}
+			return ((KSPrivateKeyEntry) keyEntry).getAlias();
+		}
+
+		private boolean isHealthy() {
+			if (token == null) {
+				return false;
+			}
+			try {
+				if (healthCheck != null) {
+					return healthCheck.test(token);
+				}
+				return isKeyStoreAccessible();
+			} catch (Exception e) {
+				LOG.debug("The token session did not pass the health check : {}", e.getMessage(), e);
+				return false;
+			}
+		}
+
+		/**
+		 * Probes the token by loading its key store and looking up a single alias resolved on opening
+		 *
+		 * @return TRUE if the key store is accessible and contains the alias, FALSE otherwise
+		 * @throws KeyStoreException if the key store is not initialized
+		 */
+		private boolean isKeyStoreAccessible() throws KeyStoreException {
+			final KeyStore keyStore = token.getKeyStore();
+			if (keys.isEmpty()) {
+				// no alias to look up, the key store has been loaded
+				return true;
+			}
+			return keyStore.containsAlias(keys.keySet().iterator().next());
+		}
+
+		private void invalidate() {
+			if (token != null) {
+				closeQuietly(token);
+				token = null;
+				keys = null;
+			}
+		}
+
+		private void closeQuietly(AbstractKeyStoreTokenConnection tokenConnection) {
+			try {
+				tokenConnection.close();
+			} catch (Exception e) {
+				LOG.warn("Unable to close the token session : {}", e.getMessage(), e);
+			}
+		}
+
+	}
+
+}
@@ -27,7 +27,9 @@ import eu.europa.esig.dss.model.Digest;
 import eu.europa.esig.dss.model.SignatureValue;
 import eu.europa.esig.dss.model.ToBeSigned;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * Connection through available API to the QSCD (SmartCard, MSCAPI, PKCS#12)
@@ -112,4 +114,34 @@ public interface SignatureTokenConnection extends AutoCloseable {
 	 */
 	SignatureValue signDigest(Digest digest, SignatureAlgorithm signatureAlgorithm, DSSPrivateKeyEntry keyEntry) throws DSSException;
 
+	/**
+	 *
+	 * This method signs the given list of {@code digests} with the pre-defined {@code signatureAlgorithm} and
+	 * the given {@code keyEntry}. The implementation may re-use the same key session for all the digests
+	 * within the batch. The returned signature values follow the order of the provided digests.
+	 * <p>
+	 * The default implementation signs the digests one by one using
+	 * {@code signDigest(digest, signatureAlgorithm, keyEntry)}.
+	 *
+	 * @param digests
+	 *                 The list of digested data that need to be signed
+	 * @param signatureAlgorithm
+	 *                 The signature algorithm
+	 * @param keyEntry
+	 *                 The private key to be used
+	 * @return a list of signature value representations with the used algorithm and the
+	 *         binary value
+	 * @throws DSSException
+	 *                      If there is any problem during the signature process
+	 */
+	default List<SignatureValue> signDigests(List<Digest> digests, SignatureAlgorithm signatureAlgorithm,
+											 DSSPrivateKeyEntry keyEntry) throws DSSException {
+		Objects.requireNonNull(digests, "List of digests shall be provided.");
+		final List<SignatureValue> signatureValues = new ArrayList<>(digests.size());
+		for (Digest digest : digests) {
+			signatureValues.add(signDigest(digest, signatureAlgorithm, keyEntry));
+		}
+		return signatureValues;
+	}
+
 }
@@ -0,0 +1,279 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * <p>
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * <p>
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * <p>
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.token;
+
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
+import eu.europa.esig.dss.enumerations.SignatureAlgorithm;
+import eu.europa.esig.dss.model.DSSException;
+import eu.europa.esig.dss.model.Digest;
+import eu.europa.esig.dss.model.SignatureValue;
+import eu.europa.esig.dss.model.ToBeSigned;
+import eu.europa.esig.dss.spi.DSSUtils;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyStore;
+import java.security.KeyStore.PasswordProtection;
+import java.security.NoSuchAlgorithmException;
+import java.security.Signature;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PooledSignatureTokenConnectionTest {
+
+	private static final File KEYSTORE = new File("src/test/resources/user_a_rsa.p12");
+
+	private final List<BreakableToken> createdTokens = Collections.synchronizedList(new ArrayList<>());
+
+	@Test
+	void concurrentSigningTest() throws Exception {
+		try (PooledSignatureTokenConnection pooledToken = new PooledSignatureTokenConnection(this::createToken, 4);
+			 Pkcs12SignatureToken referenceToken = new Pkcs12SignatureToken(KEYSTORE, new PasswordProtection("password".toCharArray()))) {
+			assertEquals(4, createdTokens.size());
+			assertEquals(4, pooledToken.getIdleSessionsNumber());
+
+			List<DSSPrivateKeyEntry> keys = pooledToken.getKeys();
+			assertEquals(1, keys.size());
+			DSSPrivateKeyEntry keyEntry = keys.get(0);
+
+			ExecutorService executorService = Executors.newFixedThreadPool(8);
+			try {
+				List<ToBeSigned> toBeSignedList = new ArrayList<>();
+				List<Future<SignatureValue>> futures = new ArrayList<>();
+				for (int i = 0; i < 50; i++) {
+					ToBeSigned toBeSigned = new ToBeSigned(("Hello world " + i).getBytes(StandardCharsets.UTF_8));
+					toBeSignedList.add(toBeSigned);
+					futures.add(executorService.submit(() -> pooledToken.sign(toBeSigned, DigestAlgorithm.SHA256, keyEntry)));
+				}
+
+				DSSPrivateKeyEntry referenceKeyEntry = referenceToken.getKeys().get(0);
+				for (int i = 0; i < futures.size(); i++) {
+					SignatureValue signatureValue = futures.get(i).get();
+					assertEquals(SignatureAlgorithm.RSA_SHA256, signatureValue.getAlgorithm());
+					SignatureValue referenceSignatureValue = referenceToken.sign(toBeSignedList.get(i), DigestAlgorithm.SHA256, referenceKeyEntry);
+					assertArrayEquals(referenceSignatureValue.getValue(), signatureValue.getValue());
+				}
+			} finally {
+				executorService.shutdown();
+			}
+
+			// no additional session has been opened
+			assertEquals(4, createdTokens.size());
+			assertEquals(4, pooledToken.getIdleSessionsNumber());
+		}
+	}
+
+	@Test
+	void signDigestsTest() throws Exception {
+		try (PooledSignatureTokenConnection pooledToken = new PooledSignatureTokenConnection(this::createToken, 2)) {
+			DSSPrivateKeyEntry keyEntry = pooledToken.getKey("certificate");
+			assertNotNull(keyEntry);
+
+			byte[] data = "Hello world".getBytes(StandardCharsets.UTF_8);
+			Digest digest = new Digest(DigestAlgorithm.SHA256, DSSUtils.digest(DigestAlgorithm.SHA256, data));
+			List<SignatureValue> signatureValues = pooledToken.signDigests(
+					Collections.nCopies(3, digest), SignatureAlgorithm.RSA_SHA256, keyEntry);
+			assertEquals(3, signatureValues.size());
+			for (SignatureValue signatureValue : signatureValues) {
+				Signature signature = Signature.getInstance(signatureValue.getAlgorithm().getJCEId());
+				signature.initVerify(keyEntry.getCertificate().getPublicKey());
+				signature.update(data);
+				assertTrue(signature.verify(signatureValue.getValue()));
+			}
+		}
+	}
+
+	@Test
+	void reLoginOnSessionLossTest() {
+		try (PooledSignatureTokenConnection pooledToken = new PooledSignatureTokenConnection(this::createToken, 1)) {
+			DSSPrivateKeyEntry keyEntry = pooledToken.getKeys().get(0);
+			ToBeSigned toBeSigned = new ToBeSigned("Hello world".getBytes(StandardCharsets.UTF_8));
+
+			assertNotNull(pooledToken.sign(toBeSigned, DigestAlgorithm.SHA256, keyEntry));
+			assertEquals(1, createdTokens.size());
+
+			createdTokens.get(0).broken = true;
+
+			SignatureValue signatureValue = pooledToken.sign(toBeSigned, DigestAlgorithm.SHA256, keyEntry);
+			assertNotNull(signatureValue);
+			assertEquals(2, createdTokens.size());
+			assertTrue(createdTokens.get(0).closed);
+			assertFalse(createdTokens.get(1).closed);
+		}
+	}
+
+	@Test
+	void healthyFailureNotRetriedTest() {
+		try (PooledSignatureTokenConnection pooledToken = new PooledSignatureTokenConnection(this::createToken, 1)) {
+			DSSPrivateKeyEntry keyEntry = pooledToken.getKeys().get(0);
+			Digest digest = new Digest(DigestAlgorithm.SHA256, DSSUtils.digest(DigestAlgorithm.SHA256, new byte[] { 1, 2, 3 }));
+
+			assertThrows(IllegalArgumentException.class, () -> pooledToken.signDigest(digest, SignatureAlgorithm.RSA_SHA512, keyEntry));
+
+			createdTokens.get(0).failSigning = true;
+			assertThrows(DSSException.class, () -> pooledToken.signDigest(digest, SignatureAlgorithm.RSA_SHA256, keyEntry));
+
+			// the session is healthy, thus has not been re-opened
+			assertEquals(1, createdTokens.size());
+			assertEquals(1, pooledToken.getIdleSessionsNumber());
+		}
+	}
+
+	@Test
+	void checkHealthTest() {
+		try (PooledSignatureTokenConnection pooledToken = new PooledSignatureTokenConnection(this::createToken, 3)) {
+			assertEquals(0, pooledToken.checkHealth());
+
+			createdTokens.get(1).broken = true;
+			assertEquals(1, pooledToken.checkHealth());
+			assertEquals(4, createdTokens.size());
+			assertTrue(createdTokens.get(1).closed);
+			assertEquals(3, pooledToken.getIdleSessionsNumber());
+
+			assertEquals(0, pooledToken.checkHealth());
+		}
+	}
+
+	@Test
+	void defaultHealthCheckTest() {
+		try (PooledSignatureTokenConnection pooledToken = new PooledSignatureTokenConnection(this::createToken, 2)) {
+			assertEquals(0, pooledToken.checkHealth());
+			// the key entries are not extracted again by the default probe
+			for (BreakableToken token : createdTokens) {
+				assertEquals(1, token.getKeysCalls);
+			}
+
+			pooledToken.setHealthCheck(token -> !((BreakableToken) token).failSigning);
+			createdTokens.get(0).failSigning = true;
+			assertEquals(1, pooledToken.checkHealth());
+			assertEquals(3, createdTokens.size());
+
+			pooledToken.setHealthCheck(null);
+			createdTokens.get(1).broken = true;
+			assertEquals(1, pooledToken.checkHealth());
+			assertEquals(4, createdTokens.size());
+		}
+	}
+
+	@Test
+	void healthCheckOnBorrowTest() {
+		try (PooledSignatureTokenConnection pooledToken = new PooledSignatureTokenConnection(this::createToken, 1)) {
+			pooledToken.setHealthCheckOnBorrow(true);
+
+			createdTokens.get(0).broken = true;
+			assertEquals(1, pooledToken.getKeys().size());
+			assertEquals(2, createdTokens.size());
+			assertTrue(createdTokens.get(0).closed);
+		}
+	}
+
+	@Test
+	void closeTest() {
+		PooledSignatureTokenConnection pooledToken = new PooledSignatureTokenConnection(this::createToken, 2);
+		DSSPrivateKeyEntry keyEntry = pooledToken.getKeys().get(0);
+		pooledToken.close();
+
+		for (BreakableToken token : createdTokens) {
+			assertTrue(token.closed);
+		}
+		assertEquals(0, pooledToken.getIdleSessionsNumber());
+
+		ToBeSigned toBeSigned = new ToBeSigned("Hello world".getBytes(StandardCharsets.UTF_8));
+		Exception exception = assertThrows(DSSException.class, () -> pooledToken.sign(toBeSigned, DigestAlgorithm.SHA256, keyEntry));
+		assertEquals("The token connection is closed!", exception.getMessage());
+	}
+
+	@Test
+	void invalidConfigurationTest() {
+		assertThrows(NullPointerException.class, () -> new PooledSignatureTokenConnection(null, 1));
+		assertThrows(IllegalArgumentException.class, () -> new PooledSignatureTokenConnection(this::createToken, 0));
+	}
+
+	private BreakableToken createToken() {
+		try {
+			BreakableToken token = new BreakableToken();
+			createdTokens.add(token);
+			return token;
+		} catch (IOException e) {
+			throw new DSSException(e);
+		}
+	}
+
+	private static class BreakableToken extends Pkcs12SignatureToken {
+
+		/** Simulates a session loss */
+		private volatile boolean broken;
+
+		/** Simulates a signing failure within a valid session */
+		private volatile boolean failSigning;
+
+		private volatile boolean closed;
+
+		private volatile int getKeysCalls;
+
+		BreakableToken() throws IOException {
+			super(KEYSTORE, new PasswordProtection("password".toCharArray()));
+		}
+
+		@Override
+		public List<DSSPrivateKeyEntry> getKeys() {
+			getKeysCalls++;
+			return super.getKeys();
+		}
+
+		@Override
+		protected KeyStore getKeyStore() {
+			if (broken) {
+				throw new DSSException("Session lost");
+			}
+			return super.getKeyStore();
+		}
+
+		@Override
+		protected Signature getSignatureInstance(String javaSignatureAlgorithm) throws NoSuchAlgorithmException {
+			if (broken || failSigning) {
+				throw new NoSuchAlgorithmException("Session unavailable");
+			}
+			return super.getSignatureInstance(javaSignatureAlgorithm);
+		}
+
+		@Override
+		public void close() {
+			closed = true;
+			super.close();
+		}
+
+	}
+
+}
@@ -0,0 +1,218 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * <p>
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * <p>
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * <p>
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.token;
+
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
+import eu.europa.esig.dss.enumerations.EncryptionAlgorithm;
+import eu.europa.esig.dss.enumerations.SignatureAlgorithm;
+import eu.europa.esig.dss.model.Digest;
+import eu.europa.esig.dss.model.SignatureValue;
+import eu.europa.esig.dss.model.ToBeSigned;
+import eu.europa.esig.dss.spi.DSSSecurityProvider;
+import eu.europa.esig.dss.spi.DSSUtils;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyStore.PasswordProtection;
+import java.security.Security;
+import java.security.Signature;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SignDigestsTest {
+
+	static {
+		Security.addProvider(DSSSecurityProvider.getSecurityProvider());
+	}
+
+	@Test
+	void testRSA() throws IOException {
+		try (Pkcs12SignatureToken signatureToken = new Pkcs12SignatureToken("src/test/resources/user_a_rsa.p12",
+				new PasswordProtection("password".toCharArray()))) {
+			DSSPrivateKeyEntry entry = signatureToken.getKeys().get(0);
+
+			List<byte[]> dataToSign = getDataToSign();
+			List<Digest> digests = new ArrayList<>();
+			for (byte[] data : dataToSign) {
+				digests.add(new Digest(DigestAlgorithm.SHA256, DSSUtils.digest(DigestAlgorithm.SHA256, data)));
+			}
+
+			List<SignatureValue> signatureValues = signatureToken.signDigests(digests, SignatureAlgorithm.RSA_SHA256, entry);
+			assertEquals(digests.size(), signatureValues.size());
+			for (int i = 0; i < digests.size(); i++) {
+				SignatureValue signatureValue = signatureValues.get(i);
+				assertEquals(SignatureAlgorithm.RSA_SHA256, signatureValue.getAlgorithm());
+				// RSA PKCS#1 v1.5 signatures are deterministic
+				SignatureValue singleSignatureValue = signatureToken.signDigest(digests.get(i), SignatureAlgorithm.RSA_SHA256, entry);
+				assertArrayEquals(singleSignatureValue.getValue(), signatureValue.getValue());
+				assertTrue(verify(signatureValue, entry, dataToSign.get(i)));
+			}
+		}
+	}
+
+	@Test
+	void testRSASSAPSSWithDifferentDigestAlgorithms() throws IOException {
+		try (Pkcs12SignatureToken signatureToken = new Pkcs12SignatureToken("src/test/resources/user_a_rsa.p12",
+				new PasswordProtection("password".toCharArray()))) {
+			DSSPrivateKeyEntry entry = signatureToken.getKeys().get(0);
+
+			List<byte[]> dataToSign = getDataToSign();
+			List<DigestAlgorithm> digestAlgorithms = Arrays.asList(DigestAlgorithm.SHA256, DigestAlgorithm.SHA256,
+					DigestAlgorithm.SHA512, DigestAlgorithm.SHA384);
+			List<Digest> digests = new ArrayList<>();
+			for (int i = 0; i < dataToSign.size(); i++) {
+				DigestAlgorithm digestAlgorithm = digestAlgorithms.get(i);
+				digests.add(new Digest(digestAlgorithm, DSSUtils.digest(digestAlgorithm, dataToSign.get(i))));
+			}
+
+			SignatureAlgorithm rawSignatureAlgorithm = SignatureAlgorithm.getAlgorithm(EncryptionAlgorithm.RSASSA_PSS, null);
+			List<SignatureValue> signatureValues = signatureToken.signDigests(digests, rawSignatureAlgorithm, entry);
+			assertEquals(digests.size(), signatureValues.size());
+			for (int i = 0; i < digests.size(); i++) {
+				SignatureValue signatureValue = signatureValues.get(i);
+				assertEquals(SignatureAlgorithm.getAlgorithm(EncryptionAlgorithm.RSASSA_PSS, digestAlgorithms.get(i)),
+						signatureValue.getAlgorithm());
+				assertTrue(verify(signatureValue, entry, dataToSign.get(i)));
+			}
+		}
+	}
+
+	@Test
+	void testDefaultImplementation() throws IOException {
+		try (Pkcs12SignatureToken signatureToken = new Pkcs12SignatureToken("src/test/resources/user_a_rsa.p12",
+				new PasswordProtection("password".toCharArray()))) {
+			DSSPrivateKeyEntry entry = signatureToken.getKeys().get(0);
+			SignatureTokenConnection delegatingToken = new DelegatingSignatureTokenConnection(signatureToken);
+
+			List<byte[]> dataToSign = getDataToSign();
+			List<Digest> digests = new ArrayList<>();
+			for (byte[] data : dataToSign) {
+				digests.add(new Digest(DigestAlgorithm.SHA256, DSSUtils.digest(DigestAlgorithm.SHA256, data)));
+			}
+
+			List<SignatureValue> signatureValues = delegatingToken.signDigests(digests, SignatureAlgorithm.RSA_SHA256, entry);
+			List<SignatureValue> batchSignatureValues = signatureToken.signDigests(digests, SignatureAlgorithm.RSA_SHA256, entry);
+			assertEquals(digests.size(), signatureValues.size());
+			for (int i = 0; i < digests.size(); i++) {
+				assertEquals(SignatureAlgorithm.RSA_SHA256, signatureValues.get(i).getAlgorithm());
+				assertArrayEquals(batchSignatureValues.get(i).getValue(), signatureValues.get(i).getValue());
+				assertTrue(verify(signatureValues.get(i), entry, dataToSign.get(i)));
+			}
+		}
+	}
+
+	@Test
+	void testEmptyList() throws IOException {
+		try (Pkcs12SignatureToken signatureToken = new Pkcs12SignatureToken("src/test/resources/user_a_rsa.p12",
+				new PasswordProtection("password".toCharArray()))) {
+			DSSPrivateKeyEntry entry = signatureToken.getKeys().get(0);
+			assertEquals(0, signatureToken.signDigests(Collections.emptyList(), SignatureAlgorithm.RSA_SHA256, entry).size());
+		}
+	}
+
+	@Test
+	void testDigestAlgorithmMismatch() throws IOException {
+		try (Pkcs12SignatureToken signatureToken = new Pkcs12SignatureToken("src/test/resources/user_a_rsa.p12",
+				new PasswordProtection("password".toCharArray()))) {
+			DSSPrivateKeyEntry entry = signatureToken.getKeys().get(0);
+
+			byte[] data = "Hello world".getBytes(StandardCharsets.UTF_8);
+			List<Digest> digests = Arrays.asList(
+					new Digest(DigestAlgorithm.SHA256, DSSUtils.digest(DigestAlgorithm.SHA256, data)),
+					new Digest(DigestAlgorithm.SHA512, DSSUtils.digest(DigestAlgorithm.SHA512, data)));
+
+			Exception exception = assertThrows(IllegalArgumentException.class,
+					() -> signatureToken.signDigests(digests, SignatureAlgorithm.RSA_SHA256, entry));
+			assertEquals("The DigestAlgorithm 'SHA256' provided withing a SignatureAlgorithm does not match " +
+					"the one used to compute the Digest : 'SHA512'!", exception.getMessage());
+		}
+	}
+
+	private static class DelegatingSignatureTokenConnection implements SignatureTokenConnection {
+
+		private final SignatureTokenConnection token;
+
+		private DelegatingSignatureTokenConnection(SignatureTokenConnection token) {
+			this.token = token;
+		}
+
+		@Override
+		public void close() {
+			token.close();
+		}
+
+		@Override
+		public List<DSSPrivateKeyEntry> getKeys() {
+			return token.getKeys();
+		}
+
+		@Override
+		public SignatureValue sign(ToBeSigned toBeSigned, DigestAlgorithm digestAlgorithm, DSSPrivateKeyEntry keyEntry) {
+			return token.sign(toBeSigned, digestAlgorithm, keyEntry);
+		}
+
+		@Override
+		public SignatureValue sign(ToBeSigned toBeSigned, SignatureAlgorithm signatureAlgorithm, DSSPrivateKeyEntry keyEntry) {
+			return token.sign(toBeSigned, signatureAlgorithm, keyEntry);
+		}
+
+		@Override
+		public SignatureValue signDigest(Digest digest, DSSPrivateKeyEntry keyEntry) {
+			return token.signDigest(digest, keyEntry);
+		}
+
+		@Override
+		public SignatureValue signDigest(Digest digest, SignatureAlgorithm signatureAlgorithm, DSSPrivateKeyEntry keyEntry) {
+			return token.signDigest(digest, signatureAlgorithm, keyEntry);
+		}
+
+	}
+
+	private List<byte[]> getDataToSign() {
+		return Arrays.asList(
+				"Hello world".getBytes(StandardCharsets.UTF_8),
+				"Bye world".getBytes(StandardCharsets.UTF_8),
+				"Hello again".getBytes(StandardCharsets.UTF_8),
+				"Bye again".getBytes(StandardCharsets.UTF_8));
+	}
+
+	private boolean verify(SignatureValue signatureValue, DSSPrivateKeyEntry entry, byte[] data) {
+		try {
+			Signature sig = Signature.getInstance(signatureValue.getAlgorithm().getJCEId(),
+					DSSSecurityProvider.getSecurityProviderName());
+			sig.initVerify(entry.getCertificate().getPublicKey());
+			sig.update(data);
+			return sig.verify(signatureValue.getValue());
+		} catch (GeneralSecurityException e) {
+			return false;
+		}
+	}
+
+}
@@ -94,4 +94,13 @@ public final class CacheAccessFactory {
 		return new DebugCacheAccess(downloadCache, parsingCache, validationCache);
 	}
 
+	/**
+	 * Loads a cache access to export or restore the cache content
+	 *
+	 * @return {@link PersistenceCacheAccess}
+	 */
+	public PersistenceCacheAccess getPersistenceCacheAccess() {
+		return new PersistenceCacheAccess(downloadCache, parsingCache, validationCache);
+	}
+
 }
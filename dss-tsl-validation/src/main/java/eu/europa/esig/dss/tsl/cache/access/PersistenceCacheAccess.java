@@ -0,0 +1,88 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * <p>
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * <p>
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * <p>
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.tsl.cache.access;
+
+import eu.europa.esig.dss.spi.DSSUtils;
+import eu.europa.esig.dss.tsl.cache.CacheKey;
+import eu.europa.esig.dss.tsl.cache.DownloadCache;
+import eu.europa.esig.dss.tsl.cache.ParsingCache;
+import eu.europa.esig.dss.tsl.cache.ValidationCache;
+import eu.europa.esig.dss.tsl.cache.persistence.PersistedCacheEntry;
+import eu.europa.esig.dss.tsl.cache.state.CachedEntry;
+import eu.europa.esig.dss.tsl.download.XmlDownloadResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Exports the downloaded documents in order to be persisted between restarts of the application
+ */
+public class PersistenceCacheAccess extends ReadOnlyCacheAccess {
+
+	private static final Logger LOG = LoggerFactory.getLogger(PersistenceCacheAccess.class);
+
+	/**
+	 * Default constructor
+	 *
+	 * @param downloadCache {@link DownloadCache}
+	 * @param parsingCache {@link ParsingCache}
+	 * @param validationCache {@link ValidationCache}
+	 */
+	public PersistenceCacheAccess(final DownloadCache downloadCache, final ParsingCache parsingCache,
+								  final ValidationCache validationCache) {
+		super(downloadCache, parsingCache, validationCache);
+	}
+
+	/**
+	 * Exports the binaries of the downloaded documents, to be persisted
+	 *
+	 * @return a list of {@link PersistedCacheEntry}s
+	 */
+	public List<PersistedCacheEntry> getPersistedCacheEntries() {
+		List<PersistedCacheEntry> entries = new ArrayList<>();
+		for (CacheKey key : getAllCacheKeys()) {
+			CachedEntry<XmlDownloadResult> downloadEntry = downloadCache.get(key);
+			if (downloadEntry.isEmpty() || downloadEntry.isToBeDeleted()) {
+				LOG.trace("No downloaded document to be persisted for the key [{}]", key);
+				continue;
+			}
+			try {
+				byte[] binaries = DSSUtils.toByteArray(downloadEntry.getCachedResult().getDSSDocument());
+				entries.add(new PersistedCacheEntry(key.getKey(), binaries));
+			} catch (Exception e) {
+				LOG.warn("Unable to read the downloaded document with the key [{}] to be persisted : {}", key, e.getMessage());
+			}
+		}
+		return entries;
+	}
+
+	/**
+	 * Checks whether the caches do not contain any entry
+	 *
+	 * @return TRUE if the caches are empty, FALSE otherwise
+	 */
+	public boolean isEmpty() {
+		return getAllCacheKeys().isEmpty();
+	}
+
+}
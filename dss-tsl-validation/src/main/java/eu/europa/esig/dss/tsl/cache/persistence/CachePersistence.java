@@ -0,0 +1,45 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * <p>
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * <p>
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * <p>
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.tsl.cache.persistence;
+
+import java.util.Collection;
+
+/**
+ * Defines a backend used to persist the TL/LOTL caches between restarts of the application
+ *
+ */
+public interface CachePersistence {
+
+	/**
+	 * Stores the given cache entries, replacing any previously stored content
+	 *
+	 * @param entries a collection of {@link PersistedCacheEntry}s
+	 */
+	void store(Collection<PersistedCacheEntry> entries);
+
+	/**
+	 * Loads the previously stored cache entries
+	 *
+	 * @return a collection of {@link PersistedCacheEntry}s, empty if nothing has been stored
+	 */
+	Collection<PersistedCacheEntry> load();
+
+}
@@ -0,0 +1,168 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * <p>
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * <p>
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * <p>
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.tsl.cache.persistence;
+
+import eu.europa.esig.dss.model.DSSException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * The default {@code CachePersistence} storing the cache entries within a single local GZIP-compressed file.
+ * <p>
+ * The file contains only the binaries of the downloaded LOTL/TL documents, with the following encoding:
+ * <pre>
+ * magic ("DSSTLC") | format version (int) | number of entries (int)
+ * for each entry : cache key (modified UTF-8) | binaries length (int) | binaries
+ * </pre>
+ * The documents are parsed and validated again on restoring (see {@code TLValidationJob#restoreCache()}),
+ * so no parsing or validation result is read from the file.
+ * <p>
+ * NOTE: the file is written to a temporary file first and then moved, in order to never expose
+ * a partially written content. A file with an unknown format version is ignored.
+ *
+ */
+public class FileCachePersistence implements CachePersistence {
+
+	private static final Logger LOG = LoggerFactory.getLogger(FileCachePersistence.class);
+
+	/**
+	 * The magic string starting the file
+	 */
+	private static final String MAGIC = "DSSTLC";
+
+	/**
+	 * The current version of the file format
+	 */
+	private static final int VERSION = 1;
+
+	/**
+	 * The maximum accepted size of a single document (64 MB), in order to not allocate
+	 * an unreasonable amount of memory when reading a corrupted file
+	 */
+	private static final int MAX_DOCUMENT_SIZE = 64 * 1024 * 1024;
+
+	/**
+	 * The file to store the cache entries to
+	 */
+	private final File file;
+
+	/**
+	 * Default constructor
+	 *
+	 * @param file {@link File} to store the cache entries to
+	 */
+	public FileCachePersistence(final File file) {
+		Objects.requireNonNull(file, "The file cannot be null!");
+		this.file = file;
+	}
+
+	@Override
+	public synchronized void store(Collection<PersistedCacheEntry> entries) {
+		Objects.requireNonNull(entries, "The entries cannot be null!");
+		File tempFile = null;
+		try {
+			File parentDirectory = file.getAbsoluteFile().getParentFile();
+			if (parentDirectory != null && !parentDirectory.exists() && !parentDirectory.mkdirs()) {
+				throw new DSSException(String.format("Unable to create the directory '%s'", parentDirectory));
+			}
+			tempFile = File.createTempFile(file.getName(), ".tmp", parentDirectory);
+			try (DataOutputStream dos = new DataOutputStream(new GZIPOutputStream(
+					new BufferedOutputStream(Files.newOutputStream(tempFile.toPath()))))) {
+				dos.writeUTF(MAGIC);
+				dos.writeInt(VERSION);
+				dos.writeInt(entries.size());
+				for (PersistedCacheEntry entry : entries) {
+					dos.writeUTF(entry.getKey());
+					dos.writeInt(entry.getBinaries().length);
+					dos.write(entry.getBinaries());
+				}
+			}
+			Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			LOG.debug("{} cache entries have been stored to the file '{}'", entries.size(), file);
+
+		} catch (IOException e) {
+			throw new DSSException(String.format("Unable to store the cache entries to the file '%s'. Reason : %s", file, e.getMessage()), e);
+
+		} finally {
+			if (tempFile != null && tempFile.exists() && !tempFile.delete()) {
+				LOG.warn("Unable to delete the temporary file '{}'", tempFile);
+			}
+		}
+	}
+
+	@Override
+	public synchronized Collection<PersistedCacheEntry> load() {
+		if (!file.exists()) {
+			LOG.debug("The file '{}' does not exist. No cache entry to be loaded.", file);
+			return Collections.emptyList();
+		}
+		try (DataInputStream dis = new DataInputStream(new GZIPInputStream(
+				new BufferedInputStream(Files.newInputStream(file.toPath()))))) {
+			if (!MAGIC.equals(dis.readUTF())) {
+				throw new IOException("The file is not a TL cache file");
+			}
+			int version = dis.readInt();
+			if (VERSION != version) {
+				LOG.warn("Unsupported format version '{}' of the file '{}'. The cache entries are not loaded.", version, file);
+				return Collections.emptyList();
+			}
+			int nbEntries = dis.readInt();
+			if (nbEntries < 0) {
+				throw new IOException(String.format("Invalid number of entries : %s", nbEntries));
+			}
+			List<PersistedCacheEntry> entries = new ArrayList<>();
+			for (int i = 0; i < nbEntries; i++) {
+				String key = dis.readUTF();
+				int length = dis.readInt();
+				if (length < 0 || length > MAX_DOCUMENT_SIZE) {
+					throw new IOException(String.format("Invalid document length : %s", length));
+				}
+				byte[] binaries = new byte[length];
+				dis.readFully(binaries);
+				entries.add(new PersistedCacheEntry(key, binaries));
+			}
+			LOG.debug("{} cache entries have been loaded from the file '{}'", entries.size(), file);
+			return entries;
+
+		} catch (IOException e) {
+			// a corrupted or incompatible file shall not prevent the application from starting
+			LOG.warn("Unable to load the cache entries from the file '{}'. Reason : {}", file, e.getMessage());
+			return Collections.emptyList();
+		}
+	}
+
+}
@@ -0,0 +1,68 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * <p>
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * <p>
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * <p>
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.tsl.cache.persistence;
+
+/**
+ * Contains the persisted binaries of a downloaded LOTL/TL document for a single cache key
+ *
+ */
+public class PersistedCacheEntry {
+
+	/**
+	 * The cache key value
+	 */
+	private final String key;
+
+	/**
+	 * The binaries of the downloaded document
+	 */
+	private final byte[] binaries;
+
+	/**
+	 * Default constructor
+	 *
+	 * @param key {@link String} the cache key value
+	 * @param binaries byte array of the downloaded document
+	 */
+	public PersistedCacheEntry(final String key, final byte[] binaries) {
+		this.key = key;
+		this.binaries = binaries;
+	}
+
+	/**
+	 * Gets the cache key value
+	 *
+	 * @return {@link String}
+	 */
+	public String getKey() {
+		return key;
+	}
+
+	/**
+	 * Gets the binaries of the downloaded document
+	 *
+	 * @return byte array
+	 */
+	public byte[] getBinaries() {
+		return binaries;
+	}
+
+}
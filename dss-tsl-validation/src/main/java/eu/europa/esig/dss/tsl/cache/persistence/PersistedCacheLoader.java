@@ -0,0 +1,67 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * <p>
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * <p>
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * <p>
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.tsl.cache.persistence;
+
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.InMemoryDocument;
+import eu.europa.esig.dss.spi.client.http.DSSFileLoader;
+import eu.europa.esig.dss.spi.exception.DSSExternalResourceException;
+import eu.europa.esig.dss.tsl.cache.CacheKey;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Serves the LOTL/TL documents from the persisted cache entries, without accessing the network.
+ * Used to parse and validate again the restored documents (see {@code TLValidationJob#restoreCache()}).
+ *
+ */
+public class PersistedCacheLoader implements DSSFileLoader {
+
+	private static final long serialVersionUID = -3474830183427012496L;
+
+	/**
+	 * The persisted binaries by the cache key values
+	 */
+	private final Map<String, byte[]> binariesByKey = new HashMap<>();
+
+	/**
+	 * Default constructor
+	 *
+	 * @param entries a collection of {@link PersistedCacheEntry}s
+	 */
+	public PersistedCacheLoader(final Collection<PersistedCacheEntry> entries) {
+		for (PersistedCacheEntry entry : entries) {
+			binariesByKey.put(entry.getKey(), entry.getBinaries());
+		}
+	}
+
+	@Override
+	public DSSDocument getDocument(String url) {
+		byte[] binaries = binariesByKey.get(new CacheKey(url).getKey());
+		if (binaries == null) {
+			throw new DSSExternalResourceException(String.format("No persisted document found for the url '%s'", url));
+		}
+		return new InMemoryDocument(binaries);
+	}
+
+}
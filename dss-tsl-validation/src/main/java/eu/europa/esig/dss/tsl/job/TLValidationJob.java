@@ -33,6 +33,10 @@ import eu.europa.esig.dss.tsl.cache.CacheKey;
 import eu.europa.esig.dss.tsl.cache.access.CacheAccessByKey;
 import eu.europa.esig.dss.tsl.cache.access.CacheAccessFactory;
 import eu.europa.esig.dss.tsl.cache.access.ReadOnlyCacheAccess;
+import eu.europa.esig.dss.tsl.cache.persistence.CachePersistence;
+import eu.europa.esig.dss.tsl.cache.persistence.FileCachePersistence;
+import eu.europa.esig.dss.tsl.cache.persistence.PersistedCacheEntry;
+import eu.europa.esig.dss.tsl.cache.persistence.PersistedCacheLoader;
 import eu.europa.esig.dss.tsl.dto.ParsingCacheDTO;
 import eu.europa.esig.dss.tsl.runnable.LOTLAnalysis;
 import eu.europa.esig.dss.tsl.runnable.LOTLWithPivotsAnalysis;
@@ -49,6 +53,7 @@ import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -132,6 +137,11 @@ public class TLValidationJob {
      */
     private List<Alert<TLInfo>> tlAlerts;
 
+	/**
+	 * Used to persist the cache content between restarts of the application (optional)
+	 */
+	private CachePersistence cachePersistence;
+
 	/**
 	 * Default constructor instantiating object with null configuration
 	 */
@@ -245,6 +255,48 @@ public class TLValidationJob {
 	    this.tlAlerts = tlAlerts;
 	}
 
+	/**
+	 * Sets the persistence backend used to store the cache content after each refresh,
+	 * allowing to restore it with {@code restoreCache()} after a restart of the application.
+	 *
+	 * Default : null (the cache is kept in memory only)
+	 *
+	 * @param cachePersistence {@link CachePersistence} (e.g. {@link FileCachePersistence})
+	 */
+	public void setCachePersistence(CachePersistence cachePersistence) {
+		this.cachePersistence = cachePersistence;
+	}
+
+	/**
+	 * Restores the cache content from the defined {@code CachePersistence} and synchronizes the
+	 * TrustedListsCertificateSource, without any download.
+	 *
+	 * The restored LOTL/TL documents are parsed and their signatures are validated again before the synchronization,
+	 * as on an {@code offlineRefresh()}. The restored trusted lists are published according to the defined
+	 * {@code SynchronizationStrategy} (e.g. {@code ExpirationAndSignatureCheckStrategy} skips the trusted lists
+	 * with an invalid signature).
+	 *
+	 * NOTE: the method shall be called before the first refresh. The cache is not restored when it already contains entries.
+	 *
+	 * @return TRUE if any cache entry has been restored, FALSE otherwise
+	 */
+	public synchronized boolean restoreCache() {
+		Objects.requireNonNull(cachePersistence, "The cachePersistence must be defined!");
+		if (!cacheAccessFactory.getPersistenceCacheAccess().isEmpty()) {
+			LOG.info("The cache already contains entries. The cache is not restored.");
+			return false;
+		}
+		LOG.info("Restoring the cache...");
+		Collection<PersistedCacheEntry> entries = cachePersistence.load();
+		if (entries.isEmpty()) {
+			LOG.info("No cache entry has been restored.");
+			return false;
+		}
+		refresh(new PersistedCacheLoader(entries));
+		LOG.info("{} cache entries have been restored.", entries.size());
+		return true;
+	}
+
 	/**
 	 * Returns validation job summary for all processed LOTL / TLs
 	 * @return {@link TLValidationJobSummary}
@@ -315,6 +367,8 @@ public class TLValidationJob {
 
 		executeCacheCleaner();
 
+		persistCache();
+
 		if (debug) {
 			LOG.info("Dump after synchronization");
 			cacheAccessFactory.getDebugCacheAccess().dump();
@@ -418,6 +472,20 @@ public class TLValidationJob {
 		LOG.info("CacheCleaner process is DONE");
 	}
 
+	private void persistCache() {
+		if (cachePersistence == null) {
+			LOG.debug("Cache persistence is not defined");
+			return;
+		}
+
+		try {
+			cachePersistence.store(cacheAccessFactory.getPersistenceCacheAccess().getPersistedCacheEntries());
+			LOG.info("The cache has been persisted");
+		} catch (Exception e) {
+			LOG.warn("Unable to persist the cache : {}", e.getMessage(), e);
+		}
+	}
+
 	/**
 	 * Duplicate urls mean cache conflict.
 	 * 
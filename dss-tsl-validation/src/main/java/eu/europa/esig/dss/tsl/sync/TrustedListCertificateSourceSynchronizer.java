@@ -33,6 +33,7 @@ import eu.europa.esig.dss.model.tsl.TrustService;
 import eu.europa.esig.dss.model.tsl.TrustServiceProvider;
 import eu.europa.esig.dss.model.tsl.TrustServiceStatusAndInformationExtensions;
 import eu.europa.esig.dss.model.x509.CertificateToken;
+import eu.europa.esig.dss.spi.tsl.TrustedListsCertificateSource;
 import eu.europa.esig.dss.tsl.cache.CacheKey;
 import eu.europa.esig.dss.tsl.cache.access.SynchronizerCacheAccess;
 import eu.europa.esig.dss.tsl.source.LOTLSource;
@@ -151,8 +152,13 @@ public class TrustedListCertificateSourceSynchronizer {
 			}
 		}
 		addCertificatesFromTLs(trustPropertiesByCerts, trustTimeByCerts, summary.getOtherTLInfos(), null);
-		certificateSource.setTrustPropertiesByCertificates(trustPropertiesByCerts);
-		certificateSource.setTrustTimeByCertificates(trustTimeByCerts);
+		if (certificateSource instanceof TrustedListsCertificateSource) {
+			// replaces the content of the source atomically
+			((TrustedListsCertificateSource) certificateSource).setTrustPropertiesAndTimeByCertificates(trustPropertiesByCerts, trustTimeByCerts);
+		} else {
+			certificateSource.setTrustPropertiesByCertificates(trustPropertiesByCerts);
+			certificateSource.setTrustTimeByCertificates(trustTimeByCerts);
+		}
 	}
 
 	private void addCertificatesFromTLs(final Map<CertificateToken, List<TrustProperties>> trustPropertiesByCerts,
@@ -20,12 +20,16 @@
  */
 package eu.europa.esig.dss.ws.validation.common;
 
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
 import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.model.policy.ValidationPolicy;
+import eu.europa.esig.dss.spi.DSSUtils;
 import eu.europa.esig.dss.spi.signature.AdvancedSignature;
+import eu.europa.esig.dss.spi.signature.resources.DSSResourcesHandlerBuilder;
 import eu.europa.esig.dss.spi.validation.CertificateVerifier;
 import eu.europa.esig.dss.utils.Utils;
 import eu.europa.esig.dss.validation.SignedDocumentValidator;
+import eu.europa.esig.dss.validation.policy.CryptographicSuiteUtils;
 import eu.europa.esig.dss.validation.policy.ValidationPolicyLoader;
 import eu.europa.esig.dss.validation.reports.Reports;
 import eu.europa.esig.dss.ws.converter.RemoteDocumentConverter;
@@ -37,7 +41,11 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * The remote validation service
@@ -52,6 +60,12 @@ public class RemoteDocumentValidationService {
 	/** The validation policy to be used by default */
 	private ValidationPolicy defaultValidationPolicy;
 
+	/** Used to store the received documents during the validation process (in-memory, when not defined) */
+	private DSSResourcesHandlerBuilder resourcesHandlerBuilder;
+
+	/** Validation policies built from the documents received within the requests, identified by their digests (disabled, when null) */
+	private Map<String, ValidationPolicy> validationPolicyCache;
+
 	/**
 	 * Default construction instantiating object with null certificate verifier
 	 */
@@ -116,6 +130,7 @@ public class RemoteDocumentValidationService {
 			throw new DSSRemoteServiceException(String.format("Unable to instantiate cryptographic suite: %s", e.getMessage()), e);
 		}
 		this.defaultValidationPolicy = validationPolicyLoader.create();
+		clearValidationPolicyCache();
 	}
 
 	/**
@@ -125,6 +140,40 @@ public class RemoteDocumentValidationService {
 	 */
 	public void setDefaultValidationPolicy(ValidationPolicy validationPolicy) {
 		this.defaultValidationPolicy = validationPolicy;
+		clearValidationPolicyCache();
+	}
+
+	/**
+	 * Sets the maximum number of validation policies, built from the policy and cryptographic suite documents
+	 * provided within the requests, to be kept in memory. A cached policy is reused for the following requests
+	 * providing the same documents (identified by their SHA-256 digest), avoiding their repeated parsing.
+	 * When the limit is reached, the least recently used policy is removed from the cache.
+	 * A cached policy is fully initialized before being shared between the concurrent requests.
+	 * Use 0 to disable the cache.
+	 * <p>
+	 * Default : 0 (the cache is disabled, a new policy is created for each request providing a policy document)
+	 *
+	 * @param policyCacheSize the maximum number of cached validation policies
+	 */
+	public void setPolicyCacheSize(int policyCacheSize) {
+		this.validationPolicyCache = createValidationPolicyCache(policyCacheSize);
+	}
+
+	/**
+	 * Sets the resources handler builder used to store the signed document, original documents and evidence records
+	 * received within a request, for the time of the request processing.
+	 * <p>
+	 * When a {@code eu.europa.esig.dss.signature.resources.TempFileResourcesHandlerBuilder} is provided,
+	 * the documents are written to temporary files and are validated as {@code FileDocument}s.
+	 * The binaries of the received {@code RemoteDocument}s are released once written, so only one copy
+	 * of a decoded document is kept in memory at a time. The temporary files are removed once the request is processed.
+	 * <p>
+	 * Default : null (the documents are kept in memory)
+	 *
+	 * @param resourcesHandlerBuilder {@link DSSResourcesHandlerBuilder}
+	 */
+	public void setResourcesHandlerBuilder(DSSResourcesHandlerBuilder resourcesHandlerBuilder) {
+		this.resourcesHandlerBuilder = resourcesHandlerBuilder;
 	}
 
 	/**
@@ -135,30 +184,21 @@ public class RemoteDocumentValidationService {
 	 */
 	public WSReportsDTO validateDocument(DataToValidateDTO dataToValidate) {
 		LOG.info("ValidateDocument in process...");
-		SignedDocumentValidator validator = initValidator(dataToValidate);
+		List<DSSDocument> storedDocuments = new ArrayList<>();
+		try {
+			SignedDocumentValidator validator = initValidator(dataToValidate, storedDocuments);
 
-		Reports reports;
-		ValidationPolicyLoader validationPolicyLoader;
-		RemoteDocument policy = dataToValidate.getPolicy();
-		if (policy != null) {
-			validationPolicyLoader = ValidationPolicyLoader.fromValidationPolicy(RemoteDocumentConverter.toDSSDocument(policy));
-		} else if (defaultValidationPolicy != null) {
-			validationPolicyLoader = ValidationPolicyLoader.fromValidationPolicy(defaultValidationPolicy);
-		} else {
-			validationPolicyLoader = ValidationPolicyLoader.fromDefaultValidationPolicy();
-		}
-		RemoteDocument cryptographicSuite = dataToValidate.getCryptographicSuite();
-		if (cryptographicSuite != null) {
-			validationPolicyLoader.withCryptographicSuite(RemoteDocumentConverter.toDSSDocument(cryptographicSuite));
-		}
+			ValidationPolicy validationPolicy = getValidationPolicy(dataToValidate);
+			Reports reports = validator.validateDocument(validationPolicy);
 
-		ValidationPolicy validationPolicy = validationPolicyLoader.create();
-		reports = validator.validateDocument(validationPolicy);
+			WSReportsDTO reportsDTO = new WSReportsDTO(reports.getDiagnosticDataJaxb(), reports.getSimpleReportJaxb(), 
+					reports.getDetailedReportJaxb(), reports.getEtsiValidationReportJaxb());
+			LOG.info("ValidateDocument is finished");
+			return reportsDTO;
 
-		WSReportsDTO reportsDTO = new WSReportsDTO(reports.getDiagnosticDataJaxb(), reports.getSimpleReportJaxb(), 
-				reports.getDetailedReportJaxb(), reports.getEtsiValidationReportJaxb());
-		LOG.info("ValidateDocument is finished");
-		return reportsDTO;
+		} finally {
+			RemoteDocumentConverter.deleteStoredDocuments(storedDocuments);
+		}
 	}
 
 	/**
@@ -169,21 +209,27 @@ public class RemoteDocumentValidationService {
 	 */
 	public List<RemoteDocument> getOriginalDocuments(DataToValidateDTO dataToValidate) {
 		LOG.info("GetOriginalDocuments in process...");
-		SignedDocumentValidator validator = initValidator(dataToValidate);
-
-		String signatureId = dataToValidate.getSignatureId();
-		if (signatureId == null) {
-			List<AdvancedSignature> signatures = validator.getSignatures();
-			if (!signatures.isEmpty()) {
-				LOG.debug("SignatureId is not defined, the first signature is used");
-				signatureId = signatures.get(0).getId();
+		List<DSSDocument> storedDocuments = new ArrayList<>();
+		try {
+			SignedDocumentValidator validator = initValidator(dataToValidate, storedDocuments);
+
+			String signatureId = dataToValidate.getSignatureId();
+			if (signatureId == null) {
+				List<AdvancedSignature> signatures = validator.getSignatures();
+				if (!signatures.isEmpty()) {
+					LOG.debug("SignatureId is not defined, the first signature is used");
+					signatureId = signatures.get(0).getId();
+				}
 			}
-		}
 
-		List<DSSDocument> originalDocuments = validator.getOriginalDocuments(signatureId);
-		List<RemoteDocument> remoteDocuments = RemoteDocumentConverter.toRemoteDocuments(originalDocuments);
-		LOG.info("GetOriginalDocuments is finished");
-		return remoteDocuments;
+			List<DSSDocument> originalDocuments = validator.getOriginalDocuments(signatureId);
+			List<RemoteDocument> remoteDocuments = RemoteDocumentConverter.toRemoteDocuments(originalDocuments);
+			LOG.info("GetOriginalDocuments is finished");
+			return remoteDocuments;
+
+		} finally {
+			RemoteDocumentConverter.deleteStoredDocuments(storedDocuments);
+		}
 	}
 
 	/**
@@ -193,16 +239,29 @@ public class RemoteDocumentValidationService {
 	 * @return {@link SignedDocumentValidator}
 	 */
 	protected SignedDocumentValidator initValidator(DataToValidateDTO dataToValidate) {
-		DSSDocument signedDocument = RemoteDocumentConverter.toDSSDocument(dataToValidate.getSignedDocument());
+		return initValidator(dataToValidate, new ArrayList<>());
+	}
+
+	/**
+	 * Instantiates a {@code SignedDocumentValidator} based on the request data DTO,
+	 * collecting the documents stored with the defined {@code DSSResourcesHandlerBuilder}
+	 *
+	 * @param dataToValidate {@link DataToValidateDTO} representing the request data
+	 * @param storedDocuments a list of {@link DSSDocument}s to be filled with the documents created
+	 *                        by the resources handler builder, to be removed after the request processing
+	 * @return {@link SignedDocumentValidator}
+	 */
+	protected SignedDocumentValidator initValidator(DataToValidateDTO dataToValidate, List<DSSDocument> storedDocuments) {
+		DSSDocument signedDocument = toDSSDocument(dataToValidate.getSignedDocument(), storedDocuments);
 		SignedDocumentValidator signedDocValidator = SignedDocumentValidator.fromDocument(signedDocument);
 		if (dataToValidate.getValidationTime() != null) {
 			signedDocValidator.setValidationTime(dataToValidate.getValidationTime());
 		}
 		if (Utils.isCollectionNotEmpty(dataToValidate.getOriginalDocuments())) {
-			signedDocValidator.setDetachedContents(RemoteDocumentConverter.toDSSDocuments(dataToValidate.getOriginalDocuments()));
+			signedDocValidator.setDetachedContents(toDSSDocuments(dataToValidate.getOriginalDocuments(), storedDocuments));
 		}
 		if (Utils.isCollectionNotEmpty(dataToValidate.getEvidenceRecords())) {
-			signedDocValidator.setDetachedEvidenceRecordDocuments(RemoteDocumentConverter.toDSSDocuments(dataToValidate.getEvidenceRecords()));
+			signedDocValidator.setDetachedEvidenceRecordDocuments(toDSSDocuments(dataToValidate.getEvidenceRecords(), storedDocuments));
 		}
 		signedDocValidator.setCertificateVerifier(verifier);
 		// If null, uses default (NONE)
@@ -212,4 +271,97 @@ public class RemoteDocumentValidationService {
 		return signedDocValidator;
 	}
 
+	/**
+	 * Returns the validation policy to be used for the given request.
+	 * The policies built from the documents provided within a request are cached, when the cache is enabled.
+	 *
+	 * @param dataToValidate {@link DataToValidateDTO} representing the request data
+	 * @return {@link ValidationPolicy}
+	 */
+	protected ValidationPolicy getValidationPolicy(DataToValidateDTO dataToValidate) {
+		RemoteDocument policy = dataToValidate.getPolicy();
+		RemoteDocument cryptographicSuite = dataToValidate.getCryptographicSuite();
+		if (policy == null && cryptographicSuite == null && defaultValidationPolicy != null) {
+			return defaultValidationPolicy;
+		}
+
+		if (validationPolicyCache == null) {
+			return createValidationPolicy(policy, cryptographicSuite);
+		}
+
+		String key = getCacheKey(policy) + ":" + getCacheKey(cryptographicSuite);
+		ValidationPolicy validationPolicy = validationPolicyCache.get(key);
+		if (validationPolicy == null) {
+			validationPolicy = createValidationPolicy(policy, cryptographicSuite);
+			// the policy is shared between the concurrent requests, its lazily computed content is initialized beforehand
+			CryptographicSuiteUtils.initializeCryptographicSuites(validationPolicy);
+			validationPolicyCache.put(key, validationPolicy);
+		} else {
+			LOG.debug("The validation policy is retrieved from the cache");
+		}
+		return validationPolicy;
+	}
+
+	private ValidationPolicy createValidationPolicy(RemoteDocument policy, RemoteDocument cryptographicSuite) {
+		ValidationPolicyLoader validationPolicyLoader;
+		if (policy != null) {
+			validationPolicyLoader = ValidationPolicyLoader.fromValidationPolicy(RemoteDocumentConverter.toDSSDocument(policy));
+		} else if (defaultValidationPolicy != null) {
+			validationPolicyLoader = ValidationPolicyLoader.fromValidationPolicy(defaultValidationPolicy);
+		} else {
+			validationPolicyLoader = ValidationPolicyLoader.fromDefaultValidationPolicy();
+		}
+		if (cryptographicSuite != null) {
+			validationPolicyLoader.withCryptographicSuite(RemoteDocumentConverter.toDSSDocument(cryptographicSuite));
+		}
+		return validationPolicyLoader.create();
+	}
+
+	private String getCacheKey(RemoteDocument remoteDocument) {
+		if (remoteDocument == null) {
+			return "default";
+		} else if (Utils.isArrayEmpty(remoteDocument.getBytes())) {
+			return "empty";
+		}
+		return Utils.toBase64(DSSUtils.digest(DigestAlgorithm.SHA256, remoteDocument.getBytes()));
+	}
+
+	private static Map<String, ValidationPolicy> createValidationPolicyCache(int policyCacheSize) {
+		if (policyCacheSize <= 0) {
+			return null;
+		}
+		return Collections.synchronizedMap(new LinkedHashMap<String, ValidationPolicy>(16, 0.75f, true) {
+
+			private static final long serialVersionUID = 6529823946138253247L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, ValidationPolicy> eldest) {
+				return size() > policyCacheSize;
+			}
+
+		});
+	}
+
+	private void clearValidationPolicyCache() {
+		if (validationPolicyCache != null) {
+			validationPolicyCache.clear();
+		}
+	}
+
+	private DSSDocument toDSSDocument(RemoteDocument remoteDocument, List<DSSDocument> storedDocuments) {
+		DSSDocument document = RemoteDocumentConverter.toDSSDocument(remoteDocument, resourcesHandlerBuilder);
+		if (resourcesHandlerBuilder != null && document != null) {
+			storedDocuments.add(document);
+		}
+		return document;
+	}
+
+	private List<DSSDocument> toDSSDocuments(List<RemoteDocument> remoteDocuments, List<DSSDocument> storedDocuments) {
+		List<DSSDocument> documents = RemoteDocumentConverter.toDSSDocuments(remoteDocuments, resourcesHandlerBuilder);
+		if (resourcesHandlerBuilder != null) {
+			storedDocuments.addAll(documents);
+		}
+		return documents;
+	}
+
 }
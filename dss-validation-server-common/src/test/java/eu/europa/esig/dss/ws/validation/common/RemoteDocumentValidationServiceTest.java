@@ -26,14 +26,18 @@ import eu.europa.esig.dss.diagnostic.jaxb.XmlDiagnosticData;
 import eu.europa.esig.dss.diagnostic.jaxb.XmlDigestMatcher;
 import eu.europa.esig.dss.enumerations.DigestAlgorithm;
 import eu.europa.esig.dss.enumerations.Indication;
+import eu.europa.esig.dss.enumerations.MimeTypeEnum;
 import eu.europa.esig.dss.enumerations.SignatureLevel;
 import eu.europa.esig.dss.enumerations.SubIndication;
 import eu.europa.esig.dss.enumerations.TokenExtractionStrategy;
+import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.model.FileDocument;
 import eu.europa.esig.dss.model.InMemoryDocument;
+import eu.europa.esig.dss.model.policy.ValidationPolicy;
 import eu.europa.esig.dss.policy.EtsiValidationPolicy;
 import eu.europa.esig.dss.policy.ValidationPolicyFacade;
 import eu.europa.esig.dss.policy.jaxb.ConstraintsParameters;
+import eu.europa.esig.dss.signature.resources.TempFileResourcesHandlerBuilder;
 import eu.europa.esig.dss.simplereport.SimpleReport;
 import eu.europa.esig.dss.simplereport.jaxb.XmlEvidenceRecord;
 import eu.europa.esig.dss.spi.DSSUtils;
@@ -48,16 +52,24 @@ import jakarta.xml.bind.JAXBElement;
 import jakarta.xml.bind.Unmarshaller;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Calendar;
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class RemoteDocumentValidationServiceTest {
@@ -96,6 +108,42 @@ class RemoteDocumentValidationServiceTest {
 		validateReports(result);
 	}
 
+	@Test
+	void testWithTempFileResourcesHandler(@TempDir Path tempDir) throws IOException {
+		validationService.setResourcesHandlerBuilder(new TempFileResourcesHandlerBuilder().setTempFileDirectory(tempDir.toFile()));
+
+		RemoteDocument signedFile = RemoteDocumentConverter.toRemoteDocument(new FileDocument("src/test/resources/xades-detached.xml"));
+		RemoteDocument originalFile = RemoteDocumentConverter.toRemoteDocument(new FileDocument("src/test/resources/sample.png"));
+		DataToValidateDTO dto = new DataToValidateDTO(signedFile, originalFile, null);
+		WSReportsDTO result = validationService.validateDocument(dto);
+		validateReports(result);
+
+		// the binaries are owned by the temporary files once written
+		assertNull(signedFile.getBytes());
+		assertNull(originalFile.getBytes());
+		try (Stream<Path> files = Files.list(tempDir)) {
+			assertEquals(0, files.count());
+		}
+	}
+
+	@Test
+	void tempFileConversionKeepsMimeTypeTest(@TempDir Path tempDir) throws IOException {
+		RemoteDocument originalFile = RemoteDocumentConverter.toRemoteDocument(new FileDocument("src/test/resources/sample.png"));
+		byte[] originalBytes = originalFile.getBytes();
+		DSSDocument document = RemoteDocumentConverter.toDSSDocument(originalFile,
+				new TempFileResourcesHandlerBuilder().setTempFileDirectory(tempDir.toFile()));
+		assertNull(originalFile.getBytes());
+		assertTrue(document instanceof FileDocument);
+		assertEquals("sample.png", document.getName());
+		assertEquals(MimeTypeEnum.PNG, document.getMimeType());
+		assertArrayEquals(originalBytes, DSSUtils.toByteArray(document));
+
+		RemoteDocumentConverter.deleteStoredDocuments(Collections.singletonList(document));
+		try (Stream<Path> files = Files.list(tempDir)) {
+			assertEquals(0, files.count());
+		}
+	}
+
 	@Test
 	void testWithValidationTimeAndOriginalFile(){
 		RemoteDocument signedFile = RemoteDocumentConverter.toRemoteDocument(new FileDocument("src/test/resources/xades-detached.xml"));
@@ -147,6 +195,32 @@ class RemoteDocumentValidationServiceTest {
 		assertEquals("QES AdESQC TL based (Test WebServices)", result.getSimpleReport().getValidationPolicy().getPolicyName());
 	}
 
+	@Test
+	void testValidationPolicyCache() {
+		RemoteDocument signedFile = RemoteDocumentConverter.toRemoteDocument(new FileDocument("src/test/resources/xades-detached.xml"));
+		RemoteDocument policy = RemoteDocumentConverter.toRemoteDocument(new FileDocument("src/test/resources/constraint.xml"));
+		RemoteDocument cryptographicSuite = RemoteDocumentConverter.toRemoteDocument(new FileDocument("src/test/resources/dss-crypto-suite.json"));
+
+		// disabled by default
+		assertNotSame(validationService.getValidationPolicy(new DataToValidateDTO(signedFile, (RemoteDocument) null, policy)),
+				validationService.getValidationPolicy(new DataToValidateDTO(signedFile, (RemoteDocument) null, policy)));
+
+		validationService.setPolicyCacheSize(16);
+		ValidationPolicy validationPolicy = validationService.getValidationPolicy(new DataToValidateDTO(signedFile, (RemoteDocument) null, policy));
+		assertNotNull(validationPolicy);
+		RemoteDocument samePolicy = RemoteDocumentConverter.toRemoteDocument(new FileDocument("src/test/resources/constraint.xml"));
+		assertSame(validationPolicy, validationService.getValidationPolicy(new DataToValidateDTO(signedFile, (RemoteDocument) null, samePolicy)));
+
+		ValidationPolicy validationPolicyWithCryptoSuite = validationService.getValidationPolicy(
+				new DataToValidateDTO(signedFile, (RemoteDocument) null, policy, cryptographicSuite));
+		assertNotSame(validationPolicy, validationPolicyWithCryptoSuite);
+		assertSame(validationPolicyWithCryptoSuite, validationService.getValidationPolicy(
+				new DataToValidateDTO(signedFile, (RemoteDocument) null, policy, cryptographicSuite)));
+
+		validationService.setPolicyCacheSize(0);
+		assertNotSame(validationPolicy, validationService.getValidationPolicy(new DataToValidateDTO(signedFile, (RemoteDocument) null, policy)));
+	}
+
 	@Test
 	void testWithCryptoSuiteAndOriginalFile(){
 		RemoteDocument signedFile = RemoteDocumentConverter.toRemoteDocument(new FileDocument("src/test/resources/xades-detached.xml"));
@@ -30,14 +30,21 @@ import eu.europa.esig.dss.enumerations.Context;
 import eu.europa.esig.dss.i18n.I18nProvider;
 import eu.europa.esig.dss.model.policy.ValidationPolicy;
 import eu.europa.esig.dss.utils.Utils;
+import eu.europa.esig.dss.validation.policy.CryptographicSuiteUtils;
 import eu.europa.esig.dss.validation.process.bbb.BasicBuildingBlocks;
 import eu.europa.esig.dss.validation.process.qualification.trust.TLValidationBlock;
+import eu.europa.esig.dss.validation.reports.DSSReportException;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 /**
  * Abstract code for DetailedReport builder
@@ -56,6 +63,12 @@ public abstract class AbstractDetailedReportBuilder {
 	/** The validation time */
 	protected final Date currentTime;
 
+	/** The executor used to execute the basic building blocks concurrently (sequential execution, when not defined) */
+	private ExecutorService executorService;
+
+	/** Defines whether the lazily computed content of the policy has been initialized before a concurrent execution */
+	private boolean policyInitialized;
+
 	/**
 	 * Default constructor
 	 *
@@ -72,6 +85,19 @@ public abstract class AbstractDetailedReportBuilder {
 		this.diagnosticData = diagnosticData;
 	}
 
+	/**
+	 * Sets the executor to be used to execute the basic building blocks of tokens of the same context concurrently
+	 * (e.g. all signatures or all timestamps). The order of the results is preserved, so the produced report
+	 * does not differ from the one obtained with a sequential execution.
+	 * <p>
+	 * Default : not defined (the basic building blocks are executed sequentially within the calling thread)
+	 *
+	 * @param executorService {@link ExecutorService}
+	 */
+	public void setExecutorService(ExecutorService executorService) {
+		this.executorService = executorService;
+	}
+
 	/**
 	 * Initializes the {@code XmlDetailedReport} by adding the TL analysis
 	 *
@@ -123,6 +149,10 @@ public abstract class AbstractDetailedReportBuilder {
 	 */
 	protected void process(Collection<? extends AbstractTokenProxy> tokensToProcess, Context context,
 						   Map<String, XmlBasicBuildingBlocks> bbbs) {
+		if (executorService != null && tokensToProcess.size() > 1) {
+			processConcurrently(tokensToProcess, context, bbbs);
+			return;
+		}
 		for (AbstractTokenProxy token : tokensToProcess) {
 			BasicBuildingBlocks bbb = new BasicBuildingBlocks(
 					i18nProvider, diagnosticData, token, currentTime, bbbs, policy, context);
@@ -131,4 +161,44 @@ public abstract class AbstractDetailedReportBuilder {
 		}
 	}
 
+	private void processConcurrently(Collection<? extends AbstractTokenProxy> tokensToProcess, Context context,
+									 Map<String, XmlBasicBuildingBlocks> bbbs) {
+		// BBBs of the same context only depend on the results of the previously processed contexts
+		final Map<String, XmlBasicBuildingBlocks> processedBbbs = Collections.unmodifiableMap(new LinkedHashMap<>(bbbs));
+		// initialize lazily loaded wrappers before concurrent access
+		diagnosticData.getSignatures();
+		diagnosticData.getTimestampList();
+		diagnosticData.getEvidenceRecords();
+		diagnosticData.getUsedCertificates();
+		if (!policyInitialized) {
+			CryptographicSuiteUtils.initializeCryptographicSuites(policy);
+			policyInitialized = true;
+		}
+
+		final List<Future<XmlBasicBuildingBlocks>> futures = new ArrayList<>();
+		for (AbstractTokenProxy token : tokensToProcess) {
+			futures.add(executorService.submit(() -> new BasicBuildingBlocks(
+					i18nProvider, diagnosticData, token, currentTime, processedBbbs, policy, context).execute()));
+		}
+		int i = 0;
+		for (AbstractTokenProxy token : tokensToProcess) {
+			bbbs.put(token.getId(), getResult(futures.get(i++)));
+		}
+	}
+
+	private XmlBasicBuildingBlocks getResult(Future<XmlBasicBuildingBlocks> future) {
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new DSSReportException("Interruption while waiting for a basic building blocks execution", e);
+		} catch (ExecutionException e) {
+			final Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			throw new DSSReportException(String.format("Unable to execute basic building blocks : %s", cause.getMessage()), cause);
+		}
+	}
+
 }
@@ -31,6 +31,7 @@ import eu.europa.esig.dss.validation.reports.Reports;
 import eu.europa.esig.validationreport.jaxb.ValidationReportType;
 
 import java.util.Objects;
+import java.util.concurrent.ExecutorService;
 
 /**
  * This class executes a signature validation process and produces
@@ -48,6 +49,9 @@ public class DefaultSignatureProcessExecutor extends AbstractProcessExecutor imp
 	/** Defines if the semantics information shall be included (default: false) */
 	protected boolean includeSemantics = false;
 
+	/** The executor used to execute the basic building blocks concurrently (default: null, sequential execution) */
+	protected ExecutorService executorService;
+
 	/**
 	 * Default constructor instantiating object with default configuration
 	 */
@@ -70,6 +74,19 @@ public class DefaultSignatureProcessExecutor extends AbstractProcessExecutor imp
 		this.includeSemantics = includeSemantics;
 	}
 
+	/**
+	 * Sets the executor to be used to execute the basic building blocks of signatures, timestamps
+	 * and revocation data concurrently during the detailed report building.
+	 * The produced reports do not depend on whether the executor is defined.
+	 * <p>
+	 * Default : not defined (sequential execution)
+	 *
+	 * @param executorService {@link ExecutorService}
+	 */
+	public void setExecutorService(ExecutorService executorService) {
+		this.executorService = executorService;
+	}
+
 	@Override
 	public Reports execute() {
 		assertConfigurationValid();
@@ -97,6 +114,7 @@ public class DefaultSignatureProcessExecutor extends AbstractProcessExecutor imp
 
 		DetailedReportBuilder detailedReportBuilder = new DetailedReportBuilder(getI18nProvider(), currentTime, policy,
 				validationLevel, diagnosticData, includeSemantics);
+		detailedReportBuilder.setExecutorService(executorService);
 		XmlDetailedReport jaxbDetailedReport = detailedReportBuilder.build();
 
 		DetailedReport detailedReportWrapper = new DetailedReport(jaxbDetailedReport);
@@ -20,10 +20,13 @@
  */
 package eu.europa.esig.dss.validation.policy;
 
+import eu.europa.esig.dss.enumerations.Context;
 import eu.europa.esig.dss.enumerations.DigestAlgorithm;
 import eu.europa.esig.dss.enumerations.EncryptionAlgorithm;
+import eu.europa.esig.dss.enumerations.SubContext;
 import eu.europa.esig.dss.model.policy.CryptographicSuite;
 import eu.europa.esig.dss.model.policy.EncryptionAlgorithmWithMinKeySize;
+import eu.europa.esig.dss.model.policy.ValidationPolicy;
 import eu.europa.esig.dss.utils.Utils;
 
 import java.util.ArrayList;
@@ -48,6 +51,36 @@ public final class CryptographicSuiteUtils {
         // empty
     }
 
+    /**
+     * Computes the lazily initialized content of the cryptographic suites returned by the given {@code policy}
+     * for all contexts (e.g. the constraints completed with the default values of the policy),
+     * in order to allow a read-only use of the policy by concurrent validations
+     *
+     * @param policy {@link ValidationPolicy} to initialize
+     */
+    public static void initializeCryptographicSuites(ValidationPolicy policy) {
+        for (Context context : Context.values()) {
+            if (Context.EVIDENCE_RECORD == context) {
+                initializeCryptographicSuite(policy.getEvidenceRecordCryptographicConstraint());
+                continue;
+            }
+            initializeCryptographicSuite(policy.getSignatureCryptographicConstraint(context));
+            for (SubContext subContext : SubContext.values()) {
+                initializeCryptographicSuite(policy.getCertificateCryptographicConstraint(context, subContext));
+            }
+        }
+    }
+
+    private static void initializeCryptographicSuite(CryptographicSuite cryptographicSuite) {
+        if (cryptographicSuite != null) {
+            cryptographicSuite.getAcceptableDigestAlgorithms();
+            cryptographicSuite.getAcceptableEncryptionAlgorithms();
+            cryptographicSuite.getAcceptableEncryptionAlgorithmsWithMinKeySizes();
+            cryptographicSuite.getAcceptableDigestAlgorithmsWithExpirationDates();
+            cryptographicSuite.getAcceptableEncryptionAlgorithmsWithExpirationDates();
+        }
+    }
+
     /**
      * Checks if the given {@link EncryptionAlgorithm} is reliable (acceptable)
      *
@@ -25,11 +25,13 @@ import eu.europa.esig.dss.enumerations.EncryptionAlgorithm;
 import eu.europa.esig.dss.enumerations.Level;
 import eu.europa.esig.dss.model.policy.EncryptionAlgorithmWithMinKeySize;
 import eu.europa.esig.dss.policy.CryptographicConstraintWrapper;
+import eu.europa.esig.dss.policy.EtsiValidationPolicy;
 import eu.europa.esig.dss.policy.jaxb.Algo;
 import eu.europa.esig.dss.policy.jaxb.AlgoExpirationDate;
 import eu.europa.esig.dss.policy.jaxb.CryptographicConstraint;
 import eu.europa.esig.dss.policy.jaxb.ListAlgo;
 import eu.europa.esig.dss.validation.policy.CryptographicSuiteUtils;
+import eu.europa.esig.dss.validation.policy.ValidationPolicyLoader;
 import org.junit.jupiter.api.Test;
 
 import java.text.ParseException;
@@ -44,12 +46,25 @@ import java.util.TimeZone;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 class CryptographicSuiteUtilsTest {
 
+    @Test
+    void initializeCryptographicSuitesTest() {
+        EtsiValidationPolicy policy = (EtsiValidationPolicy) ValidationPolicyLoader.fromDefaultValidationPolicy().create();
+        CryptographicConstraint timestampCryptographic = policy.getTimestampConstraints().getBasicSignatureConstraints().getCryptographic();
+        assertNull(timestampCryptographic.getAcceptableDigestAlgo());
+
+        CryptographicSuiteUtils.initializeCryptographicSuites(policy);
+        assertNotNull(timestampCryptographic.getAcceptableDigestAlgo());
+        assertEquals(policy.getCryptographic().getAcceptableDigestAlgo(), timestampCryptographic.getAcceptableDigestAlgo());
+        assertEquals(policy.getCryptographic().getAcceptableEncryptionAlgo(), timestampCryptographic.getAcceptableEncryptionAlgo());
+    }
+
     @Test
     void isEncryptionAlgorithmReliableTest() {
         CryptographicConstraint cryptographicConstraint = new CryptographicConstraint();
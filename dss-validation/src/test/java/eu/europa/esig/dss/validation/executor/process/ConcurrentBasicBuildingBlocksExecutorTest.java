@@ -0,0 +1,101 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * <p>
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * <p>
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * <p>
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.validation.executor.process;
+
+import eu.europa.esig.dss.detailedreport.DetailedReportFacade;
+import eu.europa.esig.dss.diagnostic.DiagnosticDataFacade;
+import eu.europa.esig.dss.diagnostic.jaxb.XmlDiagnosticData;
+import eu.europa.esig.dss.enumerations.ValidationLevel;
+import eu.europa.esig.dss.validation.executor.signature.DefaultSignatureProcessExecutor;
+import eu.europa.esig.dss.validation.reports.Reports;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+class ConcurrentBasicBuildingBlocksExecutorTest extends AbstractProcessExecutorTest {
+
+	private static ExecutorService executorService;
+
+	@BeforeAll
+	static void init() {
+		executorService = Executors.newFixedThreadPool(4);
+	}
+
+	@AfterAll
+	static void shutdown() {
+		executorService.shutdown();
+	}
+
+	private static Stream<Arguments> data() {
+		String[] diagnosticDataFiles = new String[] {
+				"src/test/resources/diag-data/timestamps_same_second.xml",
+				"src/test/resources/diag-data/diag-data-failed-revocation.xml",
+				"src/test/resources/diag-data/multi-sign.xml",
+				"src/test/resources/diag-data/counter-signature-valid-diag-data.xml",
+				"src/test/resources/diag-data/diag_data_asic_two_tsts.xml",
+				"src/test/resources/diag-data/DSS-2730/dss-2730.xml"
+		};
+		List<Arguments> dataToRun = new ArrayList<>();
+		for (String diagnosticDataFile : diagnosticDataFiles) {
+			for (ValidationLevel validationLevel : ValidationLevel.values()) {
+				dataToRun.add(Arguments.of(new File(diagnosticDataFile), validationLevel));
+			}
+		}
+		return dataToRun.stream();
+	}
+
+	@ParameterizedTest(name = "Execution {index} : {0} - {1}")
+	@MethodSource("data")
+	void test(File diagnosticDataFile, ValidationLevel validationLevel) throws Exception {
+		String sequentialDetailedReport = getDetailedReport(diagnosticDataFile, validationLevel, null);
+		String concurrentDetailedReport = getDetailedReport(diagnosticDataFile, validationLevel, executorService);
+		assertEquals(sequentialDetailedReport, concurrentDetailedReport);
+	}
+
+	private String getDetailedReport(File diagnosticDataFile, ValidationLevel validationLevel,
+									 ExecutorService executorService) throws Exception {
+		XmlDiagnosticData diagnosticData = DiagnosticDataFacade.newFacade().unmarshall(diagnosticDataFile);
+		assertNotNull(diagnosticData);
+
+		DefaultSignatureProcessExecutor executor = new DefaultSignatureProcessExecutor();
+		executor.setDiagnosticData(diagnosticData);
+		executor.setValidationPolicy(loadDefaultPolicy());
+		executor.setCurrentTime(diagnosticData.getValidationDate());
+		executor.setValidationLevel(validationLevel);
+		executor.setExecutorService(executorService);
+
+		Reports reports = executor.execute();
+		return DetailedReportFacade.newFacade().marshall(reports.getDetailedReportJaxb());
+	}
+
+}
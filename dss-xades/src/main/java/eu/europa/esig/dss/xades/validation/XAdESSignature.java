@@ -91,8 +91,10 @@ import javax.xml.crypto.dsig.CanonicalizationMethod;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * Parse an XAdES signature structure. Note that for each signature to be validated a new instance of this object must
@@ -1445,6 +1447,26 @@ public class XAdESSignature extends DefaultAdvancedSignature {
 		return references;
 	}
 
+	/**
+	 * Returns a set of {@link DigestAlgorithm}s used to compute digests of the detached documents
+	 * on the signature validation (references to external documents without transforms)
+	 *
+	 * @return a set of {@link DigestAlgorithm}s
+	 */
+	public Set<DigestAlgorithm> getDetachedContentsDigestAlgorithms() {
+		final Set<DigestAlgorithm> result = new HashSet<>();
+		for (Reference reference : getReferences()) {
+			final Element referenceElement = reference.getElement();
+			if (!DSSXMLUtils.isSameDocumentReference(reference.getURI()) && !DSSXMLUtils.containsTransforms(referenceElement)) {
+				Digest digest = DSSXMLUtils.getDigestAndValue(referenceElement);
+				if (digest != null) {
+					result.add(digest.getAlgorithm());
+				}
+			}
+		}
+		return result;
+	}
+
 	/**
 	 * Gets a list of found signature ds:Object elements
 	 *
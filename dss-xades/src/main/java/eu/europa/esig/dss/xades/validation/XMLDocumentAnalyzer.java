@@ -20,6 +20,7 @@
  */
 package eu.europa.esig.dss.xades.validation;
 
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
 import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.spi.exception.IllegalInputException;
 import eu.europa.esig.dss.spi.policy.DefaultSignaturePolicyValidatorLoader;
@@ -43,6 +44,7 @@ import org.w3c.dom.NodeList;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * Validator of XML Signed document
@@ -145,6 +147,11 @@ public class XMLDocumentAnalyzer extends DefaultDocumentAnalyzer {
 		return signatures;
 	}
 	
+	@Override
+	protected Set<DigestAlgorithm> getDetachedContentsDigestAlgorithms(AdvancedSignature signature) {
+		return ((XAdESSignature) signature).getDetachedContentsDigestAlgorithms();
+	}
+
 	@Override
 	public List<DSSDocument> getOriginalDocuments(AdvancedSignature advancedSignature) {
 		XAdESSignature signature = (XAdESSignature) advancedSignature;